@@ -0,0 +1,13 @@
+package net.switchscope.cache;
+
+import lombok.Value;
+
+/**
+ * Published in this node when another node evicted an entry (or cleared a cache), after the
+ * local copy has been dropped. {@code key} is {@code null} for a clear.
+ */
+@Value
+public class CacheInvalidationEvent {
+    String cacheName;
+    String key;
+}
@@ -0,0 +1,25 @@
+package net.switchscope.cache;
+
+/**
+ * Names of the application caches; TTLs are set per name under {@code app.cache.ttl}.
+ */
+public final class CacheNames {
+
+    /**
+     * Catalog DTOs (component/location/installation types, statuses, natures, categories).
+     */
+    public static final String CATALOGS = "catalogs";
+
+    /**
+     * Location DTOs, lists, subtrees and paths.
+     */
+    public static final String LOCATIONS = "locations";
+
+    /**
+     * Single component DTOs by id.
+     */
+    public static final String COMPONENTS = "components";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,13 @@
+package net.switchscope.cache;
+
+import lombok.Value;
+
+/**
+ * Published in this node when another node announced a change through {@link ClusterEvents}.
+ * {@code payload} is whatever the sender passed for the topic, never {@code null}.
+ */
+@Value
+public class ClusterEvent {
+    String topic;
+    String payload;
+}
@@ -0,0 +1,81 @@
+package net.switchscope.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Tells the other nodes about changes to node-local state that is not held in a {@link TwoLevelCache}:
+ * in-memory indexes and graphs, verified credentials, pushed status.
+ * <p>
+ * With Redis configured ({@link #setShared}) messages are published on a pub/sub channel as
+ * {@code nodeId|topic|payload}; {@link #onMessage} re-publishes those of other nodes as
+ * {@link ClusterEvent}s. Without Redis nothing is sent. Pub/sub does not redeliver, so holders of
+ * node-local state still rebuild it now and then.
+ */
+@Slf4j
+public class ClusterEvents {
+
+    private static final String SEPARATOR = "|";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private StringRedisTemplate redisTemplate;
+    private String channel;
+
+    public ClusterEvents(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Publish through Redis; call before the first message is sent.
+     *
+     * @param redisTemplate used to publish
+     * @param channel       pub/sub channel shared by all nodes
+     */
+    public void setShared(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    /**
+     * @return true if messages reach other nodes
+     */
+    public boolean isShared() {
+        return redisTemplate != null;
+    }
+
+    /**
+     * Announce a change to the other nodes; this node is not notified.
+     *
+     * @param topic   what changed, chosen by the publisher
+     * @param payload details, empty if there are none
+     */
+    public void publish(String topic, String payload) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + topic + SEPARATOR + payload);
+        } catch (RuntimeException e) {
+            log.warn("Cluster event '{}' not published: {}", topic, e.toString());
+        }
+    }
+
+    /**
+     * Apply a message received on the channel. Own messages are ignored.
+     *
+     * @param message {@code nodeId|topic|payload}
+     */
+    public void onMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        log.debug("Cluster event '{}' from node {}", parts[1], parts[0]);
+        eventPublisher.publishEvent(new ClusterEvent(parts[1], parts[2]));
+    }
+}
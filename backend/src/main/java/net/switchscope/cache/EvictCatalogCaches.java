@@ -0,0 +1,20 @@
+package net.switchscope.cache;
+
+import org.springframework.cache.annotation.CacheEvict;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Catalog write: clears the catalog caches and the location and component caches,
+ * whose DTOs carry catalog codes and display names.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@CacheEvict(cacheNames = {CacheNames.CATALOGS, CacheNames.LOCATIONS, CacheNames.COMPONENTS}, allEntries = true)
+public @interface EvictCatalogCaches {
+}
@@ -0,0 +1,154 @@
+package net.switchscope.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * Cache with a per-node Caffeine tier (L1) in front of an optional shared Redis tier (L2).
+ * <p>
+ * Reads go to L1, then L2 (filling L1), then the loader (filling both). Evictions and clears
+ * drop the entry from both tiers and are announced to the other nodes, which drop their L1 copy.
+ * Redis failures are logged and the cache carries on with L1 alone, so an unavailable Redis
+ * costs database reads, not errors. Keys are stored as strings.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache shared;
+    // (cache name, key) of a local eviction, null key for a clear
+    private final BiConsumer<String, String> invalidations;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         Cache shared,
+                         BiConsumer<String, String> invalidations) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.shared = shared;
+        this.invalidations = invalidations;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<String, Object> getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = key(key);
+        Object value = local.getIfPresent(localKey);
+        if (value == null) {
+            value = sharedGet(localKey);
+            if (value != null) {
+                local.put(localKey, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = key(key);
+        return (T) fromStoreValue(local.get(localKey, k -> {
+            Object value = sharedGet(k);
+            if (value == null) {
+                try {
+                    value = toStoreValue(valueLoader.call());
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+                sharedPut(k, value);
+            }
+            return value;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = key(key);
+        Object storeValue = toStoreValue(value);
+        local.put(localKey, storeValue);
+        sharedPut(localKey, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = key(key);
+        if (shared != null) {
+            try {
+                shared.evict(localKey);
+            } catch (RuntimeException e) {
+                log.warn("Shared cache '{}' evict of {} failed: {}", name, localKey, e.toString());
+            }
+        }
+        local.invalidate(localKey);
+        invalidations.accept(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        if (shared != null) {
+            try {
+                shared.clear();
+            } catch (RuntimeException e) {
+                log.warn("Shared cache '{}' clear failed: {}", name, e.toString());
+            }
+        }
+        local.invalidateAll();
+        invalidations.accept(name, null);
+    }
+
+    /**
+     * Drop the L1 copy only; used for evictions announced by other nodes.
+     *
+     * @param key entry key, {@code null} for all entries
+     */
+    public void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private Object sharedGet(String key) {
+        if (shared == null) {
+            return null;
+        }
+        try {
+            ValueWrapper wrapper = shared.get(key);
+            return wrapper != null ? wrapper.get() : null;
+        } catch (RuntimeException e) {
+            log.warn("Shared cache '{}' read of {} failed: {}", name, key, e.toString());
+            return null;
+        }
+    }
+
+    private void sharedPut(String key, Object value) {
+        if (shared == null) {
+            return;
+        }
+        try {
+            shared.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache '{}' write of {} failed: {}", name, key, e.toString());
+        }
+    }
+
+    private static String key(Object key) {
+        return String.valueOf(key);
+    }
+}
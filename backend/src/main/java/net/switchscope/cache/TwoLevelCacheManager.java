@@ -0,0 +1,108 @@
+package net.switchscope.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the {@link TwoLevelCache}s named in the TTL map; unknown cache names are rejected.
+ * <p>
+ * Caches are transaction aware: puts and evictions made inside a transaction are applied after
+ * it commits, so other nodes are never told to drop an entry before the new row is visible.
+ * With Redis configured ({@link #setShared}) evictions are published on a pub/sub channel as
+ * {@code nodeId|cacheName|key} (empty key for a clear); {@link #onInvalidation} applies the
+ * messages of other nodes and re-publishes them as {@link CacheInvalidationEvent}s.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private static final String SEPARATOR = "|";
+
+    private final Map<String, Duration> ttls;
+    private final long localMaxSize;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    private RedisCacheManager sharedCacheManager;
+    private StringRedisTemplate redisTemplate;
+    private String channel;
+
+    public TwoLevelCacheManager(Map<String, Duration> ttls, long localMaxSize, ApplicationEventPublisher eventPublisher) {
+        this.ttls = Map.copyOf(ttls);
+        this.localMaxSize = localMaxSize;
+        this.eventPublisher = eventPublisher;
+        setTransactionAware(true);
+    }
+
+    /**
+     * Add the shared Redis tier; call before the manager is initialized.
+     *
+     * @param sharedCacheManager Redis caches, one per name in the TTL map
+     * @param redisTemplate      used to publish evictions
+     * @param channel            pub/sub channel shared by all nodes
+     */
+    public void setShared(RedisCacheManager sharedCacheManager, StringRedisTemplate redisTemplate, String channel) {
+        this.sharedCacheManager = sharedCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return ttls.keySet().stream().map(this::createCache).toList();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(ttls.get(name))
+                .recordStats()
+                .build();
+        Cache shared = sharedCacheManager != null ? sharedCacheManager.getCache(name) : null;
+        TwoLevelCache cache = new TwoLevelCache(name, local, shared, this::publish);
+        caches.put(name, cache);
+        return cache;
+    }
+
+    /**
+     * Apply an eviction message received on the channel. Own messages are ignored.
+     *
+     * @param message {@code nodeId|cacheName|key}
+     */
+    public void onInvalidation(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        String key = parts[2].isEmpty() ? null : parts[2];
+        cache.evictLocal(key);
+        log.debug("Cache '{}' {} evicted by node {}", parts[1], key != null ? key : "cleared", parts[0]);
+        eventPublisher.publishEvent(new CacheInvalidationEvent(parts[1], key));
+    }
+
+    private void publish(String cacheName, String key) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : ""));
+        } catch (RuntimeException e) {
+            log.warn("Cache '{}' invalidation of {} not published: {}", cacheName, key, e.toString());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package net.switchscope.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JSON serializer for cached DTOs and lists of DTOs.
+ * <p>
+ * A value is written as {@code {"@type": class, "value": ...}} and a collection as
+ * {@code {"list": [...]}} of such values, read back as an {@link ArrayList}. Only application
+ * classes are instantiated on read. Unlike Jackson default typing this leaves the DTO JSON
+ * as the REST API writes it and copes with immutable lists returned by {@code Stream.toList()}.
+ */
+public class TypedJsonRedisSerializer implements RedisSerializer<Object> {
+
+    private static final String TYPE = "@type";
+    private static final String VALUE = "value";
+    private static final String LIST = "list";
+    private static final String ALLOWED_PACKAGE = "net.switchscope.";
+
+    private final ObjectMapper mapper;
+
+    public TypedJsonRedisSerializer(ObjectMapper mapper) {
+        this.mapper = mapper.copy();
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return mapper.writeValueAsBytes(wrap(value));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("Cannot serialize " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return unwrap(mapper.readTree(bytes));
+        } catch (IOException | ClassNotFoundException | LinkageError e) {
+            throw new SerializationException("Cannot deserialize cached value", e);
+        }
+    }
+
+    private JsonNode wrap(Object value) {
+        if (value == null) {
+            return mapper.nullNode();
+        }
+        ObjectNode node = mapper.createObjectNode();
+        if (value instanceof Collection<?> collection) {
+            ArrayNode items = node.putArray(LIST);
+            collection.forEach(item -> items.add(wrap(item)));
+        } else {
+            node.put(TYPE, value.getClass().getName());
+            node.set(VALUE, mapper.valueToTree(value));
+        }
+        return node;
+    }
+
+    private Object unwrap(JsonNode node) throws IOException, ClassNotFoundException {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (node.has(LIST)) {
+            List<Object> items = new ArrayList<>(node.get(LIST).size());
+            for (JsonNode item : node.get(LIST)) {
+                items.add(unwrap(item));
+            }
+            return items;
+        }
+        String type = node.path(TYPE).asText();
+        if (!type.startsWith(ALLOWED_PACKAGE)) {
+            throw new SerializationException("Cached type not allowed: " + type);
+        }
+        return mapper.treeToValue(node.get(VALUE), ClassUtils.forName(type, getClass().getClassLoader()));
+    }
+}
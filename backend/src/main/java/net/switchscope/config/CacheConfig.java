@@ -0,0 +1,112 @@
+package net.switchscope.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import net.switchscope.cache.ClusterEvents;
+import net.switchscope.cache.TwoLevelCache;
+import net.switchscope.cache.TwoLevelCacheManager;
+import net.switchscope.cache.TypedJsonRedisSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static net.switchscope.cache.CacheNames.CATALOGS;
+import static net.switchscope.cache.CacheNames.COMPONENTS;
+import static net.switchscope.cache.CacheNames.LOCATIONS;
+
+/**
+ * Application caches: Caffeine on every node, plus a shared Redis tier with pub/sub
+ * invalidation when {@code app.cache.redis.enabled} (multi-instance deployments).
+ * The same Redis carries {@link ClusterEvents} for node-local state outside the caches.
+ * Redis connection settings are the standard {@code spring.data.redis.*}.
+ */
+@Configuration
+public class CacheConfig {
+
+    private static final String REDIS_KEY_PREFIX = "switchscope:";
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(ObjectProvider<RedisConnectionFactory> connectionFactory,
+                                             ObjectMapper objectMapper,
+                                             ApplicationEventPublisher eventPublisher,
+                                             @Value("${app.cache.ttl.catalogs:1h}") Duration catalogsTtl,
+                                             @Value("${app.cache.ttl.locations:10m}") Duration locationsTtl,
+                                             @Value("${app.cache.ttl.components:60s}") Duration componentsTtl,
+                                             @Value("${app.cache.local-max-size:10000}") long localMaxSize,
+                                             @Value("${app.cache.redis.enabled:false}") boolean redisEnabled,
+                                             @Value("${app.cache.redis.channel:switchscope:cache-invalidation}") String channel) {
+        Map<String, Duration> ttls = Map.of(CATALOGS, catalogsTtl, LOCATIONS, locationsTtl, COMPONENTS, componentsTtl);
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(ttls, localMaxSize, eventPublisher);
+        if (redisEnabled) {
+            RedisConnectionFactory factory = connectionFactory.getObject();
+            RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                    .disableCachingNullValues()
+                    .prefixCacheNameWith(REDIS_KEY_PREFIX)
+                    .serializeValuesWith(SerializationPair.fromSerializer(new TypedJsonRedisSerializer(objectMapper)));
+            Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+            ttls.forEach((name, ttl) -> perCache.put(name, defaults.entryTtl(ttl)));
+            RedisCacheManager shared = RedisCacheManager.builder(factory)
+                    .cacheDefaults(defaults)
+                    .withInitialCacheConfigurations(perCache)
+                    .disableCreateOnMissingCache()
+                    .build();
+            shared.afterPropertiesSet();
+            cacheManager.setShared(shared, new StringRedisTemplate(factory), channel);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public ClusterEvents clusterEvents(ObjectProvider<RedisConnectionFactory> connectionFactory,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${app.cache.redis.enabled:false}") boolean redisEnabled,
+                                       @Value("${app.cache.redis.events-channel:switchscope:node-events}") String channel) {
+        ClusterEvents clusterEvents = new ClusterEvents(eventPublisher);
+        if (redisEnabled) {
+            clusterEvents.setShared(new StringRedisTemplate(connectionFactory.getObject()), channel);
+        }
+        return clusterEvents;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.redis", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   TwoLevelCacheManager cacheManager,
+                                                                   ClusterEvents clusterEvents,
+                                                                   @Value("${app.cache.redis.channel:switchscope:cache-invalidation}") String channel,
+                                                                   @Value("${app.cache.redis.events-channel:switchscope:node-events}") String eventsChannel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+        container.addMessageListener(
+                (message, pattern) -> clusterEvents.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(eventsChannel));
+        return container;
+    }
+
+    /**
+     * Exposes hit/miss/eviction counts of the local tier as {@code cache.*} meters.
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
+}
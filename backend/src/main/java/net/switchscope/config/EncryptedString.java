@@ -0,0 +1,81 @@
+package net.switchscope.config;
+
+import org.hibernate.annotations.Immutable;
+
+import java.util.Objects;
+
+/**
+ * Encrypted attribute value that is decrypted only when it is read.
+ * <p>
+ * Values loaded from the database hold just the ciphertext; new values are encrypted once on creation.
+ * Two values are equal when their plain text is equal, so dirty checking does not flag an entity
+ * whose secret was set to the same value again.
+ */
+@Immutable
+public final class EncryptedString {
+
+    private final String ciphertext;
+    // Decrypted on first read; races only repeat the decryption
+    private volatile String value;
+
+    private EncryptedString(String ciphertext, String value) {
+        this.ciphertext = ciphertext;
+        this.value = value;
+    }
+
+    /**
+     * @param ciphertext Base64 column value
+     * @return wrapper, or null for a null or empty column
+     */
+    public static EncryptedString ofCiphertext(String ciphertext) {
+        return ciphertext == null || ciphertext.isEmpty() ? null : new EncryptedString(ciphertext, null);
+    }
+
+    /**
+     * @param value plain text
+     * @return encrypted wrapper, or null for a null or empty value
+     */
+    public static EncryptedString of(String value) {
+        return value == null || value.isEmpty() ? null
+                : new EncryptedString(EncryptedStringConverter.encrypt(value), value);
+    }
+
+    public static String valueOf(EncryptedString encrypted) {
+        return encrypted == null ? null : encrypted.getValue();
+    }
+
+    public String getCiphertext() {
+        return ciphertext;
+    }
+
+    public String getValue() {
+        String result = value;
+        if (result == null) {
+            result = EncryptedStringConverter.decrypt(ciphertext);
+            value = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EncryptedString that)) {
+            return false;
+        }
+        return ciphertext.equals(that.ciphertext) || getValue().equals(that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+        // Never expose the secret in logs
+        return "EncryptedString[***]";
+    }
+}
@@ -6,50 +6,72 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
 
 /**
  * JPA AttributeConverter for encrypting/decrypting sensitive strings (like passwords).
  * Uses AES-GCM encryption for secure storage of device credentials.
+ * <p>
+ * Loading an entity does not decrypt anything: the column value is wrapped in an {@link EncryptedString}
+ * that is decrypted on first read. Ciphertext of unchanged values is written back as is.
+ * The key is derived once and each thread reuses its own {@link Cipher} instance.
  */
 @Converter
 @Component
-public class EncryptedStringConverter implements AttributeConverter<String, String> {
+public class EncryptedStringConverter implements AttributeConverter<EncryptedString, String> {
 
     private static final String ALGORITHM = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 128;
 
-    private static String encryptionKey;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    // Cipher is not thread-safe, but re-initializing one per thread is much cheaper than getInstance
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    });
+
+    private static volatile SecretKeySpec secretKey;
 
     @Value("${app.encryption.key}")
     public void setEncryptionKey(String key) {
-        encryptionKey = key;
+        // An invalid key fails on first use, not on startup
+        secretKey = key == null || key.length() < 16 ? null : new SecretKeySpec(getKeyBytes(key), "AES");
     }
 
     @Override
-    public String convertToDatabaseColumn(String attribute) {
-        if (attribute == null || attribute.isEmpty()) {
+    public String convertToDatabaseColumn(EncryptedString attribute) {
+        return attribute == null ? null : attribute.getCiphertext();
+    }
+
+    @Override
+    public EncryptedString convertToEntityAttribute(String dbData) {
+        return EncryptedString.ofCiphertext(dbData);
+    }
+
+    static String encrypt(String plainText) {
+        if (plainText == null || plainText.isEmpty()) {
             return null;
         }
         try {
-            byte[] keyBytes = getKeyBytes();
-            SecretKeySpec secretKey = new SecretKeySpec(keyBytes, "AES");
-
             byte[] iv = new byte[GCM_IV_LENGTH];
-            SecureRandom secureRandom = new SecureRandom();
-            secureRandom.nextBytes(iv);
+            SECURE_RANDOM.nextBytes(iv);
 
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            Cipher cipher = CIPHER.get();
             GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
+            cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(), parameterSpec);
 
-            byte[] encryptedBytes = cipher.doFinal(attribute.getBytes(StandardCharsets.UTF_8));
+            byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
 
             // Combine IV and encrypted data
             ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + encryptedBytes.length);
@@ -57,44 +79,43 @@ public class EncryptedStringConverter implements AttributeConverter<String, Stri
             byteBuffer.put(encryptedBytes);
 
             return Base64.getEncoder().encodeToString(byteBuffer.array());
+        } catch (IllegalStateException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error encrypting data", e);
         }
     }
 
-    @Override
-    public String convertToEntityAttribute(String dbData) {
+    static String decrypt(String dbData) {
         if (dbData == null || dbData.isEmpty()) {
             return null;
         }
         try {
-            byte[] keyBytes = getKeyBytes();
-            SecretKeySpec secretKey = new SecretKeySpec(keyBytes, "AES");
-
             byte[] decoded = Base64.getDecoder().decode(dbData);
 
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
-            byte[] encryptedBytes = new byte[byteBuffer.remaining()];
-            byteBuffer.get(encryptedBytes);
-
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+            Cipher cipher = CIPHER.get();
+            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, decoded, 0, GCM_IV_LENGTH);
+            cipher.init(Cipher.DECRYPT_MODE, getSecretKey(), parameterSpec);
 
-            byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
+            byte[] decryptedBytes = cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH);
             return new String(decryptedBytes, StandardCharsets.UTF_8);
+        } catch (IllegalStateException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error decrypting data", e);
         }
     }
 
-    private byte[] getKeyBytes() {
-        if (encryptionKey == null || encryptionKey.length() < 16) {
+    private static SecretKeySpec getSecretKey() {
+        SecretKeySpec key = secretKey;
+        if (key == null) {
             throw new IllegalStateException("Encryption key must be at least 16 characters. " +
                     "Please set 'app.encryption.key' property.");
         }
+        return key;
+    }
+
+    private static byte[] getKeyBytes(String encryptionKey) {
         // Use first 32 bytes (256 bits) for AES-256, or pad if shorter
         byte[] keyBytes = new byte[32];
         byte[] sourceBytes = encryptionKey.getBytes(StandardCharsets.UTF_8);
@@ -102,4 +123,3 @@ public class EncryptedStringConverter implements AttributeConverter<String, Stri
         return keyBytes;
     }
 }
-
@@ -0,0 +1,76 @@
+package net.switchscope.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.cache.CacheInvalidationEvent;
+import net.switchscope.cache.CacheNames;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Hibernate second-level cache of the catalog entities (configured under
+ * {@code spring.jpa.properties.hibernate.cache}).
+ * <p>
+ * Hit and miss counters per region come from hibernate-micrometer; this adds a hit ratio gauge
+ * per region. The cache is local to the node, so a catalog write on another node, announced
+ * through the application cache invalidation, empties it. That announcement needs Redis; without it
+ * the cache is emptied every {@code app.cache.second-level.standalone-ttl} instead, which bounds how
+ * long another replica's catalog edit goes unnoticed.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SecondLevelCacheConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Bean
+    public MeterBinder secondLevelCacheHitRatio() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics,
+                                s -> hitRatio(s.getDomainDataRegionStatistics(region)))
+                        .tag("region", region)
+                        .description("Share of second-level cache lookups answered from the cache since startup")
+                        .register(registry);
+            }
+        };
+    }
+
+    @EventListener
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        if (CacheNames.CATALOGS.equals(event.getCacheName())) {
+            log.debug("Catalogs changed on another node, evicting the second-level cache");
+            entityManagerFactory.getCache().evictAll();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.second-level.standalone-ttl:1m}",
+               initialDelayString = "${app.cache.second-level.standalone-ttl:1m}")
+    public void expireWithoutRedis() {
+        if (!redisEnabled) {
+            entityManagerFactory.getCache().evictAll();
+        }
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        if (region == null) {
+            return Double.NaN;
+        }
+        long lookups = region.getHitCount() + region.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) region.getHitCount() / lookups;
+    }
+}
@@ -5,10 +5,12 @@ import lombok.extern.slf4j.Slf4j;
 import net.switchscope.model.Role;
 import net.switchscope.model.User;
 import net.switchscope.repository.UserRepository;
+import net.switchscope.security.CachingAuthenticationProvider;
 import net.switchscope.web.AuthUser;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -29,6 +31,13 @@ import java.util.Optional;
 public class SecurityConfig {
     public static final PasswordEncoder PASSWORD_ENCODER = PasswordEncoderFactories.createDelegatingPasswordEncoder();
 
+    // Frontend origins, for CORS and the WebSocket handshake
+    public static final List<String> ALLOWED_ORIGIN_PATTERNS = List.of(
+            "http://localhost:*",        // Any port on localhost
+            "http://192.168.*.*:*",     // Any IP in your network
+            "http://127.0.0.1:*"        // Loopback
+    );
+
     private final UserRepository userRepository;
     private final RestAuthenticationEntryPoint authenticationEntryPoint;
 
@@ -48,14 +57,11 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           CachingAuthenticationProvider authenticationProvider) throws Exception {
         http.cors(cors -> cors.configurationSource(request -> {
                 var corsConfig = new org.springframework.web.cors.CorsConfiguration();
-                corsConfig.setAllowedOriginPatterns(List.of(
-                        "http://localhost:*",        // Any port on localhost
-                        "http://192.168.*.*:*",     // Any IP in your network
-                        "http://127.0.0.1:*"        // Loopback)); // Allow frontend
-                ));
+                corsConfig.setAllowedOriginPatterns(ALLOWED_ORIGIN_PATTERNS); // Allow frontend
                 corsConfig.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS")); // Allowed methods
                 corsConfig.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With", "Accept")); // Allowed headers
                 corsConfig.setAllowCredentials(true); // Important: Allow credentials
@@ -66,10 +72,14 @@ public class SecurityConfig {
                     ac.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // Allow all OPTIONS requests (CORS preflight)
                       .requestMatchers("/favicon.ico").permitAll()
                       .requestMatchers("/", "/v3/api-docs", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll()
+                      // WebSocket handshake; STOMP CONNECT is authenticated by StompAuthenticationInterceptor
+                      .requestMatchers(WebSocketConfig.ENDPOINT, WebSocketConfig.ENDPOINT + "/**").permitAll()
                       // Future: registration endpoint (currently no controller exists)
                       // .requestMatchers(HttpMethod.POST, "/api/auth/register").anonymous()
                       .requestMatchers("/api/admin/**").hasRole(Role.ADMIN.name()) // Admin-only endpoints
                       .requestMatchers("/api/**").authenticated()) // All other API endpoints require authentication
+            // Verified Basic credentials are cached briefly, see CachingAuthenticationProvider
+            .authenticationManager(new ProviderManager(authenticationProvider))
             .httpBasic(hbc -> hbc.authenticationEntryPoint(authenticationEntryPoint))
             .sessionManagement(smc -> smc.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .csrf(AbstractHttpConfigurer::disable);
@@ -0,0 +1,41 @@
+package net.switchscope.config;
+
+import lombok.RequiredArgsConstructor;
+import net.switchscope.security.StompAuthenticationInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * STOMP over WebSocket at {@code /ws} for live status (see StatusPushService).
+ * In-memory broker on every node, pushes reach the other nodes through Redis when
+ * {@code app.cache.redis.enabled}; sessions authenticate on CONNECT.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    public static final String ENDPOINT = "/ws";
+
+    private final StompAuthenticationInterceptor authenticationInterceptor;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint(ENDPOINT)
+                .setAllowedOriginPatterns(SecurityConfig.ALLOWED_ORIGIN_PATTERNS.toArray(String[]::new));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(authenticationInterceptor);
+    }
+}
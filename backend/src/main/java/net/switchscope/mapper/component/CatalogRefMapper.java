@@ -0,0 +1,38 @@
+package net.switchscope.mapper.component;
+
+import lombok.RequiredArgsConstructor;
+import net.switchscope.service.component.CatalogSnapshot;
+import net.switchscope.to.component.ComponentTo;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.MappingTarget;
+
+/**
+ * Resolves component catalog references (status, type, nature) from {@link CatalogSnapshot}.
+ * Component mappers copy only the FK ids, which Hibernate proxies expose without loading,
+ * so mapping a list of components no longer initializes catalog rows per component.
+ */
+@org.springframework.stereotype.Component
+@RequiredArgsConstructor
+public class CatalogRefMapper {
+
+    private final CatalogSnapshot catalogSnapshot;
+
+    @AfterMapping
+    public void resolveCatalogRefs(@MappingTarget ComponentTo target) {
+        CatalogSnapshot.StatusEntry status = catalogSnapshot.status(target.getComponentStatusId());
+        if (status != null) {
+            target.setComponentStatusCode(status.getCode());
+            target.setComponentStatusDisplayName(status.getDisplayName());
+            target.setOperational(status.isOperational());
+        }
+        CatalogSnapshot.TypeEntry type = catalogSnapshot.type(target.getComponentTypeId());
+        if (type != null) {
+            target.setComponentTypeCode(type.getCode());
+            target.setComponentTypeDisplayName(type.getDisplayName());
+        }
+        CatalogSnapshot.Entry nature = catalogSnapshot.nature(target.getComponentNatureId());
+        if (nature != null) {
+            target.setComponentNatureCode(nature.getCode());
+        }
+    }
+}
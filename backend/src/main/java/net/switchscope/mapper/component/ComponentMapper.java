@@ -13,19 +13,20 @@ import org.mapstruct.MappingTarget;
 public interface ComponentMapper<E extends Component, T extends ComponentTo> extends BaseMapper<E, T> {
 
     // Common mappings for Entity -> TO
+    // Catalog codes, names and operational flag are resolved by CatalogRefMapper
     @Mapping(target = "componentStatusId", source = "componentStatus.id")
-    @Mapping(target = "componentStatusCode", source = "componentStatus.code")
-    @Mapping(target = "componentStatusDisplayName", source = "componentStatus.displayName")
+    @Mapping(target = "componentStatusCode", ignore = true)
+    @Mapping(target = "componentStatusDisplayName", ignore = true)
     @Mapping(target = "componentTypeId", source = "componentType.id")
-    @Mapping(target = "componentTypeCode", source = "componentType.code")
-    @Mapping(target = "componentTypeDisplayName", source = "componentType.displayName")
+    @Mapping(target = "componentTypeCode", ignore = true)
+    @Mapping(target = "componentTypeDisplayName", ignore = true)
     @Mapping(target = "componentNatureId", source = "componentNature.id")
-    @Mapping(target = "componentNatureCode", source = "componentNature.code")
+    @Mapping(target = "componentNatureCode", ignore = true)
     @Mapping(target = "installationId", source = "installation.id")
     @Mapping(target = "parentComponentId", source = "parentComponent.id")
     @Mapping(target = "parentComponentName", source = "parentComponent.name")
     @Mapping(target = "componentPath", expression = "java(entity.getComponentPath())")
-    @Mapping(target = "operational", expression = "java(entity.isOperational())")
+    @Mapping(target = "operational", ignore = true)
     @Mapping(target = "installed", expression = "java(entity.isInstalled())")
     @Mapping(target = "locationAddress", expression = "java(entity.getLocationAddress())")
     @Override
@@ -1,6 +1,7 @@
 package net.switchscope.mapper.component.device;
 
 import net.switchscope.mapper.MapStructConfig;
+import net.switchscope.mapper.component.CatalogRefMapper;
 import net.switchscope.model.component.device.AccessPoint;
 import net.switchscope.to.component.device.AccessPointTo;
 import org.mapstruct.Mapper;
@@ -10,23 +11,24 @@ import org.mapstruct.MappingTarget;
 /**
  * Mapper for AccessPoint entity <-> AccessPointTo DTO.
  */
-@Mapper(config = MapStructConfig.class)
+@Mapper(config = MapStructConfig.class, uses = CatalogRefMapper.class)
 public interface AccessPointMapper extends DeviceMapper<AccessPoint, AccessPointTo> {
 
     // Entity -> TO mappings
+    // Catalog codes, names and operational flag are resolved by CatalogRefMapper
     @Mapping(target = "componentStatusId", source = "componentStatus.id")
-    @Mapping(target = "componentStatusCode", source = "componentStatus.code")
-    @Mapping(target = "componentStatusDisplayName", source = "componentStatus.displayName")
+    @Mapping(target = "componentStatusCode", ignore = true)
+    @Mapping(target = "componentStatusDisplayName", ignore = true)
     @Mapping(target = "componentTypeId", source = "componentType.id")
-    @Mapping(target = "componentTypeCode", source = "componentType.code")
-    @Mapping(target = "componentTypeDisplayName", source = "componentType.displayName")
+    @Mapping(target = "componentTypeCode", ignore = true)
+    @Mapping(target = "componentTypeDisplayName", ignore = true)
     @Mapping(target = "componentNatureId", source = "componentNature.id")
-    @Mapping(target = "componentNatureCode", source = "componentNature.code")
+    @Mapping(target = "componentNatureCode", ignore = true)
     @Mapping(target = "installationId", source = "installation.id")
     @Mapping(target = "parentComponentId", source = "parentComponent.id")
     @Mapping(target = "parentComponentName", source = "parentComponent.name")
     @Mapping(target = "componentPath", expression = "java(entity.getComponentPath())")
-    @Mapping(target = "operational", expression = "java(entity.isOperational())")
+    @Mapping(target = "operational", ignore = true)
     @Mapping(target = "installed", expression = "java(entity.isInstalled())")
     @Mapping(target = "locationAddress", expression = "java(entity.getLocationAddress())")
     @Mapping(target = "managed", expression = "java(entity.isManaged())")
@@ -38,6 +40,8 @@ public interface AccessPointMapper extends DeviceMapper<AccessPoint, AccessPoint
     @Mapping(target = "wifi6", expression = "java(entity.isWiFi6())")
     @Mapping(target = "modernSecurity", expression = "java(entity.hasModernSecurity())")
     @Mapping(target = "ssidCount", expression = "java(entity.getSsids() != null ? entity.getSsids().size() : 0)")
+    // Write-only, skip decrypting it for reads
+    @Mapping(target = "adminPassword", ignore = true)
     @Override
     AccessPointTo toTo(AccessPoint entity);
 
@@ -13,19 +13,20 @@ import org.mapstruct.MappingTarget;
 public interface DeviceMapper<E extends Device, T extends DeviceTo> extends ComponentMapper<E, T> {
 
     // Device-specific mappings for Entity -> TO
+    // Catalog codes, names and operational flag are resolved by CatalogRefMapper
     @Mapping(target = "componentStatusId", source = "componentStatus.id")
-    @Mapping(target = "componentStatusCode", source = "componentStatus.code")
-    @Mapping(target = "componentStatusDisplayName", source = "componentStatus.displayName")
+    @Mapping(target = "componentStatusCode", ignore = true)
+    @Mapping(target = "componentStatusDisplayName", ignore = true)
     @Mapping(target = "componentTypeId", source = "componentType.id")
-    @Mapping(target = "componentTypeCode", source = "componentType.code")
-    @Mapping(target = "componentTypeDisplayName", source = "componentType.displayName")
+    @Mapping(target = "componentTypeCode", ignore = true)
+    @Mapping(target = "componentTypeDisplayName", ignore = true)
     @Mapping(target = "componentNatureId", source = "componentNature.id")
-    @Mapping(target = "componentNatureCode", source = "componentNature.code")
+    @Mapping(target = "componentNatureCode", ignore = true)
     @Mapping(target = "installationId", source = "installation.id")
     @Mapping(target = "parentComponentId", source = "parentComponent.id")
     @Mapping(target = "parentComponentName", source = "parentComponent.name")
     @Mapping(target = "componentPath", expression = "java(entity.getComponentPath())")
-    @Mapping(target = "operational", expression = "java(entity.isOperational())")
+    @Mapping(target = "operational", ignore = true)
     @Mapping(target = "installed", expression = "java(entity.isInstalled())")
     @Mapping(target = "locationAddress", expression = "java(entity.getLocationAddress())")
     // Device-specific computed fields
@@ -34,6 +35,8 @@ public interface DeviceMapper<E extends Device, T extends DeviceTo> extends Comp
     @Mapping(target = "monitoringStatus", expression = "java(entity.getMonitoringStatus())")
     @Mapping(target = "networkConfiguration", expression = "java(entity.getNetworkConfiguration())")
     @Mapping(target = "portCount", expression = "java(entity.hasPorts() ? entity.getPorts().size() : 0)")
+    // Write-only, skip decrypting it for reads
+    @Mapping(target = "adminPassword", ignore = true)
     @Override
     T toTo(E entity);
 
@@ -0,0 +1,42 @@
+package net.switchscope.model;
+
+/**
+ * Fetch plan per view: which named entity graph a repository applies for collections and batch-get
+ * ({@code LIST}), a single resource ({@code DETAIL}) and streamed dumps ({@code EXPORT}).
+ * Views that need the same associations share one graph.
+ * <p>
+ * A graph joins the to-one associations its view renders. Everything else stays lazy and is loaded
+ * by batch fetching ({@code default_batch_fetch_size}), so a list costs one query plus one per
+ * batch of rows and association, independent of the number of rows.
+ */
+public final class FetchGraphs {
+
+    // Component: installation and parent in every row; catalogs come from CatalogSnapshot
+    public static final String COMPONENT_LIST = "Component.list";
+    // Catalogs too, for updates that read them from the entity
+    public static final String COMPONENT_DETAIL = "Component.detail";
+    public static final String COMPONENT_EXPORT = COMPONENT_LIST;
+
+    // Component subtypes: COMPONENT_LIST plus the subtype's own to-one associations
+    public static final String NETWORK_SWITCH_LIST = "NetworkSwitch.list";
+    public static final String ROUTER_LIST = "Router.list";
+    public static final String ACCESS_POINT_LIST = "AccessPoint.list";
+    public static final String PATCH_PANEL_LIST = "PatchPanel.list";
+    public static final String CONNECTOR_LIST = "Connector.list";
+    public static final String CABLE_RUN_LIST = "CableRun.list";
+    public static final String RACK_LIST = "Rack.list";
+
+    // Location: children are batch-fetched in lists, joined for a single location
+    public static final String LOCATION_LIST = "Location.list";
+    public static final String LOCATION_DETAIL = "Location.detail";
+
+    public static final String PORT_LIST = "Port.list";
+    public static final String PORT_DETAIL = PORT_LIST;
+
+    public static final String INSTALLATION_LIST = "Installation.list";
+    public static final String INSTALLATION_DETAIL = INSTALLATION_LIST;
+    public static final String INSTALLATION_EXPORT = INSTALLATION_LIST;
+
+    private FetchGraphs() {
+    }
+}
@@ -0,0 +1,20 @@
+package net.switchscope.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Time of the last telemetry sample written into the row by a collector.
+ * <p>
+ * Collectors leave {@code updatedAt} alone (telemetry is not an inventory change), so conditional GET
+ * versions the entity by this timestamp too: clients revalidate to the current telemetry.
+ */
+@Documented
+@Target(FIELD)
+@Retention(RUNTIME)
+public @interface SampledAt {
+}
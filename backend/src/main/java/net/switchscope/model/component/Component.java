@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.NamedEntity;
 import net.switchscope.model.installation.Installation;
 import net.switchscope.model.location.Location;
@@ -27,6 +28,12 @@ import java.util.UUID;
         uniqueConstraints = {@UniqueConstraint(columnNames = {"manufacturer", "serial_number"}, name = "uk_manufacturer_serial")})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "component_class", discriminatorType = DiscriminatorType.STRING)
+@NamedEntityGraph(name = FetchGraphs.COMPONENT_LIST, attributeNodes = {
+        @NamedAttributeNode("installation"), @NamedAttributeNode("parentComponent")})
+@NamedEntityGraph(name = FetchGraphs.COMPONENT_DETAIL, attributeNodes = {
+        @NamedAttributeNode("componentStatus"), @NamedAttributeNode("componentType"),
+        @NamedAttributeNode("componentNature"), @NamedAttributeNode("installation"),
+        @NamedAttributeNode("parentComponent")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -53,19 +60,20 @@ public abstract class Component extends NamedEntity {
     private String partNumber;
 
     // FK to ComponentStatusEntity (replacing enum)
-    @ManyToOne(fetch = FetchType.EAGER)
+    // Catalog FKs are lazy: mapping resolves them by id from CatalogSnapshot
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "component_status_id", nullable = false)
     @NotNull
     private ComponentStatusEntity componentStatus;
 
     // FK to ComponentTypeEntity
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "component_type_id", nullable = false)
     @NotNull
     private ComponentTypeEntity componentType;
 
     // FK to ComponentNatureEntity (optional)
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "component_nature_id")
     private ComponentNatureEntity componentNature;
 
@@ -86,6 +94,15 @@ public abstract class Component extends NamedEntity {
     @OneToMany(mappedBy = "parentComponent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Component> childComponents = new ArrayList<>();
 
+    // Derived from component_closure, maintained by ComponentHierarchyService
+    @Column(name = "component_path", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private String componentPath;
+
+    @Column(name = "depth", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private int depth;
+
     // Constructors
     public Component(UUID id, String name, ComponentTypeEntity componentType) {
         super(id, name, null);
@@ -235,6 +252,9 @@ public abstract class Component extends NamedEntity {
     }
 
     public String getComponentPath() {
+        if (componentPath != null) {
+            return componentPath;
+        }
         if (parentComponent == null) {
             return name;
         }
@@ -242,6 +262,9 @@ public abstract class Component extends NamedEntity {
     }
 
     public int getLevel() {
+        if (componentPath != null) {
+            return depth;
+        }
         if (parentComponent == null) {
             return 0;
         }
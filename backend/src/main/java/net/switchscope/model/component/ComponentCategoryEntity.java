@@ -5,6 +5,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.*;
 
@@ -14,6 +16,8 @@ import java.util.*;
  */
 @Entity
 @Table(name = "component_categories_catalog")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,10 +31,12 @@ public class ComponentCategoryEntity extends UIStyledEntity {
     private boolean infrastructure = false; // Housing/support vs active equipment
 
     // One-to-many relationship with component types
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<ComponentTypeEntity> componentTypes = new ArrayList<>();
 
     // Custom properties for extensibility
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "component_category_properties",
                     joinColumns = @JoinColumn(name = "component_category_id"))
@@ -109,17 +115,28 @@ public class ComponentCategoryEntity extends UIStyledEntity {
      * Check if this category can contain components of another category
      */
     public boolean canContainCategory(ComponentCategoryEntity otherCategory) {
+        return otherCategory != null && canContainCategory(getCode(), otherCategory.getCode());
+    }
+
+    /**
+     * Check by category codes if one category can contain components of another,
+     * for callers holding catalog codes instead of entities
+     */
+    public static boolean canContainCategory(String categoryCode, String otherCategoryCode) {
+        if (otherCategoryCode == null) {
+            return false;
+        }
 
         // Housing can contain connectivity and support equipment
-        if (isHousingCategory()) {
-            return otherCategory.isConnectivityCategory() ||
-                   otherCategory.isSupportCategory() ||
-                   otherCategory.isModuleCategory();
+        if ("housing".equalsIgnoreCase(categoryCode)) {
+            return "connectivity".equalsIgnoreCase(otherCategoryCode) ||
+                   "support".equalsIgnoreCase(otherCategoryCode) ||
+                   "module".equalsIgnoreCase(otherCategoryCode);
         }
 
         // Connectivity equipment can contain modules
-        if (isConnectivityCategory()) {
-            return otherCategory.isModuleCategory();
+        if ("connectivity".equalsIgnoreCase(categoryCode)) {
+            return "module".equalsIgnoreCase(otherCategoryCode);
         }
 
         return false;
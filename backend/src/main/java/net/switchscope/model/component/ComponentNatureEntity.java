@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import net.switchscope.validation.NoHtml;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,6 +19,8 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "component_natures_catalog")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -43,6 +47,7 @@ public class ComponentNatureEntity extends UIStyledEntity {
     @NoHtml
     private String powerConsumptionCategory = "none"; // none, low, medium, high, variable
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "component_nature_properties",
                     joinColumns = @JoinColumn(name = "component_nature_id"))
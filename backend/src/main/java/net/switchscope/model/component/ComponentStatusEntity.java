@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import net.switchscope.validation.NoHtml;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.*;
 
@@ -15,6 +17,8 @@ import java.util.*;
  */
 @Entity
 @Table(name = "component_statuses_catalog")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,12 +55,14 @@ public class ComponentStatusEntity extends UIStyledEntity {
     private boolean canBeReserved = false;
 
     // Next possible status codes (stored as codes, not entity references)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "component_status_allowed_transitions",
                     joinColumns = @JoinColumn(name = "component_status_id"))
     @Column(name = "to_status_code")
     private Set<String> nextPossibleStatusCodes = new HashSet<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "component_status_properties",
                     joinColumns = @JoinColumn(name = "component_status_id"))
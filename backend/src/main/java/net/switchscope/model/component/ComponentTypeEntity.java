@@ -6,6 +6,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.*;
 
@@ -16,6 +18,8 @@ import java.util.*;
 @Entity
 @Table(name = "component_types_catalog",
        uniqueConstraints = {@UniqueConstraint(columnNames = {"code", "category_id"}, name = "uk_code_category")})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -83,12 +87,14 @@ public class ComponentTypeEntity extends UIStyledEntity {
     private Integer typicalLifespanYears;
 
     // Containment rules (for housing components)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "component_type_allowed_child_types",
                     joinColumns = @JoinColumn(name = "parent_type_id"))
     @Column(name = "child_type_code")
     private Set<String> allowedChildTypeCodes = new HashSet<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "component_type_allowed_child_categories",
                     joinColumns = @JoinColumn(name = "parent_type_id"))
@@ -96,6 +102,7 @@ public class ComponentTypeEntity extends UIStyledEntity {
     private Set<String> allowedChildCategoryCodes = new HashSet<>();
 
     // Custom properties for extensibility
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "component_type_properties",
                     joinColumns = @JoinColumn(name = "component_type_id"))
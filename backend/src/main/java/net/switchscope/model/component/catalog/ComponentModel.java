@@ -10,6 +10,8 @@ import lombok.Setter;
 import net.switchscope.model.NamedEntity;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.validation.NoHtml;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -23,6 +25,8 @@ import java.util.UUID;
        uniqueConstraints = @UniqueConstraint(columnNames = {"manufacturer", "model_number"}, name = "uk_component_model_manufacturer_model"))
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "model_class", discriminatorType = DiscriminatorType.STRING)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -10,6 +10,8 @@ import lombok.Setter;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.catalog.ComponentModel;
 import net.switchscope.validation.NoHtml;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -76,6 +78,7 @@ public abstract class DeviceModel extends ComponentModel {
     private Integer noiseLevelDb;
 
     // Additional device specifications as key-value pairs
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "device_model_specifications",
                     joinColumns = @JoinColumn(name = "device_model_id"))
@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.validation.NoHtml;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -97,6 +99,7 @@ public class RouterModel extends DeviceModel {
     private Integer maxVpnTunnels;
 
     // WAN interface types supported
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "router_model_wan_interfaces",
                     joinColumns = @JoinColumn(name = "router_model_id"))
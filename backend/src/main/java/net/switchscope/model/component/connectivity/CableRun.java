@@ -19,6 +19,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderColumn;
 import jakarta.validation.constraints.DecimalMax;
@@ -28,6 +30,7 @@ import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.Component;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.InstallableCategory;
@@ -41,6 +44,9 @@ import net.switchscope.validation.NoHtml;
  */
 @Entity
 @DiscriminatorValue("CABLE_RUN")
+@NamedEntityGraph(name = FetchGraphs.CABLE_RUN_LIST, attributeNodes = {
+        @NamedAttributeNode("installation"), @NamedAttributeNode("parentComponent"),
+        @NamedAttributeNode("cableModel"), @NamedAttributeNode("startLocation"), @NamedAttributeNode("endLocation")})
 @InstallableComponent(code = "CABLE_RUN", category = InstallableCategory.CONNECTIVITY)
 @Getter
 @Setter
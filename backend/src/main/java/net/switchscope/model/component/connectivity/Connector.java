@@ -10,11 +10,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.Component;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.InstallableCategory;
@@ -28,6 +31,9 @@ import net.switchscope.validation.NoHtml;
  */
 @Entity
 @DiscriminatorValue("CONNECTOR")
+@NamedEntityGraph(name = FetchGraphs.CONNECTOR_LIST, attributeNodes = {
+        @NamedAttributeNode("installation"), @NamedAttributeNode("parentComponent"),
+        @NamedAttributeNode("connectorModel"), @NamedAttributeNode("cableRun"), @NamedAttributeNode("port")})
 @InstallableComponent(code = "CONNECTOR", category = InstallableCategory.CONNECTIVITY)
 @Getter
 @Setter
@@ -14,12 +14,15 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.InstallableCategory;
 import net.switchscope.model.component.InstallableComponent;
@@ -32,6 +35,9 @@ import net.switchscope.validation.NoHtml;
  */
 @Entity
 @DiscriminatorValue("PATCH_PANEL")
+@NamedEntityGraph(name = FetchGraphs.PATCH_PANEL_LIST, attributeNodes = {
+        @NamedAttributeNode("installation"), @NamedAttributeNode("parentComponent"),
+        @NamedAttributeNode("patchPanelModel")})
 @InstallableComponent(code = "PATCH_PANEL", category = InstallableCategory.CONNECTIVITY)
 @Getter
 @Setter
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.InstallableCategory;
 import net.switchscope.model.component.InstallableComponent;
@@ -18,6 +19,8 @@ import java.util.*;
  */
 @Entity
 @DiscriminatorValue("ACCESS_POINT")
+@NamedEntityGraph(name = FetchGraphs.ACCESS_POINT_LIST, attributeNodes = {
+        @NamedAttributeNode("installation"), @NamedAttributeNode("parentComponent")})
 @InstallableComponent(code = "ACCESS_POINT", category = InstallableCategory.DEVICE)
 @Getter
 @Setter
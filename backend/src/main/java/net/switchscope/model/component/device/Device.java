@@ -6,8 +6,12 @@ import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import net.switchscope.config.EncryptedString;
+import net.switchscope.config.EncryptedStringConverter;
+import net.switchscope.model.SampledAt;
 import net.switchscope.model.component.Component;
 import net.switchscope.model.component.ComponentStatusEntity;
 import net.switchscope.model.component.ComponentTypeEntity;
@@ -68,9 +72,12 @@ public abstract class Device extends Component {
     @NoHtml
     private String adminUsername;
 
+    // Decrypted lazily, see getAdminPassword()
     @Column(name = "admin_password")
-    @Convert(converter = net.switchscope.config.EncryptedStringConverter.class)
-    private String adminPassword;
+    @Convert(converter = EncryptedStringConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private EncryptedString adminPassword;
 
     @Column(name = "snmp_community_read")
     @Size(max = 128)
@@ -94,6 +101,7 @@ public abstract class Device extends Component {
     private Integer monitoringIntervalSeconds = 300; // 5 minutes default
 
     @Column(name = "last_ping_time")
+    @SampledAt
     private LocalDateTime lastPingTime;
 
     @Column(name = "last_ping_success", nullable = false)
@@ -180,6 +188,15 @@ public abstract class Device extends Component {
                 lastPingTime.isAfter(LocalDateTime.now().minusMinutes(10));
     }
 
+    // Credentials
+    public String getAdminPassword() {
+        return EncryptedString.valueOf(adminPassword);
+    }
+
+    public void setAdminPassword(String adminPassword) {
+        this.adminPassword = EncryptedString.of(adminPassword);
+    }
+
     // Network configuration helper
     public String getNetworkConfiguration() {
         StringBuilder config = new StringBuilder();
@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.ComponentStatusEntity;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.InstallableCategory;
@@ -25,6 +26,9 @@ import java.util.UUID;
  */
 @Entity
 @DiscriminatorValue("NETWORK_SWITCH")
+@NamedEntityGraph(name = FetchGraphs.NETWORK_SWITCH_LIST, attributeNodes = {
+        @NamedAttributeNode("installation"), @NamedAttributeNode("parentComponent"),
+        @NamedAttributeNode("switchModel")})
 @InstallableComponent(code = "NETWORK_SWITCH", category = InstallableCategory.DEVICE)
 @Getter
 @Setter
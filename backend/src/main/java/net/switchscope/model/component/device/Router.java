@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.InstallableCategory;
 import net.switchscope.model.component.InstallableComponent;
@@ -17,6 +18,8 @@ import java.util.*;
  */
 @Entity
 @DiscriminatorValue("ROUTER")
+@NamedEntityGraph(name = FetchGraphs.ROUTER_LIST, attributeNodes = {
+        @NamedAttributeNode("installation"), @NamedAttributeNode("parentComponent")})
 @InstallableComponent(code = "ROUTER", category = InstallableCategory.DEVICE)
 @Getter
 @Setter
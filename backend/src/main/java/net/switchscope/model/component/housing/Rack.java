@@ -8,19 +8,22 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.Component;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.InstallableCategory;
 import net.switchscope.model.component.InstallableComponent;
 import net.switchscope.model.component.catalog.housing.RackModelEntity;
-import net.switchscope.model.installation.Installation;
+import net.switchscope.model.installation.RackFace;
 import net.switchscope.validation.NoHtml;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Entity
 @DiscriminatorValue("RACK")
+@NamedEntityGraph(name = FetchGraphs.RACK_LIST, attributeNodes = {
+        @NamedAttributeNode("installation"), @NamedAttributeNode("parentComponent"),
+        @NamedAttributeNode("rackType")})
 @InstallableComponent(code = "RACK", category = InstallableCategory.HOUSING)
 @Getter
 @Setter
@@ -28,6 +31,7 @@ import java.util.stream.Collectors;
 public class Rack extends Component {
 
     @Column(name = "rack_units_total")
+    @Min(1) @Max(RackOccupancy.MAX_UNITS)
     private Integer rackUnitsTotal = 42; // Standard 42U rack
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -137,6 +141,10 @@ public class Rack extends Component {
     @Column(name = "max_load_weight_kg")
     private Double maxLoadWeightKg;
 
+    // Attached by RackOccupancyService before mapping; null means not loaded (treated as empty)
+    @Transient
+    private RackOccupancy occupancy;
+
     // Constructors
     public Rack(UUID id, String name, ComponentTypeEntity componentType, RackModelEntity rackType) {
         super(id, name, componentType);
@@ -284,24 +292,13 @@ public class Rack extends Component {
         );
     }
 
-    // Helper method to get active installations housed in this rack
-    private List<Installation> getActiveInstallations() {
-        // This would be implemented through InstallationService
-        // For now, return empty list - actual implementation would query installations
-        // where housing_component_id = this.id and status is active
-        return List.of();
-    }
-
     // Rack capacity and utilization methods
     public boolean hasAvailableSpace() {
         return getAvailableSpace() > 0;
     }
 
     public int getOccupiedSpace() {
-        return getActiveInstallations().stream()
-                .filter(Installation::isRackMounted)
-                .mapToInt(Installation::getOccupiedRackUnits)
-                .sum();
+        return occupancy != null ? occupancy.getOccupiedUnits() : 0;
     }
 
     public int getAvailableSpace() {
@@ -309,52 +306,35 @@ public class Rack extends Component {
     }
 
     /**
-     * Get all occupied rack positions
+     * Get all occupied rack positions (on either face)
      */
     public Set<Integer> getOccupiedPositions() {
-        return getActiveInstallations().stream()
-                .filter(Installation::isRackMounted)
-                .flatMap(inst -> inst.getOccupiedRackPositions().stream())
-                .collect(Collectors.toSet());
+        return occupancy != null ? new TreeSet<>(occupancy.getOccupiedPositions(RackFace.BOTH)) : Set.of();
     }
 
     /**
-     * Check if specific rack position is available
+     * Check if specific rack position is available on both faces
      */
     public boolean isPositionAvailable(int position) {
-        if (position < 1 || position > rackUnitsTotal) {
-            return false;
-        }
-        return !getOccupiedPositions().contains(position);
+        return isPositionRangeAvailable(position, 1);
     }
 
     /**
-     * Check if range of positions is available for equipment of given height
+     * Check if range of positions is available on both faces for equipment of given height
      */
     public boolean isPositionRangeAvailable(int startPosition, int height) {
         if (startPosition < 1 || startPosition + height - 1 > rackUnitsTotal) {
             return false;
         }
-
-        Set<Integer> occupied = getOccupiedPositions();
-        for (int pos = startPosition; pos < startPosition + height; pos++) {
-            if (occupied.contains(pos)) {
-                return false;
-            }
-        }
-        return true;
+        return occupancy == null || occupancy.isRangeAvailable(startPosition, height, RackFace.BOTH);
     }
 
     /**
-     * Find first available position for equipment of given height
+     * Find first available position for full-depth equipment of given height
      */
     public Integer findFirstAvailablePosition(int height) {
-        for (int pos = 1; pos <= rackUnitsTotal - height + 1; pos++) {
-            if (isPositionRangeAvailable(pos, height)) {
-                return pos;
-            }
-        }
-        return null;
+        RackOccupancy current = occupancy != null ? occupancy : RackOccupancy.empty(rackUnitsTotal);
+        return current.findPosition(height, RackFace.BOTH, RackOccupancy.Strategy.FIRST_FIT);
     }
 
     /**
@@ -0,0 +1,173 @@
+package net.switchscope.model.component.housing;
+
+import net.switchscope.model.installation.Installation;
+import net.switchscope.model.installation.RackFace;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable rack unit occupancy as one bitmask per rack face.
+ * Bit {@code n} is unit {@code U(n + 1)}, so range checks are a single mask test.
+ */
+public final class RackOccupancy {
+
+    public static final int MAX_UNITS = Long.SIZE;
+
+    public enum Strategy {
+        /** Lowest free position that fits */
+        FIRST_FIT,
+        /** Position in the smallest free gap that fits, keeps large gaps for large equipment */
+        BEST_FIT
+    }
+
+    private final int units;
+    private final long front;
+    private final long rear;
+
+    private RackOccupancy(int units, long front, long rear) {
+        this.units = units;
+        this.front = front;
+        this.rear = rear;
+    }
+
+    public static RackOccupancy empty(int units) {
+        if (units < 0 || units > MAX_UNITS) {
+            throw new IllegalArgumentException("Rack height must be between 0 and " + MAX_UNITS + "U, was " + units);
+        }
+        return new RackOccupancy(units, 0L, 0L);
+    }
+
+    /**
+     * Build occupancy from rack-mounted installations. Positions outside the rack are ignored.
+     *
+     * @param units         rack height in units
+     * @param installations active installations housed in the rack
+     * @return occupancy
+     */
+    public static RackOccupancy of(int units, Collection<Installation> installations) {
+        RackOccupancy occupancy = empty(units);
+        long all = occupancy.allMask();
+        long front = 0L;
+        long rear = 0L;
+        for (Installation installation : installations) {
+            if (!installation.isRackMounted()
+                    || installation.getRackPosition() < 1 || installation.getRackPosition() > units) {
+                continue;
+            }
+            long mask = mask(installation.getRackPosition(), Math.max(1, installation.getOccupiedRackUnits())) & all;
+            RackFace face = installation.getEffectiveRackFace();
+            if (face != RackFace.REAR) {
+                front |= mask;
+            }
+            if (face != RackFace.FRONT) {
+                rear |= mask;
+            }
+        }
+        return new RackOccupancy(units, front, rear);
+    }
+
+    public int getUnits() {
+        return units;
+    }
+
+    /**
+     * @return units occupied on at least one face
+     */
+    public int getOccupiedUnits() {
+        return Long.bitCount(front | rear);
+    }
+
+    public int getFreeUnits() {
+        return units - getOccupiedUnits();
+    }
+
+    public boolean isRangeAvailable(int start, int height, RackFace face) {
+        if (height < 1 || start < 1 || start + height - 1 > units) {
+            return false;
+        }
+        return (occupied(face) & mask(start, height)) == 0;
+    }
+
+    /**
+     * Return a copy with the range occupied on the given face.
+     *
+     * @throws IllegalArgumentException if the range is outside the rack or already occupied
+     */
+    public RackOccupancy with(int start, int height, RackFace face) {
+        if (!isRangeAvailable(start, height, face)) {
+            throw new IllegalArgumentException("U" + start + "-U" + (start + height - 1) + " is not available");
+        }
+        long mask = mask(start, height);
+        return new RackOccupancy(units,
+                face != RackFace.REAR ? front | mask : front,
+                face != RackFace.FRONT ? rear | mask : rear);
+    }
+
+    /**
+     * Find a free position for equipment of the given height.
+     *
+     * @return lowest unit of the position, or null if nothing fits
+     */
+    public Integer findPosition(int height, RackFace face, Strategy strategy) {
+        if (height < 1 || height > units) {
+            return null;
+        }
+        long free = ~occupied(face) & allMask();
+        Integer best = null;
+        int bestLength = Integer.MAX_VALUE;
+        // Walk maximal runs of free units from the bottom of the rack
+        while (free != 0) {
+            int start = Long.numberOfTrailingZeros(free);
+            int length = Long.numberOfTrailingZeros(~(free >>> start));
+            if (length >= height) {
+                if (strategy == Strategy.FIRST_FIT) {
+                    return start + 1;
+                }
+                if (length < bestLength) {
+                    best = start + 1;
+                    bestLength = length;
+                }
+            }
+            free &= ~mask(start + 1, length);
+        }
+        return best;
+    }
+
+    public boolean isPositionAvailable(int position, RackFace face) {
+        return isRangeAvailable(position, 1, face);
+    }
+
+    public List<Integer> getOccupiedPositions(RackFace face) {
+        List<Integer> positions = new ArrayList<>();
+        long occupied = occupied(face);
+        while (occupied != 0) {
+            positions.add(Long.numberOfTrailingZeros(occupied) + 1);
+            occupied &= occupied - 1;
+        }
+        return positions;
+    }
+
+    private long occupied(RackFace face) {
+        return switch (face == null ? RackFace.BOTH : face) {
+            case FRONT -> front;
+            case REAR -> rear;
+            case BOTH -> front | rear;
+        };
+    }
+
+    private long allMask() {
+        return units == MAX_UNITS ? -1L : (1L << units) - 1;
+    }
+
+    private static long mask(int start, int height) {
+        long bits = height >= MAX_UNITS ? -1L : (1L << height) - 1;
+        return bits << (start - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "RackOccupancy[" + getOccupiedUnits() + "/" + units + "U]";
+    }
+}
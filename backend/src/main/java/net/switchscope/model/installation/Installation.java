@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import net.switchscope.model.BaseEntity;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.Component;
 import net.switchscope.model.installation.catalog.InstallableTypeEntity;
 import net.switchscope.model.installation.catalog.InstallationStatusEntity;
@@ -19,6 +20,9 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "installations")
+@NamedEntityGraph(name = FetchGraphs.INSTALLATION_LIST, attributeNodes = {
+        @NamedAttributeNode("location"), @NamedAttributeNode("component"),
+        @NamedAttributeNode("installedItemType"), @NamedAttributeNode("status")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -59,6 +63,11 @@ public class Installation extends BaseEntity {
     @Column(name = "rack_unit_height")
     private Integer rackUnitHeight;
 
+    // Null means full depth (both faces)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rack_face")
+    private RackFace rackFace;
+
     @Column(name = "position_description")
     private String positionDescription;
 
@@ -331,6 +340,10 @@ public class Installation extends BaseEntity {
         return rackUnitHeight;
     }
 
+    public RackFace getEffectiveRackFace() {
+        return rackFace != null ? rackFace : RackFace.BOTH;
+    }
+
     public List<Integer> getOccupiedRackPositions() {
         if (!isRackMounted()) {
             return List.of();
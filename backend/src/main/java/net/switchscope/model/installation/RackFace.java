@@ -0,0 +1,11 @@
+package net.switchscope.model.installation;
+
+/**
+ * Rack face occupied by a rack-mounted installation.
+ * Full-depth equipment blocks the unit on both faces.
+ */
+public enum RackFace {
+    FRONT,
+    REAR,
+    BOTH
+}
@@ -12,6 +12,8 @@ import lombok.Setter;
 import net.switchscope.model.component.BaseCodedEntity;
 import net.switchscope.model.component.InstallableCategory;
 import net.switchscope.service.component.InstallableComponentRegistry;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Dynamic catalog entity for installable component types
@@ -19,6 +21,8 @@ import net.switchscope.service.component.InstallableComponentRegistry;
 @Entity
 @Table(name = "installable_types_catalog",
        uniqueConstraints = @UniqueConstraint(columnNames = {"code"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
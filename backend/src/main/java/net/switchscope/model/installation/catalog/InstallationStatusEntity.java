@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import net.switchscope.model.component.BaseCodedEntity;
 import net.switchscope.validation.NoHtml;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.*;
 
@@ -17,6 +19,8 @@ import java.util.*;
 @Entity
 @Table(name = "installation_statuses_catalog",
        uniqueConstraints = @UniqueConstraint(columnNames = {"code"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -72,6 +76,7 @@ public class InstallationStatusEntity extends BaseCodedEntity {
     private boolean notifiesStakeholders = false;
 
     // Next possible status codes (stored as codes, not entity references)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(
         name = "installation_status_allowed_transitions",
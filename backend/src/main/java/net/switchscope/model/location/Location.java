@@ -9,6 +9,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.NamedEntity;
 import net.switchscope.model.location.catalog.LocationTypeEntity;
 import net.switchscope.validation.NoHtml;
@@ -19,6 +20,10 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "locations")
+@NamedEntityGraph(name = FetchGraphs.LOCATION_LIST, attributeNodes = {
+        @NamedAttributeNode("type"), @NamedAttributeNode("parentLocation")})
+@NamedEntityGraph(name = FetchGraphs.LOCATION_DETAIL, attributeNodes = {
+        @NamedAttributeNode("type"), @NamedAttributeNode("parentLocation"), @NamedAttributeNode("childLocations")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -92,6 +97,19 @@ public class Location extends NamedEntity {
     @Column(name = "has_generator", nullable = false)
     private boolean hasGenerator = false;
 
+    // Precomputed from location_closure by LocationService on create, rename and move
+    @Column(name = "full_path", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private String fullPath;
+
+    @Column(name = "full_path_with_types", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private String fullPathWithTypes;
+
+    @Column(name = "depth", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private int depth;
+
     // Constructors
     public Location(UUID id, String name, LocationTypeEntity type) {
         this(id, name, type, null, null);
@@ -205,10 +223,14 @@ public class Location extends NamedEntity {
 
     // Enhanced path and hierarchy methods
     /**
-     * Get full path from root to current location
+     * Get full path from root to current location.
+     * Uses the precomputed path when loaded, walks the parents otherwise.
      * @return string like "Building/Floor1/Room101"
      */
     public String getFullPath() {
+        if (fullPath != null) {
+            return fullPath;
+        }
         if (parentLocation == null) {
             return name;
         }
@@ -220,6 +242,9 @@ public class Location extends NamedEntity {
      * @return string like "Building(Main Building)/Floor(Floor1)/Room(Room101)"
      */
     public String getFullPathWithTypes() {
+        if (fullPathWithTypes != null) {
+            return fullPathWithTypes;
+        }
         String pathElement = type.getDisplayName() + "(" + name + ")";
         if (parentLocation == null) {
             return pathElement;
@@ -231,6 +256,9 @@ public class Location extends NamedEntity {
      * Get nesting level (0 - root location)
      */
     public int getLevel() {
+        if (fullPath != null) {
+            return depth;
+        }
         if (parentLocation == null) {
             return 0;
         }
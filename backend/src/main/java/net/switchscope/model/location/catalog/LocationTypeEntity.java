@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import net.switchscope.model.component.BaseCodedEntity;
 import net.switchscope.validation.NoHtml;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.List;
@@ -19,6 +21,8 @@ import java.util.Set;
 @Entity
 @Table(name = "location_types_catalog",
        uniqueConstraints = @UniqueConstraint(columnNames = {"code"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -94,6 +98,7 @@ public class LocationTypeEntity extends BaseCodedEntity {
     private boolean requiresMonitoring = false;
 
     // Location type relationships - which types can be parent/child
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany
     @JoinTable(
         name = "location_type_hierarchy",
@@ -102,6 +107,7 @@ public class LocationTypeEntity extends BaseCodedEntity {
     )
     private Set<LocationTypeEntity> allowedChildTypes = new HashSet<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(mappedBy = "allowedChildTypes")
     private Set<LocationTypeEntity> allowedParentTypes = new HashSet<>();
 
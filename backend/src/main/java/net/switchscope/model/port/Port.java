@@ -6,7 +6,9 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.NamedEntity;
+import net.switchscope.model.SampledAt;
 import net.switchscope.model.component.device.Device;
 import net.switchscope.model.component.connectivity.Connector;
 import net.switchscope.validation.NoHtml;
@@ -22,6 +24,8 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "ports")
+@NamedEntityGraph(name = FetchGraphs.PORT_LIST, attributeNodes = {
+        @NamedAttributeNode("device"), @NamedAttributeNode("connector")})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "port_type", discriminatorType = DiscriminatorType.STRING)
 @Getter
@@ -148,6 +152,36 @@ public abstract class Port extends NamedEntity {
     @Column(name = "discards_out")
     private Long discardsOut = 0L;
 
+    // Measured rates over the last sampling interval, written only by PortCounterService
+    @Column(name = "in_bps", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Double inBps;
+
+    @Column(name = "out_bps", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Double outBps;
+
+    @Column(name = "in_pps", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Double inPps;
+
+    @Column(name = "out_pps", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Double outPps;
+
+    @Column(name = "in_utilization_percent", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Double inUtilizationPercent;
+
+    @Column(name = "out_utilization_percent", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Double outUtilizationPercent;
+
+    @Column(name = "counters_sampled_at", insertable = false, updatable = false)
+    @SampledAt
+    @Setter(AccessLevel.NONE)
+    private OffsetDateTime countersSampledAt;
+
     // Timestamps
     @Column(name = "last_change")
     private OffsetDateTime lastChange;
@@ -233,18 +267,13 @@ public abstract class Port extends NamedEntity {
     }
 
     // Utilization calculations
+    /**
+     * Busier direction over the last sampling interval, 0 if not measured.
+     */
     public double getUtilizationPercent() {
-        if (speedMbps == null || speedMbps == 0) {
-            return 0.0;
-        }
-
-        long totalTraffic = (bytesIn != null ? bytesIn : 0) + (bytesOut != null ? bytesOut : 0);
-        if (totalTraffic == 0) {
-            return 0.0;
-        }
-
-        // This is a simplified calculation - in reality you'd need time-based measurements
-        return Math.min(100.0, (totalTraffic * 8.0) / (speedMbps * 1000000.0) * 100.0);
+        double in = inUtilizationPercent != null ? inUtilizationPercent : 0.0;
+        double out = outUtilizationPercent != null ? outUtilizationPercent : 0.0;
+        return Math.min(100.0, Math.max(in, out));
     }
 
     public long getTotalPackets() {
@@ -0,0 +1,12 @@
+package net.switchscope.model.sync;
+
+/**
+ * Entity kinds delivered by the delta sync; values match the trigger arguments
+ * that fill {@code tombstones.entity_type}.
+ */
+public enum SyncEntityType {
+    COMPONENT,
+    PORT,
+    LOCATION,
+    INSTALLATION
+}
@@ -0,0 +1,33 @@
+package net.switchscope.model.sync;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Marker of a deleted component, port, location or installation.
+ * Written by database triggers on delete, read-only for the application.
+ */
+@Entity
+@Table(name = "tombstones")
+@Immutable
+@Getter
+@NoArgsConstructor
+public class Tombstone {
+
+    // Id of the deleted row
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private SyncEntityType entityType;
+
+    @Column(name = "deleted_at", nullable = false)
+    private OffsetDateTime deletedAt;
+}
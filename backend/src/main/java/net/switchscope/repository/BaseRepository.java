@@ -1,18 +1,32 @@
 package net.switchscope.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import net.switchscope.error.NotFoundException;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 // https://stackoverflow.com/questions/42781264/multiple-base-repositories-in-spring-data-jpa
 @NoRepositoryBean
 public interface BaseRepository<T> extends JpaRepository<T, UUID> {
 
+    /**
+     * JDBC fetch size for streamed queries; also the batch after which
+     * streaming consumers clear the persistence context.
+     */
+    int STREAM_FETCH_SIZE = 100;
+
     //    https://docs.spring.io/spring-data/jpa/docs/current/reference/html/#jpa.query.spel-expressions
     @Transactional
     @Modifying
@@ -30,4 +44,43 @@ public interface BaseRepository<T> extends JpaRepository<T, UUID> {
     default T getExisted(UUID id) {
         return findById(id).orElseThrow(() -> new NotFoundException("Entity with id=" + id + " not found"));
     }
+
+    @Query("SELECT e FROM #{#entityName} e ORDER BY e.id")
+    List<T> findFirstPage(Limit limit);
+
+    @Query("SELECT e FROM #{#entityName} e WHERE e.id > :after ORDER BY e.id")
+    List<T> findPageAfter(@Param("after") UUID after, Limit limit);
+
+    /**
+     * Keyset page ordered by id (UUIDv7, i.e. creation order).
+     *
+     * @param after id of the last row of the previous page, null for the first page
+     * @param limit max rows to return
+     * @return rows with id greater than {@code after}
+     */
+    default List<T> findPage(UUID after, int limit) {
+        return after == null ? findFirstPage(Limit.of(limit)) : findPageAfter(after, Limit.of(limit));
+    }
+
+    /**
+     * Rows created or modified after the given time (delta sync), backed by an index on {@code updated_at}.
+     *
+     * @param since exclusive lower bound
+     * @return rows ordered by modification time
+     */
+    @Query("SELECT e FROM #{#entityName} e WHERE e.updatedAt > :since ORDER BY e.updatedAt, e.id")
+    List<T> findUpdatedSince(@Param("since") OffsetDateTime since);
+
+    /**
+     * Stream all rows ordered by id through a server-side cursor.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @return stream of read-only entities
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM #{#entityName} e ORDER BY e.id")
+    Stream<T> streamAll();
 }
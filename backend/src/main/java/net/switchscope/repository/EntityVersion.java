@@ -0,0 +1,21 @@
+package net.switchscope.repository;
+
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Cheap change marker of a set of rows: newest {@code updated_at} and row count.
+ * The count catches deletions, which do not move the newest timestamp.
+ */
+@Value
+public class EntityVersion {
+
+    OffsetDateTime lastModified;
+
+    long count;
+
+    // Newest value of each @SampledAt attribute, if requested
+    List<?> sampledAt;
+}
@@ -0,0 +1,205 @@
+package net.switchscope.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import net.switchscope.model.SampledAt;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+
+import java.time.OffsetDateTime;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Version lookups for conditional GET, by entity class.
+ * Subtypes of a single-table hierarchy are versioned on their own rows only.
+ * Telemetry written without moving {@code updatedAt} is versioned by its {@link SampledAt} timestamps.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EntityVersionRepository {
+
+    private final EntityManager entityManager;
+
+    // Entity class -> @SampledAt fields of the class and its subtypes
+    private final Map<Class<?>, Set<Field>> sampledFields = new ConcurrentHashMap<>();
+
+    /**
+     * @param entityClass any entity extending BaseEntity
+     * @param sampled     whether to include the newest {@link SampledAt} values of the rows
+     * @return newest updatedAt (null if there are no rows), row count and newest sample times
+     */
+    public EntityVersion findVersion(Class<?> entityClass, boolean sampled) {
+        StringBuilder select = new StringBuilder("SELECT MAX(e.updatedAt), COUNT(e)");
+        Set<Field> fields = sampled ? sampledFields(entityClass) : Set.of();
+        for (Field field : fields) {
+            select.append(", ").append(field.getDeclaringClass().isAssignableFrom(entityClass)
+                    ? "MAX(e." + field.getName() + ")"
+                    : "(SELECT MAX(s." + field.getName() + ") FROM " + declaringEntityName(entityClass, field) + " s)");
+        }
+        Object[] row = entityManager.createQuery(select + " FROM " + entityName(entityClass) + " e", Object[].class)
+                .getSingleResult();
+        return new EntityVersion((OffsetDateTime) row[0], (Long) row[1], Arrays.asList(row).subList(2, row.length));
+    }
+
+    /**
+     * Version of a row and of the rows it references, in one query joined on the row's foreign keys.
+     * References are attribute paths such as {@code installation.location}; collections are counted,
+     * so that removed elements change the version too. Paths the concrete entity does not have
+     * (subtype attributes of another subtype) are reported as empty versions.
+     *
+     * @param entityClass any entity extending BaseEntity, possibly the root of a hierarchy
+     * @param references  attribute paths of referenced entities extending BaseEntity
+     * @return versions of the row and its references, empty if the row does not exist
+     */
+    public Optional<RowVersion> findRowVersion(Class<?> entityClass, UUID id, String... references) {
+        ManagedType<?> rootType = entityManager.getMetamodel().entity(entityClass);
+        ManagedType<?> type = rootType;
+        if (!Arrays.stream(references).allMatch(path -> hasPath(rootType, path))) {
+            // Subtype attributes: query the concrete subtype of the row
+            Optional<Class> concrete = entityManager.createQuery(
+                            "SELECT TYPE(e) FROM " + entityName(entityClass) + " e WHERE e.id = :id", Class.class)
+                    .setParameter("id", id)
+                    .getResultStream()
+                    .findFirst();
+            if (concrete.isEmpty()) {
+                return Optional.empty();
+            }
+            type = entityManager.getMetamodel().entity(concrete.get());
+        }
+
+        Class<?> javaType = type.getJavaType();
+        StringBuilder select = new StringBuilder("SELECT e.updatedAt");
+        Set<Field> fields = sampledFields(javaType);
+        for (Field field : fields) {
+            select.append(", ").append(field.getDeclaringClass().isAssignableFrom(javaType)
+                    ? "MAX(e." + field.getName() + ")"
+                    : "(SELECT s." + field.getName() + " FROM " + declaringEntityName(javaType, field) + " s WHERE s.id = e.id)");
+        }
+        Map<String, String> aliases = new LinkedHashMap<>();
+        StringBuilder from = new StringBuilder(" FROM ").append(entityName(javaType)).append(" e");
+        // Index of the MAX(updatedAt) column of each reference, null for paths the row does not have
+        List<Integer> columns = new ArrayList<>();
+        int column = 1 + fields.size();
+        for (String path : references) {
+            if (!hasPath(type, path)) {
+                columns.add(null);
+                continue;
+            }
+            String alias = join(path, aliases, from);
+            select.append(", MAX(").append(alias).append(".updatedAt), COUNT(DISTINCT ").append(alias).append(')');
+            columns.add(column);
+            column += 2;
+        }
+
+        int sampledEnd = 1 + fields.size();
+        return entityManager.createQuery(select + from.toString() + " WHERE e.id = :id GROUP BY e.id, e.updatedAt", Object[].class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(row -> new RowVersion((OffsetDateTime) row[0], Arrays.asList(row).subList(1, sampledEnd), columns.stream()
+                        .map(index -> index == null
+                                ? new EntityVersion(null, 0, List.of())
+                                : new EntityVersion((OffsetDateTime) row[index], (Long) row[index + 1], List.of()))
+                        .toList()));
+    }
+
+    /**
+     * @param referrer rows pointing at the row
+     * @param id       referenced row ID
+     * @return newest updatedAt (null if there are no rows) and count of the referring rows
+     */
+    public EntityVersion findReferrerVersion(Referrer referrer, UUID id) {
+        Object[] row = entityManager.createQuery("SELECT MAX(e.updatedAt), COUNT(e) FROM "
+                        + entityName(referrer.getEntityClass()) + " e WHERE e." + referrer.getAttribute() + ".id = :id",
+                        Object[].class)
+                .setParameter("id", id)
+                .getSingleResult();
+        return new EntityVersion((OffsetDateTime) row[0], (Long) row[1], List.of());
+    }
+
+    /**
+     * @SampledAt fields of the entity, of its superclasses and of its entity subtypes.
+     */
+    private Set<Field> sampledFields(Class<?> entityClass) {
+        return sampledFields.computeIfAbsent(entityClass, type -> {
+            Set<Field> fields = new LinkedHashSet<>();
+            for (EntityType<?> entity : entityManager.getMetamodel().getEntities()) {
+                if (type.isAssignableFrom(entity.getJavaType())) {
+                    ReflectionUtils.doWithFields(entity.getJavaType(), fields::add,
+                            field -> field.isAnnotationPresent(SampledAt.class));
+                }
+            }
+            return fields;
+        });
+    }
+
+    /**
+     * Topmost entity subtype of {@code entityClass} having {@code field}, to query subtype attributes from.
+     */
+    private String declaringEntityName(Class<?> entityClass, Field field) {
+        List<Class<?>> candidates = entityManager.getMetamodel().getEntities().stream()
+                .<Class<?>>map(EntityType::getJavaType)
+                .filter(type -> entityClass.isAssignableFrom(type) && field.getDeclaringClass().isAssignableFrom(type))
+                .toList();
+        return candidates.stream()
+                .filter(type -> candidates.stream().noneMatch(other -> other != type && other.isAssignableFrom(type)))
+                .findFirst()
+                .map(this::entityName)
+                .orElseThrow();
+    }
+
+    /**
+     * Appends the LEFT JOINs of {@code path} (and of its prefixes) to {@code from} once.
+     *
+     * @return alias of the last entity on the path
+     */
+    private static String join(String path, Map<String, String> aliases, StringBuilder from) {
+        String alias = aliases.get(path);
+        if (alias == null) {
+            int dot = path.lastIndexOf('.');
+            String parent = dot < 0 ? "e" : join(path.substring(0, dot), aliases, from);
+            alias = "r" + aliases.size();
+            from.append(" LEFT JOIN ").append(parent).append('.').append(path.substring(dot + 1)).append(' ').append(alias);
+            aliases.put(path, alias);
+        }
+        return alias;
+    }
+
+    private static boolean hasPath(ManagedType<?> type, String path) {
+        ManagedType<?> current = type;
+        for (String name : path.split("\\.")) {
+            Attribute<?, ?> attribute = current == null ? null : current.getAttributes().stream()
+                    .filter(candidate -> candidate.getName().equals(name))
+                    .findFirst()
+                    .orElse(null);
+            if (attribute == null) {
+                return false;
+            }
+            Object target = attribute instanceof PluralAttribute<?, ?, ?> plural ? plural.getElementType()
+                    : ((SingularAttribute<?, ?>) attribute).getType();
+            current = target instanceof ManagedType<?> managed ? managed : null;
+        }
+        return true;
+    }
+
+    private String entityName(Class<?> entityClass) {
+        return entityManager.getMetamodel().entity(entityClass).getName();
+    }
+}
@@ -0,0 +1,48 @@
+package net.switchscope.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base repository for single-table-inheritance roots whose repository
+ * serves several concrete subtypes (e.g. Component -> Rack, NetworkSwitch).
+ */
+@NoRepositoryBean
+public interface PolymorphicRepository<T> extends BaseRepository<T> {
+
+    @Query("SELECT e FROM #{#entityName} e WHERE TYPE(e) = :type ORDER BY e.id")
+    List<T> findFirstPageOfType(@Param("type") Class<? extends T> type, Limit limit);
+
+    @Query("SELECT e FROM #{#entityName} e WHERE TYPE(e) = :type AND e.id > :after ORDER BY e.id")
+    List<T> findPageOfTypeAfter(@Param("type") Class<? extends T> type, @Param("after") UUID after, Limit limit);
+
+    /**
+     * Keyset page restricted to one concrete subtype, ordered by id.
+     *
+     * @param type  concrete entity class
+     * @param after id of the last row of the previous page, null for the first page
+     * @param limit max rows to return
+     * @return rows of {@code type} with id greater than {@code after}
+     */
+    default List<T> findPageOfType(Class<? extends T> type, UUID after, int limit) {
+        return after == null
+                ? findFirstPageOfType(type, Limit.of(limit))
+                : findPageOfTypeAfter(type, after, Limit.of(limit));
+    }
+
+    /**
+     * Rows of one concrete subtype with the given ids, in one query.
+     *
+     * @param type concrete entity class
+     * @param ids  requested ids
+     * @return rows of {@code type} found, in no particular order
+     */
+    @Query("SELECT e FROM #{#entityName} e WHERE TYPE(e) = :type AND e.id IN :ids")
+    List<T> findAllOfTypeById(@Param("type") Class<? extends T> type, @Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,15 @@
+package net.switchscope.repository;
+
+import lombok.Value;
+
+/**
+ * Rows of another entity pointing at a versioned row through {@code attribute},
+ * such as the installations housed in a rack ({@code Installation.component}).
+ */
+@Value
+public class Referrer {
+
+    Class<?> entityClass;
+
+    String attribute;
+}
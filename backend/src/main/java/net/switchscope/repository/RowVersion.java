@@ -0,0 +1,21 @@
+package net.switchscope.repository;
+
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Change marker of a single row: its own {@code updated_at} and the version of every row it references.
+ */
+@Value
+public class RowVersion {
+
+    OffsetDateTime updatedAt;
+
+    // Value of each @SampledAt attribute of the row
+    List<?> sampledAt;
+
+    // In the order of the requested references
+    List<EntityVersion> references;
+}
@@ -1,6 +1,7 @@
 package net.switchscope.repository.component;
 
 import net.switchscope.error.NotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -148,4 +149,21 @@ public interface ComponentBaseRepository<T> extends JpaRepository<T, UUID> {
      */
     @Query("SELECT DISTINCT e FROM #{#entityName} e ORDER BY e.sortOrder, e.displayName")
     List<T> findAllWithAssociations();
-}
\ No newline at end of file
+
+    @Query("SELECT e FROM #{#entityName} e ORDER BY e.id")
+    List<T> findFirstPage(Limit limit);
+
+    @Query("SELECT e FROM #{#entityName} e WHERE e.id > :after ORDER BY e.id")
+    List<T> findPageAfter(@Param("after") UUID after, Limit limit);
+
+    /**
+     * Keyset page ordered by id (UUIDv7, i.e. creation order)
+     *
+     * @param after id of the last row of the previous page, null for the first page
+     * @param limit max rows to return
+     * @return rows with id greater than after
+     */
+    default List<T> findPage(UUID after, int limit) {
+        return after == null ? findFirstPage(Limit.of(limit)) : findPageAfter(after, Limit.of(limit));
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +25,15 @@ public interface ComponentCategoryRepository extends ComponentCatalogRepository<
     @Query("SELECT cc FROM ComponentCategoryEntity cc LEFT JOIN FETCH cc.componentTypes WHERE cc.id = :id")
     Optional<ComponentCategoryEntity> findByIdWithComponentTypes(@Param("id") UUID id);
 
+    /**
+     * Find categories by ids with eager loading of componentTypes
+     *
+     * @param ids category ids
+     * @return categories found, in no particular order
+     */
+    @Query("SELECT cc FROM ComponentCategoryEntity cc LEFT JOIN FETCH cc.componentTypes WHERE cc.id IN :ids")
+    List<ComponentCategoryEntity> findAllByIdWithComponentTypes(@Param("ids") Collection<UUID> ids);
+
     /**
      * Find all categories with eager loading of componentTypes
      *
@@ -240,4 +240,13 @@ public interface ComponentModelRepository extends BaseRepository<ComponentModel>
            "LEFT JOIN FETCH cm.componentType " +
            "WHERE cm.id = :id")
     Optional<ComponentModel> findByIdWithComponentType(@Param("id") UUID id);
+
+    /**
+     * Find model class discriminator (e.g. SWITCH_MODEL) without loading the model.
+     *
+     * @param id the component model ID
+     * @return optional discriminator value
+     */
+    @Query(value = "SELECT model_class FROM component_models_catalog WHERE id = :id", nativeQuery = true)
+    Optional<String> findDiscriminatorById(@Param("id") UUID id);
 }
@@ -1,14 +1,22 @@
 package net.switchscope.repository.component;
 
+import jakarta.persistence.QueryHint;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.Component;
 import net.switchscope.repository.BaseRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for Component entities
@@ -146,32 +154,213 @@ public interface ComponentRepository extends BaseRepository<Component> {
     long countOperationalComponents();
 
     /**
-     * Find all components with eager loading of associations
+     * Find all components with the list fetch plan
      *
-     * @return list of all components with associations loaded
+     * @return list of all components ordered by name
      */
-    @Query("SELECT DISTINCT c FROM Component c " +
-           "LEFT JOIN FETCH c.componentStatus " +
-           "LEFT JOIN FETCH c.componentType " +
-           "LEFT JOIN FETCH c.componentNature " +
-           "LEFT JOIN FETCH c.installation " +
-           "LEFT JOIN FETCH c.parentComponent " +
-           "ORDER BY c.name")
-    List<Component> findAllWithAssociations();
+    @EntityGraph(FetchGraphs.COMPONENT_LIST)
+    @Query("SELECT c FROM Component c ORDER BY c.name")
+    List<Component> findAllForList();
 
     /**
-     * Find component by ID with eager loading of associations
+     * Find component by ID with the detail fetch plan
      *
      * @param id component ID
-     * @return optional component with associations loaded
-     */
-    @Query("SELECT c FROM Component c " +
-           "LEFT JOIN FETCH c.componentStatus " +
-           "LEFT JOIN FETCH c.componentType " +
-           "LEFT JOIN FETCH c.componentNature " +
-           "LEFT JOIN FETCH c.installation " +
-           "LEFT JOIN FETCH c.parentComponent " +
-           "WHERE c.id = :id")
-    Optional<Component> findByIdWithAssociations(@Param("id") UUID id);
-}
+     * @return optional component
+     */
+    @EntityGraph(FetchGraphs.COMPONENT_DETAIL)
+    @Query("SELECT c FROM Component c WHERE c.id = :id")
+    Optional<Component> findByIdForDetail(@Param("id") UUID id);
+
+    /**
+     * Stream all components ordered by id with the export fetch plan, see {@link #streamAll}.
+     *
+     * @return stream of read-only components
+     */
+    @EntityGraph(FetchGraphs.COMPONENT_EXPORT)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Component c ORDER BY c.id")
+    Stream<Component> streamAllForExport();
+
+    /**
+     * Find component class discriminator (e.g. NETWORK_SWITCH) without loading the component
+     *
+     * @param id component ID
+     * @return optional discriminator value
+     */
+    @Query(value = "SELECT component_class FROM components WHERE id = :id", nativeQuery = true)
+    Optional<String> findDiscriminatorById(@Param("id") UUID id);
+
+    /**
+     * Find components by IDs with the list fetch plan
+     *
+     * @param ids component IDs
+     * @return components found, in no particular order
+     */
+    @EntityGraph(FetchGraphs.COMPONENT_LIST)
+    @Query("SELECT c FROM Component c WHERE c.id IN :ids")
+    List<Component> findAllByIdForList(@Param("ids") Collection<UUID> ids);
+
+    // ---- Containment closure (component_closure) ----
+
+    /**
+     * Find a component and everything it contains, ordered by path.
+     *
+     * @param id subtree root component ID
+     * @return the component and its descendants
+     */
+    @Query(value = "SELECT c.* FROM components c " +
+                   "JOIN component_closure cc ON cc.descendant_id = c.id " +
+                   "WHERE cc.ancestor_id = :id " +
+                   "ORDER BY c.component_path", nativeQuery = true)
+    List<Component> findSubtree(@Param("id") UUID id);
+
+    /**
+     * Find the components containing a component, outermost first.
+     *
+     * @param id component ID
+     * @return ancestors from the root down to the direct parent
+     */
+    @Query(value = "SELECT c.* FROM components c " +
+                   "JOIN component_closure cc ON cc.ancestor_id = c.id " +
+                   "WHERE cc.descendant_id = :id AND cc.depth > 0 " +
+                   "ORDER BY cc.depth DESC", nativeQuery = true)
+    List<Component> findAncestors(@Param("id") UUID id);
+
+    /**
+     * Find IDs of the direct children of a component.
+     *
+     * @param id parent component ID
+     * @return child component IDs
+     */
+    @Query("SELECT c.id FROM Component c WHERE c.parentComponent.id = :id")
+    List<UUID> findChildIds(@Param("id") UUID id);
+
+    /**
+     * Find component type IDs without loading the components.
+     *
+     * @param ids component IDs
+     * @return {@code [id, componentTypeId]} rows for the components found
+     */
+    @Query("SELECT c.id, c.componentType.id FROM Component c WHERE c.id IN :ids")
+    List<Object[]> findTypeIds(@Param("ids") Collection<UUID> ids);
 
+    /**
+     * Find which of the given components contain a component or are the component itself.
+     *
+     * @param id  component ID
+     * @param ids candidate ancestor IDs
+     * @return candidates in whose subtree {@code id} lies
+     */
+    @Query(value = "SELECT ancestor_id FROM component_closure " +
+                   "WHERE descendant_id = :id AND ancestor_id IN (:ids)", nativeQuery = true)
+    List<UUID> findAncestorsAmong(@Param("id") UUID id, @Param("ids") Collection<UUID> ids);
+
+    /**
+     * Set the parent of several components; closure and paths are synced separately.
+     *
+     * @param ids      component IDs
+     * @param parentId new parent component ID, null to make them roots
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE components SET parent_component_id = CAST(:parentId AS uuid), " +
+                   "updated_at = CURRENT_TIMESTAMP WHERE id IN (:ids)",
+           nativeQuery = true)
+    void updateParent(@Param("ids") Collection<UUID> ids, @Param("parentId") UUID parentId);
+
+    /**
+     * Add the self closure row of a component unless it exists.
+     *
+     * @param id component ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO component_closure (ancestor_id, descendant_id, depth) " +
+                   "VALUES (:id, :id, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void insertSelfClosure(@Param("id") UUID id);
+
+    /**
+     * Detach a subtree from its current ancestors, keeping the links inside the subtree.
+     *
+     * @param id subtree root component ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM component_closure " +
+                   "WHERE descendant_id IN (SELECT descendant_id FROM component_closure WHERE ancestor_id = :id) " +
+                   "AND ancestor_id NOT IN (SELECT descendant_id FROM component_closure WHERE ancestor_id = :id)",
+           nativeQuery = true)
+    void detachSubtree(@Param("id") UUID id);
+
+    /**
+     * Attach a detached subtree under the parent its root currently references, if any.
+     *
+     * @param id subtree root component ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO component_closure (ancestor_id, descendant_id, depth) " +
+                   "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+                   "FROM components c " +
+                   "JOIN component_closure p ON p.descendant_id = c.parent_component_id " +
+                   "JOIN component_closure s ON s.ancestor_id = c.id " +
+                   "WHERE c.id = :id", nativeQuery = true)
+    void attachSubtreeToParent(@Param("id") UUID id);
+
+    /**
+     * Recompute precomputed path columns for a component and all its descendants.
+     * Only rows whose path changed are written (and get a new {@code updated_at}).
+     *
+     * @param id subtree root component ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE components c SET component_path = p.component_path, depth = p.depth, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT cc.descendant_id AS id, " +
+                   "string_agg(a.name, '/' ORDER BY cc.depth DESC) AS component_path, " +
+                   "MAX(cc.depth) AS depth " +
+                   "FROM component_closure cc " +
+                   "JOIN components a ON a.id = cc.ancestor_id " +
+                   "WHERE cc.descendant_id IN (SELECT descendant_id FROM component_closure WHERE ancestor_id = :id) " +
+                   "GROUP BY cc.descendant_id) p " +
+                   "WHERE c.id = p.id AND (c.component_path IS DISTINCT FROM p.component_path " +
+                   "OR c.depth IS DISTINCT FROM p.depth)", nativeQuery = true)
+    void refreshSubtreePaths(@Param("id") UUID id);
+
+    /**
+     * Delete all closure rows, before {@link #fillClosure} after writes that bypass the services.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM component_closure", nativeQuery = true)
+    void clearClosure();
+
+    /**
+     * Build closure rows of all components from {@code parent_component_id}.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO component_closure (ancestor_id, descendant_id, depth) " +
+                   "WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (" +
+                   "SELECT id, id, 0 FROM components " +
+                   "UNION ALL " +
+                   "SELECT t.ancestor_id, c.id, t.depth + 1 " +
+                   "FROM tree t JOIN components c ON c.parent_component_id = t.descendant_id) " +
+                   "SELECT ancestor_id, descendant_id, depth FROM tree", nativeQuery = true)
+    void fillClosure();
+
+    /**
+     * Recompute precomputed path columns of all components.
+     * Only rows whose path changed are written (and get a new {@code updated_at}).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE components c SET component_path = p.component_path, depth = p.depth, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT cc.descendant_id AS id, " +
+                   "string_agg(a.name, '/' ORDER BY cc.depth DESC) AS component_path, " +
+                   "MAX(cc.depth) AS depth " +
+                   "FROM component_closure cc " +
+                   "JOIN components a ON a.id = cc.ancestor_id " +
+                   "GROUP BY cc.descendant_id) p " +
+                   "WHERE c.id = p.id AND (c.component_path IS DISTINCT FROM p.component_path " +
+                   "OR c.depth IS DISTINCT FROM p.depth)", nativeQuery = true)
+    void refreshAllPaths();
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -231,4 +232,15 @@ public interface ComponentTypeRepository extends ComponentCatalogRepository<Comp
            "LEFT JOIN FETCH ct.category " +
            "WHERE ct.id = :id")
     Optional<ComponentTypeEntity> findByIdWithCategory(@Param("id") UUID id);
+
+    /**
+     * Find component types by IDs with eager loading of category association.
+     *
+     * @param ids the component type IDs
+     * @return component types found, in no particular order
+     */
+    @Query("SELECT ct FROM ComponentTypeEntity ct " +
+           "LEFT JOIN FETCH ct.category " +
+           "WHERE ct.id IN :ids")
+    List<ComponentTypeEntity> findAllByIdWithCategory(@Param("ids") Collection<UUID> ids);
 }
@@ -1,11 +1,14 @@
 package net.switchscope.repository.component.connectivity;
 
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.Component;
-import net.switchscope.repository.BaseRepository;
+import net.switchscope.repository.PolymorphicRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,7 +18,7 @@ import java.util.UUID;
  * Supports PatchPanel, Connector, and CableRun through Single Table Inheritance
  */
 @Repository
-public interface ConnectivityRepository extends BaseRepository<Component> {
+public interface ConnectivityRepository extends PolymorphicRepository<Component> {
 
     /**
      * Find component by serial number
@@ -34,52 +37,30 @@ public interface ConnectivityRepository extends BaseRepository<Component> {
     List<Component> findByManufacturer(String manufacturer);
 
     /**
-     * Find PatchPanel components with eager loading
+     * Find patch panels with the list fetch plan
      *
      * @return list of patch panels
      */
-    @Query("SELECT DISTINCT c FROM PatchPanel c " +
-           "LEFT JOIN FETCH c.componentStatus " +
-           "LEFT JOIN FETCH c.componentType " +
-           "LEFT JOIN FETCH c.componentNature " +
-           "LEFT JOIN FETCH c.installation " +
-           "LEFT JOIN FETCH c.parentComponent " +
-           "LEFT JOIN FETCH c.patchPanelModel " +
-           "ORDER BY c.name")
+    @EntityGraph(FetchGraphs.PATCH_PANEL_LIST)
+    @Query("SELECT c FROM PatchPanel c ORDER BY c.name")
     List<Component> findPatchPanels();
 
     /**
-     * Find Connector components with eager loading
+     * Find connectors with the list fetch plan
      *
      * @return list of connectors
      */
-    @Query("SELECT DISTINCT c FROM Connector c " +
-           "LEFT JOIN FETCH c.componentStatus " +
-           "LEFT JOIN FETCH c.componentType " +
-           "LEFT JOIN FETCH c.componentNature " +
-           "LEFT JOIN FETCH c.installation " +
-           "LEFT JOIN FETCH c.parentComponent " +
-           "LEFT JOIN FETCH c.connectorModel " +
-           "LEFT JOIN FETCH c.cableRun " +
-           "LEFT JOIN FETCH c.port " +
-           "ORDER BY c.name")
+    @EntityGraph(FetchGraphs.CONNECTOR_LIST)
+    @Query("SELECT c FROM Connector c ORDER BY c.name")
     List<Component> findConnectors();
 
     /**
-     * Find CableRun components with eager loading
+     * Find cable runs with the list fetch plan
      *
      * @return list of cable runs
      */
-    @Query("SELECT DISTINCT c FROM CableRun c " +
-           "LEFT JOIN FETCH c.componentStatus " +
-           "LEFT JOIN FETCH c.componentType " +
-           "LEFT JOIN FETCH c.componentNature " +
-           "LEFT JOIN FETCH c.installation " +
-           "LEFT JOIN FETCH c.parentComponent " +
-           "LEFT JOIN FETCH c.cableModel " +
-           "LEFT JOIN FETCH c.startLocation " +
-           "LEFT JOIN FETCH c.endLocation " +
-           "ORDER BY c.name")
+    @EntityGraph(FetchGraphs.CABLE_RUN_LIST)
+    @Query("SELECT c FROM CableRun c ORDER BY c.name")
     List<Component> findCableRuns();
 
     /**
@@ -132,4 +113,42 @@ public interface ConnectivityRepository extends BaseRepository<Component> {
      */
     @Query("SELECT COUNT(c) FROM Component c WHERE TYPE(c) IN (PatchPanel, Connector, CableRun)")
     long countAllConnectivityComponents();
+
+    /**
+     * Connector to cable run links for the cable graph.
+     * Row: connector id, connector name, cable run id, cable run name.
+     *
+     * @return all connector links
+     */
+    @Query("SELECT c.id, c.name, r.id, r.name FROM Connector c JOIN c.cableRun r")
+    List<Object[]> findCableRunLinks();
+
+    /**
+     * Connector to cable run links with either end among the given IDs.
+     *
+     * @param ids connector or cable run IDs
+     * @return links, same row layout as {@link #findCableRunLinks()}
+     */
+    @Query("SELECT c.id, c.name, r.id, r.name FROM Connector c JOIN c.cableRun r " +
+           "WHERE c.id IN :ids OR r.id IN :ids")
+    List<Object[]> findCableRunLinksTouching(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Patch panel to cable run links for the cable graph.
+     * Row: patch panel id, patch panel name, cable run id, cable run name.
+     *
+     * @return all patch panel links
+     */
+    @Query("SELECT pp.id, pp.name, r.id, r.name FROM PatchPanel pp JOIN pp.cableRuns r")
+    List<Object[]> findPatchPanelLinks();
+
+    /**
+     * Patch panel to cable run links with either end among the given IDs.
+     *
+     * @param ids patch panel or cable run IDs
+     * @return links, same row layout as {@link #findPatchPanelLinks()}
+     */
+    @Query("SELECT pp.id, pp.name, r.id, r.name FROM PatchPanel pp JOIN pp.cableRuns r " +
+           "WHERE pp.id IN :ids OR r.id IN :ids")
+    List<Object[]> findPatchPanelLinksTouching(@Param("ids") Collection<UUID> ids);
 }
@@ -1,11 +1,15 @@
 package net.switchscope.repository.component.device;
 
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.device.Device;
-import net.switchscope.repository.BaseRepository;
+import net.switchscope.repository.PolymorphicRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,7 +19,7 @@ import java.util.UUID;
  * Supports all device types through Single Table Inheritance (NETWORK_SWITCH, ROUTER, ACCESS_POINT)
  */
 @Repository
-public interface DeviceRepository extends BaseRepository<Device> {
+public interface DeviceRepository extends PolymorphicRepository<Device> {
 
     /**
      * Find device by serial number
@@ -101,71 +105,60 @@ public interface DeviceRepository extends BaseRepository<Device> {
     List<Device> findBySnmpVersion(@Param("snmpVersion") String snmpVersion);
 
     /**
-     * Find NetworkSwitch devices with eager loading
+     * Find network switches with the list fetch plan
      *
      * @return list of network switches
      */
-    @Query("SELECT DISTINCT d FROM NetworkSwitch d " +
-           "LEFT JOIN FETCH d.componentStatus " +
-           "LEFT JOIN FETCH d.componentType " +
-           "LEFT JOIN FETCH d.componentNature " +
-           "LEFT JOIN FETCH d.installation i " +
-           "LEFT JOIN FETCH i.status " +
-           "LEFT JOIN FETCH i.location " +
-           "LEFT JOIN FETCH d.parentComponent " +
-           "ORDER BY d.name")
+    @EntityGraph(FetchGraphs.NETWORK_SWITCH_LIST)
+    @Query("SELECT d FROM NetworkSwitch d ORDER BY d.name")
     List<Device> findNetworkSwitches();
 
     /**
-     * Find NetworkSwitch devices with all relationships including switchModel.
-     * Used for getAllAsDto() to avoid LazyInitializationException.
-     *
-     * @return list of network switches with switchModel loaded
-     */
-    @Query("SELECT DISTINCT d FROM NetworkSwitch d " +
-           "LEFT JOIN FETCH d.componentStatus " +
-           "LEFT JOIN FETCH d.componentType " +
-           "LEFT JOIN FETCH d.componentNature " +
-           "LEFT JOIN FETCH d.installation i " +
-           "LEFT JOIN FETCH i.status " +
-           "LEFT JOIN FETCH i.location " +
-           "LEFT JOIN FETCH d.parentComponent " +
-           "LEFT JOIN FETCH d.switchModel " +
-           "ORDER BY d.name")
-    List<Device> findNetworkSwitchesWithModel();
-
-    /**
-     * Find Router devices with eager loading
+     * Find routers with the list fetch plan
      *
      * @return list of routers
      */
-    @Query("SELECT DISTINCT d FROM Router d " +
-           "LEFT JOIN FETCH d.componentStatus " +
-           "LEFT JOIN FETCH d.componentType " +
-           "LEFT JOIN FETCH d.componentNature " +
-           "LEFT JOIN FETCH d.installation i " +
-           "LEFT JOIN FETCH i.status " +
-           "LEFT JOIN FETCH i.location " +
-           "LEFT JOIN FETCH d.parentComponent " +
-           "ORDER BY d.name")
+    @EntityGraph(FetchGraphs.ROUTER_LIST)
+    @Query("SELECT d FROM Router d ORDER BY d.name")
     List<Device> findRouters();
 
     /**
-     * Find AccessPoint devices with eager loading
+     * Find access points with the list fetch plan
      *
      * @return list of access points
      */
-    @Query("SELECT DISTINCT d FROM AccessPoint d " +
-           "LEFT JOIN FETCH d.componentStatus " +
-           "LEFT JOIN FETCH d.componentType " +
-           "LEFT JOIN FETCH d.componentNature " +
-           "LEFT JOIN FETCH d.installation i " +
-           "LEFT JOIN FETCH i.status " +
-           "LEFT JOIN FETCH i.location " +
-           "LEFT JOIN FETCH d.parentComponent " +
-           "ORDER BY d.name")
+    @EntityGraph(FetchGraphs.ACCESS_POINT_LIST)
+    @Query("SELECT d FROM AccessPoint d ORDER BY d.name")
     List<Device> findAccessPoints();
 
+    @Query("SELECT d FROM Device d WHERE TYPE(d) IN (NetworkSwitch, Router, AccessPoint) ORDER BY d.id")
+    List<Device> findFirstNetworkDevicePage(Limit limit);
+
+    @Query("SELECT d FROM Device d WHERE TYPE(d) IN (NetworkSwitch, Router, AccessPoint) AND d.id > :after ORDER BY d.id")
+    List<Device> findNetworkDevicePageAfter(@Param("after") UUID after, Limit limit);
+
+    /**
+     * Keyset page of network devices (switches, routers, access points; no patch panels), ordered by id.
+     *
+     * @param after id of the last device of the previous page, null for the first page
+     * @param limit max devices to return
+     * @return devices with id greater than {@code after}
+     */
+    default List<Device> findNetworkDevicePage(UUID after, int limit) {
+        return after == null
+                ? findFirstNetworkDevicePage(Limit.of(limit))
+                : findNetworkDevicePageAfter(after, Limit.of(limit));
+    }
+
+    /**
+     * Find network devices by IDs
+     *
+     * @param ids device IDs
+     * @return devices found, in no particular order
+     */
+    @Query("SELECT d FROM Device d WHERE TYPE(d) IN (NetworkSwitch, Router, AccessPoint) AND d.id IN :ids")
+    List<Device> findNetworkDevicesById(@Param("ids") Collection<UUID> ids);
+
     /**
      * Find devices by type discriminator
      *
@@ -1,7 +1,11 @@
 package net.switchscope.repository.component.housing;
 
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.component.Component;
-import net.switchscope.repository.BaseRepository;
+import jakarta.persistence.LockModeType;
+import net.switchscope.repository.PolymorphicRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +19,7 @@ import java.util.UUID;
  * Currently supports Rack through Single Table Inheritance
  */
 @Repository
-public interface HousingRepository extends BaseRepository<Component> {
+public interface HousingRepository extends PolymorphicRepository<Component> {
 
     /**
      * Find component by serial number
@@ -34,18 +38,12 @@ public interface HousingRepository extends BaseRepository<Component> {
     List<Component> findByManufacturer(String manufacturer);
 
     /**
-     * Find Rack components with eager loading
+     * Find racks with the list fetch plan
      *
      * @return list of racks
      */
-    @Query("SELECT DISTINCT c FROM Rack c " +
-           "LEFT JOIN FETCH c.componentStatus " +
-           "LEFT JOIN FETCH c.componentType " +
-           "LEFT JOIN FETCH c.componentNature " +
-           "LEFT JOIN FETCH c.installation " +
-           "LEFT JOIN FETCH c.parentComponent " +
-           "LEFT JOIN FETCH c.rackType " +
-           "ORDER BY c.name")
+    @EntityGraph(FetchGraphs.RACK_LIST)
+    @Query("SELECT c FROM Rack c ORDER BY c.name")
     List<Component> findRacks();
 
     /**
@@ -57,6 +55,17 @@ public interface HousingRepository extends BaseRepository<Component> {
     @Query("SELECT c FROM Rack c WHERE c.name = :name")
     Optional<Component> findRackByName(@Param("name") String name);
 
+    /**
+     * Find rack by ID and lock its row until the transaction ends.
+     * Serializes rack unit reservations for the same rack.
+     *
+     * @param id rack ID
+     * @return optional rack, empty if there is no rack with this ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Rack c WHERE c.id = :id")
+    Optional<Component> findRackByIdForUpdate(@Param("id") UUID id);
+
     /**
      * Find racks by location
      *
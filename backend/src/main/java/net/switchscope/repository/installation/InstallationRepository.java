@@ -1,13 +1,20 @@
 package net.switchscope.repository.installation;
 
+import jakarta.persistence.QueryHint;
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.installation.Installation;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for Installation entities
@@ -16,31 +23,46 @@ import java.util.UUID;
 public interface InstallationRepository extends net.switchscope.repository.BaseRepository<Installation> {
 
     /**
-     * Find all installations with all relationships eagerly loaded
+     * Find all installations with the list fetch plan
      *
-     * @return list of all installations with relationships
+     * @return list of all installations, most recent first
      */
-    @Query("SELECT DISTINCT i FROM Installation i " +
-           "LEFT JOIN FETCH i.location " +
-           "LEFT JOIN FETCH i.component " +
-           "LEFT JOIN FETCH i.installedItemType " +
-           "LEFT JOIN FETCH i.status " +
-           "ORDER BY i.installedAt DESC")
-    List<Installation> findAllWithRelationships();
+    @EntityGraph(FetchGraphs.INSTALLATION_LIST)
+    @Query("SELECT i FROM Installation i ORDER BY i.installedAt DESC")
+    List<Installation> findAllForList();
 
     /**
-     * Find installation by ID with all relationships eagerly loaded
+     * Find installation by ID with the detail fetch plan
      *
      * @param id installation ID
-     * @return optional installation with relationships
+     * @return optional installation
      */
-    @Query("SELECT i FROM Installation i " +
-           "LEFT JOIN FETCH i.location " +
-           "LEFT JOIN FETCH i.component " +
-           "LEFT JOIN FETCH i.installedItemType " +
-           "LEFT JOIN FETCH i.status " +
-           "WHERE i.id = :id")
-    Optional<Installation> findByIdWithRelationships(@Param("id") UUID id);
+    @EntityGraph(FetchGraphs.INSTALLATION_DETAIL)
+    @Query("SELECT i FROM Installation i WHERE i.id = :id")
+    Optional<Installation> findByIdForDetail(@Param("id") UUID id);
+
+    /**
+     * Find installations by IDs with the list fetch plan
+     *
+     * @param ids installation IDs
+     * @return installations found, in no particular order
+     */
+    @EntityGraph(FetchGraphs.INSTALLATION_LIST)
+    @Query("SELECT i FROM Installation i WHERE i.id IN :ids")
+    List<Installation> findAllByIdForList(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Stream all installations ordered by id with the export fetch plan, see {@link #streamAll}.
+     *
+     * @return stream of read-only installations
+     */
+    @EntityGraph(FetchGraphs.INSTALLATION_EXPORT)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Installation i ORDER BY i.id")
+    Stream<Installation> streamAllForExport();
 
     /**
      * Find installation by installed item ID
@@ -116,6 +138,20 @@ public interface InstallationRepository extends net.switchscope.repository.BaseR
     @Query("SELECT i FROM Installation i WHERE i.rackPosition IS NOT NULL ORDER BY i.location.name, i.rackPosition")
     List<Installation> findRackMounted();
 
+    /**
+     * Find active (not removed, not in a final status) rack-mounted installations housed in the given components.
+     *
+     * @param housingIds housing component (rack) IDs
+     * @return rack-mounted installations with type and status loaded
+     */
+    @Query("SELECT i FROM Installation i " +
+           "JOIN FETCH i.status s " +
+           "JOIN FETCH i.location " +
+           "LEFT JOIN FETCH i.installedItemType " +
+           "WHERE i.component.id IN :housingIds AND i.rackPosition IS NOT NULL " +
+           "AND i.removedAt IS NULL AND s.finalStatus = false")
+    List<Installation> findActiveRackMountedByHousingIds(@Param("housingIds") Collection<UUID> housingIds);
+
     /**
      * Find installations at specific rack position
      *
@@ -1,10 +1,14 @@
 package net.switchscope.repository.location;
 
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.location.Location;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,55 +20,34 @@ import java.util.UUID;
 public interface LocationRepository extends net.switchscope.repository.BaseRepository<Location> {
 
     /**
-     * Find all locations with type and parent eagerly loaded.
-     * Note: Does NOT fetch childLocations to avoid N+1 on collections.
+     * Find all locations with the list fetch plan.
+     * Child locations are batch-fetched rather than joined, which would multiply the rows.
      *
-     * @return list of all locations with relationships
+     * @return list of all locations ordered by name
      */
-    @Query("SELECT DISTINCT l FROM Location l " +
-           "LEFT JOIN FETCH l.type " +
-           "LEFT JOIN FETCH l.parentLocation " +
-           "ORDER BY l.name")
-    List<Location> findAllWithRelationships();
+    @EntityGraph(FetchGraphs.LOCATION_LIST)
+    @Query("SELECT l FROM Location l ORDER BY l.name")
+    List<Location> findAllForList();
 
     /**
-     * Find all locations with ALL relationships eagerly loaded including childLocations.
-     * Used for getAllAsDto() to avoid LazyInitializationException during DTO mapping.
-     *
-     * @return list of all locations with all relationships
-     */
-    @Query("SELECT DISTINCT l FROM Location l " +
-           "LEFT JOIN FETCH l.type " +
-           "LEFT JOIN FETCH l.parentLocation " +
-           "LEFT JOIN FETCH l.childLocations " +
-           "ORDER BY l.name")
-    List<Location> findAllWithAllRelationships();
-
-    /**
-     * Find location by ID with all relationships eagerly loaded
+     * Find location by ID with the detail fetch plan (type, parent and children)
      *
      * @param id location ID
-     * @return optional location with relationships
+     * @return optional location
      */
-    @Query("SELECT l FROM Location l " +
-           "LEFT JOIN FETCH l.type " +
-           "LEFT JOIN FETCH l.parentLocation " +
-           "WHERE l.id = :id")
-    Optional<Location> findByIdWithRelationships(@Param("id") UUID id);
+    @EntityGraph(FetchGraphs.LOCATION_DETAIL)
+    @Query("SELECT l FROM Location l WHERE l.id = :id")
+    Optional<Location> findByIdForDetail(@Param("id") UUID id);
 
     /**
-     * Find location by ID with ALL relationships eagerly loaded including childLocations.
-     * Used for getByIdAsDto() to avoid LazyInitializationException during DTO mapping.
+     * Find locations by IDs with the list fetch plan
      *
-     * @param id location ID
-     * @return optional location with all relationships
+     * @param ids location IDs
+     * @return locations found, in no particular order
      */
-    @Query("SELECT l FROM Location l " +
-           "LEFT JOIN FETCH l.type " +
-           "LEFT JOIN FETCH l.parentLocation " +
-           "LEFT JOIN FETCH l.childLocations " +
-           "WHERE l.id = :id")
-    Optional<Location> findByIdWithAllRelationships(@Param("id") UUID id);
+    @EntityGraph(FetchGraphs.LOCATION_LIST)
+    @Query("SELECT l FROM Location l WHERE l.id IN :ids")
+    List<Location> findAllByIdForList(@Param("ids") Collection<UUID> ids);
 
     /**
      * Find location by name
@@ -182,5 +165,136 @@ public interface LocationRepository extends net.switchscope.repository.BaseRepos
      */
     @Query("SELECT COUNT(l) FROM Location l WHERE l.parentLocation.id = :parentLocationId")
     long countByParentLocationId(@Param("parentLocationId") UUID parentLocationId);
-}
 
+    // ---- Hierarchy closure (location_closure) ----
+
+    /**
+     * Find all descendants of a location (excluding itself), ordered by path.
+     *
+     * @param id ancestor location ID
+     * @return descendant locations
+     */
+    @Query(value = "SELECT l.* FROM locations l " +
+                   "JOIN location_closure c ON c.descendant_id = l.id " +
+                   "WHERE c.ancestor_id = :id AND c.depth > 0 " +
+                   "ORDER BY l.full_path", nativeQuery = true)
+    List<Location> findDescendants(@Param("id") UUID id);
+
+    /**
+     * Find the path of a location: its ancestors from the root down to the location itself.
+     *
+     * @param id location ID
+     * @return locations from root to {@code id}
+     */
+    @Query(value = "SELECT l.* FROM locations l " +
+                   "JOIN location_closure c ON c.ancestor_id = l.id " +
+                   "WHERE c.descendant_id = :id " +
+                   "ORDER BY c.depth DESC", nativeQuery = true)
+    List<Location> findPath(@Param("id") UUID id);
+
+    /**
+     * Check whether a location lies in the subtree of another one (inclusive).
+     *
+     * @param ancestorId   subtree root
+     * @param descendantId location to check
+     * @return true if {@code descendantId} is {@code ancestorId} or below it
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM location_closure " +
+                   "WHERE ancestor_id = :ancestorId AND descendant_id = :descendantId)", nativeQuery = true)
+    boolean isInSubtree(@Param("ancestorId") UUID ancestorId, @Param("descendantId") UUID descendantId);
+
+    /**
+     * Count active (not removed) installations in a location and all its descendants.
+     *
+     * @param id subtree root location ID
+     * @return installation count
+     */
+    @Query(value = "SELECT COUNT(*) FROM installations i " +
+                   "JOIN location_closure c ON c.descendant_id = i.location_id " +
+                   "WHERE c.ancestor_id = :id AND i.removed_at IS NULL", nativeQuery = true)
+    long countSubtreeEquipment(@Param("id") UUID id);
+
+    /**
+     * Add closure rows for a new leaf: the self row plus one row per ancestor of its parent.
+     *
+     * @param id       new location ID
+     * @param parentId parent location ID, null for a root
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO location_closure (ancestor_id, descendant_id, depth) " +
+                   "SELECT :id, :id, 0 " +
+                   "UNION ALL " +
+                   "SELECT c.ancestor_id, :id, c.depth + 1 FROM location_closure c " +
+                   "WHERE c.descendant_id = CAST(:parentId AS uuid)", nativeQuery = true)
+    void insertClosure(@Param("id") UUID id, @Param("parentId") UUID parentId);
+
+    /**
+     * Detach a subtree from its current ancestors, keeping the links inside the subtree.
+     *
+     * @param id subtree root location ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM location_closure " +
+                   "WHERE descendant_id IN (SELECT descendant_id FROM location_closure WHERE ancestor_id = :id) " +
+                   "AND ancestor_id NOT IN (SELECT descendant_id FROM location_closure WHERE ancestor_id = :id)",
+           nativeQuery = true)
+    void detachSubtree(@Param("id") UUID id);
+
+    /**
+     * Attach a detached subtree under a new parent.
+     *
+     * @param id       subtree root location ID
+     * @param parentId new parent location ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO location_closure (ancestor_id, descendant_id, depth) " +
+                   "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+                   "FROM location_closure p CROSS JOIN location_closure s " +
+                   "WHERE p.descendant_id = :parentId AND s.ancestor_id = :id", nativeQuery = true)
+    void attachSubtree(@Param("id") UUID id, @Param("parentId") UUID parentId);
+
+    /**
+     * Recompute precomputed path columns for a location and all its descendants.
+     * Only rows whose path changed are written (and get a new {@code updated_at}).
+     *
+     * @param id subtree root location ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE locations l SET " +
+                   "full_path = p.full_path, full_path_with_types = p.full_path_with_types, depth = p.depth, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT c.descendant_id AS id, " +
+                   "string_agg(a.name, '/' ORDER BY c.depth DESC) AS full_path, " +
+                   "string_agg(t.display_name || '(' || a.name || ')', '/' ORDER BY c.depth DESC) AS full_path_with_types, " +
+                   "MAX(c.depth) AS depth " +
+                   "FROM location_closure c " +
+                   "JOIN locations a ON a.id = c.ancestor_id " +
+                   "JOIN location_types_catalog t ON t.id = a.location_type_id " +
+                   "WHERE c.descendant_id IN (SELECT descendant_id FROM location_closure WHERE ancestor_id = :id) " +
+                   "GROUP BY c.descendant_id) p " +
+                   "WHERE l.id = p.id AND (l.full_path IS DISTINCT FROM p.full_path " +
+                   "OR l.full_path_with_types IS DISTINCT FROM p.full_path_with_types " +
+                   "OR l.depth IS DISTINCT FROM p.depth)", nativeQuery = true)
+    void refreshSubtreePaths(@Param("id") UUID id);
+
+    /**
+     * Recompute {@code full_path_with_types} of every location that has a location of the given type
+     * on its path, after the type's display name changed.
+     *
+     * @param typeId location type ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE locations l SET " +
+                   "full_path_with_types = p.full_path_with_types, updated_at = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT c.descendant_id AS id, " +
+                   "string_agg(t.display_name || '(' || a.name || ')', '/' ORDER BY c.depth DESC) AS full_path_with_types " +
+                   "FROM location_closure c " +
+                   "JOIN locations a ON a.id = c.ancestor_id " +
+                   "JOIN location_types_catalog t ON t.id = a.location_type_id " +
+                   "WHERE c.descendant_id IN (SELECT tc.descendant_id FROM location_closure tc " +
+                   "JOIN locations ta ON ta.id = tc.ancestor_id WHERE ta.location_type_id = :typeId) " +
+                   "GROUP BY c.descendant_id) p " +
+                   "WHERE l.id = p.id AND l.full_path_with_types IS DISTINCT FROM p.full_path_with_types",
+           nativeQuery = true)
+    void refreshPathsWithType(@Param("typeId") UUID typeId);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -103,5 +104,17 @@ public interface LocationTypeRepository extends net.switchscope.repository.compo
            "LEFT JOIN FETCH lte.allowedParentTypes " +
            "WHERE lte.id = :id")
     Optional<LocationTypeEntity> findByIdWithAssociations(@Param("id") UUID id);
+
+    /**
+     * Find location types by IDs with eager loading of both relationship sets.
+     *
+     * @param ids location type IDs
+     * @return location types found, in no particular order
+     */
+    @Query("SELECT lte FROM LocationTypeEntity lte " +
+           "LEFT JOIN FETCH lte.allowedChildTypes " +
+           "LEFT JOIN FETCH lte.allowedParentTypes " +
+           "WHERE lte.id IN :ids")
+    List<LocationTypeEntity> findAllByIdWithAssociations(@Param("ids") Collection<UUID> ids);
 }
 
@@ -1,10 +1,13 @@
 package net.switchscope.repository.port;
 
+import net.switchscope.model.FetchGraphs;
 import net.switchscope.model.port.Port;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,27 +20,33 @@ import java.util.UUID;
 public interface PortRepository extends net.switchscope.repository.BaseRepository<Port> {
 
     /**
-     * Find all ports with all relationships eagerly loaded
+     * Find all ports with the list fetch plan
      *
-     * @return list of all ports with relationships
+     * @return list of all ports ordered by device name and port number
      */
-    @Query("SELECT DISTINCT p FROM Port p " +
-           "LEFT JOIN FETCH p.device " +
-           "LEFT JOIN FETCH p.connector " +
-           "ORDER BY p.device.name, p.portNumber")
-    List<Port> findAllWithRelationships();
+    @EntityGraph(FetchGraphs.PORT_LIST)
+    @Query("SELECT p FROM Port p LEFT JOIN p.device d ORDER BY d.name, p.portNumber")
+    List<Port> findAllForList();
 
     /**
-     * Find port by ID with all relationships eagerly loaded
+     * Find port by ID with the detail fetch plan
      *
      * @param id port ID
-     * @return optional port with relationships
+     * @return optional port
+     */
+    @EntityGraph(FetchGraphs.PORT_DETAIL)
+    @Query("SELECT p FROM Port p WHERE p.id = :id")
+    Optional<Port> findByIdForDetail(@Param("id") UUID id);
+
+    /**
+     * Find ports by IDs with the list fetch plan
+     *
+     * @param ids port IDs
+     * @return ports found, in no particular order
      */
-    @Query("SELECT p FROM Port p " +
-           "LEFT JOIN FETCH p.device " +
-           "LEFT JOIN FETCH p.connector " +
-           "WHERE p.id = :id")
-    Optional<Port> findByIdWithRelationships(@Param("id") UUID id);
+    @EntityGraph(FetchGraphs.PORT_LIST)
+    @Query("SELECT p FROM Port p WHERE p.id IN :ids")
+    List<Port> findAllByIdForList(@Param("ids") Collection<UUID> ids);
 
     /**
      * Find port by equipment and port number
@@ -56,6 +65,15 @@ public interface PortRepository extends net.switchscope.repository.BaseRepositor
      */
     List<Port> findByDeviceId(UUID equipmentId);
 
+    /**
+     * Find IDs of all ports of a device
+     *
+     * @param deviceId device ID
+     * @return port IDs
+     */
+    @Query("SELECT p.id FROM Port p WHERE p.device.id = :deviceId")
+    List<UUID> findIdsByDeviceId(@Param("deviceId") UUID deviceId);
+
     /**
      * Find all ports for a device ordered by port number
      *
@@ -179,5 +197,23 @@ public interface PortRepository extends net.switchscope.repository.BaseRepositor
      */
     @Query("SELECT COUNT(p) FROM Port p WHERE p.device.id = :equipmentId AND p.operationalStatus = 'UP'")
     long countActiveByDeviceId(@Param("equipmentId") UUID equipmentId);
-}
 
+    /**
+     * Port to connector links for the cable graph.
+     * Row: port id, port name, device id, device name, connector id, connector name.
+     *
+     * @return all links of connected ports
+     */
+    @Query("SELECT p.id, p.name, d.id, d.name, c.id, c.name FROM Port p JOIN p.device d JOIN p.connector c")
+    List<Object[]> findConnectorLinks();
+
+    /**
+     * Port to connector links with the port or the connector among the given IDs.
+     *
+     * @param ids port or connector IDs
+     * @return links, same row layout as {@link #findConnectorLinks()}
+     */
+    @Query("SELECT p.id, p.name, d.id, d.name, c.id, c.name FROM Port p JOIN p.device d JOIN p.connector c " +
+           "WHERE p.id IN :ids OR c.id IN :ids")
+    List<Object[]> findConnectorLinksTouching(@Param("ids") Collection<UUID> ids);
+}
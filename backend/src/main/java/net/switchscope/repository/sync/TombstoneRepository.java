@@ -0,0 +1,40 @@
+package net.switchscope.repository.sync;
+
+import net.switchscope.model.sync.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for tombstones of deleted rows
+ */
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, UUID> {
+
+    /**
+     * Find tombstones written after the given time
+     *
+     * @param since exclusive lower bound
+     * @return tombstones ordered by deletion time
+     */
+    @Query("SELECT t FROM Tombstone t WHERE t.deletedAt > :since ORDER BY t.deletedAt, t.id")
+    List<Tombstone> findDeletedSince(@Param("since") OffsetDateTime since);
+
+    /**
+     * Delete tombstones older than the given time
+     *
+     * @param before exclusive upper bound
+     * @return number of deleted tombstones
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") OffsetDateTime before);
+}
@@ -0,0 +1,154 @@
+package net.switchscope.security;
+
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.cache.ClusterEvent;
+import net.switchscope.cache.ClusterEvents;
+import net.switchscope.config.SecurityConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Basic-auth provider that remembers successful authentications for a short time.
+ * <p>
+ * Stateless HTTP Basic would otherwise load the user and run BCrypt on every request.
+ * Entries are keyed by a SHA-256 of username and password (the password itself is never stored),
+ * expire after {@code app.security.auth-cache.ttl} and are evicted when the user changes,
+ * on this node and, through {@link ClusterEvents}, on the others. Without Redis other nodes
+ * keep trusting old credentials until their entries expire, so keep the TTL short.
+ * Failed attempts are never cached.
+ */
+@Slf4j
+@Component
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    static final String CLUSTER_TOPIC = "auth-cache";
+
+    private final AuthenticationProvider delegate;
+    private final ClusterEvents clusterEvents;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, CachedAuthentication> cache = new ConcurrentHashMap<>();
+
+    public CachingAuthenticationProvider(UserDetailsService userDetailsService,
+                                         ClusterEvents clusterEvents,
+                                         @Value("${app.security.auth-cache.ttl:60s}") Duration ttl,
+                                         @Value("${app.security.auth-cache.max-size:10000}") int maxSize) {
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(userDetailsService);
+        dao.setPasswordEncoder(SecurityConfig.PASSWORD_ENCODER);
+        this.delegate = dao;
+        this.clusterEvents = clusterEvents;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (ttlNanos <= 0 || !(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+        String key = key(authentication.getName(), password);
+        long now = System.nanoTime();
+        CachedAuthentication cached = cache.get(key);
+        if (cached != null && now - cached.createdAt < ttlNanos) {
+            return cached.authentication;
+        }
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null) {
+            if (cache.size() >= maxSize) {
+                purge(now);
+            }
+            cache.put(key, new CachedAuthentication(result, authentication.getName(), now));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    /**
+     * Forget cached authentications of a user once the current transaction completes (immediately if there is none).
+     * Called on every user change that may affect credentials, roles or the enabled flag.
+     *
+     * @param email user email (login name), case-insensitive
+     */
+    public void evictAfterCompletion(String email) {
+        if (email == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictEverywhere(email);
+                }
+            });
+        } else {
+            evictEverywhere(email);
+        }
+    }
+
+    /**
+     * Apply an eviction announced by another node.
+     */
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (CLUSTER_TOPIC.equals(event.getTopic())) {
+            evict(event.getPayload());
+        }
+    }
+
+    private void evictEverywhere(String email) {
+        evict(email);
+        clusterEvents.publish(CLUSTER_TOPIC, email);
+    }
+
+    private void evict(String email) {
+        cache.values().removeIf(cached -> cached.username.equalsIgnoreCase(email));
+    }
+
+    private void purge(long now) {
+        cache.values().removeIf(cached -> now - cached.createdAt >= ttlNanos);
+        if (cache.size() >= maxSize) {
+            log.debug("Authentication cache full ({} entries), clearing", cache.size());
+            cache.clear();
+        }
+    }
+
+    private static String key(String username, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(username.toLowerCase().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(password.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @lombok.Value
+    private static class CachedAuthentication {
+        Authentication authentication;
+        String username;
+        long createdAt;
+    }
+}
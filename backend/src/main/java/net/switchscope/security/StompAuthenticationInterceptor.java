@@ -0,0 +1,82 @@
+package net.switchscope.security;
+
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.service.status.StatusPushService;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Authentication of STOMP sessions. Browsers cannot set headers on the WebSocket handshake, so
+ * the handshake is open and the CONNECT frame carries the same {@code Authorization: Basic ...}
+ * header as REST calls, checked by {@link CachingAuthenticationProvider}.
+ * <p>
+ * Authenticated sessions may only subscribe to the status topics; clients never send.
+ */
+@Slf4j
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final CachingAuthenticationProvider authenticationProvider;
+
+    public StompAuthenticationInterceptor(CachingAuthenticationProvider authenticationProvider) {
+        this.authenticationProvider = authenticationProvider;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+            case SUBSCRIBE -> {
+                String destination = accessor.getDestination();
+                if (accessor.getUser() == null) {
+                    throw new MessageDeliveryException("Not authenticated");
+                }
+                if (destination == null || !destination.startsWith(StatusPushService.TOPIC_PREFIX)) {
+                    throw new MessageDeliveryException("Cannot subscribe to " + destination);
+                }
+            }
+            case SEND -> throw new MessageDeliveryException("Sending is not supported");
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private Authentication authenticate(String header) {
+        if (header == null || !header.startsWith(BASIC_PREFIX)) {
+            throw new BadCredentialsException("Missing Basic credentials");
+        }
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(header.substring(BASIC_PREFIX.length()).trim()),
+                    StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadCredentialsException("Malformed Basic credentials");
+        }
+        int colon = credentials.indexOf(':');
+        if (colon < 0) {
+            throw new BadCredentialsException("Malformed Basic credentials");
+        }
+        Authentication authentication = authenticationProvider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(credentials.substring(0, colon), credentials.substring(colon + 1)));
+        log.debug("STOMP session of '{}' authenticated", authentication.getName());
+        return authentication;
+    }
+}
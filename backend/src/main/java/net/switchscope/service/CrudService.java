@@ -1,5 +1,6 @@
 package net.switchscope.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +15,25 @@ public interface CrudService<T> {
 
     T getById(UUID id);
 
+    /**
+     * Keyset page of entities ordered by id (UUIDv7, i.e. creation order).
+     * Entities returned must be ready for mapping outside the transaction.
+     *
+     * @param after id of the last entity of the previous page, null for the first page
+     * @param limit max entities to return
+     * @return entities with id greater than {@code after}
+     */
+    List<T> getPage(UUID after, int limit);
+
+    /**
+     * Entities with the given ids, read in one query with the associations {@link #getById} loads.
+     * Entities returned must be ready for mapping outside the transaction.
+     *
+     * @param ids entity ids
+     * @return entities found, in no particular order; ids without a row are left out
+     */
+    List<T> getByIds(Collection<UUID> ids);
+
     T create(T entity);
 
     T update(UUID id, T entity);
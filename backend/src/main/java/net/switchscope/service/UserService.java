@@ -8,6 +8,7 @@ import net.switchscope.error.DataConflictException;
 import net.switchscope.mapper.UserMapper;
 import net.switchscope.model.User;
 import net.switchscope.repository.UserRepository;
+import net.switchscope.security.CachingAuthenticationProvider;
 import net.switchscope.to.UserTo;
 
 import java.util.List;
@@ -20,6 +21,7 @@ public class UserService {
 
     private final UserRepository repository;
     private final UserMapper mapper;
+    private final CachingAuthenticationProvider authenticationProvider;
 
     public List<User> getAll() {
         return repository.findAll();
@@ -45,7 +47,8 @@ public class UserService {
     public User update(UUID id, User user) {
         Assert.notNull(user, "user must not be null");
         User existing = repository.getExisted(id);
-        
+        authenticationProvider.evictAfterCompletion(existing.getEmail());
+
         // Check email uniqueness if changed
         if (!existing.getEmail().equalsIgnoreCase(user.getEmail())) {
             checkEmailUnique(user);
@@ -67,28 +70,32 @@ public class UserService {
 
     @Transactional
     public void delete(UUID id) {
+        authenticationProvider.evictAfterCompletion(repository.getExisted(id).getEmail());
         repository.deleteExisted(id);
     }
 
     @Transactional
     public void enable(UUID id, boolean enabled) {
         User user = repository.getExisted(id);
+        authenticationProvider.evictAfterCompletion(user.getEmail());
         user.setEnabled(enabled);
         repository.save(user);
     }
 
     /**
      * Update user profile from DTO.
-     * Used by ProfileController for self-update.
+     * Used by ProfileController for self-update. The user is loaded here, never taken from
+     * the principal, which may be shared by cached authentications.
      *
-     * @param user existing user entity (from AuthUser)
+     * @param id user ID (from AuthUser)
      * @param userTo DTO with updated values
      * @return updated user
      */
     @Transactional
-    public User updateFromTo(User user, UserTo userTo) {
-        Assert.notNull(user, "user must not be null");
+    public User updateFromTo(UUID id, UserTo userTo) {
         Assert.notNull(userTo, "userTo must not be null");
+        User user = repository.getExisted(id);
+        authenticationProvider.evictAfterCompletion(user.getEmail());
 
         // Check email uniqueness if changed
         if (!user.getEmail().equalsIgnoreCase(userTo.getEmail())) {
@@ -0,0 +1,624 @@
+package net.switchscope.service.bulk;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.config.EncryptedString;
+import net.switchscope.error.IllegalRequestDataException;
+import net.switchscope.service.component.ComponentHierarchyService;
+import net.switchscope.service.component.housing.RackOccupancyService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.BulkImportResultTo;
+import net.switchscope.to.BulkImportResultTo.RowError;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of installations, components and ports straight into their tables.
+ * <p>
+ * Rows use the database column names (the layout of the Liquibase CSV files). Instead of a UUID,
+ * a catalog reference can be given by code or name: {@code component_type_code} resolves
+ * {@code component_type_id}, {@code switch_model_name} resolves {@code switch_model_id}.
+ * Rows are validated and inserted in batches with JDBC batching, one transaction per batch.
+ * Foreign keys are checked per batch with one query per referenced table (catalogs are preloaded),
+ * so a bad row is reported without failing its batch. Rows that still fail in the database are
+ * retried one by one to find the culprit.
+ * <p>
+ * Rows bypass entity services: rack unit conflicts of imported installations are not checked,
+ * and caches derived from the imported tables are reset once the import finishes.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {
+    };
+    // Typed null, so the driver does not ask the server for parameter types
+    private static final SqlParameterValue NULL = new SqlParameterValue(Types.NULL, null);
+    // Maintained by the database
+    private static final Set<String> GENERATED_COLUMNS = Set.of("created_at", "updated_at");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CableTraceService cableTraceService;
+    private final RackOccupancyService rackOccupancyService;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService componentHierarchyService;
+    private final RowValidator rowValidator;
+    private final int batchSize;
+
+    private final Map<String, TableMetadata> metadata = new ConcurrentHashMap<>();
+
+    public BulkImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             EntityManagerFactory entityManagerFactory,
+                             CableTraceService cableTraceService,
+                             RackOccupancyService rackOccupancyService,
+                             TypeaheadService typeaheadService,
+                             ComponentHierarchyService componentHierarchyService,
+                             Validator validator,
+                             @Value("${app.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cableTraceService = cableTraceService;
+        this.rackOccupancyService = rackOccupancyService;
+        this.typeaheadService = typeaheadService;
+        this.componentHierarchyService = componentHierarchyService;
+        this.rowValidator = new RowValidator(validator);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import rows from CSV in the Liquibase layout ({@code ;} separated, header line first).
+     */
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
+    public BulkImportResultTo importCsv(ImportTarget target, InputStream in) {
+        CsvRowReader reader = new CsvRowReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        return importRows(target, reader.getHeader(), reader);
+    }
+
+    /**
+     * Import rows from a JSON array of flat objects keyed by column name.
+     */
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
+    public BulkImportResultTo importJson(ImportTarget target, InputStream in) {
+        try (MappingIterator<Map<String, Object>> it = objectMapper.readerFor(ROW_TYPE).readValues(in)) {
+            // Keys may differ per object, so there is no header to check up front
+            return importRows(target, List.of(), new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Map<String, String> next() {
+                    return toStrings(it.next());
+                }
+            });
+        } catch (IOException | RuntimeJsonMappingException e) {
+            throw new IllegalRequestDataException("Invalid JSON rows: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @param header columns known before the first row, checked before anything is written
+     */
+    BulkImportResultTo importRows(ImportTarget target, Collection<String> header, Iterator<Map<String, String>> rows) {
+        long started = System.nanoTime();
+        Run run = new Run(target, metadata(target.getTable()));
+        run.checkColumns(Set.copyOf(header));
+        List<PreparedRow> batch = new ArrayList<>(batchSize);
+        int rowNumber = 0;
+        try {
+            while (rows.hasNext()) {
+                Map<String, String> row = rows.next();
+                rowNumber++;
+                try {
+                    batch.add(run.prepare(rowNumber, row));
+                } catch (RowException e) {
+                    run.fail(rowNumber, e.id, e.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    run.write(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                run.write(batch);
+            }
+        } finally {
+            run.finish();
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Imported {} of {} {} rows in {} ms", run.imported, rowNumber, target.getTable(), elapsedMillis);
+        return new BulkImportResultTo(target.name(), rowNumber, run.imported, run.failed,
+                List.copyOf(run.errors), run.failed > run.errors.size(), elapsedMillis);
+    }
+
+    private TableMetadata metadata(String table) {
+        return metadata.computeIfAbsent(table, name -> TableMetadata.load(jdbcTemplate, name));
+    }
+
+    /**
+     * @return discriminator value -> concrete entity class
+     */
+    private Map<String, Class<?>> discriminatorValues(ImportTarget target) {
+        return entityManagerFactory.getMetamodel().getEntities().stream()
+                .<Class<?>>map(EntityType::getJavaType)
+                .filter(type -> target.getEntityClass().isAssignableFrom(type)
+                        && !Modifier.isAbstract(type.getModifiers())
+                        && type.isAnnotationPresent(DiscriminatorValue.class))
+                .collect(Collectors.toUnmodifiableMap(
+                        type -> type.getAnnotation(DiscriminatorValue.class).value(), type -> type));
+    }
+
+    private static Map<String, String> toStrings(Map<String, Object> row) {
+        Map<String, String> result = new LinkedHashMap<>();
+        row.forEach((column, value) -> {
+            if (value instanceof Map || value instanceof Collection) {
+                throw new IllegalRequestDataException("Row values must be scalars, got an object or array in " + column);
+            }
+            result.put(column, value == null ? null : value.toString());
+        });
+        return result;
+    }
+
+    /**
+     * State of one import: preloaded lookups, ids seen so far and the outcome.
+     */
+    private class Run {
+
+        private final ImportTarget target;
+        private final TableMetadata table;
+        private final Map<String, Class<?>> discriminators;
+        // Input columns already checked against the table
+        private final Set<Set<String>> knownColumnSets = new HashSet<>();
+        // Catalog table -> all ids, loaded on first reference
+        private final Map<String, Set<UUID>> catalogIds = new HashMap<>();
+        // "table.column" -> value -> id, null value marks an ambiguous key
+        private final Map<String, Map<String, UUID>> catalogKeys = new HashMap<>();
+        private final Set<UUID> seenIds = new HashSet<>();
+        private final Set<UUID> touchedRacks = new HashSet<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        Run(ImportTarget target, TableMetadata table) {
+            this.target = target;
+            this.table = table;
+            this.discriminators = target.getDiscriminatorColumn() != null ? discriminatorValues(target) : Map.of();
+        }
+
+        PreparedRow prepare(int rowNumber, Map<String, String> raw) {
+            try {
+                checkColumns(raw.keySet());
+            } catch (IllegalRequestDataException e) {
+                if (imported == 0) {
+                    throw e;
+                }
+                // Earlier batches are committed: fail the row, not the request
+                throw new RowException(null, e.getMessage());
+            }
+            Map<String, String> values = new LinkedHashMap<>(raw);
+            values.keySet().removeAll(GENERATED_COLUMNS);
+            UUID id = !isBlank(values.get("id")) ? parseId(values.get("id")) : newId();
+            values.put("id", id.toString());
+            if (!seenIds.add(id)) {
+                throw new RowException(id, "duplicate id in this import");
+            }
+            resolveCatalogKeys(id, values);
+
+            String discriminatorColumn = target.getDiscriminatorColumn();
+            if (discriminatorColumn != null && !discriminators.containsKey(values.get(discriminatorColumn))) {
+                throw new RowException(id, discriminatorColumn + " must be one of " + new TreeSet<>(discriminators.keySet())
+                        + ", was " + values.get(discriminatorColumn));
+            }
+            for (TableMetadata.Column column : table.getColumns().values()) {
+                if (!column.isNullable() && !column.isHasDefault() && !GENERATED_COLUMNS.contains(column.getName())
+                        && isBlank(values.get(column.getName()))) {
+                    throw new RowException(id, column.getName() + " is required");
+                }
+            }
+
+            List<String> columns = new ArrayList<>(values.size());
+            List<Object> args = new ArrayList<>(values.size());
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                TableMetadata.Column column = table.column(entry.getKey());
+                String value = entry.getValue();
+                if (target.getEncryptedColumns().contains(column.getName())) {
+                    EncryptedString encrypted = EncryptedString.of(value);
+                    value = encrypted != null ? encrypted.getCiphertext() : null;
+                }
+                columns.add(column.getName());
+                args.add(convert(id, column, value));
+            }
+            checkConstraints(id, values, columns, args);
+            return new PreparedRow(rowNumber, id, columns, args.toArray());
+        }
+
+        /**
+         * Apply the Bean Validation constraints of the entity the row becomes ({@code @Size}, {@code @Pattern},
+         * {@code @NoHtml}, {@code @Max}, ...), which the REST endpoints enforce and the database does not.
+         */
+        private void checkConstraints(UUID id, Map<String, String> values, List<String> columns, List<Object> args) {
+            Class<?> entityClass = target.getDiscriminatorColumn() != null
+                    ? discriminators.get(values.get(target.getDiscriminatorColumn()))
+                    : target.getEntityClass();
+            List<Object> converted = args.stream().map(arg -> arg == NULL ? null : arg).toList();
+            List<String> problems = rowValidator.validate(entityClass, columns, converted);
+            if (!problems.isEmpty()) {
+                throw new RowException(id, String.join("; ", problems));
+            }
+        }
+
+        void write(List<PreparedRow> batch) {
+            List<PreparedRow> valid = checkReferences(batch);
+            if (valid.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(valid));
+                imported += valid.size();
+                valid.forEach(this::track);
+            } catch (DataAccessException e) {
+                log.debug("Batch insert into {} failed, retrying row by row: {}", table.getTable(), e.getMessage());
+                for (PreparedRow row : valid) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+                        imported++;
+                        track(row);
+                    } catch (DataAccessException rowFailure) {
+                        fail(row.rowNumber, row.id, NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                    }
+                }
+            }
+        }
+
+        void fail(int rowNumber, UUID id, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(rowNumber, id, message));
+            }
+        }
+
+        void finish() {
+            if (imported == 0) {
+                return;
+            }
+            switch (target) {
+                case INSTALLATIONS -> touchedRacks.forEach(rackOccupancyService::evictAfterCommit);
+                case COMPONENTS -> {
+                    // Imported rows may reference parents, and bypass the closure maintenance
+                    componentHierarchyService.rebuild();
+                    cableTraceService.reset();
+                    typeaheadService.reset();
+                }
+                case PORTS -> {
+                    cableTraceService.reset();
+                    typeaheadService.reset();
+                }
+            }
+        }
+
+        private void track(PreparedRow row) {
+            if (target == ImportTarget.INSTALLATIONS) {
+                Object housingId = row.get("housing_component_id");
+                if (housingId instanceof UUID rackId) {
+                    touchedRacks.add(rackId);
+                }
+            }
+        }
+
+        private void insert(List<PreparedRow> rows) {
+            // Rows with the same column list share one batched statement
+            Map<List<String>, List<Object[]>> groups = new LinkedHashMap<>();
+            rows.forEach(row -> groups.computeIfAbsent(row.columns, columns -> new ArrayList<>()).add(row.args));
+            groups.forEach((columns, args) -> jdbcTemplate.batchUpdate(insertSql(columns), args));
+        }
+
+        private String insertSql(List<String> columns) {
+            return "INSERT INTO " + table.getTable() + " (" + String.join(", ", columns) + ") VALUES ("
+                    + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        }
+
+        void checkColumns(Set<String> columns) {
+            if (knownColumnSets.contains(columns)) {
+                return;
+            }
+            Set<String> unknown = new TreeSet<>();
+            for (String column : columns) {
+                if (table.column(column) == null && !GENERATED_COLUMNS.contains(column) && catalogKey(column) == null) {
+                    unknown.add(column);
+                }
+            }
+            if (!unknown.isEmpty()) {
+                throw new IllegalRequestDataException("Unknown " + table.getTable() + " columns: " + unknown);
+            }
+            knownColumnSets.add(Set.copyOf(columns));
+        }
+
+        /**
+         * @return {fk column, referenced table, key column} for a {@code <prefix>_code} or {@code <prefix>_name}
+         * column whose {@code <prefix>_id} references a catalog table having that key column, or null
+         */
+        private String[] catalogKey(String column) {
+            int suffix = column.lastIndexOf('_');
+            if (suffix < 0 || table.column(column) != null) {
+                return null;
+            }
+            String keyColumn = column.substring(suffix + 1);
+            String fkColumn = column.substring(0, suffix) + "_id";
+            String referenced = table.getForeignKeys().get(fkColumn);
+            if (!("code".equals(keyColumn) || "name".equals(keyColumn))
+                    || referenced == null || !isCatalog(referenced)
+                    || metadata(referenced).column(keyColumn) == null) {
+                return null;
+            }
+            return new String[]{fkColumn, referenced, keyColumn};
+        }
+
+        private void resolveCatalogKeys(UUID id, Map<String, String> values) {
+            for (String column : List.copyOf(values.keySet())) {
+                String[] key = catalogKey(column);
+                if (key == null) {
+                    continue;
+                }
+                String value = values.remove(column);
+                if (isBlank(value)) {
+                    continue;
+                }
+                Map<String, UUID> ids = catalogKeys.computeIfAbsent(key[1] + "." + key[2],
+                        name -> loadCatalogKeys(key[1], key[2]));
+                if (!ids.containsKey(value)) {
+                    throw new RowException(id, "unknown " + column + " '" + value + "'");
+                }
+                UUID resolved = ids.get(value);
+                if (resolved == null) {
+                    throw new RowException(id, column + " '" + value + "' is ambiguous, use " + key[0]);
+                }
+                String explicit = values.get(key[0]);
+                if (explicit != null && !explicit.equals(resolved.toString())) {
+                    throw new RowException(id, column + " and " + key[0] + " do not match");
+                }
+                values.put(key[0], resolved.toString());
+            }
+        }
+
+        private Map<String, UUID> loadCatalogKeys(String catalog, String keyColumn) {
+            Map<String, UUID> ids = new HashMap<>();
+            jdbcTemplate.query("SELECT " + keyColumn + ", id FROM " + catalog, rs -> {
+                String key = rs.getString(1);
+                ids.put(key, ids.containsKey(key) ? null : rs.getObject(2, UUID.class));
+            });
+            return ids;
+        }
+
+        /**
+         * Drop rows whose id already exists or whose references do not, reporting each of them.
+         */
+        private List<PreparedRow> checkReferences(List<PreparedRow> batch) {
+            Set<UUID> existing = findExisting(table.getTable(), batch.stream().map(row -> row.id).toList());
+            Set<UUID> batchIds = batch.stream().map(row -> row.id).collect(Collectors.toSet());
+            Map<String, Set<UUID>> found = new HashMap<>();
+            table.getForeignKeys().forEach((column, referenced) -> {
+                Set<UUID> ids = batch.stream()
+                        .map(row -> row.get(column))
+                        .filter(UUID.class::isInstance)
+                        .map(UUID.class::cast)
+                        .collect(Collectors.toSet());
+                if (ids.isEmpty()) {
+                    return;
+                }
+                Set<UUID> present;
+                if (isCatalog(referenced)) {
+                    present = catalogIds.computeIfAbsent(referenced, name -> new HashSet<>(
+                            jdbcTemplate.queryForList("SELECT id FROM " + name, UUID.class)));
+                } else {
+                    present = new HashSet<>(findExisting(referenced, ids));
+                    if (referenced.equals(table.getTable())) {
+                        // Rows may reference rows of the same batch, e.g. parent components
+                        present.addAll(batchIds);
+                    }
+                }
+                found.put(column, present);
+            });
+
+            List<PreparedRow> valid = new ArrayList<>(batch.size());
+            for (PreparedRow row : batch) {
+                String problem = existing.contains(row.id) ? "id already exists" : null;
+                for (Map.Entry<String, Set<UUID>> entry : found.entrySet()) {
+                    if (problem != null) {
+                        break;
+                    }
+                    Object value = row.get(entry.getKey());
+                    if (value instanceof UUID ref && !entry.getValue().contains(ref)) {
+                        problem = entry.getKey() + " " + ref + " not found in " + table.getForeignKeys().get(entry.getKey());
+                    }
+                }
+                if (problem != null) {
+                    fail(row.rowNumber, row.id, problem);
+                } else {
+                    valid.add(row);
+                }
+            }
+            return valid;
+        }
+
+        private Set<UUID> findExisting(String tableName, Collection<UUID> ids) {
+            Set<UUID> existing = new HashSet<>();
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement("SELECT id FROM " + tableName + " WHERE id = ANY(?)");
+                ps.setArray(1, con.createArrayOf("uuid", ids.toArray()));
+                return ps;
+            }, rs -> {
+                existing.add(rs.getObject(1, UUID.class));
+            });
+            return existing;
+        }
+    }
+
+    private static Object convert(UUID id, TableMetadata.Column column, String value) {
+        String type = column.getDataType();
+        boolean text = type.startsWith("character") || "text".equals(type);
+        if (value == null || (!text && value.isBlank())) {
+            return NULL;
+        }
+        try {
+            return switch (type) {
+                case "uuid" -> UUID.fromString(value.trim());
+                case "smallint", "integer" -> Integer.valueOf(value.trim());
+                case "bigint" -> Long.valueOf(value.trim());
+                case "numeric" -> new BigDecimal(value.trim());
+                case "double precision" -> Double.valueOf(value.trim());
+                case "real" -> Float.valueOf(value.trim());
+                case "boolean" -> parseBoolean(value.trim());
+                case "date" -> LocalDate.parse(value.trim().length() > 10 ? value.trim().substring(0, 10) : value.trim());
+                case "timestamp without time zone" -> parseTimestamp(value.trim());
+                case "timestamp with time zone" -> parseOffsetTimestamp(value.trim());
+                default -> {
+                    if (!text) {
+                        // Let PostgreSQL cast anything else (jsonb, enums, ...)
+                        yield new SqlParameterValue(Types.OTHER, value);
+                    }
+                    if (column.getMaxLength() != null && value.length() > column.getMaxLength()) {
+                        throw new RowException(id, column.getName() + " is longer than " + column.getMaxLength());
+                    }
+                    yield value;
+                }
+            };
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RowException(id, column.getName() + ": invalid " + type + " '" + value + "'");
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return switch (value.toLowerCase()) {
+            case "true", "t", "yes", "y", "1" -> Boolean.TRUE;
+            case "false", "f", "no", "n", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException(value);
+        };
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atStartOfDay();
+        }
+        return LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+
+    private static OffsetDateTime parseOffsetTimestamp(String value) {
+        try {
+            return OffsetDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            return parseTimestamp(value).atZone(ZoneId.systemDefault()).toOffsetDateTime();
+        }
+    }
+
+    private static UUID parseId(String value) {
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new RowException(null, "id: invalid uuid '" + value + "'");
+        }
+    }
+
+    /**
+     * Time-ordered UUIDv7, the same kind Hibernate assigns to new entities.
+     */
+    private static UUID newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static boolean isCatalog(String table) {
+        return table.endsWith("_catalog");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static class PreparedRow {
+        final int rowNumber;
+        final UUID id;
+        final List<String> columns;
+        final Object[] args;
+
+        PreparedRow(int rowNumber, UUID id, List<String> columns, Object[] args) {
+            this.rowNumber = rowNumber;
+            this.id = id;
+            this.columns = columns;
+            this.args = args;
+        }
+
+        Object get(String column) {
+            int index = columns.indexOf(column);
+            return index >= 0 ? args[index] : null;
+        }
+    }
+
+    private static class RowException extends RuntimeException {
+        final UUID id;
+
+        RowException(UUID id, String message) {
+            super(message, null, false, false);
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package net.switchscope.service.bulk;
+
+import net.switchscope.error.IllegalRequestDataException;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming reader for the Liquibase CSV layout: {@code ;} separated, header in the first line,
+ * values optionally quoted with {@code '} or {@code "} (a doubled quote escapes it),
+ * lines starting with {@code //} are comments. Empty unquoted values are read as null.
+ */
+class CsvRowReader implements Iterator<Map<String, String>> {
+
+    private static final char SEPARATOR = ';';
+    private static final int EOF = -1;
+
+    private final PushbackReader reader;
+    private final List<String> header;
+    private List<String> next;
+
+    CsvRowReader(Reader reader) {
+        this.reader = new PushbackReader(reader, 2);
+        List<String> first = readRecord();
+        if (first == null) {
+            throw new IllegalRequestDataException("CSV header is missing");
+        }
+        this.header = first.stream().map(name -> name == null ? "" : name.trim()).toList();
+        this.next = readRecord();
+    }
+
+    List<String> getHeader() {
+        return header;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        List<String> values = next;
+        if (values.size() > header.size()) {
+            throw new IllegalRequestDataException("CSV record has " + values.size()
+                    + " values, header has " + header.size());
+        }
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            row.put(header.get(i), values.get(i));
+        }
+        next = readRecord();
+        return row;
+    }
+
+    private List<String> readRecord() {
+        while (true) {
+            int c = read();
+            if (c == EOF) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                continue;
+            }
+            if (c == '/' && peek() == '/') {
+                skipLine();
+                continue;
+            }
+            unread(c);
+            return readFields();
+        }
+    }
+
+    private List<String> readFields() {
+        List<String> fields = new ArrayList<>();
+        while (true) {
+            int c = read();
+            String value;
+            if (c == '\'' || c == '"') {
+                value = readQuoted((char) c);
+                c = read();
+                // Ignore anything between the closing quote and the separator
+                while (c != SEPARATOR && c != '\n' && c != '\r' && c != EOF) {
+                    c = read();
+                }
+            } else {
+                StringBuilder sb = new StringBuilder();
+                while (c != SEPARATOR && c != '\n' && c != '\r' && c != EOF) {
+                    sb.append((char) c);
+                    c = read();
+                }
+                value = sb.isEmpty() ? null : sb.toString();
+            }
+            fields.add(value);
+            if (c != SEPARATOR) {
+                return fields;
+            }
+        }
+    }
+
+    private String readQuoted(char quote) {
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == EOF) {
+                throw new IllegalRequestDataException("Unterminated quoted CSV value");
+            }
+            if (c == quote) {
+                if (peek() != quote) {
+                    return sb.toString();
+                }
+                read();
+            }
+            sb.append((char) c);
+        }
+    }
+
+    private void skipLine() {
+        int c;
+        do {
+            c = read();
+        } while (c != '\n' && c != EOF);
+    }
+
+    private int peek() {
+        int c = read();
+        unread(c);
+        return c;
+    }
+
+    private int read() {
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void unread(int c) {
+        if (c == EOF) {
+            return;
+        }
+        try {
+            reader.unread(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package net.switchscope.service.bulk;
+
+import jakarta.persistence.DiscriminatorColumn;
+import lombok.Getter;
+import net.switchscope.model.component.Component;
+import net.switchscope.model.installation.Installation;
+import net.switchscope.model.port.Port;
+
+import java.util.Set;
+
+/**
+ * Tables accepted by the bulk import. Row columns use the layout of the Liquibase CSV files
+ * in {@code db/changelog/csv}, i.e. the database column names.
+ * <p>
+ * Import installations first (they only reference locations and catalogs),
+ * then components, then ports.
+ */
+@Getter
+public enum ImportTarget {
+
+    INSTALLATIONS("installations", Installation.class, Set.of()),
+    COMPONENTS("components", Component.class, Set.of("admin_password")),
+    PORTS("ports", Port.class, Set.of());
+
+    private final String table;
+    private final Class<?> entityClass;
+    // Discriminator column of a single-table hierarchy, null for plain entities
+    private final String discriminatorColumn;
+    // Plain-text columns stored through EncryptedStringConverter
+    private final Set<String> encryptedColumns;
+
+    ImportTarget(String table, Class<?> entityClass, Set<String> encryptedColumns) {
+        this.table = table;
+        this.entityClass = entityClass;
+        DiscriminatorColumn discriminator = entityClass.getAnnotation(DiscriminatorColumn.class);
+        this.discriminatorColumn = discriminator != null ? discriminator.name() : null;
+        this.encryptedColumns = encryptedColumns;
+    }
+}
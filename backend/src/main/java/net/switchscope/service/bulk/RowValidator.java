@@ -0,0 +1,71 @@
+package net.switchscope.service.bulk;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Id;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bean Validation of imported rows against the constraints of the entity they become.
+ * <p>
+ * Rows are never turned into entities, so each column value is checked with
+ * {@link Validator#validateValue} against the field mapped to that column.
+ * Only plain {@code @Column} fields are checked: associations are checked as foreign keys,
+ * and converted columns hold a different type in the row than in the entity.
+ */
+class RowValidator {
+
+    private final Validator validator;
+    // Entity class -> column name -> field
+    private final Map<Class<?>, Map<String, Field>> columnFields = new ConcurrentHashMap<>();
+
+    RowValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * @param entityClass concrete entity class of the row
+     * @param columns     row columns
+     * @param values      converted values, in column order; {@code null} for SQL NULL
+     * @return one message per violated constraint, e.g. {@code rack_units_total must be less than or equal to 64}
+     */
+    List<String> validate(Class<?> entityClass, List<String> columns, List<Object> values) {
+        Map<String, Field> fields = columnFields.computeIfAbsent(entityClass, RowValidator::mapColumns);
+        List<String> problems = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            Field field = fields.get(columns.get(i));
+            Object value = values.get(i);
+            if (field == null || (value != null && !ClassUtils.resolvePrimitiveIfNecessary(field.getType()).isInstance(value))) {
+                continue;
+            }
+            for (ConstraintViolation<?> violation : validator.validateValue(entityClass, field.getName(), value)) {
+                problems.add(columns.get(i) + " " + violation.getMessage());
+            }
+        }
+        return problems;
+    }
+
+    private static Map<String, Field> mapColumns(Class<?> entityClass) {
+        Map<String, Field> fields = new HashMap<>();
+        ReflectionUtils.doWithFields(entityClass, field -> {
+            Column column = field.getAnnotation(Column.class);
+            if (column != null && !column.name().isEmpty()) {
+                fields.putIfAbsent(column.name(), field);
+            }
+        }, field -> !Modifier.isStatic(field.getModifiers())
+                && !field.isAnnotationPresent(Id.class)
+                && !field.isAnnotationPresent(Convert.class));
+        return fields;
+    }
+}
@@ -0,0 +1,68 @@
+package net.switchscope.service.bulk;
+
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Column types and foreign keys of a table, read from {@code information_schema}.
+ */
+@Value
+class TableMetadata {
+
+    @Value
+    static class Column {
+        String name;
+        String dataType;
+        Integer maxLength;
+        boolean nullable;
+        boolean hasDefault;
+    }
+
+    String table;
+    Map<String, Column> columns;
+    // FK column -> referenced table
+    Map<String, String> foreignKeys;
+
+    Column column(String name) {
+        return columns.get(name);
+    }
+
+    static TableMetadata load(JdbcTemplate jdbcTemplate, String table) {
+        Map<String, Column> columns = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                        SELECT column_name, data_type, character_maximum_length, is_nullable, column_default
+                        FROM information_schema.columns
+                        WHERE table_schema = current_schema() AND table_name = ?
+                        ORDER BY ordinal_position
+                        """,
+                rs -> {
+                    String name = rs.getString("column_name");
+                    Integer maxLength = (Integer) rs.getObject("character_maximum_length");
+                    columns.put(name, new Column(name, rs.getString("data_type"), maxLength,
+                            "YES".equals(rs.getString("is_nullable")), rs.getString("column_default") != null));
+                },
+                table);
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("Table " + table + " not found");
+        }
+        Map<String, String> foreignKeys = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                        SELECT kcu.column_name, ccu.table_name AS referenced_table
+                        FROM information_schema.table_constraints tc
+                        JOIN information_schema.key_column_usage kcu
+                          ON kcu.constraint_name = tc.constraint_name AND kcu.table_schema = tc.table_schema
+                        JOIN information_schema.constraint_column_usage ccu
+                          ON ccu.constraint_name = tc.constraint_name AND ccu.table_schema = tc.table_schema
+                        WHERE tc.constraint_type = 'FOREIGN KEY'
+                          AND tc.table_schema = current_schema() AND tc.table_name = ?
+                        """,
+                rs -> {
+                    foreignKeys.put(rs.getString("column_name"), rs.getString("referenced_table"));
+                },
+                table);
+        return new TableMetadata(table, Map.copyOf(columns), Map.copyOf(foreignKeys));
+    }
+}
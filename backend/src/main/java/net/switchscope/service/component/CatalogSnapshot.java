@@ -0,0 +1,296 @@
+package net.switchscope.service.component;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.cache.CacheInvalidationEvent;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.model.component.ComponentCategoryEntity;
+import net.switchscope.model.component.ComponentStatusEntity;
+import net.switchscope.model.component.ComponentTypeEntity;
+import net.switchscope.model.component.UIStyledEntity;
+import net.switchscope.repository.component.ComponentCategoryRepository;
+import net.switchscope.repository.component.ComponentNatureRepository;
+import net.switchscope.repository.component.ComponentStatusRepository;
+import net.switchscope.repository.component.ComponentTypeRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Immutable in-memory snapshot of the component catalogs (types, statuses, natures, categories).
+ * <p>
+ * Catalog rows change a few times a year, so component mapping resolves codes, display names
+ * and flags from here instead of joining the catalog tables for every row.
+ * The snapshot is loaded on first access and swapped atomically after a catalog write commits;
+ * writes on other nodes drop it through the catalog cache invalidation.
+ */
+@Slf4j
+@Service
+public class CatalogSnapshot {
+
+    private static final Comparator<UIStyledEntity> BY_SORT_ORDER = Comparator
+            .comparing(UIStyledEntity::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(UIStyledEntity::getDisplayName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ComponentTypeRepository typeRepository;
+    private final ComponentStatusRepository statusRepository;
+    private final ComponentNatureRepository natureRepository;
+    private final ComponentCategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Catalogs current;
+
+    public CatalogSnapshot(ComponentTypeRepository typeRepository,
+                           ComponentStatusRepository statusRepository,
+                           ComponentNatureRepository natureRepository,
+                           ComponentCategoryRepository categoryRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.typeRepository = typeRepository;
+        this.statusRepository = statusRepository;
+        this.natureRepository = natureRepository;
+        this.categoryRepository = categoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public TypeEntry type(UUID id) {
+        return id == null ? null : catalogs().getTypes().byId(id);
+    }
+
+    public StatusEntry status(UUID id) {
+        return id == null ? null : catalogs().getStatuses().byId(id);
+    }
+
+    public StatusEntry statusByCode(String code) {
+        return code == null ? null : catalogs().getStatuses().byCode(code);
+    }
+
+    public Entry nature(UUID id) {
+        return id == null ? null : catalogs().getNatures().byId(id);
+    }
+
+    public Entry category(UUID id) {
+        return id == null ? null : catalogs().getCategories().byId(id);
+    }
+
+    public Entry categoryByCode(String code) {
+        return code == null ? null : catalogs().getCategories().byCode(code);
+    }
+
+    public List<TypeEntry> types() {
+        return catalogs().getTypes().all();
+    }
+
+    /**
+     * Reload all catalogs now and publish the new snapshot.
+     */
+    public void refresh() {
+        Catalogs loaded = transactionTemplate.execute(status -> load());
+        current = loaded;
+        log.info("Catalog snapshot loaded: {} types, {} statuses, {} natures, {} categories",
+                loaded.getTypes().size(), loaded.getStatuses().size(),
+                loaded.getNatures().size(), loaded.getCategories().size());
+    }
+
+    /**
+     * Schedule a reload after the current transaction commits (immediately if there is none).
+     * Called by catalog services on every write so readers never see uncommitted rows.
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * Another node wrote a catalog (its eviction of the catalog cache arrived here):
+     * drop the snapshot, the next access reloads it.
+     */
+    @EventListener
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        if (CacheNames.CATALOGS.equals(event.getCacheName())) {
+            current = null;
+        }
+    }
+
+    private Catalogs catalogs() {
+        Catalogs catalogs = current;
+        if (catalogs == null) {
+            synchronized (this) {
+                if (current == null) {
+                    refresh();
+                }
+                catalogs = current;
+            }
+        }
+        return catalogs;
+    }
+
+    private Catalogs load() {
+        return new Catalogs(
+                Index.of(typeRepository.findAllWithAssociations(), TypeEntry::new),
+                Index.of(statusRepository.findAll(), StatusEntry::new),
+                Index.of(natureRepository.findAll(), Entry::new),
+                Index.of(categoryRepository.findAll(), Entry::new));
+    }
+
+    @Value
+    private static class Catalogs {
+        Index<TypeEntry> types;
+        Index<StatusEntry> statuses;
+        Index<Entry> natures;
+        Index<Entry> categories;
+    }
+
+    /**
+     * Id- and code-indexed immutable catalog.
+     * Type codes are unique per category only; {@link #byCode} returns the first by sort order.
+     */
+    private static final class Index<V extends Entry> {
+        private final List<V> all;
+        private final Map<UUID, V> byId;
+        private final Map<String, V> byCode;
+
+        private Index(List<V> all) {
+            Map<UUID, V> ids = new HashMap<>();
+            Map<String, V> codes = new HashMap<>();
+            for (V entry : all) {
+                ids.put(entry.getId(), entry);
+                codes.putIfAbsent(entry.getCode(), entry);
+            }
+            this.all = List.copyOf(all);
+            this.byId = Map.copyOf(ids);
+            this.byCode = Map.copyOf(codes);
+        }
+
+        static <E extends UIStyledEntity, V extends Entry> Index<V> of(List<E> entities, Function<E, V> factory) {
+            return new Index<>(entities.stream()
+                    .sorted(BY_SORT_ORDER)
+                    .map(factory)
+                    .toList());
+        }
+
+        V byId(UUID id) {
+            return byId.get(id);
+        }
+
+        V byCode(String code) {
+            return byCode.get(code);
+        }
+
+        List<V> all() {
+            return all;
+        }
+
+        int size() {
+            return all.size();
+        }
+    }
+
+    /**
+     * Catalog row fields shared by all component catalogs.
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    public static class Entry {
+        private final UUID id;
+        private final String code;
+        private final String displayName;
+        private final String colorClass;
+        private final String iconClass;
+        private final boolean active;
+
+        Entry(UIStyledEntity entity) {
+            this.id = entity.getId();
+            this.code = entity.getCode();
+            this.displayName = entity.getDisplayName();
+            this.colorClass = entity.getColorClass();
+            this.iconClass = entity.getIconClass();
+            this.active = entity.isActive();
+        }
+    }
+
+    @Getter
+    @ToString(callSuper = true)
+    @EqualsAndHashCode(callSuper = true)
+    public static class TypeEntry extends Entry {
+        private final UUID categoryId;
+        private final String categoryCode;
+        private final boolean canContainComponents;
+        private final boolean requiresRackSpace;
+        private final int typicalRackUnits;
+        private final Set<String> allowedChildTypeCodes;
+        private final Set<String> allowedChildCategoryCodes;
+
+        TypeEntry(ComponentTypeEntity entity) {
+            super(entity);
+            ComponentCategoryEntity category = entity.getCategory();
+            this.categoryId = category != null ? category.getId() : null;
+            this.categoryCode = category != null ? category.getCode() : null;
+            this.canContainComponents = entity.isCanContainComponents();
+            this.requiresRackSpace = entity.isRequiresRackSpace();
+            this.typicalRackUnits = entity.getTypicalRackUnits();
+            this.allowedChildTypeCodes = Set.copyOf(entity.getAllowedChildTypeCodes());
+            this.allowedChildCategoryCodes = Set.copyOf(entity.getAllowedChildCategoryCodes());
+        }
+
+        /**
+         * Same rules as {@link ComponentTypeEntity#canContainType}: allowed child type and category
+         * codes first, then the default category rules.
+         */
+        public boolean canContain(TypeEntry childType) {
+            if (!canContainComponents || childType == null) {
+                return false;
+            }
+            return allowedChildTypeCodes.contains(childType.getCode())
+                    || childType.getCategoryCode() != null && allowedChildCategoryCodes.contains(childType.getCategoryCode())
+                    || ComponentCategoryEntity.canContainCategory(categoryCode, childType.getCategoryCode());
+        }
+    }
+
+    @Getter
+    @ToString(callSuper = true)
+    @EqualsAndHashCode(callSuper = true)
+    public static class StatusEntry extends Entry {
+        private final boolean operational;
+        private final boolean available;
+        private final boolean requiresAttention;
+        private final Set<String> nextPossibleStatusCodes;
+
+        StatusEntry(ComponentStatusEntity entity) {
+            super(entity);
+            this.operational = entity.isOperational();
+            this.available = entity.isAvailable();
+            this.requiresAttention = entity.requiresAttention();
+            this.nextPossibleStatusCodes = Set.copyOf(entity.getNextPossibleStatusCodes());
+        }
+
+        public boolean canTransitionTo(String statusCode) {
+            return nextPossibleStatusCodes.contains(statusCode);
+        }
+    }
+}
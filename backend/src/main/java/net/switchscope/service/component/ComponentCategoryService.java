@@ -1,15 +1,20 @@
 package net.switchscope.service.component;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.cache.EvictCatalogCaches;
 import net.switchscope.error.NotFoundException;
 import net.switchscope.mapper.component.catalog.ComponentCategoryMapper;
 import net.switchscope.model.component.ComponentCategoryEntity;
 import net.switchscope.repository.component.ComponentCategoryRepository;
 import net.switchscope.service.UpdatableCrudService;
 import net.switchscope.to.component.catalog.ComponentCategoryTo;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +29,7 @@ public class ComponentCategoryService implements UpdatableCrudService<ComponentC
 
     private final ComponentCategoryRepository repository;
     private final ComponentCategoryMapper mapper;
+    private final CatalogSnapshot catalogSnapshot;
 
     @Override
     public List<ComponentCategoryEntity> getAll() {
@@ -36,9 +42,33 @@ public class ComponentCategoryService implements UpdatableCrudService<ComponentC
                 .orElseThrow(() -> new NotFoundException("Component category with id=" + id + " not found"));
     }
 
+    @Override
+    public List<ComponentCategoryEntity> getByIds(Collection<UUID> ids) {
+        return repository.findAllByIdWithComponentTypes(ids);
+    }
+
+    @Override
+    public List<ComponentCategoryEntity> getPage(UUID after, int limit) {
+        List<ComponentCategoryEntity> entities = repository.findPage(after, limit);
+        entities.forEach(e -> Hibernate.initialize(e.getComponentTypes()));
+        return entities;
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'ComponentCategory:all'")
+    public List<ComponentCategoryTo> getAllAsDto() {
+        return mapper.toToList(getAll());
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'ComponentCategory:' + #id")
+    public ComponentCategoryTo getByIdAsDto(UUID id) {
+        return mapper.toTo(getById(id));
+    }
+
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentCategoryEntity create(ComponentCategoryEntity entity) {
+        catalogSnapshot.refreshAfterCommit();
         return repository.save(entity);
     }
 
@@ -49,7 +79,9 @@ public class ComponentCategoryService implements UpdatableCrudService<ComponentC
     @Override
     @Deprecated
     @Transactional
+    @EvictCatalogCaches
     public ComponentCategoryEntity update(UUID id, ComponentCategoryEntity entity) {
+        catalogSnapshot.refreshAfterCommit();
         // Fallback: load existing and manually copy fields
         ComponentCategoryEntity existing = repository.findByIdWithComponentTypes(id)
                 .orElseThrow(() -> new NotFoundException("Component category with id=" + id + " not found"));
@@ -79,7 +111,9 @@ public class ComponentCategoryService implements UpdatableCrudService<ComponentC
      */
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentCategoryEntity updateFromDto(UUID id, ComponentCategoryTo dto) {
+        catalogSnapshot.refreshAfterCommit();
         // 1. Load existing entity with all associations
         ComponentCategoryEntity existing = repository.findByIdWithComponentTypes(id)
                 .orElseThrow(() -> new NotFoundException("Component category with id=" + id + " not found"));
@@ -93,7 +127,9 @@ public class ComponentCategoryService implements UpdatableCrudService<ComponentC
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void delete(UUID id) {
+        catalogSnapshot.refreshAfterCommit();
         repository.deleteExisted(id);
     }
 }
@@ -0,0 +1,139 @@
+package net.switchscope.service.component;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.error.IllegalRequestDataException;
+import net.switchscope.error.NotFoundException;
+import net.switchscope.model.component.Component;
+import net.switchscope.repository.component.ComponentRepository;
+import net.switchscope.service.component.CatalogSnapshot.TypeEntry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the component containment closure ({@code component_closure}) and the precomputed
+ * {@code component_path} and {@code depth} columns in line with {@code parent_component_id}.
+ * <p>
+ * Component services call {@link #sync} after saving a component. Deleting one orphans its
+ * children to roots through the FK, so they are collected with {@link #childrenOf} before
+ * and synced with {@link #syncAll} after.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ComponentHierarchyService {
+
+    private final ComponentRepository repository;
+    private final CatalogSnapshot catalogSnapshot;
+    private final EntityManager entityManager;
+
+    /**
+     * Re-link a saved component and its subtree under its current parent and reload its path.
+     *
+     * @param saved saved, managed component
+     */
+    @Transactional
+    public void sync(Component saved) {
+        syncSubtree(saved.getId());
+        entityManager.refresh(saved);
+    }
+
+    /**
+     * Re-link subtrees under their current parents.
+     *
+     * @param ids subtree root component IDs
+     */
+    @Transactional
+    public void syncAll(Collection<UUID> ids) {
+        ids.forEach(this::syncSubtree);
+    }
+
+    /**
+     * Get IDs of the direct children of a component.
+     *
+     * @param id parent component ID
+     * @return child component IDs
+     */
+    public List<UUID> childrenOf(UUID id) {
+        return repository.findChildIds(id);
+    }
+
+    /**
+     * Move components under a new parent. All moves are validated before any is applied.
+     *
+     * @param ids      distinct component IDs
+     * @param parentId new parent component ID, null to make them roots
+     * @throws NotFoundException           if a component or the parent does not exist
+     * @throws IllegalRequestDataException listing every move that would create a cycle or
+     *                                     that the parent type cannot contain
+     */
+    @Transactional
+    public void move(List<UUID> ids, UUID parentId) {
+        validateMove(ids, parentId);
+        repository.updateParent(ids, parentId);
+        ids.forEach(this::syncSubtree);
+        log.debug("Moved {} components under {}", ids.size(), parentId);
+    }
+
+    /**
+     * Rebuild the closure and paths of all components, after writes that bypass the services.
+     */
+    @Transactional
+    public void rebuild() {
+        repository.clearClosure();
+        repository.fillClosure();
+        repository.refreshAllPaths();
+        log.info("Component hierarchy rebuilt");
+    }
+
+    private void validateMove(List<UUID> ids, UUID parentId) {
+        List<UUID> lookup = new ArrayList<>(ids);
+        if (parentId != null) {
+            lookup.add(parentId);
+        }
+        Map<UUID, UUID> typeIds = new HashMap<>();
+        repository.findTypeIds(lookup).forEach(row -> typeIds.put((UUID) row[0], (UUID) row[1]));
+        List<UUID> missing = lookup.stream().filter(id -> !typeIds.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new NotFoundException("Components not found: " + missing);
+        }
+        if (parentId == null) {
+            return;
+        }
+
+        List<String> errors = new ArrayList<>();
+        repository.findAncestorsAmong(parentId, ids)
+                .forEach(id -> errors.add(id + " cannot be moved under itself or its descendant"));
+        TypeEntry parentType = catalogSnapshot.type(typeIds.get(parentId));
+        for (UUID id : ids) {
+            TypeEntry childType = catalogSnapshot.type(typeIds.get(id));
+            if (parentType == null || !parentType.canContain(childType)) {
+                errors.add(id + " of type " + code(childType) + " cannot be placed in " + code(parentType));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalRequestDataException("Cannot move components under " + parentId + ": "
+                    + String.join("; ", errors));
+        }
+    }
+
+    private void syncSubtree(UUID id) {
+        repository.insertSelfClosure(id);
+        repository.detachSubtree(id);
+        repository.attachSubtreeToParent(id);
+        repository.refreshSubtreePaths(id);
+    }
+
+    private static String code(TypeEntry type) {
+        return type == null ? "unknown" : type.getCode();
+    }
+}
@@ -1,14 +1,18 @@
 package net.switchscope.service.component;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.cache.EvictCatalogCaches;
 import net.switchscope.mapper.component.catalog.ComponentNatureMapper;
 import net.switchscope.model.component.ComponentNatureEntity;
 import net.switchscope.repository.component.ComponentNatureRepository;
 import net.switchscope.service.UpdatableCrudService;
 import net.switchscope.to.component.catalog.ComponentNatureTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,6 +23,7 @@ public class ComponentNatureService implements UpdatableCrudService<ComponentNat
 
     private final ComponentNatureRepository repository;
     private final ComponentNatureMapper mapper;
+    private final CatalogSnapshot catalogSnapshot;
 
     @Override
     public List<ComponentNatureEntity> getAll() {
@@ -30,16 +35,40 @@ public class ComponentNatureService implements UpdatableCrudService<ComponentNat
         return repository.getExisted(id);
     }
 
+    @Override
+    public List<ComponentNatureEntity> getByIds(Collection<UUID> ids) {
+        return repository.findAllById(ids);
+    }
+
+    @Override
+    public List<ComponentNatureEntity> getPage(UUID after, int limit) {
+        return repository.findPage(after, limit);
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'ComponentNature:all'")
+    public List<ComponentNatureTo> getAllAsDto() {
+        return mapper.toToList(getAll());
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'ComponentNature:' + #id")
+    public ComponentNatureTo getByIdAsDto(UUID id) {
+        return mapper.toTo(getById(id));
+    }
+
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentNatureEntity create(ComponentNatureEntity entity) {
+        catalogSnapshot.refreshAfterCommit();
         // TODO: implement validation
         return repository.save(entity);
     }
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentNatureEntity update(UUID id, ComponentNatureEntity entity) {
+        catalogSnapshot.refreshAfterCommit();
         repository.getExisted(id);
         entity.setId(id);
         return repository.save(entity);
@@ -47,7 +76,9 @@ public class ComponentNatureService implements UpdatableCrudService<ComponentNat
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentNatureEntity updateFromDto(UUID id, ComponentNatureTo dto) {
+        catalogSnapshot.refreshAfterCommit();
         ComponentNatureEntity existing = repository.getExisted(id);
         mapper.updateFromTo(existing, dto);
         return repository.save(existing);
@@ -55,7 +86,9 @@ public class ComponentNatureService implements UpdatableCrudService<ComponentNat
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void delete(UUID id) {
+        catalogSnapshot.refreshAfterCommit();
         repository.deleteExisted(id);
     }
 }
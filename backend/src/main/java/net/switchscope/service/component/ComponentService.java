@@ -1,12 +1,18 @@
 package net.switchscope.service.component;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
 import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.error.NotFoundException;
 import net.switchscope.mapper.component.connectivity.CableRunMapper;
 import net.switchscope.mapper.component.connectivity.ConnectorMapper;
@@ -19,6 +25,7 @@ import net.switchscope.model.component.Component;
 import net.switchscope.model.component.ComponentNatureEntity;
 import net.switchscope.model.component.ComponentStatusEntity;
 import net.switchscope.model.component.ComponentTypeEntity;
+import net.switchscope.model.component.catalog.ComponentModel;
 import net.switchscope.model.component.connectivity.CableRun;
 import net.switchscope.model.component.connectivity.Connector;
 import net.switchscope.model.component.connectivity.PatchPanel;
@@ -34,6 +41,10 @@ import net.switchscope.security.policy.UpdatePolicy;
 import net.switchscope.security.policy.UpdatePolicyResolver;
 import net.switchscope.security.policy.UpdatePolicyValidator;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.component.housing.RackOccupancyService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.component.ComponentTo;
 import net.switchscope.to.component.connectivity.CableRunTo;
 import net.switchscope.to.component.connectivity.ConnectorTo;
@@ -43,12 +54,19 @@ import net.switchscope.to.component.device.NetworkSwitchTo;
 import net.switchscope.to.component.device.RouterTo;
 import net.switchscope.to.component.housing.RackTo;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -62,6 +80,11 @@ public class ComponentService implements CrudService<Component> {
     private final ComponentNatureRepository componentNatureRepository;
     private final UpdatePolicyResolver policyResolver;
     private final UpdatePolicyValidator policyValidator;
+    private final EntityManager entityManager;
+    private final RackOccupancyService rackOccupancyService;
+    private final CableTraceService cableTraceService;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService hierarchyService;
 
     // Polymorphic mappers for different component types
     private final NetworkSwitchMapper networkSwitchMapper;
@@ -74,15 +97,16 @@ public class ComponentService implements CrudService<Component> {
 
     @Override
     public List<Component> getAll() {
-        return repository.findAllWithAssociations();
+        return repository.findAllForList();
     }
 
     /**
      * Get all components and map to DTOs within transaction.
-     * This ensures lazy-loaded associations are accessible during mapping.
+     * Subtype models are preloaded in one query; ports are batch-fetched while mapping.
      */
     public List<ComponentTo> getAllAsDto() {
-        List<Component> components = repository.findAllWithAssociations();
+        List<Component> components = repository.findAllForList();
+        preloadSubtypeAssociations(components);
         return components.stream()
                 .map(this::mapToDto)
                 .filter(dto -> {
@@ -95,6 +119,54 @@ public class ComponentService implements CrudService<Component> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Stream all components ordered by id, mapping each to DTO within one read-only transaction.
+     * The persistence context is cleared every fetch batch, so memory stays bounded by the batch.
+     *
+     * @param action receives component DTOs in id order
+     */
+    public void streamAllAsDto(Consumer<ComponentTo> action) {
+        int[] count = {0};
+        try (Stream<Component> components = repository.streamAllForExport()) {
+            components.forEach(component -> {
+                ComponentTo dto = mapToDto(component);
+                if (dto != null) {
+                    action.accept(dto);
+                }
+                if (++count[0] % ComponentRepository.STREAM_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+        log.debug("Streamed {} components", count[0]);
+    }
+
+    /**
+     * Get components created or modified after {@code since} and map to DTOs within transaction.
+     *
+     * @param since exclusive lower bound of updatedAt
+     * @return component DTOs ordered by modification time
+     */
+    public List<ComponentTo> getUpdatedSinceAsDto(OffsetDateTime since) {
+        return mapAll(repository.findUpdatedSince(since));
+    }
+
+    @Override
+    public List<Component> getPage(UUID after, int limit) {
+        return repository.findPage(after, limit);
+    }
+
+    /**
+     * Get keyset page of components and map to DTOs within transaction.
+     *
+     * @param after id of the last component of the previous page, null for the first page
+     * @param limit page size
+     * @return page of component DTOs
+     */
+    public KeysetPageTo<ComponentTo> getPageAsDto(UUID after, int limit) {
+        return KeysetPageTo.of(repository.findPage(after, limit + 1), limit, this::mapAll);
+    }
+
     @Override
     public Component getById(UUID id) {
         return repository.getExisted(id);
@@ -103,32 +175,112 @@ public class ComponentService implements CrudService<Component> {
     /**
      * Get component by ID and map to DTO within transaction.
      */
+    @Cacheable(cacheNames = CacheNames.COMPONENTS, key = "#id")
     public ComponentTo getByIdAsDto(UUID id) {
-        Component component = repository.findByIdWithAssociations(id)
+        Component component = repository.findByIdForDetail(id)
                 .orElseThrow(() -> new NotFoundException("Component with id=" + id + " not found"));
-        initializeLazyAssociations(component);
         return mapToDto(component);
     }
 
+    @Override
+    public List<Component> getByIds(Collection<UUID> ids) {
+        return repository.findAllByIdForList(ids);
+    }
+
+    /**
+     * Get components by IDs and map to DTOs within transaction.
+     *
+     * @param ids component IDs
+     * @return component DTOs found, in no particular order
+     */
+    public List<ComponentTo> getByIdsAsDto(Collection<UUID> ids) {
+        return mapAll(getByIds(ids));
+    }
+
+    /**
+     * Get a component and everything it contains (modules, transceivers, ...) and map to DTOs
+     * within transaction. The subtree comes from one closure-table query.
+     *
+     * @param id subtree root component ID
+     * @return component and descendant DTOs ordered by component path
+     */
+    public List<ComponentTo> getSubtreeAsDto(UUID id) {
+        repository.getExisted(id);
+        return mapAll(repository.findSubtree(id));
+    }
+
+    /**
+     * Get the components containing a component and map to DTOs within transaction.
+     *
+     * @param id component ID
+     * @return ancestor DTOs from the root down to the direct parent
+     */
+    public List<ComponentTo> getAncestorsAsDto(UUID id) {
+        repository.getExisted(id);
+        return mapAll(repository.findAncestors(id));
+    }
+
+    /**
+     * Move components under a new parent and return them as DTOs within transaction.
+     * Containment rules of the component types are checked for all components before any is moved.
+     *
+     * @param ids      distinct component IDs
+     * @param parentId new parent component ID, null to make them roots
+     * @return moved component DTOs, in no particular order
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
+    public List<ComponentTo> moveAndReturnDto(List<UUID> ids, UUID parentId) {
+        hierarchyService.move(ids, parentId);
+        return getByIdsAsDto(ids);
+    }
+
+    /**
+     * Get component class discriminator (e.g. NETWORK_SWITCH) without loading the component.
+     *
+     * @param id component ID
+     * @return discriminator value
+     */
+    public String getDiscriminator(UUID id) {
+        return repository.findDiscriminatorById(id)
+                .orElseThrow(() -> new NotFoundException("Component with id=" + id + " not found"));
+    }
+
     @Override
     @Transactional
     public Component create(Component entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        Component saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        cableTraceService.refreshAfterCommit(saved.getId());
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Component update(UUID id, Component entity) {
         repository.getExisted(id);
         entity.setId(id);
-        return repository.save(entity);
+        cableTraceService.refreshWithPortsAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        Component saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        List<UUID> children = hierarchyService.childrenOf(id);
+        // May be a connector, cable run, patch panel or a device whose ports are deleted with it;
+        // ports are collected before the delete
+        cableTraceService.refreshWithPortsAfterCommit(id);
         repository.deleteExisted(id);
+        hierarchyService.syncAll(children);
+        typeaheadService.refreshAfterCommit(id);
     }
 
     /**
@@ -142,6 +294,7 @@ public class ComponentService implements CrudService<Component> {
      * @return updated component
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Component updateWithPolicyValidation(
             UUID id,
             ComponentTo dto,
@@ -150,7 +303,7 @@ public class ComponentService implements CrudService<Component> {
             BiConsumer<Component, ComponentTo> mapperFunction) {
 
         // 1. Load existing entity with associations
-        Component entity = repository.findByIdWithAssociations(id)
+        Component entity = repository.findByIdForDetail(id)
                 .orElseThrow(() -> new NotFoundException("Component with id=" + id + " not found"));
 
         // 2. Validate field nullifications against policy
@@ -165,7 +318,11 @@ public class ComponentService implements CrudService<Component> {
         mapperFunction.accept(entity, dto);
 
         // 5. Save and return
-        return repository.save(entity);
+        cableTraceService.refreshWithPortsAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        Component saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     /**
@@ -180,6 +337,7 @@ public class ComponentService implements CrudService<Component> {
      * @return updated component as DTO
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public ComponentTo updateWithPolicyValidationAndReturnDto(
             UUID id,
             ComponentTo dto,
@@ -196,32 +354,61 @@ public class ComponentService implements CrudService<Component> {
      */
     @Transactional
     public ComponentTo createAndReturnDto(Component entity) {
-        Component saved = repository.save(entity);
+        Component saved = create(entity);
         return mapToDto(saved);
     }
 
+    private List<ComponentTo> mapAll(List<Component> components) {
+        preloadSubtypeAssociations(components);
+        return components.stream()
+                .map(this::mapToDto)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
-     * Initialize lazy associations for polymorphic component types.
-     * This ensures all type-specific lazy fields are loaded before mapping.
+     * Load what the subtype mappers read before mapping a list: the catalog models of switches,
+     * patch panels, cable runs, connectors and racks from the second-level cache, the misses with one
+     * IN query (they share the component_models_catalog table), and rack occupancy for all racks at once.
+     * Mapping then finds the models in the persistence context instead of initializing
+     * their proxies in batches of default_batch_fetch_size.
      */
-    private void initializeLazyAssociations(Component component) {
-        if (component instanceof NetworkSwitch networkSwitch) {
-            Hibernate.initialize(networkSwitch.getSwitchModel());
-        } else if (component instanceof PatchPanel patchPanel) {
-            Hibernate.initialize(patchPanel.getPatchPanelModel());
-        } else if (component instanceof CableRun cableRun) {
-            Hibernate.initialize(cableRun.getCableModel());
-        } else if (component instanceof Connector connector) {
-            Hibernate.initialize(connector.getConnectorModel());
-        } else if (component instanceof Rack rack) {
-            Hibernate.initialize(rack.getRackType());
+    private void preloadSubtypeAssociations(Collection<Component> components) {
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        Set<UUID> modelIds = new HashSet<>();
+        List<Rack> racks = new ArrayList<>();
+        for (Component component : components) {
+            ComponentModel model = switch (component) {
+                case NetworkSwitch networkSwitch -> networkSwitch.getSwitchModel();
+                case PatchPanel patchPanel -> patchPanel.getPatchPanelModel();
+                case CableRun cableRun -> cableRun.getCableModel();
+                case Connector connector -> connector.getConnectorModel();
+                case Rack rack -> {
+                    racks.add(rack);
+                    yield rack.getRackType();
+                }
+                case null, default -> null;
+            };
+            // Reading the id through PersistenceUnitUtil leaves the proxy uninitialized
+            if (model != null && !Hibernate.isInitialized(model)) {
+                modelIds.add((UUID) persistenceUnitUtil.getIdentifier(model));
+            }
+        }
+        if (!modelIds.isEmpty()) {
+            // Unlike a query (findAllById), multi-load answers from the second-level cache first
+            entityManager.unwrap(Session.class).findMultiple(ComponentModel.class, List.copyOf(modelIds));
         }
-        // Router and AccessPoint don't have lazy model fields
+        if (!racks.isEmpty()) {
+            rackOccupancyService.attach(racks);
+        }
+        log.debug("Preloaded {} models and {} rack occupancies for {} components",
+                modelIds.size(), racks.size(), components.size());
     }
 
     /**
      * Map component entity to DTO.
-     * Must be called within transaction context.
+     * Must be called within transaction context: subtype models are loaded on access,
+     * batched by default_batch_fetch_size across the components of the current session.
      */
     private ComponentTo mapToDto(Component component) {
         if (component == null) {
@@ -230,8 +417,6 @@ public class ComponentService implements CrudService<Component> {
         }
 
         try {
-            initializeLazyAssociations(component);
-
             if (component instanceof NetworkSwitch networkSwitch) {
                 return networkSwitchMapper.toTo(networkSwitch);
             } else if (component instanceof Router router) {
@@ -245,6 +430,7 @@ public class ComponentService implements CrudService<Component> {
             } else if (component instanceof PatchPanel patchPanel) {
                 return patchPanelMapper.toTo(patchPanel);
             } else if (component instanceof Rack rack) {
+                rackOccupancyService.attach(rack);
                 return rackMapper.toTo(rack);
             } else {
                 log.error("Unknown component type: {} for component id: {}", component.getClass().getName(), component.getId());
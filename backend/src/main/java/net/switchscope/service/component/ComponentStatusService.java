@@ -1,14 +1,18 @@
 package net.switchscope.service.component;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.cache.EvictCatalogCaches;
 import net.switchscope.mapper.component.catalog.ComponentStatusMapper;
 import net.switchscope.model.component.ComponentStatusEntity;
 import net.switchscope.repository.component.ComponentStatusRepository;
 import net.switchscope.service.CrudService;
 import net.switchscope.to.component.catalog.ComponentStatusTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,6 +23,7 @@ public class ComponentStatusService implements CrudService<ComponentStatusEntity
 
     private final ComponentStatusRepository repository;
     private final ComponentStatusMapper mapper;
+    private final CatalogSnapshot catalogSnapshot;
 
     @Override
     public List<ComponentStatusEntity> getAll() {
@@ -30,16 +35,40 @@ public class ComponentStatusService implements CrudService<ComponentStatusEntity
         return repository.getExisted(id);
     }
 
+    @Override
+    public List<ComponentStatusEntity> getByIds(Collection<UUID> ids) {
+        return repository.findAllById(ids);
+    }
+
+    @Override
+    public List<ComponentStatusEntity> getPage(UUID after, int limit) {
+        return repository.findPage(after, limit);
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'ComponentStatus:all'")
+    public List<ComponentStatusTo> getAllAsDto() {
+        return mapper.toToList(getAll());
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'ComponentStatus:' + #id")
+    public ComponentStatusTo getByIdAsDto(UUID id) {
+        return mapper.toTo(getById(id));
+    }
+
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentStatusEntity create(ComponentStatusEntity entity) {
+        catalogSnapshot.refreshAfterCommit();
         // TODO: implement validation
         return repository.save(entity);
     }
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentStatusEntity update(UUID id, ComponentStatusEntity entity) {
+        catalogSnapshot.refreshAfterCommit();
         repository.getExisted(id);
         entity.setId(id);
         return repository.save(entity);
@@ -47,7 +76,9 @@ public class ComponentStatusService implements CrudService<ComponentStatusEntity
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void delete(UUID id) {
+        catalogSnapshot.refreshAfterCommit();
         repository.deleteExisted(id);
     }
 
@@ -55,7 +86,9 @@ public class ComponentStatusService implements CrudService<ComponentStatusEntity
      * Update component status and return DTO (mapping within transaction to avoid LazyInitializationException).
      */
     @Transactional
+    @EvictCatalogCaches
     public ComponentStatusTo updateAndMapToDto(UUID id, ComponentStatusTo dto) {
+        catalogSnapshot.refreshAfterCommit();
         ComponentStatusEntity existing = repository.getExisted(id);
         mapper.updateFromTo(existing, dto);
         ComponentStatusEntity saved = repository.save(existing);
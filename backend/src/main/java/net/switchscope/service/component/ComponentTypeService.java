@@ -1,6 +1,8 @@
 package net.switchscope.service.component;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.cache.EvictCatalogCaches;
 import net.switchscope.error.NotFoundException;
 import net.switchscope.mapper.component.catalog.ComponentTypeMapper;
 import net.switchscope.model.component.ComponentCategoryEntity;
@@ -9,9 +11,12 @@ import net.switchscope.repository.component.ComponentCategoryRepository;
 import net.switchscope.repository.component.ComponentTypeRepository;
 import net.switchscope.service.UpdatableCrudService;
 import net.switchscope.to.component.catalog.ComponentTypeTo;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -28,6 +33,7 @@ public class ComponentTypeService implements UpdatableCrudService<ComponentTypeE
     private final ComponentTypeRepository repository;
     private final ComponentCategoryRepository categoryRepository;
     private final ComponentTypeMapper mapper;
+    private final CatalogSnapshot catalogSnapshot;
 
     @Override
     public List<ComponentTypeEntity> getAll() {
@@ -40,9 +46,33 @@ public class ComponentTypeService implements UpdatableCrudService<ComponentTypeE
                 .orElseThrow(() -> new NotFoundException("Component type with id=" + id + " not found"));
     }
 
+    @Override
+    public List<ComponentTypeEntity> getByIds(Collection<UUID> ids) {
+        return repository.findAllByIdWithCategory(ids);
+    }
+
+    @Override
+    public List<ComponentTypeEntity> getPage(UUID after, int limit) {
+        List<ComponentTypeEntity> entities = repository.findPage(after, limit);
+        entities.forEach(e -> Hibernate.initialize(e.getCategory()));
+        return entities;
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'ComponentType:all'")
+    public List<ComponentTypeTo> getAllAsDto() {
+        return mapper.toToList(getAll());
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'ComponentType:' + #id")
+    public ComponentTypeTo getByIdAsDto(UUID id) {
+        return mapper.toTo(getById(id));
+    }
+
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentTypeEntity create(ComponentTypeEntity entity) {
+        catalogSnapshot.refreshAfterCommit();
         // TODO: implement validation
         return repository.save(entity);
     }
@@ -54,7 +84,9 @@ public class ComponentTypeService implements UpdatableCrudService<ComponentTypeE
     @Override
     @Deprecated
     @Transactional
+    @EvictCatalogCaches
     public ComponentTypeEntity update(UUID id, ComponentTypeEntity entity) {
+        catalogSnapshot.refreshAfterCommit();
         // Fallback: load existing and manually copy fields
         ComponentTypeEntity existing = repository.findByIdWithCategory(id)
                 .orElseThrow(() -> new NotFoundException("Component type with id=" + id + " not found"));
@@ -100,7 +132,9 @@ public class ComponentTypeService implements UpdatableCrudService<ComponentTypeE
      */
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentTypeEntity updateFromDto(UUID id, ComponentTypeTo dto) {
+        catalogSnapshot.refreshAfterCommit();
         // 1. Load existing entity with all associations
         ComponentTypeEntity existing = repository.findByIdWithCategory(id)
                 .orElseThrow(() -> new NotFoundException("Component type with id=" + id + " not found"));
@@ -122,7 +156,9 @@ public class ComponentTypeService implements UpdatableCrudService<ComponentTypeE
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void delete(UUID id) {
+        catalogSnapshot.refreshAfterCommit();
         repository.deleteExisted(id);
     }
 }
@@ -3,8 +3,10 @@ package net.switchscope.service.component.catalog;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import net.switchscope.cache.EvictCatalogCaches;
 import net.switchscope.error.NotFoundException;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.catalog.ComponentModel;
@@ -16,6 +18,7 @@ import net.switchscope.security.policy.UpdatePolicyValidator;
 import net.switchscope.service.CrudService;
 import net.switchscope.to.component.catalog.ComponentModelTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -43,6 +46,31 @@ public class ComponentModelService implements CrudService<ComponentModel> {
         return repository.getExisted(id);
     }
 
+    @Override
+    public List<ComponentModel> getPage(UUID after, int limit) {
+        List<ComponentModel> models = repository.findPage(after, limit);
+        models.forEach(model -> Hibernate.initialize(model.getComponentType()));
+        return models;
+    }
+
+    @Override
+    public List<ComponentModel> getByIds(Collection<UUID> ids) {
+        List<ComponentModel> models = repository.findAllById(ids);
+        models.forEach(model -> Hibernate.initialize(model.getComponentType()));
+        return models;
+    }
+
+    /**
+     * Get model class discriminator (e.g. SWITCH_MODEL) without loading the model.
+     *
+     * @param id component model ID
+     * @return discriminator value
+     */
+    public String getDiscriminator(UUID id) {
+        return repository.findDiscriminatorById(id)
+                .orElseThrow(() -> new NotFoundException("Component model with id=" + id + " not found"));
+    }
+
     @Override
     @Transactional
     public ComponentModel create(ComponentModel entity) {
@@ -52,6 +80,7 @@ public class ComponentModelService implements CrudService<ComponentModel> {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public ComponentModel update(UUID id, ComponentModel entity) {
         repository.getExisted(id);
         entity.setId(id);
@@ -60,6 +89,7 @@ public class ComponentModelService implements CrudService<ComponentModel> {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void delete(UUID id) {
         repository.deleteExisted(id);
     }
@@ -75,6 +105,7 @@ public class ComponentModelService implements CrudService<ComponentModel> {
      * @return updated component model
      */
     @Transactional
+    @EvictCatalogCaches
     public ComponentModel updateWithPolicyValidation(
             UUID id,
             ComponentModelTo dto,
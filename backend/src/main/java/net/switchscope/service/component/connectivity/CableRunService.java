@@ -1,16 +1,23 @@
 package net.switchscope.service.component.connectivity;
 
 import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.mapper.component.connectivity.CableRunMapper;
 import net.switchscope.model.component.connectivity.CableRun;
 import net.switchscope.repository.component.connectivity.ConnectivityRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.component.ComponentHierarchyService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.component.connectivity.CableRunTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +27,9 @@ import java.util.UUID;
 public class CableRunService implements CrudService<CableRun> {
 
     private final ConnectivityRepository repository;
+    private final CableTraceService cableTraceService;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService hierarchyService;
     private final CableRunMapper mapper;
 
     @Override
@@ -37,14 +47,13 @@ public class CableRunService implements CrudService<CableRun> {
 
     /**
      * Get all cable runs and map to DTOs within transaction.
+     * Locations and connectors are batch-fetched while mapping.
      *
      * @return list of cable run DTOs
      */
     @SuppressWarnings("unchecked")
     public List<CableRunTo> getAllAsDto() {
         List<CableRun> cableRuns = (List<CableRun>) (List<?>) repository.findCableRuns();
-        // Initialize lazy collections for mapping
-        cableRuns.forEach(this::initializeLazyCollections);
         return mapper.toToList(cableRuns);
     }
 
@@ -60,6 +69,43 @@ public class CableRunService implements CrudService<CableRun> {
         return mapper.toTo(cableRun);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CableRun> getPage(UUID after, int limit) {
+        List<CableRun> cableRuns = (List<CableRun>) (List<?>) repository.findPageOfType(CableRun.class, after, limit);
+        cableRuns.forEach(this::initializeLazyCollections);
+        return cableRuns;
+    }
+
+    /**
+     * Get keyset page of cable runs and map to DTOs within transaction.
+     *
+     * @param after id of the last cable run of the previous page, null for the first page
+     * @param limit page size
+     * @return page of cable run DTOs
+     */
+    public KeysetPageTo<CableRunTo> getPageAsDto(UUID after, int limit) {
+        return KeysetPageTo.of(getPage(after, limit + 1), limit, mapper::toToList);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CableRun> getByIds(Collection<UUID> ids) {
+        List<CableRun> cableRuns = (List<CableRun>) (List<?>) repository.findAllOfTypeById(CableRun.class, ids);
+        cableRuns.forEach(this::initializeLazyCollections);
+        return cableRuns;
+    }
+
+    /**
+     * Get cable runs by IDs and map to DTOs within transaction.
+     *
+     * @param ids cable run IDs
+     * @return cable run DTOs found, in no particular order
+     */
+    public List<CableRunTo> getByIdsAsDto(Collection<UUID> ids) {
+        return mapper.toToList(getByIds(ids));
+    }
+
     /**
      * Create cable run and return as DTO within transaction.
      *
@@ -68,7 +114,7 @@ public class CableRunService implements CrudService<CableRun> {
      */
     @Transactional
     public CableRunTo createAndReturnDto(CableRun entity) {
-        CableRun saved = repository.save(entity);
+        CableRun saved = create(entity);
         return mapper.toTo(saved);
     }
 
@@ -80,10 +126,9 @@ public class CableRunService implements CrudService<CableRun> {
      * @return updated cable run as DTO
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public CableRunTo updateAndReturnDto(UUID id, CableRun entity) {
-        repository.getExisted(id);
-        entity.setId(id);
-        CableRun saved = repository.save(entity);
+        CableRun saved = update(id, entity);
         return mapper.toTo(saved);
     }
 
@@ -96,20 +141,34 @@ public class CableRunService implements CrudService<CableRun> {
     @Transactional
     public CableRun create(CableRun entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        CableRun saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        cableTraceService.refreshAfterCommit(saved.getId());
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public CableRun update(UUID id, CableRun entity) {
         repository.getExisted(id);
         entity.setId(id);
-        return repository.save(entity);
+        cableTraceService.refreshAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        CableRun saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        List<UUID> children = hierarchyService.childrenOf(id);
         repository.deleteExisted(id);
+        hierarchyService.syncAll(children);
+        cableTraceService.refreshAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
     }
 }
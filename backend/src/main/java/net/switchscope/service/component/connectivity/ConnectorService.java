@@ -1,16 +1,23 @@
 package net.switchscope.service.component.connectivity;
 
 import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.mapper.component.connectivity.ConnectorMapper;
 import net.switchscope.model.component.connectivity.Connector;
 import net.switchscope.repository.component.connectivity.ConnectivityRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.component.ComponentHierarchyService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.component.connectivity.ConnectorTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +27,9 @@ import java.util.UUID;
 public class ConnectorService implements CrudService<Connector> {
 
     private final ConnectivityRepository repository;
+    private final CableTraceService cableTraceService;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService hierarchyService;
     private final ConnectorMapper mapper;
 
     @Override
@@ -62,6 +72,51 @@ public class ConnectorService implements CrudService<Connector> {
         return mapper.toTo(connector);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Connector> getPage(UUID after, int limit) {
+        List<Connector> connectors = (List<Connector>) (List<?>) repository.findPageOfType(Connector.class, after, limit);
+        connectors.forEach(connector -> {
+            Hibernate.initialize(connector.getConnectorModel());
+            Hibernate.initialize(connector.getCableRun());
+            Hibernate.initialize(connector.getPort());
+        });
+        return connectors;
+    }
+
+    /**
+     * Get keyset page of connectors and map to DTOs within transaction.
+     *
+     * @param after id of the last connector of the previous page, null for the first page
+     * @param limit page size
+     * @return page of connector DTOs
+     */
+    public KeysetPageTo<ConnectorTo> getPageAsDto(UUID after, int limit) {
+        return KeysetPageTo.of(getPage(after, limit + 1), limit, mapper::toToList);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Connector> getByIds(Collection<UUID> ids) {
+        List<Connector> connectors = (List<Connector>) (List<?>) repository.findAllOfTypeById(Connector.class, ids);
+        connectors.forEach(connector -> {
+            Hibernate.initialize(connector.getConnectorModel());
+            Hibernate.initialize(connector.getCableRun());
+            Hibernate.initialize(connector.getPort());
+        });
+        return connectors;
+    }
+
+    /**
+     * Get connectors by IDs and map to DTOs within transaction.
+     *
+     * @param ids connector IDs
+     * @return connector DTOs found, in no particular order
+     */
+    public List<ConnectorTo> getByIdsAsDto(Collection<UUID> ids) {
+        return mapper.toToList(getByIds(ids));
+    }
+
     /**
      * Create connector and return as DTO within transaction.
      *
@@ -70,7 +125,7 @@ public class ConnectorService implements CrudService<Connector> {
      */
     @Transactional
     public ConnectorTo createAndReturnDto(Connector entity) {
-        Connector saved = repository.save(entity);
+        Connector saved = create(entity);
         return mapper.toTo(saved);
     }
 
@@ -82,10 +137,9 @@ public class ConnectorService implements CrudService<Connector> {
      * @return updated connector as DTO
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public ConnectorTo updateAndReturnDto(UUID id, Connector entity) {
-        repository.getExisted(id);
-        entity.setId(id);
-        Connector saved = repository.save(entity);
+        Connector saved = update(id, entity);
         return mapper.toTo(saved);
     }
 
@@ -93,20 +147,34 @@ public class ConnectorService implements CrudService<Connector> {
     @Transactional
     public Connector create(Connector entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        Connector saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        cableTraceService.refreshAfterCommit(saved.getId());
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Connector update(UUID id, Connector entity) {
         repository.getExisted(id);
         entity.setId(id);
-        return repository.save(entity);
+        cableTraceService.refreshAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        Connector saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        List<UUID> children = hierarchyService.childrenOf(id);
         repository.deleteExisted(id);
+        hierarchyService.syncAll(children);
+        cableTraceService.refreshAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
     }
 }
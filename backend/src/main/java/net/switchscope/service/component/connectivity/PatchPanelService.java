@@ -1,17 +1,24 @@
 package net.switchscope.service.component.connectivity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.mapper.component.connectivity.PatchPanelMapper;
 import net.switchscope.model.component.connectivity.PatchPanel;
 import net.switchscope.repository.component.connectivity.ConnectivityRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.component.ComponentHierarchyService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.component.connectivity.PatchPanelTo;
 
 @Service
@@ -20,6 +27,9 @@ import net.switchscope.to.component.connectivity.PatchPanelTo;
 public class PatchPanelService implements CrudService<PatchPanel> {
 
     private final ConnectivityRepository repository;
+    private final CableTraceService cableTraceService;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService hierarchyService;
     private final PatchPanelMapper mapper;
 
     @Override
@@ -38,17 +48,13 @@ public class PatchPanelService implements CrudService<PatchPanel> {
 
     /**
      * Get all patch panels and map to DTOs within transaction.
+     * Cable runs and ports are batch-fetched while mapping.
      *
      * @return list of patch panel DTOs
      */
     @SuppressWarnings("unchecked")
     public List<PatchPanelTo> getAllAsDto() {
         List<PatchPanel> patchPanels = (List<PatchPanel>) (List<?>) repository.findPatchPanels();
-        // Initialize lazy collections for mapping
-        patchPanels.forEach(pp -> {
-            Hibernate.initialize(pp.getCableRuns());
-            Hibernate.initialize(pp.getPorts());
-        });
         return mapper.toToList(patchPanels);
     }
 
@@ -65,6 +71,49 @@ public class PatchPanelService implements CrudService<PatchPanel> {
         return mapper.toTo(patchPanel);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PatchPanel> getPage(UUID after, int limit) {
+        List<PatchPanel> patchPanels = (List<PatchPanel>) (List<?>) repository.findPageOfType(PatchPanel.class, after, limit);
+        patchPanels.forEach(pp -> {
+            Hibernate.initialize(pp.getCableRuns());
+            Hibernate.initialize(pp.getPorts());
+        });
+        return patchPanels;
+    }
+
+    /**
+     * Get keyset page of patch panels and map to DTOs within transaction.
+     *
+     * @param after id of the last patch panel of the previous page, null for the first page
+     * @param limit page size
+     * @return page of patch panel DTOs
+     */
+    public KeysetPageTo<PatchPanelTo> getPageAsDto(UUID after, int limit) {
+        return KeysetPageTo.of(getPage(after, limit + 1), limit, mapper::toToList);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PatchPanel> getByIds(Collection<UUID> ids) {
+        List<PatchPanel> patchPanels = (List<PatchPanel>) (List<?>) repository.findAllOfTypeById(PatchPanel.class, ids);
+        patchPanels.forEach(pp -> {
+            Hibernate.initialize(pp.getCableRuns());
+            Hibernate.initialize(pp.getPorts());
+        });
+        return patchPanels;
+    }
+
+    /**
+     * Get patch panels by IDs and map to DTOs within transaction.
+     *
+     * @param ids patch panel IDs
+     * @return patch panel DTOs found, in no particular order
+     */
+    public List<PatchPanelTo> getByIdsAsDto(Collection<UUID> ids) {
+        return mapper.toToList(getByIds(ids));
+    }
+
     /**
      * Create patch panel and return as DTO within transaction.
      *
@@ -73,7 +122,7 @@ public class PatchPanelService implements CrudService<PatchPanel> {
      */
     @Transactional
     public PatchPanelTo createAndReturnDto(PatchPanel entity) {
-        PatchPanel saved = repository.save(entity);
+        PatchPanel saved = create(entity);
         return mapper.toTo(saved);
     }
 
@@ -85,10 +134,9 @@ public class PatchPanelService implements CrudService<PatchPanel> {
      * @return updated patch panel as DTO
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public PatchPanelTo updateAndReturnDto(UUID id, PatchPanel entity) {
-        repository.getExisted(id);
-        entity.setId(id);
-        PatchPanel saved = repository.save(entity);
+        PatchPanel saved = update(id, entity);
         return mapper.toTo(saved);
     }
 
@@ -96,20 +144,35 @@ public class PatchPanelService implements CrudService<PatchPanel> {
     @Transactional
     public PatchPanel create(PatchPanel entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        PatchPanel saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        cableTraceService.refreshAfterCommit(saved.getId());
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public PatchPanel update(UUID id, PatchPanel entity) {
         repository.getExisted(id);
         entity.setId(id);
-        return repository.save(entity);
+        cableTraceService.refreshAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        PatchPanel saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        List<UUID> children = hierarchyService.childrenOf(id);
+        // Ports are deleted with the panel, collect them first
+        cableTraceService.refreshWithPortsAfterCommit(id);
         repository.deleteExisted(id);
+        hierarchyService.syncAll(children);
+        typeaheadService.refreshAfterCommit(id);
     }
 }
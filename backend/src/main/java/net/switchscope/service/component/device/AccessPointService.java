@@ -1,16 +1,23 @@
 package net.switchscope.service.component.device;
 
 import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.mapper.component.device.AccessPointMapper;
 import net.switchscope.model.component.device.AccessPoint;
 import net.switchscope.repository.component.device.DeviceRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.component.ComponentHierarchyService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.component.device.AccessPointTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +28,9 @@ public class AccessPointService implements CrudService<AccessPoint> {
 
     private final DeviceRepository repository;
     private final AccessPointMapper mapper;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService hierarchyService;
+    private final CableTraceService cableTraceService;
 
     @Override
     @SuppressWarnings("unchecked")
@@ -38,18 +48,13 @@ public class AccessPointService implements CrudService<AccessPoint> {
 
     /**
      * Get all access points and map to DTOs within transaction.
-     * Initializes ports and ssids for count calculations.
+     * Ports and ssids for count calculations are batch-fetched while mapping.
      *
      * @return list of access point DTOs
      */
     @SuppressWarnings("unchecked")
     public List<AccessPointTo> getAllAsDto() {
         List<AccessPoint> accessPoints = (List<AccessPoint>) (List<?>) repository.findAccessPoints();
-        // Initialize lazy collections for mapping
-        accessPoints.forEach(ap -> {
-            Hibernate.initialize(ap.getPorts());
-            Hibernate.initialize(ap.getSsids());
-        });
         return mapper.toToList(accessPoints);
     }
 
@@ -66,6 +71,49 @@ public class AccessPointService implements CrudService<AccessPoint> {
         return mapper.toTo(ap);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<AccessPoint> getPage(UUID after, int limit) {
+        List<AccessPoint> accessPoints = (List<AccessPoint>) (List<?>) repository.findPageOfType(AccessPoint.class, after, limit);
+        accessPoints.forEach(ap -> {
+            Hibernate.initialize(ap.getPorts());
+            Hibernate.initialize(ap.getSsids());
+        });
+        return accessPoints;
+    }
+
+    /**
+     * Get keyset page of access points and map to DTOs within transaction.
+     *
+     * @param after id of the last access point of the previous page, null for the first page
+     * @param limit page size
+     * @return page of access point DTOs
+     */
+    public KeysetPageTo<AccessPointTo> getPageAsDto(UUID after, int limit) {
+        return KeysetPageTo.of(getPage(after, limit + 1), limit, mapper::toToList);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<AccessPoint> getByIds(Collection<UUID> ids) {
+        List<AccessPoint> accessPoints = (List<AccessPoint>) (List<?>) repository.findAllOfTypeById(AccessPoint.class, ids);
+        accessPoints.forEach(ap -> {
+            Hibernate.initialize(ap.getPorts());
+            Hibernate.initialize(ap.getSsids());
+        });
+        return accessPoints;
+    }
+
+    /**
+     * Get access points by IDs and map to DTOs within transaction.
+     *
+     * @param ids access point IDs
+     * @return access point DTOs found, in no particular order
+     */
+    public List<AccessPointTo> getByIdsAsDto(Collection<UUID> ids) {
+        return mapper.toToList(getByIds(ids));
+    }
+
     /**
      * Create access point and return as DTO within transaction.
      *
@@ -74,7 +122,7 @@ public class AccessPointService implements CrudService<AccessPoint> {
      */
     @Transactional
     public AccessPointTo createAndReturnDto(AccessPoint entity) {
-        AccessPoint saved = repository.save(entity);
+        AccessPoint saved = create(entity);
         return mapper.toTo(saved);
     }
 
@@ -86,10 +134,9 @@ public class AccessPointService implements CrudService<AccessPoint> {
      * @return updated access point as DTO
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public AccessPointTo updateAndReturnDto(UUID id, AccessPoint entity) {
-        repository.getExisted(id);
-        entity.setId(id);
-        AccessPoint saved = repository.save(entity);
+        AccessPoint saved = update(id, entity);
         return mapper.toTo(saved);
     }
 
@@ -97,20 +144,34 @@ public class AccessPointService implements CrudService<AccessPoint> {
     @Transactional
     public AccessPoint create(AccessPoint entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        AccessPoint saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public AccessPoint update(UUID id, AccessPoint entity) {
         repository.getExisted(id);
         entity.setId(id);
-        return repository.save(entity);
+        cableTraceService.refreshWithPortsAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        AccessPoint saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        List<UUID> children = hierarchyService.childrenOf(id);
+        // Ports are deleted with the device, collect them first
+        cableTraceService.refreshWithPortsAfterCommit(id);
         repository.deleteExisted(id);
+        hierarchyService.syncAll(children);
+        typeaheadService.refreshAfterCommit(id);
     }
 }
@@ -1,16 +1,22 @@
 package net.switchscope.service.component.device;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.model.component.device.AccessPoint;
 import net.switchscope.model.component.device.Device;
 import net.switchscope.model.component.device.NetworkSwitch;
 import net.switchscope.model.component.device.Router;
 import net.switchscope.repository.component.device.DeviceRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.component.ComponentHierarchyService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.search.TypeaheadService;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -22,6 +28,9 @@ import java.util.stream.Stream;
 public class DeviceService implements CrudService<Device> {
 
     private final DeviceRepository repository;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService hierarchyService;
+    private final CableTraceService cableTraceService;
 
     @Override
     public List<Device> getAll() {
@@ -45,25 +54,53 @@ public class DeviceService implements CrudService<Device> {
         return device;
     }
 
+    @Override
+    public List<Device> getPage(UUID after, int limit) {
+        List<Device> devices = repository.findNetworkDevicePage(after, limit);
+        devices.forEach(this::initializeForMapping);
+        return devices;
+    }
+
+    @Override
+    public List<Device> getByIds(Collection<UUID> ids) {
+        List<Device> devices = repository.findNetworkDevicesById(ids);
+        devices.forEach(this::initializeForMapping);
+        return devices;
+    }
+
     @Override
     @Transactional
     public Device create(Device entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        Device saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Device update(UUID id, Device entity) {
         repository.getExisted(id);
         entity.setId(id);
-        return repository.save(entity);
+        cableTraceService.refreshWithPortsAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        Device saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        List<UUID> children = hierarchyService.childrenOf(id);
+        // Ports are deleted with the device, collect them first
+        cableTraceService.refreshWithPortsAfterCommit(id);
         repository.deleteExisted(id);
+        hierarchyService.syncAll(children);
+        typeaheadService.refreshAfterCommit(id);
     }
 
     /**
@@ -75,15 +112,7 @@ public class DeviceService implements CrudService<Device> {
             return;
         }
 
-        if (device.getComponentStatus() != null) {
-            device.getComponentStatus().getCode();
-        }
-        if (device.getComponentType() != null) {
-            device.getComponentType().getCode();
-        }
-        if (device.getComponentNature() != null) {
-            device.getComponentNature().getCode();
-        }
+        // Status, type and nature are resolved from CatalogSnapshot by the mappers
         if (device.getInstallation() != null) {
             if (device.getInstallation().getLocation() != null) {
                 device.getInstallation().getLocation().getFullPath();
@@ -1,16 +1,23 @@
 package net.switchscope.service.component.device;
 
 import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.mapper.component.device.NetworkSwitchMapper;
 import net.switchscope.model.component.device.NetworkSwitch;
 import net.switchscope.repository.component.device.DeviceRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.component.ComponentHierarchyService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.component.device.NetworkSwitchTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,11 +28,14 @@ public class NetworkSwitchService implements CrudService<NetworkSwitch> {
 
     private final DeviceRepository repository;
     private final NetworkSwitchMapper mapper;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService hierarchyService;
+    private final CableTraceService cableTraceService;
 
     @Override
     @SuppressWarnings("unchecked")
     public List<NetworkSwitch> getAll() {
-        return (List<NetworkSwitch>) (List<?>) repository.findNetworkSwitchesWithModel();
+        return (List<NetworkSwitch>) (List<?>) repository.findNetworkSwitches();
     }
 
     @Override
@@ -38,15 +48,13 @@ public class NetworkSwitchService implements CrudService<NetworkSwitch> {
 
     /**
      * Get all network switches and map to DTOs within transaction.
-     * Uses findNetworkSwitchesWithModel() and initializes ports for portCount.
+     * Ports for portCount are batch-fetched while mapping.
      *
      * @return list of network switch DTOs
      */
     @SuppressWarnings("unchecked")
     public List<NetworkSwitchTo> getAllAsDto() {
-        List<NetworkSwitch> switches = (List<NetworkSwitch>) (List<?>) repository.findNetworkSwitchesWithModel();
-        // Initialize ports for portCount calculation
-        switches.forEach(sw -> Hibernate.initialize(sw.getPorts()));
+        List<NetworkSwitch> switches = (List<NetworkSwitch>) (List<?>) repository.findNetworkSwitches();
         return mapper.toToList(switches);
     }
 
@@ -63,6 +71,49 @@ public class NetworkSwitchService implements CrudService<NetworkSwitch> {
         return mapper.toTo(sw);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<NetworkSwitch> getPage(UUID after, int limit) {
+        List<NetworkSwitch> switches = (List<NetworkSwitch>) (List<?>) repository.findPageOfType(NetworkSwitch.class, after, limit);
+        switches.forEach(sw -> {
+            Hibernate.initialize(sw.getSwitchModel());
+            Hibernate.initialize(sw.getPorts());
+        });
+        return switches;
+    }
+
+    /**
+     * Get keyset page of network switches and map to DTOs within transaction.
+     *
+     * @param after id of the last network switch of the previous page, null for the first page
+     * @param limit page size
+     * @return page of network switch DTOs
+     */
+    public KeysetPageTo<NetworkSwitchTo> getPageAsDto(UUID after, int limit) {
+        return KeysetPageTo.of(getPage(after, limit + 1), limit, mapper::toToList);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<NetworkSwitch> getByIds(Collection<UUID> ids) {
+        List<NetworkSwitch> switches = (List<NetworkSwitch>) (List<?>) repository.findAllOfTypeById(NetworkSwitch.class, ids);
+        switches.forEach(sw -> {
+            Hibernate.initialize(sw.getSwitchModel());
+            Hibernate.initialize(sw.getPorts());
+        });
+        return switches;
+    }
+
+    /**
+     * Get network switches by IDs and map to DTOs within transaction.
+     *
+     * @param ids network switch IDs
+     * @return network switch DTOs found, in no particular order
+     */
+    public List<NetworkSwitchTo> getByIdsAsDto(Collection<UUID> ids) {
+        return mapper.toToList(getByIds(ids));
+    }
+
     /**
      * Create network switch and return as DTO within transaction.
      *
@@ -71,7 +122,7 @@ public class NetworkSwitchService implements CrudService<NetworkSwitch> {
      */
     @Transactional
     public NetworkSwitchTo createAndReturnDto(NetworkSwitch entity) {
-        NetworkSwitch saved = repository.save(entity);
+        NetworkSwitch saved = create(entity);
         return mapper.toTo(saved);
     }
 
@@ -83,10 +134,9 @@ public class NetworkSwitchService implements CrudService<NetworkSwitch> {
      * @return updated network switch as DTO
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public NetworkSwitchTo updateAndReturnDto(UUID id, NetworkSwitch entity) {
-        repository.getExisted(id);
-        entity.setId(id);
-        NetworkSwitch saved = repository.save(entity);
+        NetworkSwitch saved = update(id, entity);
         return mapper.toTo(saved);
     }
 
@@ -94,20 +144,34 @@ public class NetworkSwitchService implements CrudService<NetworkSwitch> {
     @Transactional
     public NetworkSwitch create(NetworkSwitch entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        NetworkSwitch saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public NetworkSwitch update(UUID id, NetworkSwitch entity) {
         repository.getExisted(id);
         entity.setId(id);
-        return repository.save(entity);
+        cableTraceService.refreshWithPortsAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        NetworkSwitch saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        List<UUID> children = hierarchyService.childrenOf(id);
+        // Ports are deleted with the device, collect them first
+        cableTraceService.refreshWithPortsAfterCommit(id);
         repository.deleteExisted(id);
+        hierarchyService.syncAll(children);
+        typeaheadService.refreshAfterCommit(id);
     }
 }
@@ -1,16 +1,23 @@
 package net.switchscope.service.component.device;
 
 import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.mapper.component.device.RouterMapper;
 import net.switchscope.model.component.device.Router;
 import net.switchscope.repository.component.device.DeviceRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.component.ComponentHierarchyService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.component.device.RouterTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +28,9 @@ public class RouterService implements CrudService<Router> {
 
     private final DeviceRepository repository;
     private final RouterMapper mapper;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService hierarchyService;
+    private final CableTraceService cableTraceService;
 
     @Override
     @SuppressWarnings("unchecked")
@@ -37,15 +47,13 @@ public class RouterService implements CrudService<Router> {
 
     /**
      * Get all routers and map to DTOs within transaction.
-     * Initializes ports for portCount calculation.
+     * Ports for portCount are batch-fetched while mapping.
      *
      * @return list of router DTOs
      */
     @SuppressWarnings("unchecked")
     public List<RouterTo> getAllAsDto() {
         List<Router> routers = (List<Router>) (List<?>) repository.findRouters();
-        // Initialize ports for portCount calculation
-        routers.forEach(r -> Hibernate.initialize(r.getPorts()));
         return mapper.toToList(routers);
     }
 
@@ -61,6 +69,43 @@ public class RouterService implements CrudService<Router> {
         return mapper.toTo(router);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Router> getPage(UUID after, int limit) {
+        List<Router> routers = (List<Router>) (List<?>) repository.findPageOfType(Router.class, after, limit);
+        routers.forEach(r -> Hibernate.initialize(r.getPorts()));
+        return routers;
+    }
+
+    /**
+     * Get keyset page of routers and map to DTOs within transaction.
+     *
+     * @param after id of the last router of the previous page, null for the first page
+     * @param limit page size
+     * @return page of router DTOs
+     */
+    public KeysetPageTo<RouterTo> getPageAsDto(UUID after, int limit) {
+        return KeysetPageTo.of(getPage(after, limit + 1), limit, mapper::toToList);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Router> getByIds(Collection<UUID> ids) {
+        List<Router> routers = (List<Router>) (List<?>) repository.findAllOfTypeById(Router.class, ids);
+        routers.forEach(r -> Hibernate.initialize(r.getPorts()));
+        return routers;
+    }
+
+    /**
+     * Get routers by IDs and map to DTOs within transaction.
+     *
+     * @param ids router IDs
+     * @return router DTOs found, in no particular order
+     */
+    public List<RouterTo> getByIdsAsDto(Collection<UUID> ids) {
+        return mapper.toToList(getByIds(ids));
+    }
+
     /**
      * Create router and return as DTO within transaction.
      *
@@ -69,7 +114,7 @@ public class RouterService implements CrudService<Router> {
      */
     @Transactional
     public RouterTo createAndReturnDto(Router entity) {
-        Router saved = repository.save(entity);
+        Router saved = create(entity);
         return mapper.toTo(saved);
     }
 
@@ -81,10 +126,9 @@ public class RouterService implements CrudService<Router> {
      * @return updated router as DTO
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public RouterTo updateAndReturnDto(UUID id, Router entity) {
-        repository.getExisted(id);
-        entity.setId(id);
-        Router saved = repository.save(entity);
+        Router saved = update(id, entity);
         return mapper.toTo(saved);
     }
 
@@ -92,20 +136,34 @@ public class RouterService implements CrudService<Router> {
     @Transactional
     public Router create(Router entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        Router saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Router update(UUID id, Router entity) {
         repository.getExisted(id);
         entity.setId(id);
-        return repository.save(entity);
+        cableTraceService.refreshWithPortsAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        Router saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        List<UUID> children = hierarchyService.childrenOf(id);
+        // Ports are deleted with the device, collect them first
+        cableTraceService.refreshWithPortsAfterCommit(id);
         repository.deleteExisted(id);
+        hierarchyService.syncAll(children);
+        typeaheadService.refreshAfterCommit(id);
     }
 }
@@ -0,0 +1,189 @@
+package net.switchscope.service.component.housing;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.error.DataConflictException;
+import net.switchscope.error.NotFoundException;
+import net.switchscope.model.component.Component;
+import net.switchscope.model.component.housing.Rack;
+import net.switchscope.model.component.housing.RackOccupancy;
+import net.switchscope.model.installation.Installation;
+import net.switchscope.model.installation.RackFace;
+import net.switchscope.repository.component.housing.HousingRepository;
+import net.switchscope.repository.installation.InstallationRepository;
+import net.switchscope.to.component.housing.RackOccupancyTo;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Rack unit occupancy backed by per-rack bitmasks.
+ * <p>
+ * Occupancy is built from active rack-mounted installations housed in the rack and cached per rack.
+ * Reservations lock the rack row and re-check against the database, so concurrent bookings of the
+ * same units are serialized and the loser gets a conflict. The cache is evicted after commit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RackOccupancyService {
+
+    private final HousingRepository housingRepository;
+    private final InstallationRepository installationRepository;
+
+    private final Map<UUID, RackOccupancy> cache = new ConcurrentHashMap<>();
+    // Bumped on every eviction; a load that raced with an eviction is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public RackOccupancy getOccupancy(UUID rackId) {
+        RackOccupancy cached = cache.get(rackId);
+        if (cached != null) {
+            return cached;
+        }
+        Rack rack = housingRepository.findById(rackId)
+                .map(Hibernate::unproxy)
+                .filter(Rack.class::isInstance)
+                .map(Rack.class::cast)
+                .orElseThrow(() -> new NotFoundException("Rack with id=" + rackId + " not found"));
+        return load(List.of(rack)).get(rackId);
+    }
+
+    /**
+     * Attach occupancy to racks before mapping, loading all cache misses with one query.
+     *
+     * @param racks racks to attach occupancy to
+     */
+    public void attach(Collection<Rack> racks) {
+        List<Rack> missing = racks.stream()
+                .filter(rack -> !cache.containsKey(rack.getId()))
+                .toList();
+        Map<UUID, RackOccupancy> loaded = missing.isEmpty() ? Map.of() : load(missing);
+        racks.forEach(rack -> rack.setOccupancy(
+                loaded.getOrDefault(rack.getId(), cache.get(rack.getId()))));
+    }
+
+    public void attach(Rack rack) {
+        attach(List.of(rack));
+    }
+
+    public RackOccupancyTo getOccupancyTo(UUID rackId) {
+        RackOccupancy occupancy = getOccupancy(rackId);
+        return new RackOccupancyTo(rackId, occupancy.getUnits(), occupancy.getOccupiedUnits(),
+                occupancy.getFreeUnits(),
+                occupancy.getOccupiedPositions(RackFace.FRONT),
+                occupancy.getOccupiedPositions(RackFace.REAR));
+    }
+
+    /**
+     * Suggest a position for new equipment without reserving it.
+     *
+     * @return lowest unit of the suggested position, or null if nothing fits
+     */
+    public Integer findPosition(UUID rackId, int height, RackFace face, RackOccupancy.Strategy strategy) {
+        return getOccupancy(rackId).findPosition(height, face, strategy);
+    }
+
+    /**
+     * Reserve rack units for an installation that is about to be saved.
+     * No-op unless the installation is housed in a rack and is rack mounted (or requires a rack position).
+     * Without a position the first free one that fits is assigned.
+     *
+     * @param installation installation being created or updated
+     * @throws DataConflictException if the requested units are taken or no free position fits
+     */
+    @Transactional
+    public void reserve(Installation installation) {
+        Component housing = installation.getComponent();
+        if (housing == null || !(installation.isRackMounted() || installation.isRackRequired())) {
+            return;
+        }
+        Component locked = housingRepository.findRackByIdForUpdate(housing.getId()).orElse(null);
+        if (locked == null) {
+            return;
+        }
+        Rack rack = (Rack) Hibernate.unproxy(locked);
+        // Fresh read under the rack lock, the cache may lag behind other committed reservations
+        List<Installation> others = installationRepository.findActiveRackMountedByHousingIds(List.of(rack.getId()))
+                .stream()
+                .filter(other -> !Objects.equals(other.getId(), installation.getId()))
+                .toList();
+        RackOccupancy occupancy = RackOccupancy.of(unitsOf(rack), others);
+        int height = Math.max(1, installation.getOccupiedRackUnits());
+        RackFace face = installation.getEffectiveRackFace();
+
+        if (installation.getRackPosition() == null) {
+            Integer position = occupancy.findPosition(height, face, RackOccupancy.Strategy.FIRST_FIT);
+            if (position == null) {
+                throw new DataConflictException("No free " + height + "U position in rack " + rack.getName());
+            }
+            installation.setRackPosition(position);
+        } else if (!occupancy.isRangeAvailable(installation.getRackPosition(), height, face)) {
+            throw new DataConflictException("U" + installation.getRackPosition() + "-U"
+                    + (installation.getRackPosition() + height - 1) + " of rack " + rack.getName()
+                    + " is not available on face " + face);
+        }
+        log.debug("Reserved U{} ({}U, {}) in rack {}", installation.getRackPosition(), height, face, rack.getId());
+        evictAfterCommit(rack.getId());
+    }
+
+    /**
+     * Drop cached occupancy of a rack once the current transaction commits (immediately if there is none).
+     *
+     * @param rackId rack ID, ignored if null
+     */
+    public void evictAfterCommit(UUID rackId) {
+        if (rackId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(rackId);
+                }
+            });
+        } else {
+            evict(rackId);
+        }
+    }
+
+    private void evict(UUID rackId) {
+        generation.incrementAndGet();
+        cache.remove(rackId);
+    }
+
+    private Map<UUID, RackOccupancy> load(List<Rack> racks) {
+        long before = generation.get();
+        Map<UUID, List<Installation>> byRack = installationRepository
+                .findActiveRackMountedByHousingIds(racks.stream().map(Rack::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(installation -> installation.getComponent().getId()));
+        Map<UUID, RackOccupancy> loaded = new HashMap<>();
+        for (Rack rack : racks) {
+            loaded.put(rack.getId(), RackOccupancy.of(unitsOf(rack), byRack.getOrDefault(rack.getId(), List.of())));
+        }
+        // Only committed state may be cached: skip loads from write transactions and loads that raced an eviction
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && generation.get() == before) {
+            cache.putAll(loaded);
+        }
+        return loaded;
+    }
+
+    private static int unitsOf(Rack rack) {
+        return rack.getRackUnitsTotal() != null ? rack.getRackUnitsTotal() : 0;
+    }
+}
@@ -1,16 +1,25 @@
 package net.switchscope.service.component.housing;
 
 import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.mapper.component.housing.RackMapper;
 import net.switchscope.model.component.housing.Rack;
+import net.switchscope.model.component.housing.RackOccupancy;
 import net.switchscope.repository.component.housing.HousingRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.model.installation.RackFace;
+import net.switchscope.service.component.ComponentHierarchyService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.KeysetPageTo;
+import net.switchscope.to.component.housing.RackOccupancyTo;
 import net.switchscope.to.component.housing.RackTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +30,9 @@ public class RackService implements CrudService<Rack> {
 
     private final HousingRepository repository;
     private final RackMapper mapper;
+    private final RackOccupancyService occupancyService;
+    private final TypeaheadService typeaheadService;
+    private final ComponentHierarchyService hierarchyService;
 
     @Override
     @SuppressWarnings("unchecked")
@@ -43,6 +55,7 @@ public class RackService implements CrudService<Rack> {
     @SuppressWarnings("unchecked")
     public List<RackTo> getAllAsDto() {
         List<Rack> racks = (List<Rack>) (List<?>) repository.findRacks();
+        occupancyService.attach(racks);
         return mapper.toToList(racks);
     }
 
@@ -55,9 +68,72 @@ public class RackService implements CrudService<Rack> {
     public RackTo getByIdAsDto(UUID id) {
         Rack rack = (Rack) repository.getExisted(id);
         Hibernate.initialize(rack.getRackType());
+        occupancyService.attach(rack);
         return mapper.toTo(rack);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Rack> getPage(UUID after, int limit) {
+        List<Rack> racks = (List<Rack>) (List<?>) repository.findPageOfType(Rack.class, after, limit);
+        racks.forEach(rack -> Hibernate.initialize(rack.getRackType()));
+        occupancyService.attach(racks);
+        return racks;
+    }
+
+    /**
+     * Get keyset page of racks and map to DTOs within transaction.
+     *
+     * @param after id of the last rack of the previous page, null for the first page
+     * @param limit page size
+     * @return page of rack DTOs
+     */
+    public KeysetPageTo<RackTo> getPageAsDto(UUID after, int limit) {
+        return KeysetPageTo.of(getPage(after, limit + 1), limit, mapper::toToList);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Rack> getByIds(Collection<UUID> ids) {
+        List<Rack> racks = (List<Rack>) (List<?>) repository.findAllOfTypeById(Rack.class, ids);
+        racks.forEach(rack -> Hibernate.initialize(rack.getRackType()));
+        occupancyService.attach(racks);
+        return racks;
+    }
+
+    /**
+     * Get racks by IDs and map to DTOs within transaction.
+     *
+     * @param ids rack IDs
+     * @return rack DTOs found, in no particular order
+     */
+    public List<RackTo> getByIdsAsDto(Collection<UUID> ids) {
+        return mapper.toToList(getByIds(ids));
+    }
+
+    /**
+     * Get unit occupancy of a rack per face.
+     *
+     * @param id rack ID
+     * @return occupancy
+     */
+    public RackOccupancyTo getOccupancy(UUID id) {
+        return occupancyService.getOccupancyTo(id);
+    }
+
+    /**
+     * Suggest a free position for equipment of the given height without reserving it.
+     *
+     * @param id       rack ID
+     * @param height   equipment height in units
+     * @param face     rack face, null for full-depth equipment
+     * @param strategy allocation strategy
+     * @return lowest unit of the position, null if nothing fits
+     */
+    public Integer findFreePosition(UUID id, int height, RackFace face, RackOccupancy.Strategy strategy) {
+        return occupancyService.findPosition(id, height, face, strategy);
+    }
+
     /**
      * Create rack and return as DTO within transaction.
      *
@@ -66,7 +142,8 @@ public class RackService implements CrudService<Rack> {
      */
     @Transactional
     public RackTo createAndReturnDto(Rack entity) {
-        Rack saved = repository.save(entity);
+        Rack saved = create(entity);
+        occupancyService.attach(saved);
         return mapper.toTo(saved);
     }
 
@@ -78,10 +155,10 @@ public class RackService implements CrudService<Rack> {
      * @return updated rack as DTO
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public RackTo updateAndReturnDto(UUID id, Rack entity) {
-        repository.getExisted(id);
-        entity.setId(id);
-        Rack saved = repository.save(entity);
+        Rack saved = update(id, entity);
+        occupancyService.attach(saved);
         return mapper.toTo(saved);
     }
 
@@ -89,20 +166,34 @@ public class RackService implements CrudService<Rack> {
     @Transactional
     public Rack create(Rack entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        Rack saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Rack update(UUID id, Rack entity) {
         repository.getExisted(id);
         entity.setId(id);
-        return repository.save(entity);
+        // Rack height may change
+        occupancyService.evictAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        Rack saved = repository.save(entity);
+        hierarchyService.sync(saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        List<UUID> children = hierarchyService.childrenOf(id);
         repository.deleteExisted(id);
+        hierarchyService.syncAll(children);
+        typeaheadService.refreshAfterCommit(id);
+        occupancyService.evictAfterCommit(id);
     }
 }
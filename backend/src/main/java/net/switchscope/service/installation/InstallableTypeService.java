@@ -1,8 +1,11 @@
 package net.switchscope.service.installation;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.cache.EvictCatalogCaches;
 import net.switchscope.mapper.installation.catalog.InstallableTypeMapper;
 import net.switchscope.model.installation.catalog.InstallableTypeEntity;
 import net.switchscope.repository.installation.InstallableTypeRepository;
@@ -10,6 +13,7 @@ import net.switchscope.service.UpdatableCrudService;
 import net.switchscope.service.component.InstallableComponentRegistry;
 import net.switchscope.to.installation.catalog.InstallableTypeTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,8 +40,33 @@ public class InstallableTypeService implements UpdatableCrudService<InstallableT
         return entity;
     }
 
+    @Override
+    public List<InstallableTypeEntity> getByIds(Collection<UUID> ids) {
+        List<InstallableTypeEntity> entities = repository.findAllById(ids);
+        entities.forEach(entity -> entity.setRegistry(registry));
+        return entities;
+    }
+
+    @Override
+    public List<InstallableTypeEntity> getPage(UUID after, int limit) {
+        List<InstallableTypeEntity> entities = repository.findPage(after, limit);
+        entities.forEach(entity -> entity.setRegistry(registry));
+        return entities;
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'InstallableType:all'")
+    public List<InstallableTypeTo> getAllAsDto() {
+        return mapper.toToList(getAll());
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'InstallableType:' + #id")
+    public InstallableTypeTo getByIdAsDto(UUID id) {
+        return mapper.toTo(getById(id));
+    }
+
     @Override
     @Transactional
+    @EvictCatalogCaches
     public InstallableTypeEntity create(InstallableTypeEntity entity) {
         // TODO: implement validation
         InstallableTypeEntity saved = repository.save(entity);
@@ -47,6 +76,7 @@ public class InstallableTypeService implements UpdatableCrudService<InstallableT
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public InstallableTypeEntity update(UUID id, InstallableTypeEntity entity) {
         repository.getExisted(id);
         entity.setId(id);
@@ -57,6 +87,7 @@ public class InstallableTypeService implements UpdatableCrudService<InstallableT
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public InstallableTypeEntity updateFromDto(UUID id, InstallableTypeTo dto) {
         InstallableTypeEntity existing = repository.getExisted(id);
         mapper.updateFromTo(existing, dto);
@@ -67,6 +98,7 @@ public class InstallableTypeService implements UpdatableCrudService<InstallableT
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void delete(UUID id) {
         repository.deleteExisted(id);
     }
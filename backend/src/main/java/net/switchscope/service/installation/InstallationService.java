@@ -1,15 +1,23 @@
 package net.switchscope.service.installation;
 
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.model.installation.Installation;
 import net.switchscope.repository.installation.InstallationRepository;
+import net.switchscope.service.component.housing.RackOccupancyService;
 import net.switchscope.service.CrudService;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -17,44 +25,96 @@ import java.util.UUID;
 public class InstallationService implements CrudService<Installation> {
 
     private final InstallationRepository repository;
+    private final RackOccupancyService rackOccupancyService;
+    private final EntityManager entityManager;
 
     @Override
     public List<Installation> getAll() {
-        List<Installation> installations = repository.findAllWithRelationships();
-        // Initialize required associations while the transactional session is open
-        installations.forEach(this::initializeForMapping);
-        return installations;
+        return repository.findAllForList();
     }
 
     @Override
     public Installation getById(UUID id) {
-        Installation installation = repository.findByIdWithRelationships(id)
+        return repository.findByIdForDetail(id)
                 .orElseThrow(() -> new IllegalArgumentException("Installation not found with id: " + id));
-        initializeForMapping(installation);
-        return installation;
+    }
+
+    /**
+     * Stream all installations ordered by id within one read-only transaction.
+     * Associations come with each row (export fetch plan); the persistence context is
+     * cleared every fetch batch.
+     *
+     * @param action receives installations in id order, still inside the transaction
+     */
+    public void streamAll(Consumer<Installation> action) {
+        int[] count = {0};
+        try (Stream<Installation> installations = repository.streamAllForExport()) {
+            installations.forEach(installation -> {
+                action.accept(installation);
+                if (++count[0] % InstallationRepository.STREAM_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+    }
+
+    /**
+     * Get installations created or modified after {@code since}, initialized for mapping.
+     *
+     * @param since exclusive lower bound of updatedAt
+     * @return installations ordered by modification time
+     */
+    public List<Installation> getUpdatedSince(OffsetDateTime since) {
+        List<Installation> installations = repository.findUpdatedSince(since);
+        installations.forEach(this::initializeForMapping);
+        return installations;
+    }
+
+    @Override
+    public List<Installation> getPage(UUID after, int limit) {
+        List<Installation> installations = repository.findPage(after, limit);
+        installations.forEach(this::initializeForMapping);
+        return installations;
+    }
+
+    @Override
+    public List<Installation> getByIds(Collection<UUID> ids) {
+        return repository.findAllByIdForList(ids);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Installation create(Installation entity) {
         // TODO: implement validation
+        rackOccupancyService.reserve(entity);
         return repository.save(entity);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Installation update(UUID id, Installation entity) {
-        repository.getExisted(id);
+        Installation existing = repository.getExisted(id);
+        rackOccupancyService.evictAfterCommit(housingId(existing));
         entity.setId(id);
+        rackOccupancyService.reserve(entity);
         return repository.save(entity);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
+        Installation existing = repository.getExisted(id);
+        rackOccupancyService.evictAfterCommit(housingId(existing));
         repository.deleteExisted(id);
     }
 
+    private static UUID housingId(Installation installation) {
+        return installation.getComponent() != null ? installation.getComponent().getId() : null;
+    }
+
     /**
      * Touches lazily-loaded associations that are needed by mappers to avoid
      * LazyInitializationException after the transaction closes.
@@ -1,14 +1,18 @@
 package net.switchscope.service.installation;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.cache.EvictCatalogCaches;
 import net.switchscope.mapper.installation.catalog.InstallationStatusMapper;
 import net.switchscope.model.installation.catalog.InstallationStatusEntity;
 import net.switchscope.repository.installation.InstallationStatusRepository;
 import net.switchscope.service.UpdatableCrudService;
 import net.switchscope.to.installation.catalog.InstallationStatusTo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,8 +34,29 @@ public class InstallationStatusService implements UpdatableCrudService<Installat
         return repository.getExisted(id);
     }
 
+    @Override
+    public List<InstallationStatusEntity> getByIds(Collection<UUID> ids) {
+        return repository.findAllById(ids);
+    }
+
+    @Override
+    public List<InstallationStatusEntity> getPage(UUID after, int limit) {
+        return repository.findPage(after, limit);
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'InstallationStatus:all'")
+    public List<InstallationStatusTo> getAllAsDto() {
+        return mapper.toToList(getAll());
+    }
+
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'InstallationStatus:' + #id")
+    public InstallationStatusTo getByIdAsDto(UUID id) {
+        return mapper.toTo(getById(id));
+    }
+
     @Override
     @Transactional
+    @EvictCatalogCaches
     public InstallationStatusEntity create(InstallationStatusEntity entity) {
         // TODO: implement validation
         return repository.save(entity);
@@ -39,6 +64,7 @@ public class InstallationStatusService implements UpdatableCrudService<Installat
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public InstallationStatusEntity update(UUID id, InstallationStatusEntity entity) {
         repository.getExisted(id);
         entity.setId(id);
@@ -47,6 +73,7 @@ public class InstallationStatusService implements UpdatableCrudService<Installat
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public InstallationStatusEntity updateFromDto(UUID id, InstallationStatusTo dto) {
         InstallationStatusEntity existing = repository.getExisted(id);
         mapper.updateFromTo(existing, dto);
@@ -55,6 +82,7 @@ public class InstallationStatusService implements UpdatableCrudService<Installat
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void delete(UUID id) {
         repository.deleteExisted(id);
     }
@@ -1,18 +1,31 @@
 package net.switchscope.service.location;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.error.IllegalRequestDataException;
 import net.switchscope.error.NotFoundException;
 import net.switchscope.mapper.location.LocationMapper;
 import net.switchscope.model.location.Location;
 import net.switchscope.repository.location.LocationRepository;
+import net.switchscope.repository.location.LocationTypeRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.location.LocationTo;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -20,27 +33,31 @@ import java.util.UUID;
 public class LocationService implements CrudService<Location> {
 
     private final LocationRepository repository;
+    private final LocationTypeRepository typeRepository;
     private final LocationMapper mapper;
+    private final EntityManager entityManager;
+    private final TypeaheadService typeaheadService;
 
     @Override
     public List<Location> getAll() {
-        return repository.findAllWithRelationships();
+        return repository.findAllForList();
     }
 
     @Override
     public Location getById(UUID id) {
-        return repository.findByIdWithRelationships(id)
+        return repository.findByIdForDetail(id)
                 .orElseThrow(() -> new NotFoundException("Location with id=" + id + " not found"));
     }
 
     /**
      * Get all locations and map to DTOs within transaction.
-     * Uses findAllWithAllRelationships() to avoid LazyInitializationException.
+     * Child locations are batch-fetched while mapping instead of being joined to every row.
      *
      * @return list of location DTOs
      */
+    @Cacheable(cacheNames = CacheNames.LOCATIONS, key = "'all'")
     public List<LocationTo> getAllAsDto() {
-        List<Location> locations = repository.findAllWithAllRelationships();
+        List<Location> locations = repository.findAllForList();
         return mapper.toToList(locations);
     }
 
@@ -50,57 +67,200 @@ public class LocationService implements CrudService<Location> {
      * @param id location ID
      * @return location DTO
      */
+    @Cacheable(cacheNames = CacheNames.LOCATIONS, key = "#id")
     public LocationTo getByIdAsDto(UUID id) {
-        Location location = repository.findByIdWithAllRelationships(id)
+        Location location = repository.findByIdForDetail(id)
                 .orElseThrow(() -> new NotFoundException("Location with id=" + id + " not found"));
         return mapper.toTo(location);
     }
 
+    /**
+     * Get locations created or modified after {@code since} and map to DTOs within transaction.
+     *
+     * @param since exclusive lower bound of updatedAt
+     * @return location DTOs ordered by modification time
+     */
+    public List<LocationTo> getUpdatedSinceAsDto(OffsetDateTime since) {
+        return mapper.toToList(repository.findUpdatedSince(since));
+    }
+
+    @Override
+    public List<Location> getPage(UUID after, int limit) {
+        List<Location> locations = repository.findPage(after, limit);
+        locations.forEach(location -> {
+            Hibernate.initialize(location.getType());
+            Hibernate.initialize(location.getParentLocation());
+        });
+        return locations;
+    }
+
+    /**
+     * Get keyset page of locations and map to DTOs within transaction.
+     * Path, type and child count are resolved lazily (batched by default_batch_fetch_size).
+     *
+     * @param after id of the last location of the previous page, null for the first page
+     * @param limit page size
+     * @return page of location DTOs
+     */
+    public KeysetPageTo<LocationTo> getPageAsDto(UUID after, int limit) {
+        return KeysetPageTo.of(repository.findPage(after, limit + 1), limit, mapper::toToList);
+    }
+
+    @Override
+    public List<Location> getByIds(Collection<UUID> ids) {
+        return repository.findAllByIdForList(ids);
+    }
+
+    /**
+     * Get locations by IDs and map to DTOs within transaction.
+     * Path and child count are resolved lazily (batched by default_batch_fetch_size).
+     *
+     * @param ids location IDs
+     * @return location DTOs found, in no particular order
+     */
+    public List<LocationTo> getByIdsAsDto(Collection<UUID> ids) {
+        return mapper.toToList(getByIds(ids));
+    }
+
+    /**
+     * Get all descendants of a location (excluding itself) and map to DTOs within transaction.
+     *
+     * @param id ancestor location ID
+     * @return descendant location DTOs ordered by path
+     */
+    @Cacheable(cacheNames = CacheNames.LOCATIONS, key = "'descendants:' + #id")
+    public List<LocationTo> getDescendantsAsDto(UUID id) {
+        repository.getExisted(id);
+        return mapper.toToList(repository.findDescendants(id));
+    }
+
+    /**
+     * Get path of a location (root first, location itself last) and map to DTOs within transaction.
+     *
+     * @param id location ID
+     * @return location DTOs from root to {@code id}
+     */
+    @Cacheable(cacheNames = CacheNames.LOCATIONS, key = "'path:' + #id")
+    public List<LocationTo> getPathAsDto(UUID id) {
+        repository.getExisted(id);
+        return mapper.toToList(repository.findPath(id));
+    }
+
+    /**
+     * Count active installations in a location and all its descendants.
+     *
+     * @param id subtree root location ID
+     * @return installation count
+     */
+    public long countSubtreeEquipment(UUID id) {
+        repository.getExisted(id);
+        return repository.countSubtreeEquipment(id);
+    }
+
     /**
      * Create location and return as DTO within transaction.
      *
-     * @param entity location entity to create
+     * @param entity           location entity to create
+     * @param typeId           location type ID
+     * @param parentLocationId parent location ID, null for a root location
      * @return created location as DTO
      */
     @Transactional
-    public LocationTo createAndReturnDto(Location entity) {
-        Location saved = repository.save(entity);
-        return mapper.toTo(saved);
+    @CacheEvict(cacheNames = {CacheNames.LOCATIONS, CacheNames.COMPONENTS}, allEntries = true)
+    public LocationTo createAndReturnDto(Location entity, UUID typeId, UUID parentLocationId) {
+        resolveReferences(entity, typeId, parentLocationId);
+        return mapper.toTo(create(entity));
     }
 
     /**
      * Update location and return as DTO within transaction.
+     * Changing the parent moves the whole subtree.
      *
-     * @param id location ID
-     * @param entity location entity with updates
+     * @param id               location ID
+     * @param entity           location entity with updates
+     * @param typeId           location type ID
+     * @param parentLocationId new parent location ID, null for a root location
      * @return updated location as DTO
      */
     @Transactional
-    public LocationTo updateAndReturnDto(UUID id, Location entity) {
-        repository.getExisted(id);
-        entity.setId(id);
-        Location saved = repository.save(entity);
-        return mapper.toTo(saved);
+    @CacheEvict(cacheNames = {CacheNames.LOCATIONS, CacheNames.COMPONENTS}, allEntries = true)
+    public LocationTo updateAndReturnDto(UUID id, Location entity, UUID typeId, UUID parentLocationId) {
+        resolveReferences(entity, typeId, parentLocationId);
+        return mapper.toTo(update(id, entity));
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheNames.LOCATIONS, CacheNames.COMPONENTS}, allEntries = true)
     public Location create(Location entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        Location saved = repository.save(entity);
+        repository.insertClosure(saved.getId(), parentId(saved));
+        repository.refreshSubtreePaths(saved.getId());
+        entityManager.refresh(saved);
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheNames.LOCATIONS, CacheNames.COMPONENTS}, allEntries = true)
     public Location update(UUID id, Location entity) {
-        repository.getExisted(id);
+        Location existing = repository.getExisted(id);
+        UUID oldParentId = parentId(existing);
+        UUID newParentId = parentId(entity);
+        boolean moved = !Objects.equals(oldParentId, newParentId);
+        if (moved && newParentId != null && repository.isInSubtree(id, newParentId)) {
+            throw new IllegalRequestDataException("Location " + id + " cannot be moved under itself or its descendant");
+        }
+        boolean renamed = !Objects.equals(existing.getName(), entity.getName())
+                || !Objects.equals(typeId(existing), typeId(entity));
+
         entity.setId(id);
-        return repository.save(entity);
+        // Children are managed through their own parent reference, keep them out of the merge
+        entity.setChildLocations(existing.getChildLocations());
+        Location saved = repository.save(entity);
+
+        if (moved) {
+            repository.detachSubtree(id);
+            if (newParentId != null) {
+                repository.attachSubtree(id, newParentId);
+            }
+        }
+        if (moved || renamed) {
+            repository.refreshSubtreePaths(id);
+            entityManager.refresh(saved);
+        }
+        // Descendants are reloaded with it, their paths may have changed
+        typeaheadService.refreshAfterCommit(id);
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheNames.LOCATIONS, CacheNames.COMPONENTS}, allEntries = true)
     public void delete(UUID id) {
+        // Children are orphaned to roots by the FK (ON DELETE SET NULL): cut them loose first
+        List<Location> children = repository.findByParentLocationId(id);
+        children.forEach(child -> repository.detachSubtree(child.getId()));
         repository.deleteExisted(id);
+        children.forEach(child -> repository.refreshSubtreePaths(child.getId()));
+        typeaheadService.refreshAfterCommit(Stream.concat(Stream.of(id), children.stream().map(Location::getId))
+                .toArray(UUID[]::new));
+    }
+
+    private void resolveReferences(Location entity, UUID typeId, UUID parentLocationId) {
+        if (typeId != null) {
+            entity.setType(typeRepository.getExisted(typeId));
+        }
+        entity.setParentLocation(parentLocationId != null ? repository.getExisted(parentLocationId) : null);
+    }
+
+    private static UUID parentId(Location location) {
+        return location.getParentLocation() != null ? location.getParentLocation().getId() : null;
+    }
+
+    private static UUID typeId(Location location) {
+        return location.getType() != null ? location.getType().getId() : null;
     }
 }
@@ -2,16 +2,22 @@ package net.switchscope.service.location;
 
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.cache.EvictCatalogCaches;
 import net.switchscope.error.NotFoundException;
 import net.switchscope.mapper.location.catalog.LocationTypeMapper;
 import net.switchscope.model.location.catalog.LocationTypeEntity;
+import net.switchscope.repository.location.LocationRepository;
 import net.switchscope.repository.location.LocationTypeRepository;
 import net.switchscope.service.UpdatableCrudService;
 import net.switchscope.to.location.catalog.LocationTypeTo;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -20,6 +26,7 @@ import java.util.UUID;
 public class LocationTypeService implements UpdatableCrudService<LocationTypeEntity, LocationTypeTo> {
 
     private final LocationTypeRepository repository;
+    private final LocationRepository locationRepository;
     private final LocationTypeMapper mapper;
 
     @Override
@@ -33,12 +40,28 @@ public class LocationTypeService implements UpdatableCrudService<LocationTypeEnt
                 .orElseThrow(() -> new NotFoundException("Location type with id=" + id + " not found"));
     }
 
+    @Override
+    public List<LocationTypeEntity> getByIds(Collection<UUID> ids) {
+        return repository.findAllByIdWithAssociations(ids);
+    }
+
+    @Override
+    public List<LocationTypeEntity> getPage(UUID after, int limit) {
+        List<LocationTypeEntity> entities = repository.findPage(after, limit);
+        entities.forEach(e -> {
+            Hibernate.initialize(e.getAllowedChildTypes());
+            Hibernate.initialize(e.getAllowedParentTypes());
+        });
+        return entities;
+    }
+
     /**
      * Get all location types and map to DTOs within transaction.
      * Initializes allowedParentTypes for each entity to avoid LazyInitializationException.
      *
      * @return list of location type DTOs
      */
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'LocationType:all'")
     public List<LocationTypeTo> getAllAsDto() {
         List<LocationTypeEntity> entities = repository.findAllWithChildTypes();
         // Initialize allowedParentTypes (not fetched in findAllWithChildTypes to avoid Cartesian product)
@@ -52,6 +75,7 @@ public class LocationTypeService implements UpdatableCrudService<LocationTypeEnt
      * @param id location type ID
      * @return location type DTO
      */
+    @Cacheable(cacheNames = CacheNames.CATALOGS, key = "'LocationType:' + #id")
     public LocationTypeTo getByIdAsDto(UUID id) {
         LocationTypeEntity entity = repository.findByIdWithAssociations(id)
                 .orElseThrow(() -> new NotFoundException("Location type with id=" + id + " not found"));
@@ -65,6 +89,7 @@ public class LocationTypeService implements UpdatableCrudService<LocationTypeEnt
      * @return created location type as DTO
      */
     @Transactional
+    @EvictCatalogCaches
     public LocationTypeTo createAndReturnDto(LocationTypeEntity entity) {
         LocationTypeEntity saved = repository.save(entity);
         return mapper.toTo(saved);
@@ -72,6 +97,7 @@ public class LocationTypeService implements UpdatableCrudService<LocationTypeEnt
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public LocationTypeEntity create(LocationTypeEntity entity) {
         // TODO: implement validation
         return repository.save(entity);
@@ -79,34 +105,54 @@ public class LocationTypeService implements UpdatableCrudService<LocationTypeEnt
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public LocationTypeEntity update(UUID id, LocationTypeEntity entity) {
-        repository.getExisted(id);
+        String displayName = repository.getExisted(id).getDisplayName();
         entity.setId(id);
-        return repository.save(entity);
+        LocationTypeEntity saved = repository.save(entity);
+        refreshLocationPaths(displayName, saved);
+        return saved;
     }
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public LocationTypeEntity updateFromDto(UUID id, LocationTypeTo dto) {
         LocationTypeEntity existing = repository.getExisted(id);
+        String displayName = existing.getDisplayName();
         mapper.updateFromTo(existing, dto);
-        return repository.save(existing);
+        LocationTypeEntity saved = repository.save(existing);
+        refreshLocationPaths(displayName, saved);
+        return saved;
     }
 
     /**
      * Update location type and return DTO (mapping within transaction to avoid LazyInitializationException).
      */
     @Transactional
+    @EvictCatalogCaches
     public LocationTypeTo updateAndMapToDto(UUID id, LocationTypeTo dto) {
         LocationTypeEntity existing = repository.getExisted(id);
+        String displayName = existing.getDisplayName();
         mapper.updateFromTo(existing, dto);
         LocationTypeEntity saved = repository.save(existing);
+        refreshLocationPaths(displayName, saved);
         return mapper.toTo(saved);
     }
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void delete(UUID id) {
         repository.deleteExisted(id);
     }
+
+    /**
+     * Locations store their typed path ({@code full_path_with_types}) with the display name of every type on it.
+     */
+    private void refreshLocationPaths(String oldDisplayName, LocationTypeEntity saved) {
+        if (!Objects.equals(oldDisplayName, saved.getDisplayName())) {
+            locationRepository.refreshPathsWithType(saved.getId());
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package net.switchscope.service.metrics;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Storage levels of metric history, finest first. Each roll-up level is aggregated from the
+ * level before it; raw samples and the 1 minute level are partitioned by day.
+ */
+@Getter
+public enum MetricResolution {
+
+    RAW(0, null, true),
+    MINUTE(60, RAW, true),
+    QUARTER_HOUR(900, MINUTE, false),
+    HOUR(3600, QUARTER_HOUR, false),
+    DAY(86400, HOUR, false);
+
+    // Bucket width, 0 for raw samples
+    private final int seconds;
+    // Level the buckets are aggregated from, null for raw samples
+    private final MetricResolution source;
+    private final boolean dailyPartitions;
+
+    MetricResolution(int seconds, MetricResolution source, boolean dailyPartitions) {
+        this.seconds = seconds;
+        this.source = source;
+        this.dailyPartitions = dailyPartitions;
+    }
+
+    /**
+     * Level to answer a query from: the coarsest one still holding {@code from} whose buckets
+     * are not wider than the step, else the finest one still holding {@code from}.
+     *
+     * @param retention how long each level is kept
+     * @param now       current time
+     * @param from      start of the queried range
+     * @param stepSeconds requested step
+     */
+    public static MetricResolution forQuery(Map<MetricResolution, Duration> retention, Instant now,
+                                            Instant from, long stepSeconds) {
+        MetricResolution[] levels = values();
+        MetricResolution finestKept = null;
+        for (int i = levels.length - 1; i >= 0; i--) {
+            MetricResolution level = levels[i];
+            if (from.isBefore(now.minus(retention.get(level)))) {
+                continue;
+            }
+            if (level.seconds <= stepSeconds) {
+                return level;
+            }
+            finestKept = level;
+        }
+        return finestKept != null ? finestKept : DAY;
+    }
+}
@@ -0,0 +1,18 @@
+package net.switchscope.service.metrics;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One raw sample of a series; {@code values} follow {@link MetricSeries#getMetrics()}, null where not measured.
+ */
+@Value
+public class MetricSample {
+
+    UUID entityId;
+    Instant time;
+    List<Double> values;
+}
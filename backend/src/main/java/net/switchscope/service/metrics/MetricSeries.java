@@ -0,0 +1,42 @@
+package net.switchscope.service.metrics;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Metric series with stored history. Raw samples go to {@code <table>}, roll-ups to
+ * {@code <table>_rollup} with an {@code _avg} and a {@code _max} column per metric.
+ */
+@Getter
+public enum MetricSeries {
+
+    PORT("port_metrics", "port_id", "ports",
+            List.of("in_bps", "out_bps", "in_pps", "out_pps")),
+    DEVICE("device_metrics", "device_id", "components",
+            List.of("availability", "cpu_percent", "memory_percent", "temperature_celsius"));
+
+    private final String table;
+    private final String idColumn;
+    // Table of the measured entities, for existence checks
+    private final String entityTable;
+    private final List<String> metrics;
+
+    MetricSeries(String table, String idColumn, String entityTable, List<String> metrics) {
+        this.table = table;
+        this.idColumn = idColumn;
+        this.entityTable = entityTable;
+        this.metrics = metrics;
+    }
+
+    public String getRollupTable() {
+        return table + "_rollup";
+    }
+
+    /**
+     * Table holding one resolution: the raw table or the roll-up partition of the level.
+     */
+    public String getTable(MetricResolution resolution) {
+        return resolution == MetricResolution.RAW ? table : getRollupTable() + "_" + resolution.getSeconds();
+    }
+}
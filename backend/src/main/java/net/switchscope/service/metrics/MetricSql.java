@@ -0,0 +1,84 @@
+package net.switchscope.service.metrics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * SQL of the metric tables, generated from the series layout. Buckets are aligned to
+ * midnight (local time, like the TIMESTAMP columns) of 2000-01-01.
+ */
+final class MetricSql {
+
+    static final LocalDateTime ORIGIN = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private MetricSql() {
+    }
+
+    static String insert(MetricSeries series) {
+        return "INSERT INTO " + series.getTable() + " (" + series.getIdColumn() + ", ts, "
+                + String.join(", ", series.getMetrics()) + ") VALUES (?, ?"
+                + ", ?".repeat(series.getMetrics().size()) + ")";
+    }
+
+    /**
+     * Buckets of {@code bucketSeconds} per entity, aggregated from one stored level. Columns are
+     * {@code id}, {@code t}, {@code samples} and {@code <metric>_avg}, {@code <metric>_max} per metric.
+     * Parameters: start (inclusive), end (exclusive) and, for a single entity, its id.
+     */
+    static String aggregate(MetricSeries series, MetricResolution source, long bucketSeconds, boolean singleEntity) {
+        boolean raw = source == MetricResolution.RAW;
+        String time = raw ? "ts" : "bucket";
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(series.getIdColumn()).append(" AS id, ")
+                .append("date_bin(INTERVAL '").append(bucketSeconds).append(" seconds', ").append(time)
+                .append(", TIMESTAMP '2000-01-01') AS t, ")
+                .append(raw ? "COUNT(*)" : "SUM(samples)").append(" AS samples");
+        for (String metric : series.getMetrics()) {
+            if (raw) {
+                sql.append(", AVG(").append(metric).append(") AS ").append(metric).append("_avg");
+                sql.append(", MAX(").append(metric).append(") AS ").append(metric).append("_max");
+            } else {
+                // Averages weighted by the samples behind them
+                sql.append(", SUM(").append(metric).append("_avg * samples) / NULLIF(SUM(samples) FILTER (WHERE ")
+                        .append(metric).append("_avg IS NOT NULL), 0) AS ").append(metric).append("_avg");
+                sql.append(", MAX(").append(metric).append("_max) AS ").append(metric).append("_max");
+            }
+        }
+        sql.append(" FROM ").append(series.getTable(source))
+                .append(" WHERE ").append(time).append(" >= ? AND ").append(time).append(" < ?");
+        if (singleEntity) {
+            sql.append(" AND ").append(series.getIdColumn()).append(" = ?");
+        }
+        return sql.append(" GROUP BY ").append(series.getIdColumn()).append(", t").toString();
+    }
+
+    /**
+     * Upsert of the buckets of {@code level} between start (inclusive) and end (exclusive),
+     * aggregated from its source level. Re-running a range overwrites its buckets.
+     */
+    static String rollup(MetricSeries series, MetricResolution level) {
+        List<String> columns = new ArrayList<>();
+        for (String metric : series.getMetrics()) {
+            columns.add(metric + "_avg");
+            columns.add(metric + "_max");
+        }
+        String id = series.getIdColumn();
+        return "INSERT INTO " + series.getRollupTable()
+                + " (" + id + ", resolution_seconds, bucket, samples, " + String.join(", ", columns) + ")"
+                + " SELECT id, " + level.getSeconds() + ", t, samples, " + String.join(", ", columns)
+                + " FROM (" + aggregate(series, level.getSource(), level.getSeconds(), false) + ") a"
+                + " ON CONFLICT (" + id + ", resolution_seconds, bucket) DO UPDATE SET samples = EXCLUDED.samples, "
+                + columns.stream().map(column -> column + " = EXCLUDED." + column).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Start of the bucket of {@code seconds} containing {@code time}.
+     */
+    static LocalDateTime floor(LocalDateTime time, long seconds) {
+        long elapsed = Duration.between(ORIGIN, time).toSeconds();
+        return ORIGIN.plusSeconds(Math.floorDiv(elapsed, seconds) * seconds);
+    }
+}
@@ -0,0 +1,188 @@
+package net.switchscope.service.metrics;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Housekeeping of the metric history: daily partitions, roll-ups and retention.
+ * <p>
+ * Daily partitions of the raw and 1 minute levels are created a few days ahead (at startup and
+ * on {@code app.metrics.maintenance-cron}) and dropped whole once past their retention; the
+ * coarser levels are purged with DELETE. Every {@code app.metrics.rollup-interval} each level
+ * aggregates the closed buckets of the level below it, raw samples once they are
+ * {@code app.metrics.rollup-delay} old; samples arriving later stay raw only. Progress is kept in
+ * {@code metric_rollups}, and re-running a range overwrites its buckets.
+ */
+@Slf4j
+@Service
+public class MetricsRollupService {
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = ?""";
+
+    private static final String PROGRESS_SQL =
+            "SELECT rolled_until FROM metric_rollups WHERE series = ? AND resolution_seconds = ?";
+
+    private static final String SAVE_PROGRESS_SQL = """
+            INSERT INTO metric_rollups (series, resolution_seconds, rolled_until) VALUES (?, ?, ?)
+            ON CONFLICT (series, resolution_seconds) DO UPDATE SET rolled_until = EXCLUDED.rolled_until""";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int DAYS_AHEAD = 2;
+    // Roll-ups are written a day per transaction, at most this many days per level and run
+    private static final int MAX_DAYS_PER_RUN = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsService metricsService;
+    private final Duration rollupDelay;
+
+    public MetricsRollupService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MetricsService metricsService,
+                                @Value("${app.metrics.rollup-delay:2m}") Duration rollupDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metricsService = metricsService;
+        this.rollupDelay = rollupDelay;
+    }
+
+    @PostConstruct
+    void createPartitions() {
+        LocalDate today = LocalDate.now();
+        forEachPartitionedTable((series, resolution) -> {
+            String parent = series.getTable(resolution);
+            Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, parent));
+            for (LocalDate day = today.minusDays(1); !day.isAfter(today.plusDays(DAYS_AHEAD)); day = day.plusDays(1)) {
+                String partition = parent + "_p" + PARTITION_SUFFIX.format(day);
+                if (!existing.contains(partition)) {
+                    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + parent
+                            + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+                    log.info("Created metric partition {}", partition);
+                }
+            }
+        });
+    }
+
+    /**
+     * Create upcoming partitions, drop expired ones and purge the coarser levels.
+     */
+    @Scheduled(cron = "${app.metrics.maintenance-cron:0 5 * * * *}")
+    public void maintain() {
+        createPartitions();
+        LocalDateTime now = LocalDateTime.now();
+        forEachPartitionedTable((series, resolution) -> {
+            String parent = series.getTable(resolution);
+            LocalDate keepFrom = now.minus(metricsService.getRetention(resolution)).toLocalDate();
+            for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, parent)) {
+                LocalDate day = partitionDay(parent, partition);
+                if (day != null && day.isBefore(keepFrom)) {
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                    log.info("Dropped metric partition {}", partition);
+                }
+            }
+        });
+        for (MetricSeries series : MetricSeries.values()) {
+            for (MetricResolution resolution : MetricResolution.values()) {
+                if (!resolution.isDailyPartitions()) {
+                    int purged = jdbcTemplate.update("DELETE FROM " + series.getTable(resolution) + " WHERE bucket < ?",
+                            Timestamp.valueOf(now.minus(metricsService.getRetention(resolution))));
+                    log.debug("Purged {} {} buckets of {}s", purged, series, resolution.getSeconds());
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.metrics.rollup-interval:1m}")
+    public void rollUp() {
+        LocalDateTime now = LocalDateTime.now();
+        for (MetricSeries series : MetricSeries.values()) {
+            for (MetricResolution level : MetricResolution.values()) {
+                if (level == MetricResolution.RAW) {
+                    continue;
+                }
+                try {
+                    rollUp(series, level, now);
+                } catch (DataAccessException e) {
+                    log.warn("Roll-up of {} to {}s failed: {}", series, level.getSeconds(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void rollUp(MetricSeries series, MetricResolution level, LocalDateTime now) {
+        MetricResolution source = level.getSource();
+        // Source buckets are complete up to here
+        LocalDateTime limit = source == MetricResolution.RAW ? now.minus(rollupDelay) : rolledUntil(series, source);
+        if (limit == null) {
+            return;
+        }
+        LocalDateTime until = MetricSql.floor(limit, level.getSeconds());
+        LocalDateTime from = rolledUntil(series, level);
+        if (from == null) {
+            from = MetricSql.floor(now.minus(metricsService.getRetention(source)), level.getSeconds());
+        }
+        String sql = MetricSql.rollup(series, level);
+        for (int day = 0; from.isBefore(until) && day < MAX_DAYS_PER_RUN; day++) {
+            Timestamp start = Timestamp.valueOf(from);
+            LocalDateTime next = from.plusDays(1).isBefore(until) ? from.plusDays(1) : until;
+            Timestamp end = Timestamp.valueOf(next);
+            Integer buckets = transactionTemplate.execute(status -> {
+                int written = jdbcTemplate.update(sql, start, end);
+                jdbcTemplate.update(SAVE_PROGRESS_SQL, series.name(), level.getSeconds(), end);
+                return written;
+            });
+            log.debug("Rolled up {} {} buckets of {}s up to {}", buckets, series, level.getSeconds(), next);
+            from = next;
+        }
+    }
+
+    private LocalDateTime rolledUntil(MetricSeries series, MetricResolution level) {
+        List<Timestamp> progress = jdbcTemplate.queryForList(
+                PROGRESS_SQL, Timestamp.class, series.name(), level.getSeconds());
+        return progress.isEmpty() ? null : progress.get(0).toLocalDateTime();
+    }
+
+    private static LocalDate partitionDay(String parent, String partition) {
+        String prefix = parent + "_p";
+        if (!partition.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(prefix.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static void forEachPartitionedTable(BiConsumer<MetricSeries, MetricResolution> action) {
+        for (MetricSeries series : MetricSeries.values()) {
+            for (MetricResolution resolution : MetricResolution.values()) {
+                if (resolution.isDailyPartitions()) {
+                    action.accept(series, resolution);
+                }
+            }
+        }
+    }
+}
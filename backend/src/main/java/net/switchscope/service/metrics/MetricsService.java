@@ -0,0 +1,159 @@
+package net.switchscope.service.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.error.IllegalRequestDataException;
+import net.switchscope.error.NotFoundException;
+import net.switchscope.to.MetricsTo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Metric history: raw samples in, aggregated points out.
+ * <p>
+ * Queries are answered from the coarsest stored level that still covers the range and is not
+ * coarser than the step (see {@link MetricResolution#forQuery}), re-aggregated to the step.
+ * Roll-up levels only hold closed buckets, so the newest part of a range read from them lags
+ * behind by up to one bucket of that level.
+ */
+@Slf4j
+@Service
+public class MetricsService {
+
+    static final Duration DEFAULT_RANGE = Duration.ofDays(1);
+    static final int DEFAULT_POINTS = 300;
+    static final int MAX_POINTS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<MetricResolution, Duration> retention = new EnumMap<>(MetricResolution.class);
+
+    public MetricsService(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.metrics.retention.raw:2d}") Duration raw,
+                          @Value("${app.metrics.retention.minute:7d}") Duration minute,
+                          @Value("${app.metrics.retention.quarter-hour:35d}") Duration quarterHour,
+                          @Value("${app.metrics.retention.hour:400d}") Duration hour,
+                          @Value("${app.metrics.retention.day:1825d}") Duration day) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        retention.put(MetricResolution.RAW, raw);
+        retention.put(MetricResolution.MINUTE, minute);
+        retention.put(MetricResolution.QUARTER_HOUR, quarterHour);
+        retention.put(MetricResolution.HOUR, hour);
+        retention.put(MetricResolution.DAY, day);
+    }
+
+    public Duration getRetention(MetricResolution resolution) {
+        return retention.get(resolution);
+    }
+
+    /**
+     * Store raw samples. History is best effort: a failed write (e.g. no partition for the sample
+     * day) is logged and dropped, it never fails the caller.
+     */
+    public void record(MetricSeries series, List<MetricSample> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+        int metricCount = series.getMetrics().size();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(MetricSql.insert(series), samples, samples.size(), (ps, sample) -> {
+                        ps.setObject(1, sample.getEntityId());
+                        ps.setTimestamp(2, Timestamp.from(sample.getTime()));
+                        for (int i = 0; i < metricCount; i++) {
+                            ps.setObject(3 + i, sample.getValues().get(i), Types.DOUBLE);
+                        }
+                    }));
+        } catch (DataAccessException e) {
+            log.warn("Dropped {} {} metric samples: {}", samples.size(), series, e.getMessage());
+        }
+    }
+
+    /**
+     * History of one entity.
+     *
+     * @param from start, default {@code to} minus one day
+     * @param to   end, default now
+     * @param step point width as a duration ({@code 5m}, {@code PT1H}, bare numbers are seconds);
+     *             default splits the range into about 300 points, at least one minute each
+     */
+    @Transactional(readOnly = true)
+    public MetricsTo query(MetricSeries series, UUID id, OffsetDateTime from, OffsetDateTime to, String step) {
+        OffsetDateTime end = to != null ? to : OffsetDateTime.now();
+        OffsetDateTime start = from != null ? from : end.minus(DEFAULT_RANGE);
+        if (!start.isBefore(end)) {
+            throw new IllegalRequestDataException("from must be before to");
+        }
+        long rangeSeconds = Math.max(1, Duration.between(start, end).toSeconds());
+        long stepSeconds = step == null
+                ? Math.max(MetricResolution.MINUTE.getSeconds(), Math.ceilDiv(rangeSeconds, DEFAULT_POINTS))
+                : parseStep(step);
+        MetricResolution resolution = MetricResolution.forQuery(retention, Instant.now(), start.toInstant(), stepSeconds);
+        stepSeconds = Math.max(stepSeconds, resolution.getSeconds());
+        if (Math.ceilDiv(rangeSeconds, stepSeconds) > MAX_POINTS) {
+            throw new IllegalRequestDataException("Range and step give more than " + MAX_POINTS + " points");
+        }
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + series.getEntityTable() + " WHERE id = ?)", Boolean.class, id);
+        if (!Boolean.TRUE.equals(exists)) {
+            throw new NotFoundException(series.name().toLowerCase() + " " + id + " not found");
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime bucketStart = MetricSql.floor(LocalDateTime.ofInstant(start.toInstant(), zone), stepSeconds);
+        List<MetricsTo.Point> points = jdbcTemplate.query(
+                MetricSql.aggregate(series, resolution, stepSeconds, true) + " ORDER BY t",
+                (rs, rowNum) -> toPoint(rs, series, zone),
+                Timestamp.valueOf(bucketStart), Timestamp.from(end.toInstant()), id);
+        log.debug("{} {} metrics: {} points of {}s from level {}", series, id, points.size(), stepSeconds, resolution);
+        return new MetricsTo(id, start, end, stepSeconds, resolution.getSeconds(), points);
+    }
+
+    private static long parseStep(String step) {
+        Duration duration;
+        try {
+            duration = DurationStyle.detectAndParse(step, ChronoUnit.SECONDS);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalRequestDataException("Invalid step: " + step);
+        }
+        if (duration.toSeconds() < 1) {
+            throw new IllegalRequestDataException("step must be at least one second");
+        }
+        return duration.toSeconds();
+    }
+
+    private static MetricsTo.Point toPoint(ResultSet rs, MetricSeries series, ZoneId zone) throws SQLException {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (String metric : series.getMetrics()) {
+            values.put(metric, rs.getObject(metric + "_avg", Double.class));
+            values.put(metric + "_max", rs.getObject(metric + "_max", Double.class));
+        }
+        return new MetricsTo.Point(
+                rs.getTimestamp("t").toLocalDateTime().atZone(zone).toOffsetDateTime(),
+                rs.getInt("samples"),
+                values);
+    }
+}
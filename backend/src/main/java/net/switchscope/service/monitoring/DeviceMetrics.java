@@ -0,0 +1,20 @@
+package net.switchscope.service.monitoring;
+
+import lombok.Value;
+
+/**
+ * Values read from a reachable device; any of them is null if the device does not report it.
+ */
+@Value
+public class DeviceMetrics {
+
+    public static final DeviceMetrics EMPTY = new DeviceMetrics(null, null, null, null);
+
+    Long uptimeSeconds;
+
+    Integer cpuUtilizationPercent;
+
+    Integer memoryUtilizationPercent;
+
+    Integer temperatureCelsius;
+}
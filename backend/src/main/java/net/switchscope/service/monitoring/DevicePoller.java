@@ -0,0 +1,170 @@
+package net.switchscope.service.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.random.RandomGenerator;
+
+/**
+ * Polling engine: one virtual thread per poll, at most {@code maxConcurrency} polls talking to
+ * devices at a time, each cut off after {@code deadline}.
+ * <p>
+ * Every device has its own due time. The first one is spread randomly over the device interval,
+ * later ones are the interval shifted by up to {@code jitter} (a fraction of it) either way, so
+ * devices with equal intervals do not synchronize into bursts. A device still being polled when it
+ * is due again is skipped for that round. Results are queued and written by the caller in batches.
+ * <p>
+ * Not tied to Spring or the database; {@link DevicePollingService} drives it.
+ */
+@Slf4j
+public class DevicePoller implements AutoCloseable {
+
+    private final DeviceTransport transport;
+    private final Semaphore permits;
+    private final Duration deadline;
+    private final double jitter;
+    private final RandomGenerator random;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("device-poll-", 0).factory());
+
+    // Touched only under the poller lock; inFlight is also reset by poll threads
+    private Map<UUID, Slot> slots = new HashMap<>();
+    private final Queue<PollResult> results = new ConcurrentLinkedQueue<>();
+
+    public DevicePoller(DeviceTransport transport, int maxConcurrency, Duration deadline, double jitter,
+                        RandomGenerator random) {
+        this.transport = transport;
+        this.permits = new Semaphore(maxConcurrency);
+        this.deadline = deadline;
+        this.jitter = jitter;
+        this.random = random;
+    }
+
+    /**
+     * Replace the set of monitored devices. Devices already known keep their due time.
+     *
+     * @param targets   devices to poll from now on
+     * @param nowMillis current time
+     */
+    public synchronized void setTargets(Collection<PollTarget> targets, long nowMillis) {
+        Map<UUID, Slot> updated = new HashMap<>(targets.size() * 2);
+        for (PollTarget target : targets) {
+            Slot slot = slots.get(target.getDeviceId());
+            if (slot == null) {
+                slot = new Slot();
+                slot.nextDue = nowMillis + (long) (random.nextDouble() * intervalMillis(target));
+            }
+            slot.target = target;
+            updated.put(target.getDeviceId(), slot);
+        }
+        slots = updated;
+    }
+
+    /**
+     * Start a poll for every device that is due and not already being polled.
+     *
+     * @param nowMillis current time
+     * @return number of polls started
+     */
+    public synchronized int pollDue(long nowMillis) {
+        int started = 0;
+        for (Slot slot : slots.values()) {
+            if (slot.nextDue > nowMillis || !slot.inFlight.compareAndSet(false, true)) {
+                continue;
+            }
+            long interval = intervalMillis(slot.target);
+            slot.nextDue = nowMillis + interval + (long) ((random.nextDouble() * 2 - 1) * jitter * interval);
+            PollTarget target = slot.target;
+            executor.execute(() -> poll(target, slot));
+            started++;
+        }
+        return started;
+    }
+
+    /**
+     * Take the results collected since the previous call.
+     */
+    public List<PollResult> drainResults() {
+        List<PollResult> drained = new ArrayList<>();
+        PollResult result;
+        while ((result = results.poll()) != null) {
+            drained.add(result);
+        }
+        return drained;
+    }
+
+    public synchronized int getTargetCount() {
+        return slots.size();
+    }
+
+    /**
+     * Interrupt running polls; their results are dropped.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void poll(PollTarget target, Slot slot) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            slot.inFlight.set(false);
+            Thread.currentThread().interrupt();
+            return;
+        }
+        PollResult result;
+        Future<DeviceMetrics> call = null;
+        try {
+            call = executor.submit(() -> transport.poll(target, deadline));
+            DeviceMetrics metrics = call.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+            result = PollResult.reachable(target.getDeviceId(), Instant.now(), metrics);
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            result = PollResult.unreachable(target.getDeviceId(), Instant.now(),
+                    "No answer within " + deadline.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            result = PollResult.unreachable(target.getDeviceId(), Instant.now(),
+                    cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            // Executor shut down
+            log.debug("Poll of device {} not run: {}", target.getDeviceId(), e.toString());
+            return;
+        } finally {
+            permits.release();
+            slot.inFlight.set(false);
+        }
+        results.add(result);
+    }
+
+    private static long intervalMillis(PollTarget target) {
+        return Math.max(1, target.getIntervalSeconds()) * 1000L;
+    }
+
+    private static final class Slot {
+        PollTarget target;
+        long nextDue;
+        final AtomicBoolean inFlight = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,201 @@
+package net.switchscope.service.monitoring;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.cache.CacheNames;
+import net.switchscope.service.metrics.MetricSample;
+import net.switchscope.service.metrics.MetricSeries;
+import net.switchscope.service.metrics.MetricsService;
+import net.switchscope.service.status.StatusPushService;
+import net.switchscope.to.StatusEventTo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Polls every monitored device with a management IP and writes reachability and metrics back
+ * to the device columns.
+ * <p>
+ * The device list is reloaded every {@code app.monitoring.target-refresh}; every tick starts the
+ * polls that are due and writes the finished ones with one batched UPDATE per
+ * {@code app.monitoring.batch-size} results. {@code updated_at} is only moved when reachability
+ * flips, so steady metric updates do not show up as inventory changes (delta sync); ETags follow
+ * {@code last_ping_time} ({@link net.switchscope.model.SampledAt}) and see every poll.
+ * Cached component DTOs of the polled devices are evicted once the results are committed.
+ * Every result is also recorded in the metric history, reachability as 100 or 0 availability;
+ * reachability flips are pushed to status subscribers.
+ * <p>
+ * With several replicas only the node holding a PostgreSQL advisory lock polls; the others check
+ * on every target refresh and take over within {@code app.monitoring.target-refresh} when it dies.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.monitoring", name = "enabled", havingValue = "true")
+public class DevicePollingService {
+
+    static final long LEADER_LOCK_KEY = "switchscope:device-polling".hashCode();
+
+    private static final String TARGETS_SQL = """
+            SELECT id, management_ip, snmp_community_read, snmp_version, monitoring_interval_seconds, last_ping_success
+            FROM components
+            WHERE is_monitored = TRUE AND management_ip IS NOT NULL""";
+
+    // Unreachable devices keep their last known metrics
+    private static final String UPDATE_SQL = """
+            UPDATE components SET
+                updated_at = CASE WHEN last_ping_success IS DISTINCT FROM ? THEN ? ELSE updated_at END,
+                last_ping_time = ?,
+                last_ping_success = ?,
+                uptime_seconds = COALESCE(?, uptime_seconds),
+                cpu_utilization_percent = COALESCE(?, cpu_utilization_percent),
+                memory_utilization_percent = COALESCE(?, memory_utilization_percent),
+                temperature_celsius = COALESCE(?, temperature_celsius)
+            WHERE id = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DevicePoller poller;
+    private final MetricsService metricsService;
+    private final StatusPushService statusPushService;
+    private final CacheManager cacheManager;
+    private final LeaderLock leaderLock;
+    private final int defaultIntervalSeconds;
+    private final int batchSize;
+
+    // Last known reachability per device, to detect flips
+    private final Map<UUID, Boolean> reachability = new ConcurrentHashMap<>();
+
+    public DevicePollingService(JdbcTemplate jdbcTemplate,
+                                DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                DeviceTransport transport,
+                                MetricsService metricsService,
+                                StatusPushService statusPushService,
+                                CacheManager cacheManager,
+                                @Value("${app.monitoring.max-concurrency:1000}") int maxConcurrency,
+                                @Value("${app.monitoring.deadline:3s}") Duration deadline,
+                                @Value("${app.monitoring.jitter:0.1}") double jitter,
+                                @Value("${app.monitoring.default-interval:300s}") Duration defaultInterval,
+                                @Value("${app.monitoring.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.poller = new DevicePoller(transport, maxConcurrency, deadline, jitter, RandomGenerator.getDefault());
+        this.metricsService = metricsService;
+        this.statusPushService = statusPushService;
+        this.cacheManager = cacheManager;
+        this.leaderLock = new LeaderLock(dataSource, LEADER_LOCK_KEY);
+        this.defaultIntervalSeconds = (int) defaultInterval.toSeconds();
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.monitoring.target-refresh:60s}")
+    public void refreshTargets() {
+        if (!leaderLock.tryHold()) {
+            // Another node polls; results of polls still running here are written by tick()
+            poller.setTargets(List.of(), System.currentTimeMillis());
+            reachability.clear();
+            log.debug("Device polling runs on another node");
+            return;
+        }
+        Set<UUID> ids = new HashSet<>();
+        List<PollTarget> targets = jdbcTemplate.query(TARGETS_SQL, (rs, rowNum) -> {
+            UUID id = rs.getObject("id", UUID.class);
+            Boolean lastPingSuccess = rs.getObject("last_ping_success", Boolean.class);
+            if (lastPingSuccess != null) {
+                reachability.putIfAbsent(id, lastPingSuccess);
+            }
+            ids.add(id);
+            int interval = rs.getInt("monitoring_interval_seconds");
+            if (rs.wasNull() || interval <= 0) {
+                interval = defaultIntervalSeconds;
+            }
+            return new PollTarget(
+                    id,
+                    rs.getString("management_ip"),
+                    rs.getString("snmp_community_read"),
+                    rs.getString("snmp_version"),
+                    interval);
+        });
+        reachability.keySet().retainAll(ids);
+        poller.setTargets(targets, System.currentTimeMillis());
+        log.debug("Monitoring {} devices", targets.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.monitoring.tick:1s}")
+    public void tick() {
+        int started = poller.pollDue(System.currentTimeMillis());
+        List<PollResult> results = poller.drainResults();
+        if (started > 0 || !results.isEmpty()) {
+            log.debug("Started {} polls, writing {} results", started, results.size());
+        }
+        for (int from = 0; from < results.size(); from += batchSize) {
+            write(results.subList(from, Math.min(from + batchSize, results.size())));
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        poller.close();
+        leaderLock.close();
+    }
+
+    private void write(List<PollResult> batch) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, result) -> {
+                    DeviceMetrics metrics = result.getMetrics() != null ? result.getMetrics() : DeviceMetrics.EMPTY;
+                    ps.setBoolean(1, result.isReachable());
+                    ps.setTimestamp(2, now);
+                    ps.setTimestamp(3, Timestamp.from(result.getPolledAt()));
+                    ps.setBoolean(4, result.isReachable());
+                    ps.setObject(5, metrics.getUptimeSeconds(), Types.BIGINT);
+                    ps.setObject(6, metrics.getCpuUtilizationPercent(), Types.INTEGER);
+                    ps.setObject(7, metrics.getMemoryUtilizationPercent(), Types.INTEGER);
+                    ps.setObject(8, metrics.getTemperatureCelsius(), Types.INTEGER);
+                    ps.setObject(9, result.getDeviceId());
+                }));
+        Cache components = cacheManager.getCache(CacheNames.COMPONENTS);
+        if (components != null) {
+            batch.forEach(result -> components.evict(result.getDeviceId()));
+        }
+        for (PollResult result : batch) {
+            Boolean previous = reachability.put(result.getDeviceId(), result.isReachable());
+            if (previous == null || previous != result.isReachable()) {
+                statusPushService.publish(StatusEventTo.device(result.getDeviceId(), result.isReachable()));
+            }
+        }
+        metricsService.record(MetricSeries.DEVICE, batch.stream().map(DevicePollingService::toMetricSample).toList());
+    }
+
+    private static MetricSample toMetricSample(PollResult result) {
+        DeviceMetrics metrics = result.getMetrics() != null ? result.getMetrics() : DeviceMetrics.EMPTY;
+        return new MetricSample(result.getDeviceId(), result.getPolledAt(), Arrays.asList(
+                result.isReachable() ? 100.0 : 0.0,
+                toDouble(metrics.getCpuUtilizationPercent()),
+                toDouble(metrics.getMemoryUtilizationPercent()),
+                toDouble(metrics.getTemperatureCelsius())));
+    }
+
+    private static Double toDouble(Integer value) {
+        return value != null ? value.doubleValue() : null;
+    }
+}
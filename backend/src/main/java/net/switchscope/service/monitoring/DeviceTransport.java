@@ -0,0 +1,23 @@
+package net.switchscope.service.monitoring;
+
+import java.time.Duration;
+
+/**
+ * Protocol used to query a device. Implementations are called concurrently from virtual threads,
+ * so they should block by waiting (sleep, futures, sockets) rather than inside {@code synchronized}.
+ *
+ * @see SnmpDeviceTransport
+ * @see SimulatedDeviceTransport
+ */
+public interface DeviceTransport {
+
+    /**
+     * Query a device.
+     *
+     * @param target  device to query
+     * @param timeout time the device has to answer; the poller interrupts the call after it
+     * @return metrics of a reachable device
+     * @throws Exception if the device did not answer or answered with an error
+     */
+    DeviceMetrics poll(PollTarget target, Duration timeout) throws Exception;
+}
@@ -0,0 +1,88 @@
+package net.switchscope.service.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Session-level PostgreSQL advisory lock, held on a connection of its own, so that only one node
+ * runs a job. The database releases the lock when that connection closes, also when the node dies;
+ * another node picks it up on its next {@link #tryHold}.
+ */
+@Slf4j
+class LeaderLock implements AutoCloseable {
+
+    private static final int VALID_TIMEOUT_SECONDS = 2;
+
+    private final DataSource dataSource;
+    private final long key;
+    private Connection connection;
+
+    LeaderLock(DataSource dataSource, long key) {
+        this.dataSource = dataSource;
+        this.key = key;
+    }
+
+    /**
+     * @return true if this node holds the lock, taking it if it is free
+     */
+    synchronized boolean tryHold() {
+        if (connection != null) {
+            if (isValid(connection)) {
+                return true;
+            }
+            log.warn("Connection holding advisory lock {} is gone", key);
+            close();
+        }
+        Connection candidate = null;
+        try {
+            candidate = dataSource.getConnection();
+            try (PreparedStatement ps = candidate.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                ps.setLong(1, key);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next() && rs.getBoolean(1)) {
+                        connection = candidate;
+                        log.info("Acquired advisory lock {}", key);
+                        return true;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Advisory lock {} not acquired: {}", key, e.toString());
+        }
+        closeQuietly(candidate);
+        return false;
+    }
+
+    /**
+     * Release the lock by closing its connection.
+     */
+    @Override
+    public synchronized void close() {
+        closeQuietly(connection);
+        connection = null;
+    }
+
+    private static boolean isValid(Connection connection) {
+        try {
+            return connection.isValid(VALID_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Closing advisory lock connection failed: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package net.switchscope.service.monitoring;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outcome of one poll. Unreachable devices have no metrics and an error message.
+ */
+@Value
+public class PollResult {
+
+    UUID deviceId;
+
+    Instant polledAt;
+
+    boolean reachable;
+
+    DeviceMetrics metrics;
+
+    String error;
+
+    public static PollResult reachable(UUID deviceId, Instant polledAt, DeviceMetrics metrics) {
+        return new PollResult(deviceId, polledAt, true, metrics, null);
+    }
+
+    public static PollResult unreachable(UUID deviceId, Instant polledAt, String error) {
+        return new PollResult(deviceId, polledAt, false, null, error);
+    }
+}
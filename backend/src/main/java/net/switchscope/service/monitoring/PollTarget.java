@@ -0,0 +1,24 @@
+package net.switchscope.service.monitoring;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * What the poller needs to reach one monitored device.
+ */
+@Value
+public class PollTarget {
+
+    UUID deviceId;
+
+    String managementIp;
+
+    // Read community, null if not configured
+    String community;
+
+    // v1, v2c or v3
+    String snmpVersion;
+
+    int intervalSeconds;
+}
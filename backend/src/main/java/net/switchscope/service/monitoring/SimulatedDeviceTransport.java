@@ -0,0 +1,48 @@
+package net.switchscope.service.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local stand-in for device agents (app.monitoring.transport=simulated): answers after a fixed
+ * latency, fails a given fraction of polls and reports plausible random metrics.
+ * Uptime is stable per device, so consecutive polls look like a running box.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.monitoring", name = "transport", havingValue = "simulated")
+public class SimulatedDeviceTransport implements DeviceTransport {
+
+    private static final long MAX_SIMULATED_UPTIME_SECONDS = 90L * 24 * 3600;
+
+    private final Duration latency;
+    private final double failureRate;
+    private final long startedAt = System.currentTimeMillis();
+
+    public SimulatedDeviceTransport(@Value("${app.monitoring.simulated.latency:20ms}") Duration latency,
+                                    @Value("${app.monitoring.simulated.failure-rate:0.01}") double failureRate) {
+        this.latency = latency;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public DeviceMetrics poll(PollTarget target, Duration timeout) throws Exception {
+        if (!latency.isZero()) {
+            Thread.sleep(latency);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < failureRate) {
+            throw new IOException("Simulated timeout");
+        }
+        long bootOffset = Math.floorMod(target.getDeviceId().getLeastSignificantBits(), MAX_SIMULATED_UPTIME_SECONDS);
+        return new DeviceMetrics(
+                bootOffset + (System.currentTimeMillis() - startedAt) / 1000,
+                random.nextInt(1, 96),
+                random.nextInt(20, 91),
+                random.nextInt(30, 66));
+    }
+}
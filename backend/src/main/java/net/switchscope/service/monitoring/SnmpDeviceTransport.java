@@ -0,0 +1,150 @@
+package net.switchscope.service.monitoring;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.event.ResponseListener;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * SNMP v1/v2c GET of sysUpTime plus the configured CPU, memory and temperature OIDs
+ * (vendor specific, skipped when blank). Devices without a read community or on SNMPv3
+ * are only checked for reachability.
+ * <p>
+ * Requests go out asynchronously over one shared UDP socket; the calling virtual thread waits
+ * on a future, not on a monitor, so it does not pin its carrier.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.monitoring", name = "transport", havingValue = "snmp", matchIfMissing = true)
+public class SnmpDeviceTransport implements DeviceTransport {
+
+    static final OID SYS_UP_TIME = new OID("1.3.6.1.2.1.1.3.0");
+
+    private final Snmp snmp;
+    private final int port;
+    private final OID cpuOid;
+    private final OID memoryOid;
+    private final OID temperatureOid;
+
+    public SnmpDeviceTransport(@Value("${app.monitoring.snmp.port:161}") int port,
+                               @Value("${app.monitoring.snmp.cpu-oid:}") String cpuOid,
+                               @Value("${app.monitoring.snmp.memory-oid:}") String memoryOid,
+                               @Value("${app.monitoring.snmp.temperature-oid:}") String temperatureOid) throws IOException {
+        this.port = port;
+        this.cpuOid = oid(cpuOid);
+        this.memoryOid = oid(memoryOid);
+        this.temperatureOid = oid(temperatureOid);
+        this.snmp = new Snmp(new DefaultUdpTransportMapping());
+        this.snmp.listen();
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        snmp.close();
+    }
+
+    @Override
+    public DeviceMetrics poll(PollTarget target, Duration timeout) throws Exception {
+        InetAddress address = InetAddress.getByName(target.getManagementIp());
+        Integer version = snmpVersion(target.getSnmpVersion());
+        if (version == null || !StringUtils.hasText(target.getCommunity())) {
+            if (!address.isReachable((int) timeout.toMillis())) {
+                throw new IOException("Host unreachable");
+            }
+            return DeviceMetrics.EMPTY;
+        }
+
+        CommunityTarget<UdpAddress> communityTarget =
+                new CommunityTarget<>(new UdpAddress(address, port), new OctetString(target.getCommunity()));
+        communityTarget.setVersion(version);
+        communityTarget.setTimeout(timeout.toMillis());
+        communityTarget.setRetries(0);
+
+        PDU request = new PDU();
+        request.setType(PDU.GET);
+        request.add(new VariableBinding(SYS_UP_TIME));
+        for (OID oid : new OID[]{cpuOid, memoryOid, temperatureOid}) {
+            if (oid != null) {
+                request.add(new VariableBinding(oid));
+            }
+        }
+
+        CompletableFuture<PDU> response = new CompletableFuture<>();
+        snmp.send(request, communityTarget, null, new ResponseListener() {
+            @Override
+            public <A extends Address> void onResponse(ResponseEvent<A> event) {
+                ((Snmp) event.getSource()).cancel(event.getRequest(), this);
+                if (event.getError() != null) {
+                    response.completeExceptionally(event.getError());
+                } else if (event.getResponse() == null) {
+                    response.completeExceptionally(new TimeoutException("No SNMP response"));
+                } else {
+                    response.complete(event.getResponse());
+                }
+            }
+        });
+        PDU pdu = response.get();
+        if (pdu.getErrorStatus() != PDU.noError) {
+            throw new IOException("SNMP error: " + pdu.getErrorStatusText());
+        }
+
+        Variable upTime = pdu.getVariable(SYS_UP_TIME);
+        return new DeviceMetrics(
+                upTime instanceof TimeTicks ticks ? ticks.toMilliseconds() / 1000 : null,
+                intValue(pdu, cpuOid),
+                intValue(pdu, memoryOid),
+                intValue(pdu, temperatureOid));
+    }
+
+    private static Integer intValue(PDU pdu, OID oid) {
+        if (oid == null) {
+            return null;
+        }
+        Variable variable = pdu.getVariable(oid);
+        if (variable == null || variable.isException()) {
+            return null;
+        }
+        try {
+            return variable.toInt();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static Integer snmpVersion(String version) {
+        if (version == null) {
+            return SnmpConstants.version2c;
+        }
+        return switch (version.trim().toLowerCase()) {
+            case "v1", "1" -> SnmpConstants.version1;
+            case "v2c", "2c", "2" -> SnmpConstants.version2c;
+            default -> null;
+        };
+    }
+
+    private static OID oid(String value) {
+        return StringUtils.hasText(value) ? new OID(value.trim()) : null;
+    }
+}
@@ -0,0 +1,169 @@
+package net.switchscope.service.port;
+
+import lombok.Value;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Undirected adjacency graph of the physical layer:
+ * port - connector - cable run - connector - port, with patch panels attached to cable runs.
+ * Only nodes with at least one link are kept.
+ */
+class CableGraph {
+
+    enum NodeType {
+        PORT,
+        CONNECTOR,
+        CABLE_RUN,
+        PATCH_PANEL
+    }
+
+    @Value
+    static class Node {
+        UUID id;
+        NodeType type;
+        String name;
+        // Owning device, ports only
+        UUID deviceId;
+        String deviceName;
+    }
+
+    @Value
+    static class Link {
+        Node from;
+        Node to;
+    }
+
+    @Value
+    static class Hop {
+        Node node;
+        int depth;
+        UUID viaId;
+    }
+
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final Map<UUID, Set<UUID>> adjacency = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    CableGraph(Collection<Link> links) {
+        links.forEach(this::addLink);
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean contains(UUID id) {
+        lock.readLock().lock();
+        try {
+            return nodes.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the given nodes and their direct neighbours.
+     */
+    Set<UUID> withNeighbours(Collection<UUID> ids) {
+        lock.readLock().lock();
+        try {
+            Set<UUID> result = new HashSet<>(ids);
+            ids.forEach(id -> result.addAll(adjacency.getOrDefault(id, Set.of())));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drop all links of the given nodes and add the reloaded links touching them.
+     *
+     * @param ids   nodes whose links were reloaded
+     * @param links current links with at least one end in {@code ids}
+     */
+    void replace(Collection<UUID> ids, Collection<Link> links) {
+        lock.writeLock().lock();
+        try {
+            for (UUID id : ids) {
+                Set<UUID> neighbours = adjacency.remove(id);
+                if (neighbours != null) {
+                    neighbours.forEach(neighbour -> unlink(neighbour, id));
+                }
+                nodes.remove(id);
+            }
+            links.forEach(this::addLink);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Breadth-first walk from a node over the whole connected segment.
+     *
+     * @param startId  node to start from
+     * @param maxNodes safety cap on visited nodes
+     * @return hops in visiting order, the start node first; empty if the node has no links
+     */
+    List<Hop> trace(UUID startId, int maxNodes) {
+        lock.readLock().lock();
+        try {
+            Node start = nodes.get(startId);
+            if (start == null) {
+                return List.of();
+            }
+            List<Hop> hops = new ArrayList<>();
+            Set<UUID> visited = new HashSet<>();
+            ArrayDeque<Hop> queue = new ArrayDeque<>();
+            queue.add(new Hop(start, 0, null));
+            visited.add(startId);
+            while (!queue.isEmpty() && hops.size() < maxNodes) {
+                Hop hop = queue.poll();
+                hops.add(hop);
+                for (UUID next : adjacency.getOrDefault(hop.getNode().getId(), Set.of())) {
+                    if (visited.add(next)) {
+                        queue.add(new Hop(nodes.get(next), hop.getDepth() + 1, hop.getNode().getId()));
+                    }
+                }
+            }
+            return hops;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLink(Link link) {
+        nodes.put(link.getFrom().getId(), link.getFrom());
+        nodes.put(link.getTo().getId(), link.getTo());
+        adjacency.computeIfAbsent(link.getFrom().getId(), id -> new LinkedHashSet<>()).add(link.getTo().getId());
+        adjacency.computeIfAbsent(link.getTo().getId(), id -> new LinkedHashSet<>()).add(link.getFrom().getId());
+    }
+
+    private void unlink(UUID from, UUID to) {
+        Set<UUID> neighbours = adjacency.get(from);
+        if (neighbours == null) {
+            return;
+        }
+        neighbours.remove(to);
+        if (neighbours.isEmpty()) {
+            adjacency.remove(from);
+            nodes.remove(from);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package net.switchscope.service.port;
+
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.cache.ClusterEvent;
+import net.switchscope.cache.ClusterEvents;
+import net.switchscope.error.NotFoundException;
+import net.switchscope.repository.component.connectivity.ConnectivityRepository;
+import net.switchscope.repository.port.PortRepository;
+import net.switchscope.service.port.CableGraph.Hop;
+import net.switchscope.service.port.CableGraph.Link;
+import net.switchscope.service.port.CableGraph.Node;
+import net.switchscope.service.port.CableGraph.NodeType;
+import net.switchscope.to.port.CableTraceTo;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Cable path tracing over an in-memory graph of ports, connectors, cable runs and patch panels.
+ * <p>
+ * The graph is built from three link queries on first use. Connectivity services call
+ * {@link #refreshAfterCommit} with the IDs they changed; only links around those nodes are reloaded,
+ * here and, through {@link ClusterEvents}, on the other nodes. A full load that raced a refresh
+ * may hold old links and is not kept. The graph is also rebuilt every
+ * {@code app.cable-trace.rebuild-interval}, which bounds staleness from missed messages or
+ * writes made without Redis on another node.
+ */
+@Slf4j
+@Service
+public class CableTraceService {
+
+    static final int MAX_HOPS = 10_000;
+    static final String CLUSTER_TOPIC = "cable-graph";
+
+    private final PortRepository portRepository;
+    private final ConnectivityRepository connectivityRepository;
+    private final ClusterEvents clusterEvents;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile CableGraph graph;
+    // Bumped on every refresh and reset; a full load that raced with one is not kept
+    private final AtomicLong generation = new AtomicLong();
+
+    public CableTraceService(PortRepository portRepository,
+                             ConnectivityRepository connectivityRepository,
+                             ClusterEvents clusterEvents,
+                             PlatformTransactionManager transactionManager) {
+        this.portRepository = portRepository;
+        this.connectivityRepository = connectivityRepository;
+        this.clusterEvents = clusterEvents;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Trace the physical path from a port.
+     *
+     * @param portId port ID
+     * @return hops reachable from the port; just the port itself if it is not connected
+     */
+    public CableTraceTo trace(UUID portId) {
+        List<Hop> hops = graph().trace(portId, MAX_HOPS);
+        if (hops.isEmpty()) {
+            // Unconnected ports are not in the graph
+            return portRepository.findById(portId)
+                    .map(port -> {
+                        CableTraceTo.Hop self = new CableTraceTo.Hop(0, NodeType.PORT.name(), port.getId(), port.getName(),
+                                null, null, null);
+                        return new CableTraceTo(portId, List.of(self), List.of(), false);
+                    })
+                    .orElseThrow(() -> new NotFoundException("Port with id=" + portId + " not found"));
+        }
+        List<CableTraceTo.Hop> result = hops.stream().map(CableTraceService::toHop).toList();
+        List<CableTraceTo.Hop> farEnds = result.stream()
+                .filter(hop -> hop.getDepth() > 0 && NodeType.PORT.name().equals(hop.getType()))
+                .toList();
+        return new CableTraceTo(portId, result, farEnds, hops.size() >= MAX_HOPS);
+    }
+
+    /**
+     * Reload links around the given nodes after the current transaction commits (immediately if there is none).
+     * Pass the ID of every port, connector, cable run or patch panel that was created, changed or deleted.
+     *
+     * @param ids changed node IDs
+     */
+    public void refreshAfterCommit(UUID... ids) {
+        List<UUID> changed = List.of(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshEverywhere(changed);
+                }
+            });
+        } else {
+            refreshEverywhere(changed);
+        }
+    }
+
+    /**
+     * {@link #refreshAfterCommit} for a component that may own ports. Port nodes carry the name of
+     * their device, so the ports of a renamed device are reloaded with it.
+     * Port IDs are looked up right away; on delete call this before the component is removed.
+     *
+     * @param componentId changed component ID
+     */
+    public void refreshWithPortsAfterCommit(UUID componentId) {
+        List<UUID> ids = new ArrayList<>(portRepository.findIdsByDeviceId(componentId));
+        ids.add(componentId);
+        refreshAfterCommit(ids.toArray(UUID[]::new));
+    }
+
+    /**
+     * Drop the whole graph, the next trace rebuilds it. Used after bulk imports,
+     * where reloading around every changed node would cost more than a full load.
+     */
+    public void reset() {
+        resetLocal();
+        clusterEvents.publish(CLUSTER_TOPIC, "");
+    }
+
+    /**
+     * Reload the whole graph in the background if it is in use, so traces never wait for it.
+     */
+    @Scheduled(fixedDelayString = "${app.cable-trace.rebuild-interval:15m}",
+               initialDelayString = "${app.cable-trace.rebuild-interval:15m}")
+    public void rebuild() {
+        if (graph == null) {
+            return;
+        }
+        long before = generation.get();
+        CableGraph loaded = load();
+        synchronized (this) {
+            if (graph != null && generation.get() == before) {
+                graph = loaded;
+                log.debug("Cable graph rebuilt: {} nodes", loaded.size());
+            }
+        }
+    }
+
+    /**
+     * Apply a refresh or reset announced by another node.
+     */
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (!CLUSTER_TOPIC.equals(event.getTopic())) {
+            return;
+        }
+        if (event.getPayload().isEmpty()) {
+            resetLocal();
+        } else {
+            refresh(Arrays.stream(event.getPayload().split(",")).map(UUID::fromString).toList());
+        }
+    }
+
+    private void resetLocal() {
+        generation.incrementAndGet();
+        graph = null;
+        log.debug("Cable graph reset");
+    }
+
+    private void refreshEverywhere(Collection<UUID> changed) {
+        refresh(changed);
+        if (!changed.isEmpty()) {
+            clusterEvents.publish(CLUSTER_TOPIC, changed.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        }
+    }
+
+    private void refresh(Collection<UUID> changed) {
+        generation.incrementAndGet();
+        CableGraph current = graph;
+        if (current == null) {
+            // Not built yet, the first trace loads everything
+            return;
+        }
+        Set<UUID> ids = current.withNeighbours(changed);
+        List<Link> links = transactionTemplate.execute(status -> toLinks(
+                portRepository.findConnectorLinksTouching(ids),
+                connectivityRepository.findCableRunLinksTouching(ids),
+                connectivityRepository.findPatchPanelLinksTouching(ids)));
+        current.replace(ids, links);
+        log.debug("Cable graph refreshed around {} nodes", ids.size());
+    }
+
+    private CableGraph graph() {
+        CableGraph current = graph;
+        if (current == null) {
+            synchronized (this) {
+                if (graph == null) {
+                    long before = generation.get();
+                    CableGraph loaded = load();
+                    if (generation.get() != before) {
+                        // A commit skipped its refresh while the links were read: answer from the load, keep nothing
+                        log.debug("Cable graph load raced a refresh, not kept");
+                        return loaded;
+                    }
+                    graph = loaded;
+                    log.info("Cable graph loaded: {} nodes", loaded.size());
+                }
+                current = graph;
+            }
+        }
+        return current;
+    }
+
+    private CableGraph load() {
+        return new CableGraph(transactionTemplate.execute(status -> toLinks(
+                portRepository.findConnectorLinks(),
+                connectivityRepository.findCableRunLinks(),
+                connectivityRepository.findPatchPanelLinks())));
+    }
+
+    private static List<Link> toLinks(List<Object[]> portLinks, List<Object[]> cableRunLinks,
+                                      List<Object[]> patchPanelLinks) {
+        List<Link> links = new ArrayList<>(portLinks.size() + cableRunLinks.size() + patchPanelLinks.size());
+        for (Object[] row : portLinks) {
+            links.add(new Link(
+                    new Node((UUID) row[0], NodeType.PORT, (String) row[1], (UUID) row[2], (String) row[3]),
+                    node(row[4], NodeType.CONNECTOR, row[5])));
+        }
+        for (Object[] row : cableRunLinks) {
+            links.add(new Link(node(row[0], NodeType.CONNECTOR, row[1]), node(row[2], NodeType.CABLE_RUN, row[3])));
+        }
+        for (Object[] row : patchPanelLinks) {
+            links.add(new Link(node(row[0], NodeType.PATCH_PANEL, row[1]), node(row[2], NodeType.CABLE_RUN, row[3])));
+        }
+        return links;
+    }
+
+    private static Node node(Object id, NodeType type, Object name) {
+        return new Node((UUID) id, type, (String) name, null, null);
+    }
+
+    private static CableTraceTo.Hop toHop(Hop hop) {
+        Node node = hop.getNode();
+        return new CableTraceTo.Hop(hop.getDepth(), node.getType().name(), node.getId(), node.getName(),
+                hop.getViaId(), node.getDeviceId(), node.getDeviceName());
+    }
+}
@@ -0,0 +1,80 @@
+package net.switchscope.service.port;
+
+import lombok.Value;
+import net.switchscope.to.port.PortCounterSampleTo;
+
+import java.time.Duration;
+
+/**
+ * Rates of one port between two consecutive counter samples.
+ * <p>
+ * A counter that went down has either wrapped or been reset. A 32-bit counter is taken as
+ * wrapped when the wrapped delta is below half its range (a reset rarely lands just under the
+ * previous value); otherwise, and always for 64-bit counters, it was reset and the traffic since
+ * the reset is the current value. Rates are null where either sample lacks the counter.
+ */
+@Value
+class CounterRates {
+
+    private static final long RANGE_32 = 1L << 32;
+
+    Double inBitsPerSecond;
+
+    Double outBitsPerSecond;
+
+    Double inPacketsPerSecond;
+
+    Double outPacketsPerSecond;
+
+    // Some counter was reset between the samples
+    boolean reset;
+
+    // Some bytes moved between the samples
+    boolean active;
+
+    /**
+     * @param previous earlier sample of the port
+     * @param current  later sample of the same port, with a later timestamp
+     */
+    static CounterRates between(PortCounterSampleTo previous, PortCounterSampleTo current) {
+        double seconds = Duration.between(previous.getTimestamp(), current.getTimestamp()).toNanos() / 1e9;
+        int bits = current.getCounterBits() != null ? current.getCounterBits() : 64;
+        boolean[] reset = {false};
+        Long bytesIn = delta(previous.getBytesIn(), current.getBytesIn(), bits, reset);
+        Long bytesOut = delta(previous.getBytesOut(), current.getBytesOut(), bits, reset);
+        Long packetsIn = delta(previous.getPacketsIn(), current.getPacketsIn(), bits, reset);
+        Long packetsOut = delta(previous.getPacketsOut(), current.getPacketsOut(), bits, reset);
+        delta(previous.getErrorsIn(), current.getErrorsIn(), bits, reset);
+        delta(previous.getErrorsOut(), current.getErrorsOut(), bits, reset);
+        delta(previous.getDiscardsIn(), current.getDiscardsIn(), bits, reset);
+        delta(previous.getDiscardsOut(), current.getDiscardsOut(), bits, reset);
+        return new CounterRates(
+                perSecond(bytesIn, 8, seconds),
+                perSecond(bytesOut, 8, seconds),
+                perSecond(packetsIn, 1, seconds),
+                perSecond(packetsOut, 1, seconds),
+                reset[0],
+                (bytesIn != null && bytesIn > 0) || (bytesOut != null && bytesOut > 0));
+    }
+
+    static Long delta(Long previous, Long current, int bits, boolean[] reset) {
+        if (previous == null || current == null) {
+            return null;
+        }
+        if (current >= previous) {
+            return current - previous;
+        }
+        if (bits == 32 && previous < RANGE_32) {
+            long wrapped = current + RANGE_32 - previous;
+            if (wrapped < RANGE_32 / 2) {
+                return wrapped;
+            }
+        }
+        reset[0] = true;
+        return current;
+    }
+
+    private static Double perSecond(Long delta, int factor, double seconds) {
+        return delta == null ? null : delta * (double) factor / seconds;
+    }
+}
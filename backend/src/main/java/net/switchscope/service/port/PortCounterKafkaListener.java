@@ -0,0 +1,46 @@
+package net.switchscope.service.port;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.to.port.PortCounterSampleTo;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counter samples from Kafka, one JSON {@link PortCounterSampleTo} per record, consumed in batches.
+ * Enabled with {@code app.port-counters.kafka.enabled=true}; broker settings are the usual spring.kafka.*.
+ * Unparseable records are logged and skipped rather than blocking the partition.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.port-counters.kafka", name = "enabled", havingValue = "true")
+public class PortCounterKafkaListener {
+
+    private final PortCounterService portCounterService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${app.port-counters.kafka.topic:port-counters}",
+            groupId = "${app.port-counters.kafka.group-id:switchscope-port-counters}",
+            batch = "true")
+    public void onSamples(List<String> records) {
+        List<PortCounterSampleTo> samples = new ArrayList<>(records.size());
+        for (String record : records) {
+            try {
+                samples.add(objectMapper.readValue(record, PortCounterSampleTo.class));
+            } catch (JsonProcessingException e) {
+                log.warn("Skipping malformed counter sample: {}", e.getOriginalMessage());
+            }
+        }
+        // A bad record must not fail the whole batch
+        samples.removeIf(sample -> sample.getPortId() == null || (sample.getCounterBits() != null
+                && sample.getCounterBits() != 32 && sample.getCounterBits() != 64));
+        portCounterService.ingest(samples);
+    }
+}
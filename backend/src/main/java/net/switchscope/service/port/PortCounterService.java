@@ -0,0 +1,228 @@
+package net.switchscope.service.port;
+
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.error.IllegalRequestDataException;
+import net.switchscope.service.metrics.MetricSample;
+import net.switchscope.service.metrics.MetricSeries;
+import net.switchscope.service.metrics.MetricsService;
+import net.switchscope.to.port.PortCounterIngestResultTo;
+import net.switchscope.to.port.PortCounterSampleTo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ingestion of raw port counters.
+ * <p>
+ * Each sample is compared with the previous sample of its port (kept in memory) to get bit and
+ * packet rates; utilization is derived from them against {@code speed_mbps} when written.
+ * Samples are coalesced per port and written every {@code app.port-counters.flush-interval}
+ * with one batched UPDATE, so a port sampled many times between flushes costs one row update.
+ * {@code updated_at} is left alone: counters are telemetry, not inventory changes (delta sync);
+ * conditional GET of ports follows {@code counters_sampled_at} ({@link net.switchscope.model.SampledAt}) instead.
+ * The written rates also go to the metric history, one sample per port and flush.
+ * <p>
+ * A sample older than the stored {@code counters_sampled_at} (late delivery, another node) is not written.
+ * The first sample of a port after a restart only stores counters; rates follow from the second.
+ */
+@Slf4j
+@Service
+public class PortCounterService {
+
+    private static final String UPDATE_SQL = """
+            UPDATE ports SET
+                bytes_in = COALESCE(?, bytes_in),
+                bytes_out = COALESCE(?, bytes_out),
+                packets_in = COALESCE(?, packets_in),
+                packets_out = COALESCE(?, packets_out),
+                errors_in = COALESCE(?, errors_in),
+                errors_out = COALESCE(?, errors_out),
+                discards_in = COALESCE(?, discards_in),
+                discards_out = COALESCE(?, discards_out),
+                stats_last_reset = COALESCE(?, stats_last_reset),
+                last_activity = COALESCE(?, last_activity),
+                in_bps = ?,
+                out_bps = ?,
+                in_pps = ?,
+                out_pps = ?,
+                in_utilization_percent = CASE WHEN speed_mbps > 0 THEN CAST(? AS DOUBLE PRECISION) / (speed_mbps * 10000.0) END,
+                out_utilization_percent = CASE WHEN speed_mbps > 0 THEN CAST(? AS DOUBLE PRECISION) / (speed_mbps * 10000.0) END,
+                counters_sampled_at = ?
+            WHERE id = ? AND (counters_sampled_at IS NULL OR counters_sampled_at < ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricsService metricsService;
+    private final int batchSize;
+
+    // Last accepted sample per port, for the next rate computation
+    private final Map<UUID, PortCounterSampleTo> lastSamples = new ConcurrentHashMap<>();
+    // Coalesced state per port waiting for the next flush
+    private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+
+    public PortCounterService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MetricsService metricsService,
+                              @Value("${app.port-counters.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metricsService = metricsService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Accept a batch of samples. Samples older than the last one seen for their port are ignored.
+     *
+     * @param samples counter samples, any ports, any order
+     * @return accepted and stale counts
+     */
+    public PortCounterIngestResultTo ingest(Collection<PortCounterSampleTo> samples) {
+        OffsetDateTime receivedAt = OffsetDateTime.now();
+        for (PortCounterSampleTo sample : samples) {
+            if (sample.getPortId() == null) {
+                throw new IllegalRequestDataException("Counter sample without portId");
+            }
+            if (sample.getCounterBits() != null && sample.getCounterBits() != 32 && sample.getCounterBits() != 64) {
+                throw new IllegalRequestDataException("counterBits must be 32 or 64, was " + sample.getCounterBits());
+            }
+        }
+        // Oldest first, so a batch holding several samples of a port yields rates between them
+        List<PortCounterSampleTo> ordered = new ArrayList<>(samples);
+        ordered.forEach(sample -> {
+            if (sample.getTimestamp() == null) {
+                sample.setTimestamp(receivedAt);
+            }
+        });
+        ordered.sort((a, b) -> a.getTimestamp().compareTo(b.getTimestamp()));
+
+        int[] stale = {0};
+        for (PortCounterSampleTo sample : ordered) {
+            lastSamples.compute(sample.getPortId(), (portId, previous) -> {
+                if (previous != null && !sample.getTimestamp().isAfter(previous.getTimestamp())) {
+                    stale[0]++;
+                    return previous;
+                }
+                CounterRates rates = previous != null ? CounterRates.between(previous, sample) : null;
+                pending.merge(portId, new Pending(sample, rates), Pending::then);
+                return sample;
+            });
+        }
+        return new PortCounterIngestResultTo(ordered.size() - stale[0], stale[0]);
+    }
+
+    /**
+     * Write the coalesced samples. Ports that no longer exist are forgotten.
+     */
+    @Scheduled(fixedDelayString = "${app.port-counters.flush-interval:5s}")
+    public void flush() {
+        List<Pending> batch = new ArrayList<>();
+        for (UUID portId : pending.keySet()) {
+            Pending entry = pending.remove(portId);
+            if (entry != null) {
+                batch.add(entry);
+            }
+        }
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            write(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+        if (!batch.isEmpty()) {
+            log.debug("Flushed counters of {} ports", batch.size());
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        int[][] counts = transactionTemplate.execute(status ->
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+                    PortCounterSampleTo sample = entry.sample;
+                    CounterRates rates = entry.rates;
+                    ps.setObject(1, sample.getBytesIn(), Types.BIGINT);
+                    ps.setObject(2, sample.getBytesOut(), Types.BIGINT);
+                    ps.setObject(3, sample.getPacketsIn(), Types.BIGINT);
+                    ps.setObject(4, sample.getPacketsOut(), Types.BIGINT);
+                    ps.setObject(5, sample.getErrorsIn(), Types.BIGINT);
+                    ps.setObject(6, sample.getErrorsOut(), Types.BIGINT);
+                    ps.setObject(7, sample.getDiscardsIn(), Types.BIGINT);
+                    ps.setObject(8, sample.getDiscardsOut(), Types.BIGINT);
+                    ps.setObject(9, timestamp(entry.resetAt), Types.TIMESTAMP);
+                    ps.setObject(10, timestamp(entry.activeAt), Types.TIMESTAMP);
+                    ps.setObject(11, rates != null ? rates.getInBitsPerSecond() : null, Types.DOUBLE);
+                    ps.setObject(12, rates != null ? rates.getOutBitsPerSecond() : null, Types.DOUBLE);
+                    ps.setObject(13, rates != null ? rates.getInPacketsPerSecond() : null, Types.DOUBLE);
+                    ps.setObject(14, rates != null ? rates.getOutPacketsPerSecond() : null, Types.DOUBLE);
+                    ps.setObject(15, rates != null ? rates.getInBitsPerSecond() : null, Types.DOUBLE);
+                    ps.setObject(16, rates != null ? rates.getOutBitsPerSecond() : null, Types.DOUBLE);
+                    ps.setTimestamp(17, timestamp(sample.getTimestamp()));
+                    ps.setObject(18, sample.getPortId());
+                    ps.setTimestamp(19, timestamp(sample.getTimestamp()));
+                }));
+        List<MetricSample> history = new ArrayList<>();
+        for (int i = 0; counts != null && i < counts.length; i++) {
+            for (int j = 0; j < counts[i].length; j++) {
+                Pending entry = batch.get(i * batch.size() + j);
+                if (counts[i][j] == 0) {
+                    log.debug("Counters for port {} dropped: unknown port or a newer sample is stored",
+                            entry.sample.getPortId());
+                    lastSamples.remove(entry.sample.getPortId());
+                } else if (entry.rates != null) {
+                    history.add(toMetricSample(entry));
+                }
+            }
+        }
+        metricsService.record(MetricSeries.PORT, history);
+    }
+
+    private static MetricSample toMetricSample(Pending entry) {
+        CounterRates rates = entry.rates;
+        return new MetricSample(entry.sample.getPortId(), entry.sample.getTimestamp().toInstant(), Arrays.asList(
+                rates.getInBitsPerSecond(), rates.getOutBitsPerSecond(),
+                rates.getInPacketsPerSecond(), rates.getOutPacketsPerSecond()));
+    }
+
+    private static Timestamp timestamp(OffsetDateTime time) {
+        return time == null ? null : Timestamp.from(time.toInstant());
+    }
+
+    /**
+     * Latest sample and rates of a port since the last flush; reset and activity are kept
+     * even when later samples replace the one that saw them.
+     */
+    private static final class Pending {
+        final PortCounterSampleTo sample;
+        final CounterRates rates;
+        final OffsetDateTime resetAt;
+        final OffsetDateTime activeAt;
+
+        Pending(PortCounterSampleTo sample, CounterRates rates) {
+            this(sample, rates,
+                    rates != null && rates.isReset() ? sample.getTimestamp() : null,
+                    rates != null && rates.isActive() ? sample.getTimestamp() : null);
+        }
+
+        private Pending(PortCounterSampleTo sample, CounterRates rates, OffsetDateTime resetAt, OffsetDateTime activeAt) {
+            this.sample = sample;
+            this.rates = rates;
+            this.resetAt = resetAt;
+            this.activeAt = activeAt;
+        }
+
+        Pending then(Pending next) {
+            return new Pending(next.sample, next.rates != null ? next.rates : rates,
+                    next.resetAt != null ? next.resetAt : resetAt,
+                    next.activeAt != null ? next.activeAt : activeAt);
+        }
+    }
+}
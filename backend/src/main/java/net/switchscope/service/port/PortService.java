@@ -1,14 +1,23 @@
 package net.switchscope.service.port;
 
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import net.switchscope.cache.CacheNames;
 import net.switchscope.model.port.Port;
 import net.switchscope.repository.port.PortRepository;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.service.status.StatusPushService;
+import net.switchscope.to.StatusEventTo;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -17,36 +26,87 @@ import java.util.UUID;
 public class PortService implements CrudService<Port> {
 
     private final PortRepository repository;
+    private final CableTraceService cableTraceService;
+    private final TypeaheadService typeaheadService;
+    private final StatusPushService statusPushService;
 
     @Override
     public List<Port> getAll() {
-        return repository.findAllWithRelationships();
+        return repository.findAllForList();
     }
 
     @Override
     public Port getById(UUID id) {
-        return repository.findByIdWithRelationships(id)
+        return repository.findByIdForDetail(id)
                 .orElseThrow(() -> new IllegalArgumentException("Port not found with id: " + id));
     }
 
+    @Override
+    public List<Port> getPage(UUID after, int limit) {
+        List<Port> ports = repository.findPage(after, limit);
+        ports.forEach(port -> {
+            Hibernate.initialize(port.getDevice());
+            Hibernate.initialize(port.getConnector());
+        });
+        return ports;
+    }
+
+    @Override
+    public List<Port> getByIds(Collection<UUID> ids) {
+        return repository.findAllByIdForList(ids);
+    }
+
+    /**
+     * Get ports created or modified after {@code since} with device and connector initialized.
+     *
+     * @param since exclusive lower bound of updatedAt
+     * @return ports ordered by modification time
+     */
+    public List<Port> getUpdatedSince(OffsetDateTime since) {
+        List<Port> ports = repository.findUpdatedSince(since);
+        ports.forEach(port -> {
+            Hibernate.initialize(port.getDevice());
+            Hibernate.initialize(port.getConnector());
+        });
+        return ports;
+    }
+
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Port create(Port entity) {
         // TODO: implement validation
-        return repository.save(entity);
+        Port saved = repository.save(entity);
+        cableTraceService.refreshAfterCommit(saved.getId());
+        typeaheadService.refreshAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public Port update(UUID id, Port entity) {
-        repository.getExisted(id);
+        Port existing = repository.getExisted(id);
+        String operationalStatus = existing.getOperationalStatus();
+        String adminStatus = existing.getAdminStatus();
         entity.setId(id);
-        return repository.save(entity);
+        cableTraceService.refreshAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
+        Port saved = repository.save(entity);
+        if (saved.getDevice() != null && (!Objects.equals(operationalStatus, saved.getOperationalStatus())
+                || !Objects.equals(adminStatus, saved.getAdminStatus()))) {
+            statusPushService.publishAfterCommit(StatusEventTo.port(id, saved.getDevice().getId(),
+                    saved.getOperationalStatus(), saved.getAdminStatus()));
+        }
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPONENTS, allEntries = true)
     public void delete(UUID id) {
         repository.deleteExisted(id);
+        cableTraceService.refreshAfterCommit(id);
+        typeaheadService.refreshAfterCommit(id);
     }
 }
@@ -0,0 +1,231 @@
+package net.switchscope.service.projection;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.error.IllegalRequestDataException;
+import net.switchscope.to.KeysetPageTo;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+
+import java.math.BigDecimal;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sparse fieldsets for list endpoints ({@code ?fields=id,name,serialNumber}).
+ * <p>
+ * When every requested field is a plain column of the listed entity that the DTO exposes under
+ * the same name (or {@code <association>Id} for a many-to-one), the rows are read with a tuple
+ * query selecting just those columns and returned as maps, without loading entities or running
+ * the mapper. Otherwise (derived fields such as {@code fullPath}, subtype fields on a
+ * polymorphic list) the full DTOs are built and trimmed to the requested fields before
+ * serialization. {@code id} is always returned; names the DTO does not have are left out.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FieldProjectionService {
+
+    public static final String ID = "id";
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // Projectable columns by DTO field name, per (entity, DTO) pair
+    private final Map<List<Class<?>>, Map<String, Column>> columnsCache = new ConcurrentHashMap<>();
+
+    /**
+     * All rows with the requested fields.
+     *
+     * @param entityClass entity listed by the endpoint
+     * @param dtoClass    DTO the endpoint returns
+     * @param fields      comma separated field names
+     * @param dtos        full DTO list, used when the fields cannot be projected
+     * @return one map per row, fields in requested order
+     */
+    public List<Map<String, Object>> getAll(Class<?> entityClass, Class<?> dtoClass, String fields,
+                                            Supplier<? extends List<?>> dtos) {
+        Set<String> names = parse(fields);
+        List<Column> columns = columns(entityClass, dtoClass, names);
+        if (columns == null) {
+            return trim(dtos.get(), names);
+        }
+        return toRows(query(entityClass, columns, null, null), columns);
+    }
+
+    /**
+     * Keyset page with the requested fields, ordered by id like the DTO pages.
+     *
+     * @param entityClass entity listed by the endpoint
+     * @param dtoClass    DTO the endpoint returns
+     * @param fields      comma separated field names
+     * @param after       id of the last row of the previous page, null for the first page
+     * @param limit       effective page size
+     * @param page        full DTO page, used when the fields cannot be projected
+     * @return page of field maps
+     */
+    public KeysetPageTo<Map<String, Object>> getPage(Class<?> entityClass, Class<?> dtoClass, String fields,
+                                                     UUID after, int limit,
+                                                     Supplier<? extends KeysetPageTo<?>> page) {
+        Set<String> names = parse(fields);
+        List<Column> columns = columns(entityClass, dtoClass, names);
+        if (columns == null) {
+            KeysetPageTo<?> full = page.get();
+            return new KeysetPageTo<>(trim(full.getContent(), names), full.getLimit(), full.getNextCursor(), full.isHasNext());
+        }
+        return KeysetPageTo.of(query(entityClass, columns, after, limit + 1), limit,
+                window -> toRows(window, columns), tuple -> tuple.get(ID, UUID.class));
+    }
+
+    static Set<String> parse(String fields) {
+        if (fields.isBlank()) {
+            throw new IllegalRequestDataException("fields must name at least one field");
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add(ID);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(names::add);
+        return names;
+    }
+
+    /**
+     * Columns for the requested fields, or null if some field is not a projectable column
+     * (derived, subtype-only or unknown).
+     */
+    List<Column> columns(Class<?> entityClass, Class<?> dtoClass, Set<String> names) {
+        Map<String, Column> projectable = columnsCache.computeIfAbsent(List.of(entityClass, dtoClass),
+                key -> projectableColumns(entityClass, dtoClass));
+        List<Column> columns = new ArrayList<>(names.size());
+        for (String name : names) {
+            Column column = projectable.get(name);
+            if (column == null) {
+                log.debug("Field {} is not a column of {}, mapping full DTOs", name, entityClass.getSimpleName());
+                return null;
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    private Map<String, Column> projectableColumns(Class<?> entityClass, Class<?> dtoClass) {
+        Set<String> exposed = exposedFields(dtoClass);
+        Map<String, Column> columns = new LinkedHashMap<>();
+        for (SingularAttribute<?, ?> attribute : entityManager.getMetamodel().entity(entityClass).getSingularAttributes()) {
+            String name = attribute.getName();
+            if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+                    && exposed.contains(name) && isPlainValue(attribute.getJavaType())) {
+                columns.put(name, new Column(name, root -> root.get(name)));
+            } else if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.MANY_TO_ONE
+                    && exposed.contains(name + "Id")) {
+                // Id of a many-to-one is read from the foreign key column, no join
+                columns.put(name + "Id", new Column(name + "Id", root -> root.get(name).get(ID)));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * DTO properties that are written to JSON (write-only secrets excluded).
+     */
+    private Set<String> exposedFields(Class<?> dtoClass) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(dtoClass));
+        Set<String> names = new HashSet<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (property.couldSerialize()) {
+                names.add(property.getName());
+            }
+        }
+        return names;
+    }
+
+    private static boolean isPlainValue(Class<?> type) {
+        Class<?> wrapped = ClassUtils.resolvePrimitiveIfNecessary(type);
+        return wrapped == String.class || Number.class.isAssignableFrom(wrapped) || wrapped == Boolean.class
+                || wrapped.isEnum() || wrapped == UUID.class || Temporal.class.isAssignableFrom(wrapped)
+                || wrapped == BigDecimal.class;
+    }
+
+    private List<Tuple> query(Class<?> entityClass, List<Column> columns, UUID after, Integer maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityClass);
+        List<Selection<?>> selections = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            selections.add(column.path().apply(root).alias(column.name()));
+        }
+        query.multiselect(selections);
+        Path<UUID> id = root.<UUID>get(ID);
+        if (after != null) {
+            query.where(cb.greaterThan(id, after));
+        }
+        query.orderBy(cb.asc(id));
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (maxResults != null) {
+            typed.setMaxResults(maxResults);
+        }
+        return typed.getResultList();
+    }
+
+    private static List<Map<String, Object>> toRows(List<Tuple> tuples, List<Column> columns) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (Column column : columns) {
+                row.put(column.name(), tuple.get(column.name()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private List<Map<String, Object>> trim(List<?> dtos, Set<String> names) {
+        List<Map<String, Object>> rows = new ArrayList<>(dtos.size());
+        for (Object dto : dtos) {
+            Map<String, Object> all = objectMapper.convertValue(dto, MAP_TYPE);
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String name : names) {
+                if (all.containsKey(name)) {
+                    row.put(name, all.get(name));
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    record Column(String name, Function<Root<?>, Path<?>> path) {
+    }
+}
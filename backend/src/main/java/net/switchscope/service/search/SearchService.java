@@ -0,0 +1,135 @@
+package net.switchscope.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.error.IllegalRequestDataException;
+import net.switchscope.to.SearchTo;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Substring search over component name, serial and part number and management IP, location
+ * name, address and room, and port label.
+ * <p>
+ * Every searched column has a trigram GIN index on {@code lower(column)}, so the
+ * {@code LIKE '%q%'} filters are bitmap index scans. Matches are ranked by
+ * {@code word_similarity} of the query to the best matching column, shorter names first on ties.
+ * Hits and facet counts come from one statement: the matches are materialized once, then both
+ * counted per type and cut to the limit; facet rows are the ones without a rank.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    public static final int MIN_QUERY_LENGTH = 3;
+    public static final int MAX_QUERY_LENGTH = 100;
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public static final String LOCATION = "LOCATION";
+    public static final String PORT = "PORT";
+
+    private static final String MATCHES = """
+            WITH hits AS MATERIALIZED (
+                SELECT c.component_class AS type, c.id, c.name,
+                       COALESCE(c.management_ip, c.serial_number) AS detail, CAST(NULL AS UUID) AS device_id,
+                       GREATEST(word_similarity(:q, lower(c.name)), word_similarity(:q, lower(c.serial_number)),
+                                word_similarity(:q, lower(c.part_number)), word_similarity(:q, lower(c.management_ip))) AS score
+                FROM components c
+                WHERE lower(c.name) LIKE :pattern OR lower(c.serial_number) LIKE :pattern
+                   OR lower(c.part_number) LIKE :pattern OR lower(c.management_ip) LIKE :pattern
+                UNION ALL
+                SELECT 'LOCATION', l.id, l.name, l.full_path, NULL,
+                       GREATEST(word_similarity(:q, lower(l.name)), word_similarity(:q, lower(l.address)),
+                                word_similarity(:q, lower(l.room_number)))
+                FROM locations l
+                WHERE lower(l.name) LIKE :pattern OR lower(l.address) LIKE :pattern OR lower(l.room_number) LIKE :pattern
+                UNION ALL
+                SELECT 'PORT', p.id, p.port_label, NULL, p.equipment_id, word_similarity(:q, lower(p.port_label))
+                FROM ports p
+                WHERE lower(p.port_label) LIKE :pattern
+            ),
+            top AS (
+                SELECT *, row_number() OVER (ORDER BY score DESC, length(name), name) AS rank
+                FROM hits %s ORDER BY rank LIMIT :limit
+            )
+            SELECT t.type, t.id, t.name, COALESCE(t.detail, d.name) AS detail, t.score, t.rank, NULL AS matches
+            FROM top t LEFT JOIN components d ON d.id = t.device_id
+            UNION ALL
+            SELECT type, NULL, NULL, NULL, NULL, NULL, count(*) FROM hits GROUP BY type
+            ORDER BY rank NULLS LAST, type
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Search all types.
+     *
+     * @param query text to find, at least {@link #MIN_QUERY_LENGTH} characters
+     * @param types result types to return (component classes, {@link #LOCATION}, {@link #PORT}), empty for all
+     * @param limit max hits
+     * @return ranked hits and match counts per type
+     */
+    public SearchTo search(String query, Collection<String> types, int limit) {
+        String q = normalizeQuery(query);
+        if (limit < 1) {
+            throw new IllegalRequestDataException("limit must be positive, was " + limit);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("q", q)
+                .addValue("pattern", "%" + escapeLike(q) + "%")
+                .addValue("limit", Math.min(limit, MAX_LIMIT));
+        List<String> typeCodes = types.stream()
+                .filter(type -> !type.isBlank())
+                .map(type -> type.strip().toUpperCase(Locale.ROOT))
+                .toList();
+        String typeFilter = "";
+        if (!typeCodes.isEmpty()) {
+            typeFilter = "WHERE type IN (:types)";
+            params.addValue("types", typeCodes);
+        }
+
+        List<SearchTo.Hit> hits = new ArrayList<>();
+        Map<String, Long> facets = new LinkedHashMap<>();
+        jdbcTemplate.query(MATCHES.formatted(typeFilter), params, rs -> {
+            String type = rs.getString("type");
+            long matches = rs.getLong("matches");
+            if (rs.wasNull()) {
+                hits.add(new SearchTo.Hit(type, rs.getObject("id", UUID.class), rs.getString("name"),
+                        rs.getString("detail"), rs.getDouble("score")));
+            } else {
+                facets.put(type, matches);
+            }
+        });
+        log.debug("Search '{}' found {} hits, facets {}", q, hits.size(), facets);
+        return new SearchTo(q, hits, facets);
+    }
+
+    static String normalizeQuery(String query) {
+        String q = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (q.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalRequestDataException("q must have at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalRequestDataException("q must have at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        return q;
+    }
+
+    // Backslash is the default LIKE escape character in PostgreSQL
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
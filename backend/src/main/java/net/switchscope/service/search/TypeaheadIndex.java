@@ -0,0 +1,420 @@
+package net.switchscope.service.search;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory n-gram index for typeahead over components, locations and ports.
+ * <p>
+ * Every entry gets a slot in parallel arrays. Postings map a gram packed into a {@code long} to the
+ * ascending slots containing it: all trigrams of the searchable fields, plus the first one and two
+ * characters of every word for queries shorter than a trigram. Removed entries leave dead slots that
+ * are skipped by queries and dropped once they make up a quarter of the index.
+ * <p>
+ * A query verifies at most {@link #MAX_CANDIDATES} entries, so a very common prefix ranks only the
+ * entries loaded first; a longer query narrows the candidates down to an exact answer.
+ */
+class TypeaheadIndex {
+
+    // Match ranks, best first
+    static final int EXACT = 0;
+    static final int PREFIX = 1;
+    static final int WORD_PREFIX = 2;
+    static final int SUBSTRING = 3;
+
+    // Candidates verified per query, bounds latency of one and two character queries on large indexes
+    static final int MAX_CANDIDATES = 20_000;
+
+    private static final int GRAM = 3;
+    private static final char FIELD_SEPARATOR = '\n';
+
+    @Value
+    static class Entry {
+        String type;
+        UUID id;
+        String name;
+        String detail;
+        // Owning device of a port, its ports are removed with it
+        UUID parentId;
+        List<String> fields;
+    }
+
+    @Value
+    static class Hit {
+        String type;
+        UUID id;
+        String name;
+        String detail;
+        int rank;
+    }
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] idMsb = new long[0];
+    private long[] idLsb = new long[0];
+    private long[] parentMsb = new long[0];
+    private long[] parentLsb = new long[0];
+    private String[] types = new String[0];
+    private String[] names = new String[0];
+    private String[] details = new String[0];
+    // Lowercased searchable fields joined by FIELD_SEPARATOR
+    private String[] texts = new String[0];
+    private BitSet dead = new BitSet();
+    private int slots;
+    private int deadCount;
+
+    TypeaheadIndex(Collection<Entry> entries) {
+        entries.forEach(this::add);
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slots - deadCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best matches for a query: exact field first, then field prefix, word prefix and substring,
+     * shorter names first within a rank. Queries shorter than three characters match word prefixes only.
+     *
+     * @param query lowercased, stripped query
+     * @param limit max hits
+     * @return hits, best first
+     */
+    List<Hit> search(String query, int limit) {
+        if (query.isEmpty() || query.indexOf(FIELD_SEPARATOR) >= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] lists = postingsFor(query);
+            if (lists.length == 0) {
+                return List.of();
+            }
+            Comparator<int[]> order = this::compare;
+            // Worst kept candidate on top, {slot, rank}
+            PriorityQueue<int[]> top = new PriorityQueue<>(limit + 1, order.reversed());
+            int[] cursors = new int[lists.length];
+            Postings smallest = lists[0];
+            int verified = 0;
+            for (int i = 0; i < smallest.size && verified < MAX_CANDIDATES; i++) {
+                int slot = smallest.slots[i];
+                if (dead.get(slot) || !containedInAll(lists, cursors, slot)) {
+                    continue;
+                }
+                verified++;
+                int rank = matchRank(texts[slot], query);
+                if (rank < 0) {
+                    continue;
+                }
+                int[] candidate = {slot, rank};
+                if (top.size() < limit) {
+                    top.add(candidate);
+                } else if (order.compare(candidate, top.peek()) < 0) {
+                    top.poll();
+                    top.add(candidate);
+                }
+            }
+            List<int[]> ordered = new ArrayList<>(top);
+            ordered.sort(order);
+            List<Hit> hits = new ArrayList<>(ordered.size());
+            for (int[] candidate : ordered) {
+                int slot = candidate[0];
+                hits.add(new Hit(types[slot], new UUID(idMsb[slot], idLsb[slot]), names[slot], details[slot],
+                        candidate[1]));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the given entries, and ports of the given devices, then add the reloaded entries.
+     *
+     * @param ids     changed entry IDs
+     * @param entries current state of the changed entries, missing ones were deleted
+     */
+    void replace(Collection<UUID> ids, Collection<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            Set<UUID> removed = new HashSet<>(ids);
+            entries.forEach(entry -> removed.add(entry.getId()));
+            long[] msbs = removed.stream().mapToLong(UUID::getMostSignificantBits).sorted().toArray();
+            for (int slot = 0; slot < slots; slot++) {
+                if (!dead.get(slot) && (isIn(removed, msbs, idMsb[slot], idLsb[slot])
+                        || isIn(removed, msbs, parentMsb[slot], parentLsb[slot]))) {
+                    dead.set(slot);
+                    deadCount++;
+                }
+            }
+            entries.forEach(this::add);
+            if (deadCount > 0 && deadCount * 4 >= slots) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rank of the best match of the query in any field, -1 if none.
+     */
+    static int matchRank(String text, String query) {
+        int best = -1;
+        int start = 0;
+        while (start <= text.length() && best != EXACT) {
+            int end = text.indexOf(FIELD_SEPARATOR, start);
+            if (end < 0) {
+                end = text.length();
+            }
+            int rank = fieldRank(text, start, end, query);
+            if (rank >= 0 && (best < 0 || rank < best)) {
+                best = rank;
+            }
+            start = end + 1;
+        }
+        return best;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static int fieldRank(String text, int start, int end, String query) {
+        if (end - start < query.length()) {
+            return -1;
+        }
+        if (text.startsWith(query, start)) {
+            return end - start == query.length() ? EXACT : PREFIX;
+        }
+        int rank = -1;
+        for (int i = text.indexOf(query, start + 1); i >= 0 && i + query.length() <= end;
+             i = text.indexOf(query, i + 1)) {
+            if (isWordStart(text, i)) {
+                return WORD_PREFIX;
+            }
+            rank = SUBSTRING;
+        }
+        return rank;
+    }
+
+    private static boolean isWordStart(String text, int i) {
+        return Character.isLetterOrDigit(text.charAt(i))
+                && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)));
+    }
+
+    private static boolean isIn(Set<UUID> ids, long[] msbs, long msb, long lsb) {
+        return Arrays.binarySearch(msbs, msb) >= 0 && ids.contains(new UUID(msb, lsb));
+    }
+
+    // Length tag in the top bits keeps word prefixes apart from trigrams of the same characters
+    private static long gram(String text, int from, int length) {
+        long key = length;
+        for (int i = from; i < from + length; i++) {
+            key = (key << 16) | text.charAt(i);
+        }
+        return key;
+    }
+
+    private Postings[] postingsFor(String query) {
+        Set<Long> grams = new HashSet<>();
+        if (query.length() < GRAM) {
+            grams.add(gram(query, 0, query.length()));
+        } else {
+            for (int i = 0; i + GRAM <= query.length(); i++) {
+                grams.add(gram(query, i, GRAM));
+            }
+        }
+        Postings[] lists = new Postings[grams.size()];
+        int n = 0;
+        for (Long gram : grams) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return new Postings[0];
+            }
+            lists[n++] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        return lists;
+    }
+
+    // Slots arrive in ascending order, so each list is searched from where the previous slot was found
+    private static boolean containedInAll(Postings[] lists, int[] cursors, int slot) {
+        for (int i = 1; i < lists.length; i++) {
+            Postings list = lists[i];
+            int found = list.seek(cursors[i], slot);
+            if (found < 0) {
+                cursors[i] = -found - 1;
+                return false;
+            }
+            cursors[i] = found + 1;
+        }
+        return true;
+    }
+
+    // {slot, rank} pairs: better rank, then shorter name, then name
+    private int compare(int[] a, int[] b) {
+        if (a[1] != b[1]) {
+            return Integer.compare(a[1], b[1]);
+        }
+        String nameA = nameOf(a[0]);
+        String nameB = nameOf(b[0]);
+        return nameA.length() != nameB.length()
+                ? Integer.compare(nameA.length(), nameB.length())
+                : nameA.compareTo(nameB);
+    }
+
+    private String nameOf(int slot) {
+        return names[slot] == null ? "" : names[slot];
+    }
+
+    private void add(Entry entry) {
+        StringBuilder text = new StringBuilder();
+        for (String field : entry.getFields()) {
+            String value = normalize(field);
+            if (!value.isEmpty()) {
+                if (!text.isEmpty()) {
+                    text.append(FIELD_SEPARATOR);
+                }
+                text.append(value.replace(FIELD_SEPARATOR, ' '));
+            }
+        }
+        if (text.isEmpty()) {
+            return;
+        }
+        UUID parentId = entry.getParentId();
+        addSlot(entry.getId().getMostSignificantBits(), entry.getId().getLeastSignificantBits(),
+                parentId == null ? 0 : parentId.getMostSignificantBits(),
+                parentId == null ? 0 : parentId.getLeastSignificantBits(),
+                entry.getType().intern(), entry.getName(), entry.getDetail(), text.toString());
+    }
+
+    private void addSlot(long msb, long lsb, long parentHigh, long parentLow,
+                         String type, String name, String detail, String text) {
+        if (slots == idMsb.length) {
+            int capacity = Math.max(16, slots * 2);
+            idMsb = Arrays.copyOf(idMsb, capacity);
+            idLsb = Arrays.copyOf(idLsb, capacity);
+            parentMsb = Arrays.copyOf(parentMsb, capacity);
+            parentLsb = Arrays.copyOf(parentLsb, capacity);
+            types = Arrays.copyOf(types, capacity);
+            names = Arrays.copyOf(names, capacity);
+            details = Arrays.copyOf(details, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+        }
+        int slot = slots++;
+        idMsb[slot] = msb;
+        idLsb[slot] = lsb;
+        parentMsb[slot] = parentHigh;
+        parentLsb[slot] = parentLow;
+        types[slot] = type;
+        names[slot] = name;
+        details[slot] = detail;
+        texts[slot] = text;
+
+        for (int i = 0; i < text.length(); i++) {
+            if (i + GRAM <= text.length() && text.charAt(i) != FIELD_SEPARATOR
+                    && text.charAt(i + 1) != FIELD_SEPARATOR && text.charAt(i + 2) != FIELD_SEPARATOR) {
+                posting(gram(text, i, GRAM)).add(slot);
+            }
+            if (isWordStart(text, i)) {
+                posting(gram(text, i, 1)).add(slot);
+                if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                    posting(gram(text, i, 2)).add(slot);
+                }
+            }
+        }
+    }
+
+    private Postings posting(long gram) {
+        return postings.computeIfAbsent(gram, key -> new Postings());
+    }
+
+    private void compact() {
+        long[] oldMsb = idMsb;
+        long[] oldLsb = idLsb;
+        long[] oldParentMsb = parentMsb;
+        long[] oldParentLsb = parentLsb;
+        String[] oldTypes = types;
+        String[] oldNames = names;
+        String[] oldDetails = details;
+        String[] oldTexts = texts;
+        BitSet oldDead = dead;
+        int oldSlots = slots;
+
+        idMsb = new long[0];
+        idLsb = new long[0];
+        parentMsb = new long[0];
+        parentLsb = new long[0];
+        types = new String[0];
+        names = new String[0];
+        details = new String[0];
+        texts = new String[0];
+        dead = new BitSet();
+        slots = 0;
+        deadCount = 0;
+        postings.clear();
+        for (int slot = 0; slot < oldSlots; slot++) {
+            if (!oldDead.get(slot)) {
+                addSlot(oldMsb[slot], oldLsb[slot], oldParentMsb[slot], oldParentLsb[slot],
+                        oldTypes[slot], oldNames[slot], oldDetails[slot], oldTexts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Ascending slots of one gram, duplicates from the same entry collapsed on add.
+     */
+    private static class Postings {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        /**
+         * Galloping search from {@code from}: the next slot is usually close to the previous one.
+         *
+         * @return index of the slot, or {@code -(insertion point) - 1}
+         */
+        int seek(int from, int slot) {
+            int low = from;
+            int high = from;
+            int step = 1;
+            while (high < size && slots[high] < slot) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            return Arrays.binarySearch(slots, low, Math.min(high + 1, size), slot);
+        }
+    }
+}
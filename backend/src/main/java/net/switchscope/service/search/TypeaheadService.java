@@ -0,0 +1,248 @@
+package net.switchscope.service.search;
+
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.cache.ClusterEvent;
+import net.switchscope.cache.ClusterEvents;
+import net.switchscope.error.IllegalRequestDataException;
+import net.switchscope.service.search.TypeaheadIndex.Entry;
+import net.switchscope.service.search.TypeaheadIndex.Hit;
+import net.switchscope.to.SearchTo;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead over component name, serial number and management IP, location path and port label,
+ * answered from {@link TypeaheadIndex} without a database round trip.
+ * <p>
+ * The index is loaded on first use. Component, location and port services call
+ * {@link #refreshAfterCommit} with the IDs they changed; only those rows are reloaded, here and,
+ * through {@link ClusterEvents}, on the other nodes. A full load that raced a refresh may hold
+ * the old rows and is not kept. The index is also rebuilt every {@code app.typeahead.rebuild-interval},
+ * which bounds staleness from missed messages or writes made without Redis on another node.
+ */
+@Slf4j
+@Service
+public class TypeaheadService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+    static final String CLUSTER_TOPIC = "typeahead";
+
+    private static final String COMPONENTS = """
+            SELECT c.id, c.component_class, c.name, c.serial_number, c.management_ip
+            FROM components c
+            """;
+    private static final String LOCATIONS = """
+            SELECT l.id, l.name, l.full_path
+            FROM locations l
+            """;
+    private static final String PORTS = """
+            SELECT p.id, p.port_label, p.equipment_id, d.name AS device_name
+            FROM ports p LEFT JOIN components d ON d.id = p.equipment_id
+            WHERE p.port_label IS NOT NULL
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ClusterEvents clusterEvents;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile TypeaheadIndex index;
+    // Bumped on every refresh and reset; a full load that raced with one is not kept
+    private final AtomicLong generation = new AtomicLong();
+
+    public TypeaheadService(NamedParameterJdbcTemplate jdbcTemplate,
+                            ClusterEvents clusterEvents,
+                            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterEvents = clusterEvents;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Top matches for a partially typed query. Queries shorter than three characters
+     * match the start of a word only.
+     *
+     * @param query typed text, blank returns nothing
+     * @param limit max hits
+     * @return hits, best first; the score is 1 for an exact field match down to 0.25 for a substring
+     */
+    public List<SearchTo.Hit> suggest(String query, int limit) {
+        String q = TypeaheadIndex.normalize(query);
+        if (q.length() > SearchService.MAX_QUERY_LENGTH) {
+            throw new IllegalRequestDataException("q must have at most " + SearchService.MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1) {
+            throw new IllegalRequestDataException("limit must be positive, was " + limit);
+        }
+        if (q.isEmpty()) {
+            return List.of();
+        }
+        return index().search(q, Math.min(limit, MAX_LIMIT)).stream()
+                .map(TypeaheadService::toHit)
+                .toList();
+    }
+
+    /**
+     * Reload index entries after the current transaction commits (immediately if there is none).
+     * Pass the ID of every component, location or port that was created, changed or deleted;
+     * ports of a changed device and descendants of a changed location are reloaded with it.
+     *
+     * @param ids changed IDs
+     */
+    public void refreshAfterCommit(UUID... ids) {
+        List<UUID> changed = List.of(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshEverywhere(changed);
+                }
+            });
+        } else {
+            refreshEverywhere(changed);
+        }
+    }
+
+    /**
+     * Drop the whole index, the next query rebuilds it. Used after bulk imports.
+     */
+    public void reset() {
+        resetLocal();
+        clusterEvents.publish(CLUSTER_TOPIC, "");
+    }
+
+    /**
+     * Reload the whole index in the background if it is in use, so queries never wait for it.
+     */
+    @Scheduled(fixedDelayString = "${app.typeahead.rebuild-interval:15m}",
+               initialDelayString = "${app.typeahead.rebuild-interval:15m}")
+    public void rebuild() {
+        if (index == null) {
+            return;
+        }
+        long before = generation.get();
+        TypeaheadIndex loaded = loadAll();
+        synchronized (this) {
+            if (index != null && generation.get() == before) {
+                index = loaded;
+                log.debug("Typeahead index rebuilt: {} entries", loaded.size());
+            }
+        }
+    }
+
+    /**
+     * Apply a refresh or reset announced by another node.
+     */
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (!CLUSTER_TOPIC.equals(event.getTopic())) {
+            return;
+        }
+        if (event.getPayload().isEmpty()) {
+            resetLocal();
+        } else {
+            refresh(Arrays.stream(event.getPayload().split(",")).map(UUID::fromString).toList());
+        }
+    }
+
+    private void resetLocal() {
+        generation.incrementAndGet();
+        index = null;
+        log.debug("Typeahead index reset");
+    }
+
+    private void refreshEverywhere(Collection<UUID> changed) {
+        refresh(changed);
+        if (!changed.isEmpty()) {
+            clusterEvents.publish(CLUSTER_TOPIC, changed.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        }
+    }
+
+    private void refresh(Collection<UUID> changed) {
+        generation.incrementAndGet();
+        TypeaheadIndex current = index;
+        if (current == null || changed.isEmpty()) {
+            // Not built yet, the first query loads everything
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", changed);
+        List<Entry> entries = transactionTemplate.execute(status -> load(
+                COMPONENTS + "WHERE c.id IN (:ids)",
+                LOCATIONS + "WHERE l.id IN (SELECT descendant_id FROM location_closure WHERE ancestor_id IN (:ids))",
+                PORTS + "AND (p.id IN (:ids) OR p.equipment_id IN (:ids))",
+                params));
+        current.replace(changed, entries);
+        log.debug("Typeahead index refreshed {} entries for {} changed IDs", entries.size(), changed.size());
+    }
+
+    private TypeaheadIndex index() {
+        TypeaheadIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    long before = generation.get();
+                    TypeaheadIndex loaded = loadAll();
+                    if (generation.get() != before) {
+                        // A commit skipped its refresh while the rows were read: answer from the load, keep nothing
+                        log.debug("Typeahead index load raced a refresh, not kept");
+                        return loaded;
+                    }
+                    index = loaded;
+                    log.info("Typeahead index loaded: {} entries", loaded.size());
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private TypeaheadIndex loadAll() {
+        return new TypeaheadIndex(transactionTemplate.execute(status ->
+                load(COMPONENTS, LOCATIONS, PORTS, new MapSqlParameterSource())));
+    }
+
+    private List<Entry> load(String components, String locations, String ports, MapSqlParameterSource params) {
+        List<Entry> entries = new ArrayList<>();
+        jdbcTemplate.query(components, params, rs -> {
+            String serialNumber = rs.getString("serial_number");
+            String managementIp = rs.getString("management_ip");
+            entries.add(new Entry(rs.getString("component_class"), rs.getObject("id", UUID.class),
+                    rs.getString("name"), managementIp != null ? managementIp : serialNumber, null,
+                    Arrays.asList(rs.getString("name"), serialNumber, managementIp)));
+        });
+        jdbcTemplate.query(locations, params, rs -> {
+            String fullPath = rs.getString("full_path");
+            entries.add(new Entry(SearchService.LOCATION, rs.getObject("id", UUID.class), rs.getString("name"),
+                    fullPath, null, Arrays.asList(fullPath != null ? fullPath : rs.getString("name"))));
+        });
+        jdbcTemplate.query(ports, params, rs -> {
+            String label = rs.getString("port_label");
+            entries.add(new Entry(SearchService.PORT, rs.getObject("id", UUID.class), label,
+                    rs.getString("device_name"), rs.getObject("equipment_id", UUID.class), List.of(label)));
+        });
+        return entries;
+    }
+
+    private static SearchTo.Hit toHit(Hit hit) {
+        return new SearchTo.Hit(hit.getType(), hit.getId(), hit.getName(), hit.getDetail(),
+                1.0 - hit.getRank() * 0.25);
+    }
+}
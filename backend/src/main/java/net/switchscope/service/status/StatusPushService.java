@@ -0,0 +1,183 @@
+package net.switchscope.service.status;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.cache.ClusterEvent;
+import net.switchscope.cache.ClusterEvents;
+import net.switchscope.to.StatusEventTo;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes port status and device reachability changes to STOMP subscribers.
+ * <p>
+ * Changes are coalesced per port or device and sent every {@code app.status-push.interval}:
+ * only the latest state is kept, and a state equal to the one last pushed (a port that went down
+ * and up again in between) is dropped. Each push sends at most one message per topic, a list of
+ * the changes for that topic:
+ * <ul>
+ *     <li>{@code /topic/status/devices/{deviceId}} - the device and its ports</li>
+ *     <li>{@code /topic/status/locations/{locationId}} - devices installed anywhere below the location</li>
+ * </ul>
+ * The STOMP broker is in memory on every node, so each push is also sent through {@link ClusterEvents}
+ * and the other nodes hand it to their own subscribers. Pushed states of deleted ports and devices
+ * are forgotten every {@code app.status-push.prune-interval}.
+ */
+@Slf4j
+@Service
+public class StatusPushService {
+
+    public static final String TOPIC_PREFIX = "/topic/status/";
+    static final String DEVICE_TOPIC = TOPIC_PREFIX + "devices/";
+    static final String LOCATION_TOPIC = TOPIC_PREFIX + "locations/";
+    static final String CLUSTER_TOPIC = "status-push";
+
+    // Every location containing the device, its own included
+    private static final String DEVICE_LOCATIONS_SQL = """
+            SELECT c.id, lc.ancestor_id
+            FROM components c
+            JOIN installations i ON i.id = c.installation_id
+            JOIN location_closure lc ON lc.descendant_id = i.location_id
+            WHERE c.id = ANY (?)""";
+
+    private static final String EXISTING_SQL = """
+            SELECT id FROM ports WHERE id = ANY (?)
+            UNION ALL
+            SELECT id FROM components WHERE id = ANY (?)""";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterEvents clusterEvents;
+    private final ObjectMapper objectMapper;
+
+    // Latest change per port or device since the last push
+    private final Map<UUID, StatusEventTo> pending = new ConcurrentHashMap<>();
+    // State last pushed per port or device
+    private final Map<UUID, StatusEventTo> pushed = new ConcurrentHashMap<>();
+
+    public StatusPushService(SimpMessagingTemplate messagingTemplate, JdbcTemplate jdbcTemplate,
+                             ClusterEvents clusterEvents, ObjectMapper objectMapper) {
+        this.messagingTemplate = messagingTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterEvents = clusterEvents;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Queue a change for the next push.
+     */
+    public void publish(StatusEventTo event) {
+        pending.put(event.getId(), event);
+    }
+
+    /**
+     * Queue a change once the current transaction commits; immediately without a transaction.
+     */
+    public void publishAfterCommit(StatusEventTo event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            });
+        } else {
+            publish(event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.status-push.interval:2s}")
+    public void push() {
+        List<StatusEventTo> events = new ArrayList<>();
+        for (UUID id : pending.keySet()) {
+            StatusEventTo event = pending.remove(id);
+            if (event != null && !event.sameStatus(pushed.get(id))) {
+                events.add(event);
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<UUID>> locationsByDevice = new HashMap<>();
+        UUID[] deviceIds = events.stream().map(StatusEventTo::getDeviceId).distinct().toArray(UUID[]::new);
+        jdbcTemplate.query(DEVICE_LOCATIONS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", deviceIds)),
+                rs -> {
+                    locationsByDevice.computeIfAbsent(rs.getObject(1, UUID.class), id -> new ArrayList<>())
+                            .add(rs.getObject(2, UUID.class));
+                });
+
+        Map<String, List<StatusEventTo>> messages = new LinkedHashMap<>();
+        for (StatusEventTo event : events) {
+            messages.computeIfAbsent(DEVICE_TOPIC + event.getDeviceId(), topic -> new ArrayList<>()).add(event);
+            for (UUID locationId : locationsByDevice.getOrDefault(event.getDeviceId(), List.of())) {
+                messages.computeIfAbsent(LOCATION_TOPIC + locationId, topic -> new ArrayList<>()).add(event);
+            }
+            pushed.put(event.getId(), event);
+        }
+        messages.forEach(messagingTemplate::convertAndSend);
+        if (clusterEvents.isShared()) {
+            try {
+                clusterEvents.publish(CLUSTER_TOPIC, objectMapper.writeValueAsString(messages));
+            } catch (JsonProcessingException e) {
+                log.warn("Status push not sent to other nodes: {}", e.toString());
+            }
+        }
+        log.debug("Pushed {} status changes to {} topics", events.size(), messages.size());
+    }
+
+    /**
+     * Hand a push of another node to the subscribers of this node.
+     */
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) throws JsonProcessingException {
+        if (!CLUSTER_TOPIC.equals(event.getTopic())) {
+            return;
+        }
+        Map<String, Object> headers = Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON);
+        for (Map.Entry<String, JsonNode> message : objectMapper.readTree(event.getPayload()).properties()) {
+            messagingTemplate.convertAndSend(message.getKey(), objectMapper.writeValueAsBytes(message.getValue()), headers);
+        }
+    }
+
+    /**
+     * Forget pushed states of ports and devices that no longer exist.
+     */
+    @Scheduled(fixedDelayString = "${app.status-push.prune-interval:1h}")
+    public void prune() {
+        if (pushed.isEmpty()) {
+            return;
+        }
+        UUID[] ids = pushed.keySet().toArray(UUID[]::new);
+        Set<UUID> existing = new HashSet<>(jdbcTemplate.query(EXISTING_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("uuid", ids));
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class)));
+        for (UUID id : ids) {
+            if (!existing.contains(id)) {
+                pushed.remove(id);
+            }
+        }
+        log.debug("Pruned {} pushed states", ids.length - existing.size());
+    }
+}
@@ -0,0 +1,132 @@
+package net.switchscope.service.sync;
+
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.mapper.installation.InstallationMapper;
+import net.switchscope.mapper.port.EthernetPortMapper;
+import net.switchscope.mapper.port.FiberPortMapper;
+import net.switchscope.model.installation.Installation;
+import net.switchscope.model.port.EthernetPort;
+import net.switchscope.model.port.FiberPort;
+import net.switchscope.model.port.Port;
+import net.switchscope.repository.sync.TombstoneRepository;
+import net.switchscope.service.component.ComponentService;
+import net.switchscope.service.installation.InstallationService;
+import net.switchscope.service.location.LocationService;
+import net.switchscope.service.port.PortService;
+import net.switchscope.to.SyncTo;
+import net.switchscope.to.component.ComponentTo;
+import net.switchscope.to.installation.InstallationTo;
+import net.switchscope.to.location.LocationTo;
+import net.switchscope.to.port.PortTo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Delta sync for offline clients: components, ports, locations and installations changed since
+ * a cursor, plus tombstones of deleted rows.
+ * <p>
+ * {@code updatedAt} is stamped at flush, before commit, so a row may become visible after a sync
+ * whose cursor is already past its timestamp. Each sync therefore re-reads {@code app.sync.overlap}
+ * before the cursor; clients upsert, so the repeated rows are harmless.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final ComponentService componentService;
+    private final PortService portService;
+    private final LocationService locationService;
+    private final InstallationService installationService;
+    private final TombstoneRepository tombstoneRepository;
+    private final EthernetPortMapper ethernetPortMapper;
+    private final FiberPortMapper fiberPortMapper;
+    private final InstallationMapper installationMapper;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+
+    public SyncService(ComponentService componentService,
+                       PortService portService,
+                       LocationService locationService,
+                       InstallationService installationService,
+                       TombstoneRepository tombstoneRepository,
+                       EthernetPortMapper ethernetPortMapper,
+                       FiberPortMapper fiberPortMapper,
+                       InstallationMapper installationMapper,
+                       @Value("${app.sync.overlap:30s}") Duration overlap,
+                       @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.componentService = componentService;
+        this.portService = portService;
+        this.locationService = locationService;
+        this.installationService = installationService;
+        this.tombstoneRepository = tombstoneRepository;
+        this.ethernetPortMapper = ethernetPortMapper;
+        this.fiberPortMapper = fiberPortMapper;
+        this.installationMapper = installationMapper;
+        this.overlap = overlap;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Collect changes since the cursor in one snapshot (repeatable read), so the four lists
+     * and the tombstones are mutually consistent.
+     *
+     * @param since cursor returned by the previous sync, null for an initial sync
+     * @return changed rows, deletions and the next cursor
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncTo getChanges(OffsetDateTime since) {
+        OffsetDateTime cursor = OffsetDateTime.now();
+        OffsetDateTime from = since == null ? null : since.minus(overlap);
+        // Tombstones older than the retention are gone, deletions before it can no longer be reported
+        if (from == null || from.isBefore(cursor.minus(tombstoneRetention))) {
+            log.debug("Full resync, since={}", since);
+            return new SyncTo(cursor, true,
+                    componentService.getAllAsDto(),
+                    portService.getAll().stream().map(this::mapPort).toList(),
+                    locationService.getAllAsDto(),
+                    mapInstallations(installationService.getAll()),
+                    List.of());
+        }
+        List<ComponentTo> components = componentService.getUpdatedSinceAsDto(from);
+        List<PortTo> ports = portService.getUpdatedSince(from).stream().map(this::mapPort).toList();
+        List<LocationTo> locations = locationService.getUpdatedSinceAsDto(from);
+        List<InstallationTo> installations = mapInstallations(installationService.getUpdatedSince(from));
+        List<SyncTo.Deleted> deleted = tombstoneRepository.findDeletedSince(from).stream()
+                .map(t -> new SyncTo.Deleted(t.getEntityType(), t.getId(), t.getDeletedAt()))
+                .toList();
+        log.debug("Sync since {}: {} components, {} ports, {} locations, {} installations, {} deleted",
+                since, components.size(), ports.size(), locations.size(), installations.size(), deleted.size());
+        return new SyncTo(cursor, false, components, ports, locations, installations, deleted);
+    }
+
+    /**
+     * Drop tombstones past the retention; clients that have not synced for that long get a full resync.
+     */
+    @Scheduled(cron = "${app.sync.tombstone-purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(OffsetDateTime.now().minus(tombstoneRetention));
+        log.info("Purged {} tombstones", purged);
+    }
+
+    private PortTo mapPort(Port port) {
+        if (port instanceof EthernetPort ethernetPort) {
+            return ethernetPortMapper.toTo(ethernetPort);
+        } else if (port instanceof FiberPort fiberPort) {
+            return fiberPortMapper.toTo(fiberPort);
+        }
+        throw new IllegalArgumentException("Unknown port type: " + port.getClass().getName());
+    }
+
+    private List<InstallationTo> mapInstallations(List<Installation> installations) {
+        return installations.stream().map(installationMapper::toTo).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package net.switchscope.to;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+import net.switchscope.HasId;
+import net.switchscope.error.IllegalRequestDataException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Result of a batch get ({@code POST /api/<entities>/batch-get} with a JSON array of ids).
+ * Content follows the order of the requested ids; ids without a row are listed separately.
+ *
+ * @param <T> the DTO type
+ */
+@Value
+public class BatchGetTo<T> {
+
+    public static final int MAX_IDS = 500;
+
+    List<T> content;
+
+    @Schema(description = "Requested ids that do not exist, in request order")
+    List<UUID> missingIds;
+
+    /**
+     * Validate requested ids and drop repeated ones.
+     *
+     * @param ids requested ids
+     * @return distinct ids in request order
+     */
+    public static List<UUID> normalizeIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            throw new IllegalRequestDataException("ids must not be empty");
+        }
+        if (ids.contains(null)) {
+            throw new IllegalRequestDataException("ids must not contain null");
+        }
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinct.size() > MAX_IDS) {
+            throw new IllegalRequestDataException("at most " + MAX_IDS + " ids per request, was " + distinct.size());
+        }
+        return distinct;
+    }
+
+    /**
+     * Arrange DTOs loaded in any order by the requested ids.
+     *
+     * @param ids   distinct requested ids
+     * @param found DTOs of the ids that exist
+     * @return result in request order
+     */
+    public static <T extends HasId> BatchGetTo<T> of(List<UUID> ids, Collection<T> found) {
+        Map<UUID, T> byId = new HashMap<>(found.size() * 2);
+        found.forEach(dto -> byId.put(dto.getId(), dto));
+        List<T> content = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : ids) {
+            T dto = byId.get(id);
+            if (dto == null) {
+                missingIds.add(id);
+            } else {
+                content.add(dto);
+            }
+        }
+        return new BatchGetTo<>(content, missingIds);
+    }
+}
@@ -0,0 +1,39 @@
+package net.switchscope.to;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk import. Valid rows are committed batch by batch; invalid rows are reported and skipped.
+ */
+@Value
+public class BulkImportResultTo {
+
+    String target;
+
+    int total;
+
+    int imported;
+
+    int failed;
+
+    @Schema(description = "Per-row errors, at most the first 1000")
+    List<RowError> errors;
+
+    @Schema(description = "True if more rows failed than are listed in errors")
+    boolean errorsTruncated;
+
+    long elapsedMillis;
+
+    @Value
+    public static class RowError {
+        @Schema(description = "1-based data row number (header and comment lines not counted)")
+        int row;
+        @Schema(description = "Row id, if it had or was assigned one")
+        UUID id;
+        String message;
+    }
+}
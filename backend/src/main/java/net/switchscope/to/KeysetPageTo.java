@@ -0,0 +1,78 @@
+package net.switchscope.to;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+import net.switchscope.HasId;
+import net.switchscope.error.IllegalRequestDataException;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) page of a list endpoint.
+ * Rows are ordered by id; ids are UUIDv7 so this is creation order.
+ * The next page is requested with {@code ?after=<nextCursor>&limit=<limit>}.
+ *
+ * @param <T> the DTO type
+ */
+@Value
+public class KeysetPageTo<T> {
+
+    public static final int MAX_LIMIT = 500;
+
+    List<T> content;
+
+    int limit;
+
+    @Schema(description = "Id of the last row on this page, pass as 'after' to get the next page")
+    UUID nextCursor;
+
+    boolean hasNext;
+
+    /**
+     * Validate requested page size and cap it at {@link #MAX_LIMIT}.
+     *
+     * @param limit requested page size
+     * @return effective page size
+     */
+    public static int normalizeLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalRequestDataException("limit must be positive, was " + limit);
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Build page from a window fetched with {@code limit + 1} rows.
+     * The extra row only signals that a next page exists and is not mapped.
+     *
+     * @param window rows ordered by id, at most {@code limit + 1}
+     * @param limit  effective page size
+     * @param mapper maps page rows to DTOs
+     * @return page
+     */
+    public static <E extends HasId, T> KeysetPageTo<T> of(List<E> window, int limit,
+                                                         Function<List<E>, List<T>> mapper) {
+        return of(window, limit, mapper, HasId::getId);
+    }
+
+    /**
+     * Build page of rows that are not entities, e.g. projected tuples.
+     * The cursor is the id of the last window row on the page, not of the last output row:
+     * the mapper may drop rows, and the next page must still start after everything read.
+     *
+     * @param window rows ordered by id, at most {@code limit + 1}
+     * @param limit  effective page size
+     * @param mapper maps page rows to output rows
+     * @param idOf   id of a window row
+     * @return page
+     */
+    public static <E, T> KeysetPageTo<T> of(List<E> window, int limit,
+                                            Function<List<E>, List<T>> mapper, Function<? super E, UUID> idOf) {
+        boolean hasNext = window.size() > limit;
+        List<T> content = mapper.apply(hasNext ? window.subList(0, limit) : window);
+        UUID nextCursor = hasNext ? idOf.apply(window.get(limit - 1)) : null;
+        return new KeysetPageTo<>(content, limit, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,41 @@
+package net.switchscope.to;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Metric history of one port or device, one point per step. Buckets without samples are omitted.
+ */
+@Value
+public class MetricsTo {
+
+    UUID id;
+
+    OffsetDateTime from;
+
+    OffsetDateTime to;
+
+    long stepSeconds;
+
+    @Schema(description = "Stored resolution the points were aggregated from, 0 for raw samples")
+    long resolutionSeconds;
+
+    List<Point> points;
+
+    @Value
+    public static class Point {
+
+        @Schema(description = "Start of the step")
+        OffsetDateTime time;
+
+        int samples;
+
+        @Schema(description = "Average and maximum per metric over the step, e.g. in_bps and in_bps_max")
+        Map<String, Double> values;
+    }
+}
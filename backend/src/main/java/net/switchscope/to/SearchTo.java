@@ -0,0 +1,41 @@
+package net.switchscope.to;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Ranked search results over components, locations and ports.
+ */
+@Value
+public class SearchTo {
+
+    String query;
+
+    @Schema(description = "Best matches first")
+    List<Hit> hits;
+
+    @Schema(description = "Number of matches per type, before the type filter and the limit")
+    Map<String, Long> facets;
+
+    @Value
+    public static class Hit {
+
+        @Schema(description = "Component class (e.g. NETWORK_SWITCH), LOCATION or PORT")
+        String type;
+
+        UUID id;
+
+        @Schema(description = "Component or location name, port label")
+        String name;
+
+        @Schema(description = "Management IP or serial number of a component, path of a location, device of a port")
+        String detail;
+
+        @Schema(description = "Relevance from 0 to 1: trigram word similarity for search, match position for typeahead")
+        double score;
+    }
+}
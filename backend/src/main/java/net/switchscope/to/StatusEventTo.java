@@ -0,0 +1,57 @@
+package net.switchscope.to;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Live status change pushed over STOMP: port admin/operational status or device reachability.
+ */
+@Value
+public class StatusEventTo {
+
+    public enum Type {
+        PORT,
+        DEVICE
+    }
+
+    Type type;
+
+    @Schema(description = "Port or device id")
+    UUID id;
+
+    @Schema(description = "Device of the port, or the device itself")
+    UUID deviceId;
+
+    @Schema(description = "Ports only")
+    String operationalStatus;
+
+    @Schema(description = "Ports only")
+    String adminStatus;
+
+    @Schema(description = "Devices only: result of the last poll (lastPingSuccess)")
+    Boolean reachable;
+
+    OffsetDateTime changedAt;
+
+    public static StatusEventTo port(UUID portId, UUID deviceId, String operationalStatus, String adminStatus) {
+        return new StatusEventTo(Type.PORT, portId, deviceId, operationalStatus, adminStatus, null, OffsetDateTime.now());
+    }
+
+    public static StatusEventTo device(UUID deviceId, boolean reachable) {
+        return new StatusEventTo(Type.DEVICE, deviceId, deviceId, null, null, reachable, OffsetDateTime.now());
+    }
+
+    /**
+     * Same status, whenever it changed.
+     */
+    public boolean sameStatus(StatusEventTo other) {
+        return other != null
+                && Objects.equals(operationalStatus, other.operationalStatus)
+                && Objects.equals(adminStatus, other.adminStatus)
+                && Objects.equals(reachable, other.reachable);
+    }
+}
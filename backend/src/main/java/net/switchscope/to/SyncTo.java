@@ -0,0 +1,46 @@
+package net.switchscope.to;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+import net.switchscope.model.sync.SyncEntityType;
+import net.switchscope.to.component.ComponentTo;
+import net.switchscope.to.installation.InstallationTo;
+import net.switchscope.to.location.LocationTo;
+import net.switchscope.to.port.PortTo;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Changes since a sync cursor. Clients apply {@code deleted} first, then upsert the changed rows;
+ * rows near the cursor may be delivered twice, upserts make that harmless.
+ */
+@Value
+public class SyncTo {
+
+    @Schema(description = "Cursor for the next sync (pass as since)")
+    OffsetDateTime cursor;
+
+    @Schema(description = "True if everything is returned and the client should replace its cache: "
+            + "no since was given or it is older than the tombstone retention")
+    boolean fullResync;
+
+    List<ComponentTo> components;
+
+    List<PortTo> ports;
+
+    List<LocationTo> locations;
+
+    List<InstallationTo> installations;
+
+    @Schema(description = "Rows deleted since the cursor, empty on a full resync")
+    List<Deleted> deleted;
+
+    @Value
+    public static class Deleted {
+        SyncEntityType type;
+        UUID id;
+        OffsetDateTime deletedAt;
+    }
+}
@@ -0,0 +1,27 @@
+package net.switchscope.to.component.housing;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rack unit occupancy per face.
+ */
+@Value
+public class RackOccupancyTo {
+
+    UUID rackId;
+
+    int rackUnitsTotal;
+
+    @Schema(description = "Units occupied on at least one face")
+    int occupiedUnits;
+
+    int freeUnits;
+
+    List<Integer> occupiedFront;
+
+    List<Integer> occupiedRear;
+}
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import net.switchscope.model.installation.RackFace;
 import net.switchscope.to.BaseTo;
 import net.switchscope.validation.NoHtml;
 
@@ -75,6 +76,9 @@ public class InstallationTo extends BaseTo {
 
     private Integer rackUnitHeight;
 
+    @Schema(description = "Rack face occupied, omit for full-depth equipment")
+    private RackFace rackFace;
+
     @Size(max = 255)
     @NoHtml
     private String positionDescription;
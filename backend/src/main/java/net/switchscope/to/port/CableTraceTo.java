@@ -0,0 +1,39 @@
+package net.switchscope.to.port;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Physical path from a port through connectors, cable runs and patch panels.
+ */
+@Value
+public class CableTraceTo {
+
+    UUID portId;
+
+    @Schema(description = "Hops in breadth-first order, the traced port first")
+    List<Hop> hops;
+
+    @Schema(description = "Ports reached from the traced port (far ends)")
+    List<Hop> farEnds;
+
+    @Schema(description = "True if the walk stopped at the hop limit")
+    boolean truncated;
+
+    @Value
+    public static class Hop {
+        int depth;
+        @Schema(description = "PORT, CONNECTOR, CABLE_RUN or PATCH_PANEL")
+        String type;
+        UUID id;
+        String name;
+        @Schema(description = "Previous hop ID, null for the traced port")
+        UUID viaId;
+        @Schema(description = "Owning device, ports only")
+        UUID deviceId;
+        String deviceName;
+    }
+}
@@ -0,0 +1,16 @@
+package net.switchscope.to.port;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+/**
+ * Outcome of a counter batch. Accepted samples are written on the next flush.
+ */
+@Value
+public class PortCounterIngestResultTo {
+
+    int accepted;
+
+    @Schema(description = "Samples not newer than the last sample of their port, ignored")
+    int stale;
+}
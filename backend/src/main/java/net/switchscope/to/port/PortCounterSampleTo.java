@@ -0,0 +1,43 @@
+package net.switchscope.to.port;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Raw interface counters of one port as read from the device (ifTable / ifXTable).
+ * Counters the device does not report are left null.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortCounterSampleTo {
+
+    private UUID portId;
+
+    @Schema(description = "When the counters were read; defaults to the time of receipt")
+    private OffsetDateTime timestamp;
+
+    @Schema(description = "Counter width, 32 (ifInOctets) or 64 (ifHCInOctets); default 64")
+    private Integer counterBits;
+
+    private Long bytesIn;
+
+    private Long bytesOut;
+
+    private Long packetsIn;
+
+    private Long packetsOut;
+
+    private Long errorsIn;
+
+    private Long errorsOut;
+
+    private Long discardsIn;
+
+    private Long discardsOut;
+}
@@ -123,6 +123,27 @@ public abstract class PortTo extends NamedTo {
 
     private Long discardsOut;
 
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "Inbound bits per second over the last sampling interval")
+    private Double inBps;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "Outbound bits per second over the last sampling interval")
+    private Double outBps;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    private Double inPps;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    private Double outPps;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "Inbound rate relative to speedMbps")
+    private Double inUtilizationPercent;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "Outbound rate relative to speedMbps")
+    private Double outUtilizationPercent;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "When the counters were last read")
+    private OffsetDateTime countersSampledAt;
+
     // Timestamps
     private OffsetDateTime lastChange;
 
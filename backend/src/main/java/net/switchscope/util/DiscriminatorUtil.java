@@ -0,0 +1,32 @@
+package net.switchscope.util;
+
+import jakarta.persistence.DiscriminatorValue;
+import lombok.experimental.UtilityClass;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class DiscriminatorUtil {
+
+    /**
+     * Re-key a map of entity classes by their {@link DiscriminatorValue}, so the values stay in sync with the entities.
+     *
+     * @param byEntityClass entity class -> associated class (e.g. DTO class)
+     * @return discriminator value -> associated class
+     * @throws IllegalStateException if an entity class has no @DiscriminatorValue
+     */
+    public static <T> Map<String, Class<? extends T>> byDiscriminatorValue(
+            Map<? extends Class<?>, ? extends Class<? extends T>> byEntityClass) {
+        return byEntityClass.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(entry -> discriminatorValue(entry.getKey()), Map.Entry::getValue));
+    }
+
+    public static String discriminatorValue(Class<?> entityClass) {
+        DiscriminatorValue annotation = entityClass.getAnnotation(DiscriminatorValue.class);
+        if (annotation == null) {
+            throw new IllegalStateException(entityClass.getSimpleName() + " has no @DiscriminatorValue");
+        }
+        return annotation.value();
+    }
+}
@@ -1,14 +1,21 @@
 package net.switchscope.web;
 
 import lombok.extern.slf4j.Slf4j;
+import net.switchscope.HasId;
 import net.switchscope.mapper.BaseMapper;
 import net.switchscope.service.CrudService;
 import net.switchscope.service.UpdatableCrudService;
 import net.switchscope.to.BaseTo;
+import net.switchscope.to.BatchGetTo;
+import net.switchscope.to.KeysetPageTo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,7 +35,7 @@ import java.util.UUID;
  * @param <T> the DTO (Transfer Object) type
  */
 @Slf4j
-public abstract class AbstractCatalogController<E, T extends BaseTo> {
+public abstract class AbstractCatalogController<E extends HasId, T extends BaseTo> {
 
     protected abstract CrudService<E> getService();
 
@@ -36,20 +43,78 @@ public abstract class AbstractCatalogController<E, T extends BaseTo> {
 
     protected abstract String getEntityName();
 
+    private ConditionalGetSupport conditionalGet;
+
+    @Autowired
+    void setConditionalGet(ConditionalGetSupport conditionalGet) {
+        this.conditionalGet = conditionalGet;
+    }
+
+    /**
+     * Catalog entity served by this controller, resolved from the type argument.
+     */
+    protected Class<?> getEntityClass() {
+        return GenericTypeResolver.resolveTypeArguments(ClassUtils.getUserClass(getClass()), AbstractCatalogController.class)[0];
+    }
+
+    /**
+     * Entities whose data is copied into the DTOs, so that their changes change the ETag too.
+     */
+    protected Class<?>[] getETagDependencies() {
+        return new Class<?>[0];
+    }
+
+    /**
+     * Attribute paths of the rows copied into a single DTO ({@code type}, {@code installation.location}, ...),
+     * versioned together with the row itself.
+     */
+    protected String[] getETagReferences() {
+        return new String[0];
+    }
+
     @GetMapping
-    public List<T> getAll() {
+    public List<T> getAll(NativeWebRequest request) {
         log.info("getAll {}", getEntityName());
+        if (conditionalGet.isNotModified(request, getEntityClass(), getETagDependencies())) {
+            return null;
+        }
         List<E> entities = getService().getAll();
         return getMapper().toToList(entities);
     }
 
+    /**
+     * Keyset page ordered by id: {@code ?limit=50}, then {@code ?after=<nextCursor>&limit=50}.
+     */
+    @GetMapping(params = "limit")
+    public KeysetPageTo<T> getPage(@RequestParam(required = false) UUID after, @RequestParam int limit) {
+        log.info("getPage {} after={} limit={}", getEntityName(), after, limit);
+        int size = KeysetPageTo.normalizeLimit(limit);
+        List<E> window = getService().getPage(after, size + 1);
+        return KeysetPageTo.of(window, size, getMapper()::toToList);
+    }
+
     @GetMapping("/{id}")
-    public T get(@PathVariable UUID id) {
+    public T get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get {} {}", getEntityName(), id);
+        if (conditionalGet.isNotModified(request, getEntityClass(), id, getETagReferences())) {
+            return null;
+        }
         E entity = getService().getById(id);
         return getMapper().toTo(entity);
     }
 
+    /**
+     * Several catalog entries in one query: the body is a JSON array of up to {@link BatchGetTo#MAX_IDS} ids.
+     * Content follows the request order; ids without a row are returned in {@code missingIds}.
+     */
+    @PostMapping(value = "/batch-get", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BatchGetTo<T> batchGet(@RequestBody List<UUID> ids) {
+        log.info("batchGet {} {} ids", getEntityName(), ids.size());
+        List<UUID> requested = BatchGetTo.normalizeIds(ids);
+        List<E> entities = getService().getByIds(requested);
+        return BatchGetTo.of(requested, getMapper().toToList(entities));
+    }
+
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("hasRole('ADMIN')")
@@ -1,15 +1,25 @@
 package net.switchscope.web;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import lombok.extern.slf4j.Slf4j;
+import net.switchscope.HasId;
 import net.switchscope.mapper.BaseMapper;
+import net.switchscope.repository.Referrer;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.projection.FieldProjectionService;
 import net.switchscope.to.BaseTo;
+import net.switchscope.to.BatchGetTo;
+import net.switchscope.to.KeysetPageTo;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,7 +32,7 @@ import java.util.UUID;
  * @param <T> the DTO (Transfer Object) type
  */
 @Slf4j
-public abstract class AbstractCrudController<E, T extends BaseTo> {
+public abstract class AbstractCrudController<E extends HasId, T extends BaseTo> {
 
     protected abstract CrudService<E> getService();
 
@@ -30,20 +40,154 @@ public abstract class AbstractCrudController<E, T extends BaseTo> {
 
     protected abstract String getEntityName();
 
-    @GetMapping
-    public List<T> getAll() {
+    private ConditionalGetSupport conditionalGet;
+
+    private FieldProjectionService fieldProjection;
+
+    @Autowired
+    void setConditionalGet(ConditionalGetSupport conditionalGet) {
+        this.conditionalGet = conditionalGet;
+    }
+
+    @Autowired
+    void setFieldProjection(FieldProjectionService fieldProjection) {
+        this.fieldProjection = fieldProjection;
+    }
+
+    /**
+     * Entity served by this controller, resolved from the type argument.
+     */
+    protected Class<?> getEntityClass() {
+        return GenericTypeResolver.resolveTypeArguments(ClassUtils.getUserClass(getClass()), AbstractCrudController.class)[0];
+    }
+
+    /**
+     * DTO returned by this controller, resolved from the type argument.
+     */
+    protected Class<?> getDtoClass() {
+        return GenericTypeResolver.resolveTypeArguments(ClassUtils.getUserClass(getClass()), AbstractCrudController.class)[1];
+    }
+
+    /**
+     * Entities whose data is copied into the DTOs, so that their changes change the ETag too.
+     */
+    protected Class<?>[] getETagDependencies() {
+        return new Class<?>[0];
+    }
+
+    /**
+     * Attribute paths of the rows copied into a single DTO ({@code type}, {@code installation.location}, ...),
+     * versioned together with the row itself.
+     */
+    protected String[] getETagReferences() {
+        return new String[0];
+    }
+
+    /**
+     * Rows pointing at a single resource whose data is derived into its DTO (installations housed in a rack, ...),
+     * versioned together with the row itself.
+     */
+    protected Referrer[] getETagReferrers() {
+        return new Referrer[0];
+    }
+
+    /**
+     * Conditional GET of the collection; on true the response is a 304 and the handler returns null.
+     */
+    protected boolean isNotModified(NativeWebRequest request) {
+        return conditionalGet.isNotModified(request, getEntityClass(), getETagDependencies());
+    }
+
+    /**
+     * Conditional GET of a single resource; on true the response is a 304 and the handler returns null.
+     */
+    protected boolean isNotModified(NativeWebRequest request, UUID id) {
+        return conditionalGet.isNotModified(request, getEntityClass(), id, getETagReferences(), getETagReferrers());
+    }
+
+    // "!limit" makes this mapping more specific than the NDJSON stream for Accept: */*,
+    // so plain JSON stays the default when the client does not ask for x-ndjson
+    @GetMapping(params = "!limit")
+    public List<T> getAll(NativeWebRequest request) {
         log.info("getAll {}", getEntityName());
-        List<E> entities = getService().getAll();
-        return getMapper().toToList(entities);
+        if (isNotModified(request)) {
+            return null;
+        }
+        return getAllTo();
+    }
+
+    /**
+     * The whole collection as DTOs, without the conditional GET check.
+     */
+    protected List<T> getAllTo() {
+        return getMapper().toToList(getService().getAll());
+    }
+
+    /**
+     * Keyset page ordered by id: {@code ?limit=50}, then {@code ?after=<nextCursor>&limit=50}.
+     */
+    @GetMapping(params = "limit")
+    public KeysetPageTo<T> getPage(@RequestParam(required = false) UUID after, @RequestParam int limit) {
+        log.info("getPage {} after={} limit={}", getEntityName(), after, limit);
+        int size = KeysetPageTo.normalizeLimit(limit);
+        List<E> window = getService().getPage(after, size + 1);
+        return KeysetPageTo.of(window, size, getMapper()::toToList);
+    }
+
+    /**
+     * Sparse fieldset of the collection: {@code ?fields=name,serialNumber}, see {@link FieldProjectionService}.
+     * Falls back to {@link #getAllTo} when a field is not a column.
+     */
+    @GetMapping(params = {"fields", "!limit"})
+    public List<Map<String, Object>> getAllFields(@RequestParam String fields, NativeWebRequest request) {
+        log.info("getAll {} fields={}", getEntityName(), fields);
+        if (isNotModified(request)) {
+            return null;
+        }
+        return fieldProjection.getAll(getEntityClass(), getDtoClass(), fields, this::getAllTo);
+    }
+
+    /**
+     * Keyset page with a sparse fieldset: {@code ?fields=name&limit=50}.
+     */
+    @GetMapping(params = {"fields", "limit"})
+    public KeysetPageTo<Map<String, Object>> getPageFields(@RequestParam String fields,
+                                                           @RequestParam(required = false) UUID after,
+                                                           @RequestParam int limit) {
+        log.info("getPage {} fields={} after={} limit={}", getEntityName(), fields, after, limit);
+        int size = KeysetPageTo.normalizeLimit(limit);
+        return fieldProjection.getPage(getEntityClass(), getDtoClass(), fields, after, size, () -> getPage(after, size));
     }
 
     @GetMapping("/{id}")
-    public T get(@PathVariable UUID id) {
+    public T get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get {} {}", getEntityName(), id);
+        if (isNotModified(request, id)) {
+            return null;
+        }
         E entity = getService().getById(id);
         return getMapper().toTo(entity);
     }
 
+    /**
+     * Several resources in one query: the body is a JSON array of up to {@link BatchGetTo#MAX_IDS} ids.
+     * Content follows the request order; ids without a row are returned in {@code missingIds}.
+     */
+    @PostMapping(value = "/batch-get", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BatchGetTo<T> batchGet(@RequestBody List<UUID> ids) {
+        log.info("batchGet {} {} ids", getEntityName(), ids.size());
+        List<UUID> requested = BatchGetTo.normalizeIds(ids);
+        return BatchGetTo.of(requested, getByIdsAsDto(requested));
+    }
+
+    /**
+     * DTOs of the entities with the given ids, in any order.
+     * Override to use service DTO method for lazy-safe mapping.
+     */
+    protected List<T> getByIdsAsDto(List<UUID> ids) {
+        return getMapper().toToList(getService().getByIds(ids));
+    }
+
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
     public T create(@RequestBody T dto) {
@@ -0,0 +1,122 @@
+package net.switchscope.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import net.switchscope.repository.EntityVersion;
+import net.switchscope.repository.EntityVersionRepository;
+import net.switchscope.repository.Referrer;
+import net.switchscope.repository.RowVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * ETag / Last-Modified validators derived from {@code updatedAt}.
+ * <p>
+ * Handlers check before loading anything and return {@code null} when the client copy is current;
+ * Spring then answers 304 with an empty body:
+ * <pre>
+ * if (conditionalGet.isNotModified(request, Location.class)) {
+ *     return null;
+ * }
+ * </pre>
+ * Collections are tagged with the newest {@code updatedAt} and the row count of their table;
+ * entities whose data is copied into the DTOs (catalog names, locations, ...) are passed as
+ * dependencies and their tables become part of the tag. Single resources are tagged with their own
+ * {@code updatedAt} and that of the rows they reference (attribute paths such as
+ * {@code installation.location}), read in one query instead of aggregating whole tables, and with
+ * the rows pointing at them when the DTO is derived from those (the installations housed in a rack).
+ * Telemetry timestamps ({@link net.switchscope.model.SampledAt}) of the served entity are part of the tag too.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetSupport {
+
+    // Clients may store responses but must revalidate; overrides Spring Security's no-store default
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final EntityVersionRepository versionRepository;
+
+    /**
+     * Collection check.
+     *
+     * @param request      current request; validators are written to its response
+     * @param entityClass  entity listed by the endpoint
+     * @param dependencies entities whose data appears in the DTOs
+     * @return true if the client copy is current (the response is already a 304)
+     */
+    public boolean isNotModified(NativeWebRequest request, Class<?> entityClass, Class<?>... dependencies) {
+        StringBuilder tag = new StringBuilder();
+        appendVersion(tag, entityClass.getSimpleName(), versionRepository.findVersion(entityClass, true));
+        for (Class<?> dependency : dependencies) {
+            // Telemetry of dependencies is not copied into the DTOs
+            appendVersion(tag, dependency.getSimpleName(), versionRepository.findVersion(dependency, false));
+        }
+        // No Last-Modified: deletions do not move the newest timestamp, only the ETag sees them
+        return check(request, tag, null);
+    }
+
+    /**
+     * Single resource check. Unknown ids are never "not modified", so the handler can answer 404.
+     *
+     * @param references attribute paths of the entities whose data appears in the DTO
+     * @return true if the client copy is current (the response is already a 304)
+     */
+    public boolean isNotModified(NativeWebRequest request, Class<?> entityClass, UUID id, String... references) {
+        return isNotModified(request, entityClass, id, references, new Referrer[0]);
+    }
+
+    /**
+     * Single resource check that also versions rows pointing at the resource.
+     *
+     * @param references attribute paths of the entities whose data appears in the DTO
+     * @param referrers  rows pointing at the resource whose data is derived into the DTO
+     * @return true if the client copy is current (the response is already a 304)
+     */
+    public boolean isNotModified(NativeWebRequest request, Class<?> entityClass, UUID id, String[] references,
+                                 Referrer... referrers) {
+        RowVersion version = versionRepository.findRowVersion(entityClass, id, references).orElse(null);
+        if (version == null) {
+            return false;
+        }
+        StringBuilder tag = new StringBuilder()
+                .append(entityClass.getSimpleName()).append(':').append(id).append(':')
+                .append(version.getUpdatedAt().toInstant());
+        version.getSampledAt().forEach(sampledAt -> tag.append(':').append(sampledAt));
+        for (int i = 0; i < references.length; i++) {
+            appendVersion(tag, references[i], version.getReferences().get(i));
+        }
+        for (Referrer referrer : referrers) {
+            appendVersion(tag, referrer.getEntityClass().getSimpleName() + '.' + referrer.getAttribute(),
+                    versionRepository.findReferrerVersion(referrer, id));
+        }
+        // Last-Modified only when the row's own updatedAt is the whole version
+        boolean ownVersion = references.length == 0 && referrers.length == 0 && version.getSampledAt().isEmpty();
+        return check(request, tag, ownVersion ? version.getUpdatedAt() : null);
+    }
+
+    private static void appendVersion(StringBuilder tag, String name, EntityVersion version) {
+        tag.append('|').append(name).append(':').append(version.getCount()).append(':');
+        if (version.getLastModified() != null) {
+            tag.append(version.getLastModified().toInstant());
+        }
+        version.getSampledAt().forEach(sampledAt -> tag.append(':').append(sampledAt));
+    }
+
+    private static boolean check(NativeWebRequest request, CharSequence tag, OffsetDateTime lastModified) {
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        String etag = "\"" + DigestUtils.md5DigestAsHex(tag.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        return lastModified == null
+                ? request.checkNotModified(etag)
+                : request.checkNotModified(etag, lastModified.toInstant().toEpochMilli());
+    }
+}
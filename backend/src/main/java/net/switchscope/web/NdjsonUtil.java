@@ -0,0 +1,54 @@
+package net.switchscope.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Newline-delimited JSON ({@code application/x-ndjson}) responses for full dumps.
+ * Rows are written as the producer emits them, so nothing is collected into a list.
+ */
+@UtilityClass
+public class NdjsonUtil {
+
+    private static final int FLUSH_EVERY = 100;
+
+    /**
+     * @param mapper   object mapper used for each row
+     * @param producer pushes rows to the given sink; runs on the async response thread,
+     *                 so it must open its own transaction (e.g. a service method)
+     * @return streaming response
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> stream(ObjectMapper mapper, Consumer<Consumer<T>> producer) {
+        ObjectWriter writer = mapper.writer();
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            try {
+                producer.accept(row -> {
+                    try {
+                        out.write(writer.writeValueAsBytes(row));
+                        out.write('\n');
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,7 @@ import net.switchscope.mapper.component.catalog.device.AccessPointModelMapper;
 import net.switchscope.mapper.component.catalog.device.RouterModelMapper;
 import net.switchscope.mapper.component.catalog.device.SwitchModelMapper;
 import net.switchscope.mapper.component.catalog.housing.RackModelMapper;
+import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.model.component.catalog.ComponentModel;
 import net.switchscope.model.component.catalog.connectiviy.CableRunModel;
 import net.switchscope.model.component.catalog.connectiviy.ConnectorModel;
@@ -26,6 +28,15 @@ import net.switchscope.model.component.catalog.device.SwitchModel;
 import net.switchscope.model.component.catalog.housing.RackModelEntity;
 import net.switchscope.service.component.catalog.ComponentModelService;
 import net.switchscope.to.component.catalog.ComponentModelTo;
+import net.switchscope.to.component.catalog.connectivity.CableRunModelTo;
+import net.switchscope.to.component.catalog.connectivity.ConnectorModelTo;
+import net.switchscope.to.component.catalog.connectivity.PatchPanelModelTo;
+import net.switchscope.to.component.catalog.device.AccessPointModelTo;
+import net.switchscope.to.component.catalog.device.RouterModelTo;
+import net.switchscope.to.component.catalog.device.SwitchModelTo;
+import net.switchscope.to.component.catalog.housing.RackModelTo;
+import net.switchscope.util.DiscriminatorUtil;
+import net.switchscope.web.ConditionalGetSupport;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -47,8 +58,19 @@ public class ComponentModelController {
 
     static final String REST_URL = "/api/catalogs/component-models";
 
+    // Discriminator value -> concrete DTO class, keyed by the entities' @DiscriminatorValue
+    private static final Map<String, Class<? extends ComponentModelTo>> DTO_CLASSES = DiscriminatorUtil.byDiscriminatorValue(Map.of(
+            SwitchModel.class, SwitchModelTo.class,
+            RouterModel.class, RouterModelTo.class,
+            AccessPointModel.class, AccessPointModelTo.class,
+            CableRunModel.class, CableRunModelTo.class,
+            ConnectorModel.class, ConnectorModelTo.class,
+            PatchPanelModel.class, PatchPanelModelTo.class,
+            RackModelEntity.class, RackModelTo.class));
+
     private final ComponentModelService service;
     private final ObjectMapper objectMapper;
+    private final ConditionalGetSupport conditionalGet;
 
     // Polymorphic mappers for different model types
     private final SwitchModelMapper switchModelMapper;
@@ -60,16 +82,22 @@ public class ComponentModelController {
     private final RackModelMapper rackModelMapper;
 
     @GetMapping
-    public List<ComponentModelTo> getAll() {
+    public List<ComponentModelTo> getAll(NativeWebRequest request) {
         log.info("getAll component models");
+        if (conditionalGet.isNotModified(request, ComponentModel.class, ComponentTypeEntity.class)) {
+            return null;
+        }
         return service.getAll().stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
     @GetMapping("/{id}")
-    public ComponentModelTo get(@PathVariable UUID id) {
+    public ComponentModelTo get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get component model {}", id);
+        if (conditionalGet.isNotModified(request, ComponentModel.class, id, "componentType")) {
+            return null;
+        }
         return mapToDto(service.getById(id));
     }
 
@@ -83,25 +111,26 @@ public class ComponentModelController {
 
     /**
      * Update component model.
-     * Accepts raw JSON and determines concrete DTO type from existing entity in DB.
+     * Accepts raw JSON and determines concrete DTO type from the discriminator stored in DB,
+     * read without loading the model; the model itself is loaded once, in the update transaction.
      * This avoids Jackson polymorphic deserialization issues with abstract ComponentModelTo.
      * Validates field nullification against role-based update policy.
      */
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     @SneakyThrows
-    public ComponentModelTo update(@PathVariable UUID id, @RequestBody String jsonPayload) {
+    public ComponentModelTo update(@PathVariable UUID id, @RequestBody JsonNode payload) {
         log.info("update component model with id={}", id);
 
         // 1. Get entity type to determine DTO class
-        ComponentModel existing = service.getById(id);
-        Class<? extends ComponentModelTo> dtoClass = getDtoClassForEntity(existing);
-        log.debug("Entity type: {}, DTO class: {}", existing.getClass().getSimpleName(), dtoClass.getSimpleName());
+        String discriminator = service.getDiscriminator(id);
+        Class<? extends ComponentModelTo> dtoClass = getDtoClassForDiscriminator(discriminator);
+        log.debug("Entity type: {}, DTO class: {}", discriminator, dtoClass.getSimpleName());
 
-        // 2. Deserialize JSON to concrete DTO type
-        ComponentModelTo dto = objectMapper.readValue(jsonPayload, dtoClass);
+        // 2. Convert parsed JSON to concrete DTO type
+        ComponentModelTo dto = objectMapper.treeToValue(payload, dtoClass);
 
         // 3. Extract present fields for policy validation
-        Map<String, JsonNode> presentFields = extractPresentFields(jsonPayload);
+        Map<String, JsonNode> presentFields = extractPresentFields(payload);
 
         // 4. Delegate to service (handles validation, FK changes, mapping, save in transaction)
         ComponentModel updated = service.updateWithPolicyValidation(
@@ -119,10 +148,8 @@ public class ComponentModelController {
      * Extracts all fields present in JSON payload with their values.
      * Used to detect explicitly set null values vs absent fields.
      */
-    @SneakyThrows
-    private Map<String, JsonNode> extractPresentFields(String jsonPayload) {
+    private Map<String, JsonNode> extractPresentFields(JsonNode root) {
         Map<String, JsonNode> fields = new HashMap<>();
-        JsonNode root = objectMapper.readTree(jsonPayload);
         Iterator<String> fieldNames = root.fieldNames();
         while (fieldNames.hasNext()) {
             String fieldName = fieldNames.next();
@@ -219,26 +246,14 @@ public class ComponentModelController {
     }
 
     /**
-     * Determines the concrete DTO class based on entity type.
+     * Determines the concrete DTO class based on the model class discriminator.
      * Used for deserializing JSON into the correct DTO subclass.
      */
-    private Class<? extends ComponentModelTo> getDtoClassForEntity(ComponentModel entity) {
-        if (entity instanceof SwitchModel) {
-            return net.switchscope.to.component.catalog.device.SwitchModelTo.class;
-        } else if (entity instanceof RouterModel) {
-            return net.switchscope.to.component.catalog.device.RouterModelTo.class;
-        } else if (entity instanceof AccessPointModel) {
-            return net.switchscope.to.component.catalog.device.AccessPointModelTo.class;
-        } else if (entity instanceof CableRunModel) {
-            return net.switchscope.to.component.catalog.connectivity.CableRunModelTo.class;
-        } else if (entity instanceof ConnectorModel) {
-            return net.switchscope.to.component.catalog.connectivity.ConnectorModelTo.class;
-        } else if (entity instanceof PatchPanelModel) {
-            return net.switchscope.to.component.catalog.connectivity.PatchPanelModelTo.class;
-        } else if (entity instanceof RackModelEntity) {
-            return net.switchscope.to.component.catalog.housing.RackModelTo.class;
-        } else {
-            throw new IllegalArgumentException("Unknown component model entity type: " + entity.getClass().getName());
+    private Class<? extends ComponentModelTo> getDtoClassForDiscriminator(String discriminator) {
+        Class<? extends ComponentModelTo> dtoClass = discriminator == null ? null : DTO_CLASSES.get(discriminator);
+        if (dtoClass == null) {
+            throw new IllegalArgumentException("Unknown component model entity type: " + discriminator);
         }
+        return dtoClass;
     }
 }
@@ -12,6 +12,7 @@ import net.switchscope.security.policy.UpdatePolicyResolver;
 import net.switchscope.security.policy.UpdatePolicyValidator;
 import net.switchscope.service.component.ComponentNatureService;
 import net.switchscope.to.component.catalog.ComponentNatureTo;
+import net.switchscope.web.ConditionalGetSupport;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -46,21 +48,28 @@ public class ComponentNatureController {
     private final ComponentNatureService service;
     private final ComponentNatureMapper mapper;
     private final ObjectMapper objectMapper;
+    private final ConditionalGetSupport conditionalGet;
 
     // Policy validation
     private final UpdatePolicyResolver policyResolver;
     private final UpdatePolicyValidator policyValidator;
 
     @GetMapping
-    public List<ComponentNatureTo> getAll() {
+    public List<ComponentNatureTo> getAll(NativeWebRequest request) {
         log.info("getAll component natures");
-        return mapper.toToList(service.getAll());
+        if (conditionalGet.isNotModified(request, ComponentNatureEntity.class)) {
+            return null;
+        }
+        return service.getAllAsDto();
     }
 
     @GetMapping("/{id}")
-    public ComponentNatureTo get(@PathVariable UUID id) {
+    public ComponentNatureTo get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get component nature {}", id);
-        return mapper.toTo(service.getById(id));
+        if (conditionalGet.isNotModified(request, ComponentNatureEntity.class, id)) {
+            return null;
+        }
+        return service.getByIdAsDto(id);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
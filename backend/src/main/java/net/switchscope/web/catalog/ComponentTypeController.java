@@ -6,12 +6,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import net.switchscope.mapper.component.catalog.ComponentTypeMapper;
+import net.switchscope.model.component.ComponentCategoryEntity;
 import net.switchscope.model.component.ComponentTypeEntity;
 import net.switchscope.security.policy.UpdatePolicy;
 import net.switchscope.security.policy.UpdatePolicyResolver;
 import net.switchscope.security.policy.UpdatePolicyValidator;
 import net.switchscope.service.component.ComponentTypeService;
 import net.switchscope.to.component.catalog.ComponentTypeTo;
+import net.switchscope.web.ConditionalGetSupport;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -46,21 +49,28 @@ public class ComponentTypeController {
     private final ComponentTypeService service;
     private final ComponentTypeMapper mapper;
     private final ObjectMapper objectMapper;
+    private final ConditionalGetSupport conditionalGet;
 
     // Policy validation
     private final UpdatePolicyResolver policyResolver;
     private final UpdatePolicyValidator policyValidator;
 
     @GetMapping
-    public List<ComponentTypeTo> getAll() {
+    public List<ComponentTypeTo> getAll(NativeWebRequest request) {
         log.info("getAll component types");
-        return mapper.toToList(service.getAll());
+        if (conditionalGet.isNotModified(request, ComponentTypeEntity.class, ComponentCategoryEntity.class)) {
+            return null;
+        }
+        return service.getAllAsDto();
     }
 
     @GetMapping("/{id}")
-    public ComponentTypeTo get(@PathVariable UUID id) {
+    public ComponentTypeTo get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get component type {}", id);
-        return mapper.toTo(service.getById(id));
+        if (conditionalGet.isNotModified(request, ComponentTypeEntity.class, id, "category")) {
+            return null;
+        }
+        return service.getByIdAsDto(id);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
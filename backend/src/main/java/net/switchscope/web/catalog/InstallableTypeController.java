@@ -12,6 +12,7 @@ import net.switchscope.security.policy.UpdatePolicyResolver;
 import net.switchscope.security.policy.UpdatePolicyValidator;
 import net.switchscope.service.installation.InstallableTypeService;
 import net.switchscope.to.installation.catalog.InstallableTypeTo;
+import net.switchscope.web.ConditionalGetSupport;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -46,21 +48,28 @@ public class InstallableTypeController {
     private final InstallableTypeService service;
     private final InstallableTypeMapper mapper;
     private final ObjectMapper objectMapper;
+    private final ConditionalGetSupport conditionalGet;
 
     // Policy validation
     private final UpdatePolicyResolver policyResolver;
     private final UpdatePolicyValidator policyValidator;
 
     @GetMapping
-    public List<InstallableTypeTo> getAll() {
+    public List<InstallableTypeTo> getAll(NativeWebRequest request) {
         log.info("getAll installable types");
-        return mapper.toToList(service.getAll());
+        if (conditionalGet.isNotModified(request, InstallableTypeEntity.class)) {
+            return null;
+        }
+        return service.getAllAsDto();
     }
 
     @GetMapping("/{id}")
-    public InstallableTypeTo get(@PathVariable UUID id) {
+    public InstallableTypeTo get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get installable type {}", id);
-        return mapper.toTo(service.getById(id));
+        if (conditionalGet.isNotModified(request, InstallableTypeEntity.class, id)) {
+            return null;
+        }
+        return service.getByIdAsDto(id);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -12,6 +12,7 @@ import net.switchscope.security.policy.UpdatePolicyResolver;
 import net.switchscope.security.policy.UpdatePolicyValidator;
 import net.switchscope.service.location.LocationTypeService;
 import net.switchscope.to.location.catalog.LocationTypeTo;
+import net.switchscope.web.ConditionalGetSupport;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -46,20 +48,27 @@ public class LocationTypeController {
     private final LocationTypeService service;
     private final LocationTypeMapper mapper;
     private final ObjectMapper objectMapper;
+    private final ConditionalGetSupport conditionalGet;
 
     // Policy validation
     private final UpdatePolicyResolver policyResolver;
     private final UpdatePolicyValidator policyValidator;
 
     @GetMapping
-    public List<LocationTypeTo> getAll() {
+    public List<LocationTypeTo> getAll(NativeWebRequest request) {
         log.info("getAll location types");
+        if (conditionalGet.isNotModified(request, LocationTypeEntity.class)) {
+            return null;
+        }
         return service.getAllAsDto();
     }
 
     @GetMapping("/{id}")
-    public LocationTypeTo get(@PathVariable UUID id) {
+    public LocationTypeTo get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get location type {}", id);
+        if (conditionalGet.isNotModified(request, LocationTypeEntity.class, id)) {
+            return null;
+        }
         return service.getByIdAsDto(id);
     }
 
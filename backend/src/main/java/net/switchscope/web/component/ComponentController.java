@@ -2,9 +2,13 @@ package net.switchscope.web.component;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -17,6 +21,10 @@ import net.switchscope.mapper.component.device.NetworkSwitchMapper;
 import net.switchscope.mapper.component.device.RouterMapper;
 import net.switchscope.mapper.component.housing.RackMapper;
 import net.switchscope.model.component.Component;
+import net.switchscope.model.component.ComponentNatureEntity;
+import net.switchscope.model.component.ComponentStatusEntity;
+import net.switchscope.model.component.ComponentTypeEntity;
+import net.switchscope.model.component.catalog.ComponentModel;
 import net.switchscope.model.component.connectivity.CableRun;
 import net.switchscope.model.component.connectivity.Connector;
 import net.switchscope.model.component.connectivity.PatchPanel;
@@ -24,7 +32,20 @@ import net.switchscope.model.component.device.AccessPoint;
 import net.switchscope.model.component.device.NetworkSwitch;
 import net.switchscope.model.component.device.Router;
 import net.switchscope.model.component.housing.Rack;
+import net.switchscope.model.installation.Installation;
+import net.switchscope.model.location.Location;
+import net.switchscope.model.port.Port;
+import net.switchscope.repository.Referrer;
+import net.switchscope.service.bulk.BulkImportService;
+import net.switchscope.service.bulk.ImportTarget;
 import net.switchscope.service.component.ComponentService;
+import net.switchscope.service.metrics.MetricSeries;
+import net.switchscope.service.metrics.MetricsService;
+import net.switchscope.service.projection.FieldProjectionService;
+import net.switchscope.to.BatchGetTo;
+import net.switchscope.to.BulkImportResultTo;
+import net.switchscope.to.KeysetPageTo;
+import net.switchscope.to.MetricsTo;
 import net.switchscope.to.component.ComponentTo;
 import net.switchscope.to.component.connectivity.CableRunTo;
 import net.switchscope.to.component.connectivity.ConnectorTo;
@@ -33,7 +54,12 @@ import net.switchscope.to.component.device.AccessPointTo;
 import net.switchscope.to.component.device.NetworkSwitchTo;
 import net.switchscope.to.component.device.RouterTo;
 import net.switchscope.to.component.housing.RackTo;
+import net.switchscope.util.DiscriminatorUtil;
+import net.switchscope.web.ConditionalGetSupport;
+import net.switchscope.web.NdjsonUtil;
 
+import java.io.InputStream;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -54,8 +80,43 @@ public class ComponentController {
 
     static final String REST_URL = "/api/components";
 
+    /**
+     * Tables whose rows end up in a ComponentTo (catalog names, installation, location, ports, model).
+     */
+    public static final Class<?>[] ETAG_DEPENDENCIES = {
+            ComponentStatusEntity.class, ComponentTypeEntity.class, ComponentNatureEntity.class,
+            ComponentModel.class, Installation.class, Location.class, Port.class};
+
+    /**
+     * The same data for a single component, as attribute paths: only the rows it references are versioned.
+     * Subtype attributes (ports, models) are skipped for components that do not have them.
+     */
+    public static final String[] ETAG_REFERENCES = {
+            "componentStatus", "componentType", "componentNature", "parentComponent",
+            "installation", "installation.location", "ports",
+            "switchModel", "rackType", "patchPanelModel", "cableModel", "connectorModel"};
+
+    /**
+     * Installations housed in a component, from which rack occupancy is derived.
+     */
+    public static final Referrer[] ETAG_REFERRERS = {new Referrer(Installation.class, "component")};
+
+    // Discriminator value -> concrete DTO class, keyed by the entities' @DiscriminatorValue
+    private static final Map<String, Class<? extends ComponentTo>> DTO_CLASSES = DiscriminatorUtil.byDiscriminatorValue(Map.of(
+            NetworkSwitch.class, NetworkSwitchTo.class,
+            Router.class, RouterTo.class,
+            AccessPoint.class, AccessPointTo.class,
+            CableRun.class, CableRunTo.class,
+            Connector.class, ConnectorTo.class,
+            PatchPanel.class, PatchPanelTo.class,
+            Rack.class, RackTo.class));
+
     private final ComponentService service;
+    private final BulkImportService bulkImportService;
+    private final MetricsService metricsService;
     private final ObjectMapper objectMapper;
+    private final ConditionalGetSupport conditionalGet;
+    private final FieldProjectionService fieldProjection;
 
     // Polymorphic mappers for different component types
     private final NetworkSwitchMapper networkSwitchMapper;
@@ -66,18 +127,128 @@ public class ComponentController {
     private final PatchPanelMapper patchPanelMapper;
     private final RackMapper rackMapper;
 
-    @GetMapping
-    public List<ComponentTo> getAll() {
+    // "!limit" makes this mapping more specific than the NDJSON stream for Accept: */*,
+    // so plain JSON stays the default when the client does not ask for x-ndjson
+    @GetMapping(params = "!limit")
+    public List<ComponentTo> getAll(NativeWebRequest request) {
         log.info("getAll components");
+        if (conditionalGet.isNotModified(request, Component.class, ETAG_DEPENDENCIES)) {
+            return null;
+        }
         return service.getAllAsDto();
     }
 
+    /**
+     * Full dump as newline-delimited JSON, written row by row (Accept: application/x-ndjson).
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        log.info("stream all components");
+        return NdjsonUtil.stream(objectMapper, service::streamAllAsDto);
+    }
+
+    /**
+     * Keyset page ordered by id: {@code ?limit=50}, then {@code ?after=<nextCursor>&limit=50}.
+     */
+    @GetMapping(params = "limit")
+    public KeysetPageTo<ComponentTo> getPage(@RequestParam(required = false) UUID after, @RequestParam int limit) {
+        log.info("getPage components after={} limit={}", after, limit);
+        return service.getPageAsDto(after, KeysetPageTo.normalizeLimit(limit));
+    }
+
+    /**
+     * Sparse fieldset of all components: {@code ?fields=name,serialNumber,componentStatusId}.
+     * Columns of the components table are read directly; derived or subtype fields fall back
+     * to full mapping, see {@link FieldProjectionService}.
+     */
+    @GetMapping(params = {"fields", "!limit"})
+    public List<Map<String, Object>> getAllFields(@RequestParam String fields, NativeWebRequest request) {
+        log.info("getAll components fields={}", fields);
+        if (conditionalGet.isNotModified(request, Component.class, ETAG_DEPENDENCIES)) {
+            return null;
+        }
+        return fieldProjection.getAll(Component.class, ComponentTo.class, fields, service::getAllAsDto);
+    }
+
+    /**
+     * Keyset page with a sparse fieldset: {@code ?fields=name&limit=50}.
+     */
+    @GetMapping(params = {"fields", "limit"})
+    public KeysetPageTo<Map<String, Object>> getPageFields(@RequestParam String fields,
+                                                           @RequestParam(required = false) UUID after,
+                                                           @RequestParam int limit) {
+        log.info("getPage components fields={} after={} limit={}", fields, after, limit);
+        int size = KeysetPageTo.normalizeLimit(limit);
+        return fieldProjection.getPage(Component.class, ComponentTo.class, fields, after, size,
+                () -> service.getPageAsDto(after, size));
+    }
+
     @GetMapping("/{id}")
-    public ComponentTo get(@PathVariable UUID id) {
+    public ComponentTo get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get component {}", id);
+        if (conditionalGet.isNotModified(request, Component.class, id, ETAG_REFERENCES, ETAG_REFERRERS)) {
+            return null;
+        }
         return service.getByIdAsDto(id);
     }
 
+    /**
+     * Several components of any type in one query: the body is a JSON array of up to
+     * {@link BatchGetTo#MAX_IDS} ids. Content follows the request order; ids without a row
+     * are returned in {@code missingIds}.
+     */
+    @PostMapping(value = "/batch-get", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BatchGetTo<ComponentTo> batchGet(@RequestBody List<UUID> ids) {
+        log.info("batchGet components {} ids", ids.size());
+        List<UUID> requested = BatchGetTo.normalizeIds(ids);
+        return BatchGetTo.of(requested, service.getByIdsAsDto(requested));
+    }
+
+    /**
+     * The component and everything it contains, ordered by component path.
+     */
+    @GetMapping("/{id}/subtree")
+    public List<ComponentTo> getSubtree(@PathVariable UUID id) {
+        log.info("getSubtree component {}", id);
+        return service.getSubtreeAsDto(id);
+    }
+
+    /**
+     * Components containing the component, outermost first.
+     */
+    @GetMapping("/{id}/ancestors")
+    public List<ComponentTo> getAncestors(@PathVariable UUID id) {
+        log.info("getAncestors component {}", id);
+        return service.getAncestorsAsDto(id);
+    }
+
+    /**
+     * Move components under {@code ?parentId=}, or make them roots without it: the body is a JSON
+     * array of up to {@link BatchGetTo#MAX_IDS} ids. Nothing is moved if any of them would end up
+     * in its own subtree or in a parent whose type cannot contain it; the 422 lists every violation.
+     */
+    @PostMapping(value = "/move", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<ComponentTo> move(@RequestParam(required = false) UUID parentId, @RequestBody List<UUID> ids) {
+        log.info("move {} components under {}", ids.size(), parentId);
+        return service.moveAndReturnDto(BatchGetTo.normalizeIds(ids), parentId);
+    }
+
+    /**
+     * Monitoring history of a device (availability, CPU, memory, temperature; average and maximum
+     * per step): {@code ?from=2025-01-31T00:00:00Z&to=2025-02-01T00:00:00Z&step=1h}.
+     * Defaults to the last day in about 300 points.
+     */
+    @GetMapping("/{id}/metrics")
+    public MetricsTo metrics(@PathVariable UUID id,
+                             @RequestParam(required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+                             @RequestParam(required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+                             @RequestParam(required = false) String step) {
+        log.info("metrics of component {} from={} to={} step={}", id, from, to, step);
+        return metricsService.query(MetricSeries.DEVICE, id, from, to, step);
+    }
+
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
     public ComponentTo create(@RequestBody ComponentTo to) {
@@ -86,27 +257,47 @@ public class ComponentController {
         return service.createAndReturnDto(entity);
     }
 
+    /**
+     * Bulk import from a JSON array of rows keyed by column name (the Liquibase CSV layout).
+     * Valid rows are committed, invalid ones are reported per row.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkImportResultTo importJson(InputStream body) {
+        log.info("import components from JSON");
+        return bulkImportService.importJson(ImportTarget.COMPONENTS, body);
+    }
+
+    /**
+     * Bulk import from CSV in the Liquibase layout ({@code ;} separated, header line first).
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public BulkImportResultTo importCsv(InputStream body) {
+        log.info("import components from CSV");
+        return bulkImportService.importCsv(ImportTarget.COMPONENTS, body);
+    }
+
     /**
      * Update component.
-     * Accepts raw JSON and determines concrete DTO type from existing entity in DB.
+     * Accepts raw JSON and determines concrete DTO type from the discriminator stored in DB,
+     * read without loading the component; the component itself is loaded once, in the update transaction.
      * This avoids Jackson polymorphic deserialization issues with abstract ComponentTo.
      * Validates field nullification against role-based update policy.
      */
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     @SneakyThrows
-    public ComponentTo update(@PathVariable UUID id, @RequestBody String jsonPayload) {
+    public ComponentTo update(@PathVariable UUID id, @RequestBody JsonNode payload) {
         log.info("update component with id={}", id);
 
         // 1. Get entity type to determine DTO class
-        Component existing = service.getById(id);
-        Class<? extends ComponentTo> dtoClass = getDtoClassForEntity(existing);
-        log.debug("Entity type: {}, DTO class: {}", existing.getClass().getSimpleName(), dtoClass.getSimpleName());
+        String discriminator = service.getDiscriminator(id);
+        Class<? extends ComponentTo> dtoClass = getDtoClassForDiscriminator(discriminator);
+        log.debug("Entity type: {}, DTO class: {}", discriminator, dtoClass.getSimpleName());
 
-        // 2. Deserialize JSON to concrete DTO type
-        ComponentTo dto = objectMapper.readValue(jsonPayload, dtoClass);
+        // 2. Convert parsed JSON to concrete DTO type
+        ComponentTo dto = objectMapper.treeToValue(payload, dtoClass);
 
         // 3. Extract present fields for policy validation
-        Map<String, JsonNode> presentFields = extractPresentFields(jsonPayload);
+        Map<String, JsonNode> presentFields = extractPresentFields(payload);
 
         // 4. Delegate to service (handles validation, FK changes, mapping, save, and DTO conversion in transaction)
         return service.updateWithPolicyValidationAndReturnDto(
@@ -122,10 +313,8 @@ public class ComponentController {
      * Extracts all fields present in JSON payload with their values.
      * Used to detect explicitly set null values vs absent fields.
      */
-    @SneakyThrows
-    private Map<String, JsonNode> extractPresentFields(String jsonPayload) {
+    private Map<String, JsonNode> extractPresentFields(JsonNode root) {
         Map<String, JsonNode> fields = new HashMap<>();
-        JsonNode root = objectMapper.readTree(jsonPayload);
         Iterator<String> fieldNames = root.fieldNames();
         while (fieldNames.hasNext()) {
             String fieldName = fieldNames.next();
@@ -135,26 +324,14 @@ public class ComponentController {
     }
 
     /**
-     * Determines the concrete DTO class based on entity type.
-     */
-    private Class<? extends ComponentTo> getDtoClassForEntity(Component entity) {
-        if (entity instanceof NetworkSwitch) {
-            return NetworkSwitchTo.class;
-        } else if (entity instanceof Router) {
-            return RouterTo.class;
-        } else if (entity instanceof AccessPoint) {
-            return AccessPointTo.class;
-        } else if (entity instanceof CableRun) {
-            return CableRunTo.class;
-        } else if (entity instanceof Connector) {
-            return ConnectorTo.class;
-        } else if (entity instanceof PatchPanel) {
-            return PatchPanelTo.class;
-        } else if (entity instanceof Rack) {
-            return RackTo.class;
-        } else {
-            throw new IllegalArgumentException("Unknown component entity type: " + entity.getClass().getName());
+     * Determines the concrete DTO class based on the component class discriminator.
+     */
+    private Class<? extends ComponentTo> getDtoClassForDiscriminator(String discriminator) {
+        Class<? extends ComponentTo> dtoClass = discriminator == null ? null : DTO_CLASSES.get(discriminator);
+        if (dtoClass == null) {
+            throw new IllegalArgumentException("Unknown component entity type: " + discriminator);
         }
+        return dtoClass;
     }
 
     @DeleteMapping("/{id}")
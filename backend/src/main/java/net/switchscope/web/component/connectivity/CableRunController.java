@@ -9,8 +9,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import lombok.RequiredArgsConstructor;
 import net.switchscope.mapper.BaseMapper;
@@ -18,8 +20,10 @@ import net.switchscope.mapper.component.connectivity.CableRunMapper;
 import net.switchscope.model.component.connectivity.CableRun;
 import net.switchscope.service.CrudService;
 import net.switchscope.service.component.connectivity.CableRunService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.component.connectivity.CableRunTo;
 import net.switchscope.web.AbstractCrudController;
+import net.switchscope.web.component.ComponentController;
 
 import java.util.List;
 import java.util.UUID;
@@ -50,26 +54,55 @@ public class CableRunController extends AbstractCrudController<CableRun, CableRu
         return "cable run";
     }
 
+    @Override
+    protected Class<?>[] getETagDependencies() {
+        return ComponentController.ETAG_DEPENDENCIES;
+    }
+
+    @Override
+    protected String[] getETagReferences() {
+        return ComponentController.ETAG_REFERENCES;
+    }
+
     /**
      * Override to use service DTO method for lazy-safe mapping.
      */
     @Override
-    @GetMapping
-    public List<CableRunTo> getAll() {
-        log.info("getAll {}", getEntityName());
+    protected List<CableRunTo> getAllTo() {
         return service.getAllAsDto();
     }
 
+    /**
+     * Override to use service DTO method for lazy-safe mapping.
+     */
+    @Override
+    @GetMapping(params = "limit")
+    public KeysetPageTo<CableRunTo> getPage(@RequestParam(required = false) UUID after, @RequestParam int limit) {
+        log.info("getPage {} after={} limit={}", getEntityName(), after, limit);
+        return service.getPageAsDto(after, KeysetPageTo.normalizeLimit(limit));
+    }
+
     /**
      * Override to use service DTO method for lazy-safe mapping.
      */
     @Override
     @GetMapping("/{id}")
-    public CableRunTo get(@PathVariable UUID id) {
+    public CableRunTo get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get {} {}", getEntityName(), id);
+        if (isNotModified(request, id)) {
+            return null;
+        }
         return service.getByIdAsDto(id);
     }
 
+    /**
+     * Override to use service DTO method for lazy-safe mapping.
+     */
+    @Override
+    protected List<CableRunTo> getByIdsAsDto(List<UUID> ids) {
+        return service.getByIdsAsDto(ids);
+    }
+
     /**
      * Override to use service DTO method for lazy-safe mapping.
      */
@@ -3,23 +3,32 @@ package net.switchscope.web.component.housing;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import lombok.RequiredArgsConstructor;
 import net.switchscope.mapper.BaseMapper;
 import net.switchscope.mapper.component.housing.RackMapper;
 import net.switchscope.model.component.housing.Rack;
+import net.switchscope.model.component.housing.RackOccupancy;
+import net.switchscope.model.installation.RackFace;
+import net.switchscope.repository.Referrer;
 import net.switchscope.service.CrudService;
 import net.switchscope.service.component.housing.RackService;
+import net.switchscope.to.KeysetPageTo;
+import net.switchscope.to.component.housing.RackOccupancyTo;
 import net.switchscope.to.component.housing.RackTo;
 import net.switchscope.web.AbstractCrudController;
+import net.switchscope.web.component.ComponentController;
 
 import java.util.List;
 import java.util.UUID;
@@ -50,26 +59,60 @@ public class RackController extends AbstractCrudController<Rack, RackTo> {
         return "rack";
     }
 
+    @Override
+    protected Class<?>[] getETagDependencies() {
+        return ComponentController.ETAG_DEPENDENCIES;
+    }
+
+    @Override
+    protected String[] getETagReferences() {
+        return ComponentController.ETAG_REFERENCES;
+    }
+
+    @Override
+    protected Referrer[] getETagReferrers() {
+        return ComponentController.ETAG_REFERRERS;
+    }
+
     /**
      * Override to use service DTO method for lazy-safe mapping.
      */
     @Override
-    @GetMapping
-    public List<RackTo> getAll() {
-        log.info("getAll {}", getEntityName());
+    protected List<RackTo> getAllTo() {
         return service.getAllAsDto();
     }
 
+    /**
+     * Override to use service DTO method for lazy-safe mapping.
+     */
+    @Override
+    @GetMapping(params = "limit")
+    public KeysetPageTo<RackTo> getPage(@RequestParam(required = false) UUID after, @RequestParam int limit) {
+        log.info("getPage {} after={} limit={}", getEntityName(), after, limit);
+        return service.getPageAsDto(after, KeysetPageTo.normalizeLimit(limit));
+    }
+
     /**
      * Override to use service DTO method for lazy-safe mapping.
      */
     @Override
     @GetMapping("/{id}")
-    public RackTo get(@PathVariable UUID id) {
+    public RackTo get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get {} {}", getEntityName(), id);
+        if (isNotModified(request, id)) {
+            return null;
+        }
         return service.getByIdAsDto(id);
     }
 
+    /**
+     * Override to use service DTO method for lazy-safe mapping.
+     */
+    @Override
+    protected List<RackTo> getByIdsAsDto(List<UUID> ids) {
+        return service.getByIdsAsDto(ids);
+    }
+
     /**
      * Override to use service DTO method for lazy-safe mapping.
      */
@@ -92,4 +135,23 @@ public class RackController extends AbstractCrudController<Rack, RackTo> {
         Rack entity = mapper.toEntity(dto);
         return service.updateAndReturnDto(id, entity);
     }
+
+    @GetMapping("/{id}/occupancy")
+    public RackOccupancyTo getOccupancy(@PathVariable UUID id) {
+        log.info("getOccupancy {} {}", getEntityName(), id);
+        return service.getOccupancy(id);
+    }
+
+    /**
+     * Suggest a free position; the position is only reserved when an installation is saved.
+     */
+    @GetMapping("/{id}/occupancy/free-position")
+    public ResponseEntity<Integer> findFreePosition(@PathVariable UUID id,
+                                                    @RequestParam int height,
+                                                    @RequestParam(required = false) RackFace face,
+                                                    @RequestParam(defaultValue = "FIRST_FIT") RackOccupancy.Strategy strategy) {
+        log.info("findFreePosition {} {} height={} face={} strategy={}", getEntityName(), id, height, face, strategy);
+        Integer position = service.findFreePosition(id, height, face, strategy);
+        return position != null ? ResponseEntity.ok(position) : ResponseEntity.noContent().build();
+    }
 }
@@ -1,18 +1,32 @@
 package net.switchscope.web.installation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.switchscope.mapper.BaseMapper;
 import net.switchscope.mapper.installation.InstallationMapper;
 import net.switchscope.model.installation.Installation;
 import net.switchscope.service.CrudService;
+import net.switchscope.service.bulk.BulkImportService;
+import net.switchscope.service.bulk.ImportTarget;
 import net.switchscope.service.installation.InstallationService;
+import net.switchscope.to.BulkImportResultTo;
 import net.switchscope.to.installation.InstallationTo;
 import net.switchscope.web.AbstractCrudController;
+import net.switchscope.web.NdjsonUtil;
 
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+@Slf4j
 @RestController
 @RequestMapping(value = InstallationController.REST_URL, produces = MediaType.APPLICATION_JSON_VALUE)
 @RequiredArgsConstructor
@@ -22,6 +36,8 @@ public class InstallationController extends AbstractCrudController<Installation,
 
     private final InstallationService service;
     private final InstallationMapper mapper;
+    private final BulkImportService bulkImportService;
+    private final ObjectMapper objectMapper;
 
     @Override
     protected CrudService<Installation> getService() {
@@ -37,4 +53,34 @@ public class InstallationController extends AbstractCrudController<Installation,
     protected String getEntityName() {
         return "installation";
     }
+
+    /**
+     * Full dump as newline-delimited JSON, written row by row (Accept: application/x-ndjson).
+     * Mapping happens inside the service transaction.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        log.info("stream all {}", getEntityName());
+        return NdjsonUtil.stream(objectMapper,
+                (Consumer<InstallationTo> sink) -> service.streamAll(installation -> sink.accept(mapper.toTo(installation))));
+    }
+
+    /**
+     * Bulk import from a JSON array of rows keyed by column name (the Liquibase CSV layout).
+     * Valid rows are committed, invalid ones are reported per row.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkImportResultTo importJson(InputStream body) {
+        log.info("import installations from JSON");
+        return bulkImportService.importJson(ImportTarget.INSTALLATIONS, body);
+    }
+
+    /**
+     * Bulk import from CSV in the Liquibase layout ({@code ;} separated, header line first).
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public BulkImportResultTo importCsv(InputStream body) {
+        log.info("import installations from CSV");
+        return bulkImportService.importCsv(ImportTarget.INSTALLATIONS, body);
+    }
 }
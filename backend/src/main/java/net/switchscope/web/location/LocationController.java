@@ -9,15 +9,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import lombok.RequiredArgsConstructor;
 import net.switchscope.mapper.BaseMapper;
 import net.switchscope.mapper.location.LocationMapper;
 import net.switchscope.model.location.Location;
+import net.switchscope.model.location.catalog.LocationTypeEntity;
 import net.switchscope.service.CrudService;
 import net.switchscope.service.location.LocationService;
+import net.switchscope.to.KeysetPageTo;
 import net.switchscope.to.location.LocationTo;
 import net.switchscope.web.AbstractCrudController;
 
@@ -50,26 +54,58 @@ public class LocationController extends AbstractCrudController<Location, Locatio
         return "location";
     }
 
+    /**
+     * Type names, parent and children are copied from other rows.
+     */
+    @Override
+    protected Class<?>[] getETagDependencies() {
+        return new Class<?>[]{LocationTypeEntity.class, Location.class};
+    }
+
+    @Override
+    protected String[] getETagReferences() {
+        return new String[]{"type", "parentLocation", "childLocations"};
+    }
+
     /**
      * Override to use service DTO method for lazy-safe mapping.
      */
     @Override
-    @GetMapping
-    public List<LocationTo> getAll() {
-        log.info("getAll {}", getEntityName());
+    protected List<LocationTo> getAllTo() {
         return service.getAllAsDto();
     }
 
+    /**
+     * Override to use service DTO method for lazy-safe mapping.
+     */
+    @Override
+    @GetMapping(params = "limit")
+    public KeysetPageTo<LocationTo> getPage(@RequestParam(required = false) UUID after, @RequestParam int limit) {
+        log.info("getPage {} after={} limit={}", getEntityName(), after, limit);
+        return service.getPageAsDto(after, KeysetPageTo.normalizeLimit(limit));
+    }
+
     /**
      * Override to use service DTO method for lazy-safe mapping.
      */
     @Override
     @GetMapping("/{id}")
-    public LocationTo get(@PathVariable UUID id) {
+    public LocationTo get(@PathVariable UUID id, NativeWebRequest request) {
         log.info("get {} {}", getEntityName(), id);
+        if (isNotModified(request, id)) {
+            return null;
+        }
         return service.getByIdAsDto(id);
     }
 
+    /**
+     * Override to use service DTO method for lazy-safe mapping.
+     */
+    @Override
+    protected List<LocationTo> getByIdsAsDto(List<UUID> ids) {
+        return service.getByIdsAsDto(ids);
+    }
+
     /**
      * Override to use service DTO method for lazy-safe mapping.
      */
@@ -79,7 +115,7 @@ public class LocationController extends AbstractCrudController<Location, Locatio
     public LocationTo create(@RequestBody LocationTo dto) {
         log.info("create {} {}", getEntityName(), dto);
         Location entity = mapper.toEntity(dto);
-        return service.createAndReturnDto(entity);
+        return service.createAndReturnDto(entity, dto.getTypeId(), dto.getParentLocationId());
     }
 
     /**
@@ -90,6 +126,24 @@ public class LocationController extends AbstractCrudController<Location, Locatio
     public LocationTo update(@PathVariable UUID id, @RequestBody LocationTo dto) {
         log.info("update {} {} with id={}", getEntityName(), dto, id);
         Location entity = mapper.toEntity(dto);
-        return service.updateAndReturnDto(id, entity);
+        return service.updateAndReturnDto(id, entity, dto.getTypeId(), dto.getParentLocationId());
+    }
+
+    @GetMapping("/{id}/descendants")
+    public List<LocationTo> getDescendants(@PathVariable UUID id) {
+        log.info("getDescendants {} {}", getEntityName(), id);
+        return service.getDescendantsAsDto(id);
+    }
+
+    @GetMapping("/{id}/path")
+    public List<LocationTo> getPath(@PathVariable UUID id) {
+        log.info("getPath {} {}", getEntityName(), id);
+        return service.getPathAsDto(id);
+    }
+
+    @GetMapping("/{id}/equipment-count")
+    public long getSubtreeEquipmentCount(@PathVariable UUID id) {
+        log.info("getSubtreeEquipmentCount {} {}", getEntityName(), id);
+        return service.countSubtreeEquipment(id);
     }
 }
@@ -1,5 +1,6 @@
 package net.switchscope.web.port;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
@@ -11,10 +12,26 @@ import net.switchscope.mapper.port.FiberPortMapper;
 import net.switchscope.model.port.EthernetPort;
 import net.switchscope.model.port.FiberPort;
 import net.switchscope.model.port.Port;
+import net.switchscope.service.bulk.BulkImportService;
+import net.switchscope.service.bulk.ImportTarget;
+import net.switchscope.service.metrics.MetricSeries;
+import net.switchscope.service.metrics.MetricsService;
+import net.switchscope.service.port.CableTraceService;
+import net.switchscope.service.port.PortCounterService;
 import net.switchscope.service.port.PortService;
+import net.switchscope.service.projection.FieldProjectionService;
+import net.switchscope.to.BulkImportResultTo;
+import net.switchscope.to.KeysetPageTo;
+import net.switchscope.to.MetricsTo;
+import net.switchscope.to.port.CableTraceTo;
+import net.switchscope.to.port.PortCounterIngestResultTo;
+import net.switchscope.to.port.PortCounterSampleTo;
 import net.switchscope.to.port.PortTo;
 
+import java.io.InputStream;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,6 +44,11 @@ public class PortController {
     static final String REST_URL = "/api/ports";
 
     private final PortService service;
+    private final CableTraceService cableTraceService;
+    private final PortCounterService portCounterService;
+    private final MetricsService metricsService;
+    private final BulkImportService bulkImportService;
+    private final FieldProjectionService fieldProjection;
     private final EthernetPortMapper ethernetPortMapper;
     private final FiberPortMapper fiberPortMapper;
 
@@ -38,12 +60,72 @@ public class PortController {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset page ordered by id: {@code ?limit=50}, then {@code ?after=<nextCursor>&limit=50}.
+     */
+    @GetMapping(params = "limit")
+    public KeysetPageTo<PortTo> getPage(@RequestParam(required = false) UUID after, @RequestParam int limit) {
+        log.info("getPage ports after={} limit={}", after, limit);
+        int size = KeysetPageTo.normalizeLimit(limit);
+        return KeysetPageTo.of(service.getPage(after, size + 1), size, page -> page.stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Sparse fieldset of all ports: {@code ?fields=name,deviceId,operationalStatus}.
+     * Columns of the ports table are read directly; derived or subtype fields fall back
+     * to full mapping, see {@link FieldProjectionService}.
+     */
+    @GetMapping(params = {"fields", "!limit"})
+    public List<Map<String, Object>> getAllFields(@RequestParam String fields) {
+        log.info("getAll ports fields={}", fields);
+        return fieldProjection.getAll(Port.class, PortTo.class, fields, this::getAll);
+    }
+
+    /**
+     * Keyset page with a sparse fieldset: {@code ?fields=name&limit=50}.
+     */
+    @GetMapping(params = {"fields", "limit"})
+    public KeysetPageTo<Map<String, Object>> getPageFields(@RequestParam String fields,
+                                                           @RequestParam(required = false) UUID after,
+                                                           @RequestParam int limit) {
+        log.info("getPage ports fields={} after={} limit={}", fields, after, limit);
+        int size = KeysetPageTo.normalizeLimit(limit);
+        return fieldProjection.getPage(Port.class, PortTo.class, fields, after, size, () -> getPage(after, size));
+    }
+
     @GetMapping("/{id}")
     public PortTo get(@PathVariable UUID id) {
         log.info("get port {}", id);
         return mapToDto(service.getById(id));
     }
 
+    /**
+     * Physical path from the port to whatever is at the far end(s) of its cabling.
+     */
+    @GetMapping("/{id}/trace")
+    public CableTraceTo trace(@PathVariable UUID id) {
+        log.info("trace port {}", id);
+        return cableTraceService.trace(id);
+    }
+
+    /**
+     * Traffic history (bits and packets per second, average and maximum per step) from the stored
+     * roll-ups: {@code ?from=2025-01-31T00:00:00Z&to=2025-02-01T00:00:00Z&step=15m}.
+     * Defaults to the last day in about 300 points.
+     */
+    @GetMapping("/{id}/metrics")
+    public MetricsTo metrics(@PathVariable UUID id,
+                             @RequestParam(required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+                             @RequestParam(required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+                             @RequestParam(required = false) String step) {
+        log.info("metrics of port {} from={} to={} step={}", id, from, to, step);
+        return metricsService.query(MetricSeries.PORT, id, from, to, step);
+    }
+
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
     public PortTo create(@RequestBody PortTo to) {
@@ -53,6 +135,36 @@ public class PortController {
         return mapToDto(service.create(entity));
     }
 
+    /**
+     * Bulk import from a JSON array of rows keyed by column name (the Liquibase CSV layout).
+     * Valid rows are committed, invalid ones are reported per row.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkImportResultTo importJson(InputStream body) {
+        log.info("import ports from JSON");
+        return bulkImportService.importJson(ImportTarget.PORTS, body);
+    }
+
+    /**
+     * Bulk import from CSV in the Liquibase layout ({@code ;} separated, header line first).
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public BulkImportResultTo importCsv(InputStream body) {
+        log.info("import ports from CSV");
+        return bulkImportService.importCsv(ImportTarget.PORTS, body);
+    }
+
+    /**
+     * Raw interface counters from collectors, any number of ports per call.
+     * Rates are computed on receipt; the port rows are updated on the next flush.
+     */
+    @PostMapping(value = "/counters", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public PortCounterIngestResultTo ingestCounters(@RequestBody List<PortCounterSampleTo> samples) {
+        log.info("ingest {} port counter samples", samples.size());
+        return portCounterService.ingest(samples);
+    }
+
     @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     public PortTo update(@PathVariable UUID id, @RequestBody PortTo to) {
         log.info("update port {} with id={}", to, id);
@@ -0,0 +1,51 @@
+package net.switchscope.web.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.service.search.SearchService;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.SearchTo;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Search across components, locations and ports.
+ */
+@Slf4j
+@RestController
+@RequestMapping(value = SearchController.REST_URL, produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+public class SearchController {
+
+    static final String REST_URL = "/api/search";
+
+    private final SearchService service;
+    private final TypeaheadService typeaheadService;
+
+    /**
+     * Ranked matches with counts per type: {@code ?q=core-sw}, optionally
+     * {@code &types=NETWORK_SWITCH,LOCATION&limit=50}.
+     */
+    @GetMapping
+    public SearchTo search(@RequestParam String q,
+                           @RequestParam(defaultValue = "") List<String> types,
+                           @RequestParam(defaultValue = "" + SearchService.DEFAULT_LIMIT) int limit) {
+        log.info("search q={} types={} limit={}", q, types, limit);
+        return service.search(q, types, limit);
+    }
+
+    /**
+     * Typeahead suggestions from the in-memory index: {@code /typeahead?q=co&limit=10}.
+     */
+    @GetMapping("/typeahead")
+    public List<SearchTo.Hit> typeahead(@RequestParam(defaultValue = "") String q,
+                                        @RequestParam(defaultValue = "" + TypeaheadService.DEFAULT_LIMIT) int limit) {
+        log.debug("typeahead q={} limit={}", q, limit);
+        return typeaheadService.suggest(q, limit);
+    }
+}
@@ -0,0 +1,39 @@
+package net.switchscope.web.sync;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.switchscope.service.sync.SyncService;
+import net.switchscope.to.SyncTo;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Delta sync for offline clients.
+ */
+@Slf4j
+@RestController
+@RequestMapping(value = SyncController.REST_URL, produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+public class SyncController {
+
+    static final String REST_URL = "/api/sync";
+
+    private final SyncService service;
+
+    /**
+     * Components, ports, locations and installations changed since the cursor, plus deleted ids.
+     * Start without {@code since}, then pass the returned {@code cursor}: {@code ?since=2025-01-31T10:15:30Z}.
+     */
+    @GetMapping
+    public SyncTo sync(@RequestParam(required = false)
+                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since) {
+        log.info("sync since={}", since);
+        return service.getChanges(since);
+    }
+}
@@ -39,7 +39,8 @@ public class ProfileController extends AbstractUserController {
     @DeleteMapping
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@AuthenticationPrincipal AuthUser authUser) {
-        super.delete(authUser.id());
+        log.info("delete {}", authUser.id());
+        userService.delete(authUser.id());
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -58,6 +59,6 @@ public class ProfileController extends AbstractUserController {
     public void update(@RequestBody @Valid UserTo userTo, @AuthenticationPrincipal AuthUser authUser) {
         log.info("update {} with id={}", userTo, authUser.id());
         assureIdConsistent(userTo, authUser.id());
-        userService.updateFromTo(authUser.getUser(), userTo);
+        userService.updateFromTo(authUser.id(), userTo);
     }
 }
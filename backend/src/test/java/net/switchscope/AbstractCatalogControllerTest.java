@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import net.switchscope.mapper.BaseMapper;
 import net.switchscope.service.CrudService;
 import net.switchscope.web.AbstractCatalogController;
+import net.switchscope.web.ConditionalGetSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,12 +27,14 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -55,6 +59,9 @@ class AbstractCatalogControllerTest {
     @MockBean
     private CrudService<TestEntity> service;
 
+    @MockBean
+    private ConditionalGetSupport conditionalGet;
+
     @TestConfiguration
     static class TestMapperConfig {
         @Bean
@@ -135,6 +142,45 @@ class AbstractCatalogControllerTest {
                 .andExpect(jsonPath("$.name").value("X"));
     }
 
+    @Test
+    @DisplayName("Should answer 304 with empty body when If-None-Match carries the issued ETag")
+    void getByIdNotModified() throws Exception {
+        UUID id = UUID.fromString("00000000-0000-0000-0000-000000000011");
+        given(service.getById(id)).willReturn(new TestEntity(id, "X"));
+        given(conditionalGet.isNotModified(any(NativeWebRequest.class), same(TestEntity.class), eq(id), any(String[].class)))
+                .willAnswer(invocation -> invocation.<NativeWebRequest>getArgument(0).checkNotModified("\"v1\""));
+
+        String etag = mockMvc.perform(get(BASE_URL + "/" + id).with(httpBasic("user", "password")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BASE_URL + "/" + id)
+                        .with(httpBasic("user", "password"))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return batch in request order and report missing ids")
+    void batchGetKeepsRequestOrder() throws Exception {
+        UUID first = UUID.fromString("00000000-0000-0000-0000-000000000021");
+        UUID second = UUID.fromString("00000000-0000-0000-0000-000000000022");
+        UUID missing = UUID.fromString("00000000-0000-0000-0000-000000000023");
+        given(service.getByIds(List.of(second, missing, first)))
+                .willReturn(List.of(new TestEntity(first, "A"), new TestEntity(second, "B")));
+
+        mockMvc.perform(post(BASE_URL + "/batch-get")
+                        .with(httpBasic("user", "password"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(second, missing, first, second))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("B"))
+                .andExpect(jsonPath("$.content[1].name").value("A"))
+                .andExpect(jsonPath("$.missingIds[0]").value(missing.toString()));
+    }
+
     @Test
     @DisplayName("Should create entity with ADMIN role and return 201")
     void createAsAdmin() throws Exception {
@@ -67,6 +67,16 @@ class AbstractCrudControllerTest {
     @org.springframework.boot.test.mock.mockito.MockBean
     private net.switchscope.mapper.component.housing.RackMapper rackMapper;
 
+    // Other ComponentController collaborators
+    @MockBean
+    private net.switchscope.service.bulk.BulkImportService bulkImportService;
+    @MockBean
+    private net.switchscope.service.metrics.MetricsService metricsService;
+    @MockBean
+    private net.switchscope.web.ConditionalGetSupport conditionalGet;
+    @MockBean
+    private net.switchscope.service.projection.FieldProjectionService fieldProjection;
+
     @Test
     @DisplayName("Should require authentication for GET all (401 when unauthenticated)")
     void shouldRequireAuthForGetAllWhenUnauthenticated() throws Exception {
@@ -84,6 +94,20 @@ class AbstractCrudControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("GET all with fields returns the projected rows")
+    void getAllWithFieldsUsesProjection() throws Exception {
+        UUID id = UUID.fromString("00000000-0000-0000-0000-0000000000DD");
+        given(fieldProjection.getAll(eq(net.switchscope.model.component.Component.class),
+                eq(net.switchscope.to.component.ComponentTo.class), eq("name"), any()))
+                .willReturn(List.of(java.util.Map.of("id", id, "name", "sw-01")));
+
+        mockMvc.perform(get(BASE_URL).param("fields", "name").with(httpBasic("user", "password")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id.toString()))
+                .andExpect(jsonPath("$[0].name").value("sw-01"));
+    }
+
     @Test
     @DisplayName("Should return entity by id for authenticated user")
     void getByIdReturnsEntity() throws Exception {
@@ -56,6 +56,16 @@ class CrudSmokeControllerTest {
     @org.springframework.boot.test.mock.mockito.MockBean
     private net.switchscope.mapper.component.housing.RackMapper rackMapper;
 
+    // Other ComponentController collaborators
+    @MockBean
+    private net.switchscope.service.bulk.BulkImportService bulkImportService;
+    @MockBean
+    private net.switchscope.web.ConditionalGetSupport conditionalGet;
+    @MockBean
+    private net.switchscope.service.metrics.MetricsService metricsService;
+    @MockBean
+    private net.switchscope.service.projection.FieldProjectionService fieldProjection;
+
     @Test
     @DisplayName("GET /api/components requires authentication (401 when unauthenticated)")
     void componentsGetAllRequiresAuth() throws Exception {
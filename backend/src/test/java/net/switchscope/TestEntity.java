@@ -2,7 +2,7 @@ package net.switchscope;
 
 import java.util.UUID;
 
-public class TestEntity {
+public class TestEntity implements HasId {
     private UUID id;
     private String name;
 
@@ -11,7 +11,9 @@ public class TestEntity {
         this.id = id; this.name = name;
     }
 
+    @Override
     public UUID getId() { return id; }
+    @Override
     public void setId(UUID id) { this.id = id; }
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
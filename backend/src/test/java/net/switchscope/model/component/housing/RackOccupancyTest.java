@@ -0,0 +1,66 @@
+package net.switchscope.model.component.housing;
+
+import net.switchscope.model.installation.Installation;
+import net.switchscope.model.installation.RackFace;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RackOccupancyTest {
+
+    @Test
+    void buildsFacesFromInstallations() {
+        RackOccupancy occupancy = RackOccupancy.of(42, List.of(
+                installation(1, 2, null),
+                installation(10, 1, RackFace.FRONT),
+                installation(20, 1, RackFace.REAR),
+                installation(45, 1, null)));
+
+        assertThat(occupancy.getOccupiedUnits()).isEqualTo(4);
+        assertThat(occupancy.getFreeUnits()).isEqualTo(38);
+        assertThat(occupancy.getOccupiedPositions(RackFace.FRONT)).containsExactly(1, 2, 10);
+        assertThat(occupancy.getOccupiedPositions(RackFace.REAR)).containsExactly(1, 2, 20);
+
+        assertThat(occupancy.isRangeAvailable(10, 1, RackFace.REAR)).isTrue();
+        assertThat(occupancy.isRangeAvailable(10, 1, RackFace.BOTH)).isFalse();
+        assertThat(occupancy.isRangeAvailable(2, 3, RackFace.FRONT)).isFalse();
+        assertThat(occupancy.isRangeAvailable(41, 3, RackFace.FRONT)).isFalse();
+    }
+
+    @Test
+    void firstFitAndBestFit() {
+        // Free gaps: U3-U8 (6U), U10-U11 (2U), U13-U16 (4U)
+        RackOccupancy occupancy = RackOccupancy.of(16, List.of(
+                installation(1, 2, null),
+                installation(9, 1, null),
+                installation(12, 1, null)));
+
+        assertThat(occupancy.findPosition(2, RackFace.BOTH, RackOccupancy.Strategy.FIRST_FIT)).isEqualTo(3);
+        assertThat(occupancy.findPosition(2, RackFace.BOTH, RackOccupancy.Strategy.BEST_FIT)).isEqualTo(10);
+        assertThat(occupancy.findPosition(3, RackFace.BOTH, RackOccupancy.Strategy.BEST_FIT)).isEqualTo(13);
+        assertThat(occupancy.findPosition(7, RackFace.BOTH, RackOccupancy.Strategy.FIRST_FIT)).isNull();
+    }
+
+    @Test
+    void fullHeightRack() {
+        RackOccupancy occupancy = RackOccupancy.empty(RackOccupancy.MAX_UNITS);
+
+        assertThat(occupancy.findPosition(64, RackFace.FRONT, RackOccupancy.Strategy.FIRST_FIT)).isEqualTo(1);
+
+        RackOccupancy full = occupancy.with(1, 64, RackFace.FRONT);
+        assertThat(full.findPosition(1, RackFace.FRONT, RackOccupancy.Strategy.FIRST_FIT)).isNull();
+        assertThat(full.findPosition(64, RackFace.REAR, RackOccupancy.Strategy.BEST_FIT)).isEqualTo(1);
+        assertThatThrownBy(() -> full.with(64, 1, RackFace.BOTH)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Installation installation(int position, int height, RackFace face) {
+        Installation installation = new Installation();
+        installation.setRackPosition(position);
+        installation.setRackUnitHeight(height);
+        installation.setRackFace(face);
+        return installation;
+    }
+}
@@ -0,0 +1,50 @@
+package net.switchscope.service.bulk;
+
+import net.switchscope.error.IllegalRequestDataException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRowReaderTest {
+
+    @Test
+    void readsLiquibaseLayout() {
+        List<Map<String, String>> rows = read("""
+                id;name;description;port_number
+                // comment line
+                'a1';'Core Switch 1';;1
+                "b2";"Rack ""A""; row 2";'O''Brien''s desk';2\r
+                c3;/slash;;
+                """);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).containsEntry("id", "a1")
+                .containsEntry("name", "Core Switch 1")
+                .containsEntry("description", null)
+                .containsEntry("port_number", "1");
+        assertThat(rows.get(1)).containsEntry("name", "Rack \"A\"; row 2")
+                .containsEntry("description", "O'Brien's desk")
+                .containsEntry("port_number", "2");
+        assertThat(rows.get(2)).containsEntry("name", "/slash")
+                .containsEntry("port_number", null);
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertThatThrownBy(() -> read("")).isInstanceOf(IllegalRequestDataException.class);
+        assertThatThrownBy(() -> read("id;name\n1;2;3\n")).isInstanceOf(IllegalRequestDataException.class);
+        assertThatThrownBy(() -> read("id;name\n'1;2\n")).isInstanceOf(IllegalRequestDataException.class);
+    }
+
+    private static List<Map<String, String>> read(String csv) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        new CsvRowReader(new StringReader(csv)).forEachRemaining(rows::add);
+        return rows;
+    }
+}
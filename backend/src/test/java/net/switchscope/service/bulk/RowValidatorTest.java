@@ -0,0 +1,59 @@
+package net.switchscope.service.bulk;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import net.switchscope.model.component.housing.Rack;
+import net.switchscope.model.location.Location;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowValidatorTest {
+
+    private static ValidatorFactory factory;
+    private static RowValidator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = new RowValidator(factory.getValidator());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void reportsViolatedColumnConstraints() {
+        List<String> problems = validator.validate(Rack.class,
+                List.of("id", "name", "rack_units_total"),
+                List.of(UUID.randomUUID(), "Rack A", 100));
+
+        assertThat(problems).singleElement().asString().startsWith("rack_units_total ");
+    }
+
+    @Test
+    void reportsHtml() {
+        List<String> problems = validator.validate(Location.class,
+                List.of("name", "address"),
+                List.of("HQ", "<script>alert(1)</script>"));
+
+        assertThat(problems).singleElement().asString().startsWith("address ");
+    }
+
+    @Test
+    void acceptsValidRowsNullsAndUnmappedColumns() {
+        List<String> problems = validator.validate(Rack.class,
+                List.of("name", "rack_units_total", "component_type_id", "unknown"),
+                Arrays.asList("Rack A", null, UUID.randomUUID(), "x"));
+
+        assertThat(problems).isEmpty();
+    }
+}
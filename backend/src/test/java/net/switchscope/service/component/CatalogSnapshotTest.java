@@ -0,0 +1,50 @@
+package net.switchscope.service.component;
+
+import net.switchscope.model.component.ComponentCategoryEntity;
+import net.switchscope.model.component.ComponentTypeEntity;
+import net.switchscope.service.component.CatalogSnapshot.TypeEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+    private static final ComponentCategoryEntity HOUSING = new ComponentCategoryEntity("housing", "Housing");
+    private static final ComponentCategoryEntity CONNECTIVITY = new ComponentCategoryEntity("connectivity", "Connectivity");
+    private static final ComponentCategoryEntity MODULE = new ComponentCategoryEntity("module", "Module");
+    private static final ComponentCategoryEntity SUPPORT = new ComponentCategoryEntity("support", "Support");
+
+    private final ComponentTypeEntity rack = new ComponentTypeEntity.Builder("RACK", "Rack", HOUSING)
+            .canContainComponents(true).build();
+    private final ComponentTypeEntity chassis = new ComponentTypeEntity.Builder("CHASSIS", "Chassis", CONNECTIVITY)
+            .canContainComponents(true).allowedChildTypes(Set.of("PSU")).build();
+    private final ComponentTypeEntity fixedSwitch = new ComponentTypeEntity.Builder("SWITCH", "Switch", CONNECTIVITY)
+            .build();
+    private final ComponentTypeEntity transceiver = new ComponentTypeEntity.Builder("SFP", "SFP", MODULE).build();
+    private final ComponentTypeEntity psu = new ComponentTypeEntity.Builder("PSU", "PSU", SUPPORT).build();
+
+    @Test
+    void typeEntryContainmentMatchesEntity() {
+        List<ComponentTypeEntity> types = List.of(rack, chassis, fixedSwitch, transceiver, psu);
+        for (ComponentTypeEntity parent : types) {
+            for (ComponentTypeEntity child : types) {
+                assertThat(new TypeEntry(parent).canContain(new TypeEntry(child)))
+                        .as("%s contains %s", parent.getCode(), child.getCode())
+                        .isEqualTo(parent.canContainType(child));
+            }
+        }
+    }
+
+    @Test
+    void typeEntryContainment() {
+        assertThat(new TypeEntry(rack).canContain(new TypeEntry(chassis))).isTrue();
+        assertThat(new TypeEntry(chassis).canContain(new TypeEntry(psu))).isTrue();
+        assertThat(new TypeEntry(chassis).canContain(new TypeEntry(transceiver))).isTrue();
+        assertThat(new TypeEntry(chassis).canContain(new TypeEntry(rack))).isFalse();
+        assertThat(new TypeEntry(fixedSwitch).canContain(new TypeEntry(transceiver))).isFalse();
+        assertThat(new TypeEntry(rack).canContain(null)).isFalse();
+    }
+}
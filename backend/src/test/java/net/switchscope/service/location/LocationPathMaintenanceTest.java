@@ -0,0 +1,150 @@
+package net.switchscope.service.location;
+
+import jakarta.persistence.EntityManager;
+import net.switchscope.error.IllegalRequestDataException;
+import net.switchscope.mapper.location.LocationMapper;
+import net.switchscope.mapper.location.catalog.LocationTypeMapper;
+import net.switchscope.model.location.Location;
+import net.switchscope.model.location.catalog.LocationTypeEntity;
+import net.switchscope.repository.location.LocationRepository;
+import net.switchscope.repository.location.LocationTypeRepository;
+import net.switchscope.service.search.TypeaheadService;
+import net.switchscope.to.location.catalog.LocationTypeTo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Closure rows and precomputed paths are kept current by the location and location type writes.
+ */
+class LocationPathMaintenanceTest {
+
+    private static final UUID BUILDING = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID ROOM = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID OTHER_BUILDING = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID ROOM_TYPE = UUID.fromString("00000000-0000-0000-0000-0000000000a1");
+
+    private final LocationRepository repository = mock(LocationRepository.class);
+    private final LocationTypeRepository typeRepository = mock(LocationTypeRepository.class);
+    private final LocationTypeMapper typeMapper = mock(LocationTypeMapper.class);
+
+    private LocationService locationService;
+    private LocationTypeService typeService;
+    private LocationTypeEntity roomType;
+
+    @BeforeEach
+    void setUp() {
+        locationService = new LocationService(repository, typeRepository, mock(LocationMapper.class),
+                mock(EntityManager.class), mock(TypeaheadService.class));
+        typeService = new LocationTypeService(typeRepository, repository, typeMapper);
+        roomType = new LocationTypeEntity("ROOM", "room", "Room");
+        roomType.setId(ROOM_TYPE);
+        given(repository.save(any(Location.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(typeRepository.save(any(LocationTypeEntity.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createAddsClosureUnderParentThenPaths() {
+        Location room = location(ROOM, "R101", location(BUILDING, "HQ", null));
+
+        locationService.create(room);
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).save(room);
+        order.verify(repository).insertClosure(ROOM, BUILDING);
+        order.verify(repository).refreshSubtreePaths(ROOM);
+    }
+
+    @Test
+    void moveReattachesSubtreeThenRecomputesPaths() {
+        given(repository.getExisted(ROOM)).willReturn(location(ROOM, "R101", location(BUILDING, "HQ", null)));
+        given(repository.isInSubtree(ROOM, OTHER_BUILDING)).willReturn(false);
+
+        locationService.update(ROOM, location(null, "R101", location(OTHER_BUILDING, "Annex", null)));
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).detachSubtree(ROOM);
+        order.verify(repository).attachSubtree(ROOM, OTHER_BUILDING);
+        order.verify(repository).refreshSubtreePaths(ROOM);
+    }
+
+    @Test
+    void moveUnderOwnDescendantIsRejected() {
+        given(repository.getExisted(BUILDING)).willReturn(location(BUILDING, "HQ", null));
+        given(repository.isInSubtree(BUILDING, ROOM)).willReturn(true);
+
+        assertThatThrownBy(() -> locationService.update(BUILDING, location(null, "HQ", location(ROOM, "R101", null))))
+                .isInstanceOf(IllegalRequestDataException.class);
+        verify(repository, never()).detachSubtree(any());
+        verify(repository, never()).save(any(Location.class));
+    }
+
+    @Test
+    void renameRecomputesPathsWithoutTouchingClosure() {
+        Location building = location(BUILDING, "HQ", null);
+        given(repository.getExisted(ROOM)).willReturn(location(ROOM, "R101", building));
+
+        locationService.update(ROOM, location(null, "R102", building));
+
+        verify(repository, never()).detachSubtree(any());
+        verify(repository, never()).attachSubtree(any(), any());
+        verify(repository).refreshSubtreePaths(ROOM);
+    }
+
+    @Test
+    void deleteRecomputesPathsOfOrphanedChildren() {
+        given(repository.findByParentLocationId(BUILDING)).willReturn(List.of(location(ROOM, "R101", null)));
+
+        locationService.delete(BUILDING);
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).detachSubtree(ROOM);
+        order.verify(repository).deleteExisted(BUILDING);
+        order.verify(repository).refreshSubtreePaths(ROOM);
+    }
+
+    @Test
+    void typeDisplayNameChangeRecomputesTypedPaths() {
+        given(typeRepository.getExisted(ROOM_TYPE)).willReturn(roomType);
+        LocationTypeTo dto = new LocationTypeTo();
+        willAnswer(invocation -> {
+            roomType.setDisplayName("Server room");
+            return roomType;
+        }).given(typeMapper).updateFromTo(roomType, dto);
+
+        typeService.updateFromDto(ROOM_TYPE, dto);
+
+        verify(repository).refreshPathsWithType(ROOM_TYPE);
+    }
+
+    @Test
+    void typeUpdateWithSameDisplayNameKeepsPaths() {
+        given(typeRepository.getExisted(ROOM_TYPE)).willReturn(roomType);
+        LocationTypeTo dto = new LocationTypeTo();
+
+        typeService.updateFromDto(ROOM_TYPE, dto);
+
+        verify(repository, never()).refreshPathsWithType(any());
+    }
+
+    private Location location(UUID id, String name, Location parent) {
+        Location location = new Location();
+        location.setId(id);
+        location.setName(name);
+        location.setType(roomType);
+        location.setParentLocation(parent);
+        return location;
+    }
+}
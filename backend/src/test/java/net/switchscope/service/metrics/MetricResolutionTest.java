@@ -0,0 +1,52 @@
+package net.switchscope.service.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricResolutionTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T12:00:00Z");
+    private static final Map<MetricResolution, Duration> RETENTION = new EnumMap<>(Map.of(
+            MetricResolution.RAW, Duration.ofDays(2),
+            MetricResolution.MINUTE, Duration.ofDays(7),
+            MetricResolution.QUARTER_HOUR, Duration.ofDays(35),
+            MetricResolution.HOUR, Duration.ofDays(400),
+            MetricResolution.DAY, Duration.ofDays(1825)));
+
+    @Test
+    void picksCoarsestLevelNotWiderThanStep() {
+        Instant dayAgo = NOW.minus(Duration.ofDays(1));
+
+        assertThat(MetricResolution.forQuery(RETENTION, NOW, dayAgo, 300)).isEqualTo(MetricResolution.MINUTE);
+        assertThat(MetricResolution.forQuery(RETENTION, NOW, dayAgo, 900)).isEqualTo(MetricResolution.QUARTER_HOUR);
+        assertThat(MetricResolution.forQuery(RETENTION, NOW, dayAgo, 7200)).isEqualTo(MetricResolution.HOUR);
+        assertThat(MetricResolution.forQuery(RETENTION, NOW, dayAgo, 10)).isEqualTo(MetricResolution.RAW);
+    }
+
+    @Test
+    void skipsLevelsThatNoLongerCoverStart() {
+        Instant monthsAgo = NOW.minus(Duration.ofDays(90));
+
+        assertThat(MetricResolution.forQuery(RETENTION, NOW, monthsAgo, 86400)).isEqualTo(MetricResolution.DAY);
+        // Step finer than anything still kept: the finest level holding the start
+        assertThat(MetricResolution.forQuery(RETENTION, NOW, monthsAgo, 60)).isEqualTo(MetricResolution.HOUR);
+        assertThat(MetricResolution.forQuery(RETENTION, NOW, NOW.minus(Duration.ofDays(3)), 60))
+                .isEqualTo(MetricResolution.MINUTE);
+    }
+
+    @Test
+    void floorsToBucketsAlignedAtMidnight() {
+        LocalDateTime time = LocalDateTime.of(2025, 6, 15, 13, 47, 31);
+
+        assertThat(MetricSql.floor(time, 60)).isEqualTo(LocalDateTime.of(2025, 6, 15, 13, 47));
+        assertThat(MetricSql.floor(time, 900)).isEqualTo(LocalDateTime.of(2025, 6, 15, 13, 45));
+        assertThat(MetricSql.floor(time, 86400)).isEqualTo(LocalDateTime.of(2025, 6, 15, 0, 0));
+    }
+}
@@ -0,0 +1,96 @@
+package net.switchscope.service.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DevicePollerTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    void pollsEveryDueDeviceOnce() throws Exception {
+        List<PollTarget> targets = targets(2000, 60);
+        try (DevicePoller poller = new DevicePoller(new SimulatedDeviceTransport(Duration.ofMillis(5), 0),
+                200, Duration.ofSeconds(5), 0.1, RandomGenerator.getDefault())) {
+            poller.setTargets(targets, NOW);
+            // First polls are spread over one interval
+            assertThat(poller.pollDue(NOW + 30_000)).isBetween(600, 1400);
+            assertThat(poller.pollDue(NOW + 60_000)).isPositive();
+
+            List<PollResult> results = await(poller, targets.size());
+            assertThat(results).hasSize(targets.size()).allMatch(PollResult::isReachable);
+            assertThat(results).extracting(PollResult::getDeviceId).doesNotHaveDuplicates();
+            assertThat(results.getFirst().getMetrics().getUptimeSeconds()).isNotNull();
+
+            // Next polls are due one interval (+-10%) after the previous one
+            assertThat(poller.pollDue(NOW + 30_000 + 53_000)).isZero();
+            assertThat(poller.pollDue(NOW + 60_000 + 67_000)).isEqualTo(targets.size());
+            await(poller, targets.size());
+        }
+    }
+
+    @Test
+    void cutsOffSlowDevices() throws Exception {
+        DeviceTransport hanging = (target, timeout) -> {
+            Thread.sleep(Duration.ofMinutes(1));
+            return DeviceMetrics.EMPTY;
+        };
+        try (DevicePoller poller = new DevicePoller(hanging, 10, Duration.ofMillis(100), 0, RandomGenerator.getDefault())) {
+            poller.setTargets(targets(20, 60), NOW);
+            long started = System.nanoTime();
+            poller.pollDue(NOW + 60_000);
+
+            List<PollResult> results = await(poller, 20);
+            assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+            assertThat(results).noneMatch(PollResult::isReachable)
+                    .allMatch(result -> result.getError().contains("100 ms"));
+        }
+    }
+
+    @Test
+    void boundsConcurrency() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        DeviceTransport tracking = (target, timeout) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } finally {
+                running.decrementAndGet();
+            }
+            return DeviceMetrics.EMPTY;
+        };
+        try (DevicePoller poller = new DevicePoller(tracking, 8, Duration.ofSeconds(5), 0, RandomGenerator.getDefault())) {
+            poller.setTargets(targets(300, 60), NOW);
+            poller.pollDue(NOW + 60_000);
+
+            assertThat(await(poller, 300)).allMatch(PollResult::isReachable);
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(8);
+        }
+    }
+
+    private static List<PollTarget> targets(int count, int intervalSeconds) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new PollTarget(UUID.randomUUID(), "10.0.0." + (i % 250 + 1), "public", "v2c", intervalSeconds))
+                .toList();
+    }
+
+    private static List<PollResult> await(DevicePoller poller, int expected) throws InterruptedException {
+        List<PollResult> results = new ArrayList<>();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (results.size() < expected && System.nanoTime() < deadline) {
+            results.addAll(poller.drainResults());
+            Thread.sleep(5);
+        }
+        return results;
+    }
+}
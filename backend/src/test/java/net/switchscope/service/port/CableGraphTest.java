@@ -0,0 +1,65 @@
+package net.switchscope.service.port;
+
+import net.switchscope.service.port.CableGraph.Hop;
+import net.switchscope.service.port.CableGraph.Link;
+import net.switchscope.service.port.CableGraph.Node;
+import net.switchscope.service.port.CableGraph.NodeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CableGraphTest {
+
+    private final Node switchPort = port("Gi1/0/24");
+    private final Node serverPort = port("eth0");
+    private final Node nearConnector = node(NodeType.CONNECTOR, "C-1");
+    private final Node farConnector = node(NodeType.CONNECTOR, "C-2");
+    private final Node cableRun = node(NodeType.CABLE_RUN, "RUN-1");
+    private final Node patchPanel = node(NodeType.PATCH_PANEL, "PP-1");
+
+    @Test
+    void tracesPortToFarEnd() {
+        CableGraph graph = new CableGraph(List.of(
+                new Link(switchPort, nearConnector),
+                new Link(nearConnector, cableRun),
+                new Link(farConnector, cableRun),
+                new Link(serverPort, farConnector),
+                new Link(patchPanel, cableRun)));
+
+        List<Hop> hops = graph.trace(switchPort.getId(), 100);
+
+        assertThat(hops).extracting(Hop::getNode)
+                .containsExactly(switchPort, nearConnector, cableRun, farConnector, patchPanel, serverPort);
+        assertThat(hops.get(5).getDepth()).isEqualTo(4);
+        assertThat(hops.get(5).getViaId()).isEqualTo(farConnector.getId());
+        assertThat(graph.trace(UUID.randomUUID(), 100)).isEmpty();
+    }
+
+    @Test
+    void replaceReloadsLinksAroundChangedNodes() {
+        CableGraph graph = new CableGraph(List.of(
+                new Link(switchPort, nearConnector),
+                new Link(nearConnector, cableRun),
+                new Link(farConnector, cableRun),
+                new Link(serverPort, farConnector)));
+
+        // Server port unplugged from the far connector
+        graph.replace(graph.withNeighbours(List.of(serverPort.getId())), List.of(
+                new Link(farConnector, cableRun)));
+
+        assertThat(graph.contains(serverPort.getId())).isFalse();
+        assertThat(graph.trace(switchPort.getId(), 100)).extracting(Hop::getNode)
+                .containsExactly(switchPort, nearConnector, cableRun, farConnector);
+    }
+
+    private static Node port(String name) {
+        return new Node(UUID.randomUUID(), NodeType.PORT, name, UUID.randomUUID(), "device");
+    }
+
+    private static Node node(NodeType type, String name) {
+        return new Node(UUID.randomUUID(), type, name, null, null);
+    }
+}
@@ -0,0 +1,70 @@
+package net.switchscope.service.port;
+
+import net.switchscope.to.port.PortCounterSampleTo;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CounterRatesTest {
+
+    private static final UUID PORT = UUID.randomUUID();
+    private static final OffsetDateTime T0 = OffsetDateTime.of(2025, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void computesRatesOverInterval() {
+        CounterRates rates = CounterRates.between(
+                sample(0, 64, 1_000_000L, 2_000_000L, 100L),
+                sample(10, 64, 2_250_000L, 2_000_000L, 1_100L));
+
+        assertThat(rates.getInBitsPerSecond()).isCloseTo(1_000_000.0, within(1e-6));
+        assertThat(rates.getOutBitsPerSecond()).isZero();
+        assertThat(rates.getInPacketsPerSecond()).isCloseTo(100.0, within(1e-6));
+        assertThat(rates.getOutPacketsPerSecond()).isNull();
+        assertThat(rates.isActive()).isTrue();
+        assertThat(rates.isReset()).isFalse();
+    }
+
+    @Test
+    void handles32BitWrap() {
+        long nearTop = (1L << 32) - 1_000L;
+        CounterRates rates = CounterRates.between(
+                sample(0, 32, nearTop, 0L, null),
+                sample(1, 32, 24_000L, 0L, null));
+
+        assertThat(rates.getInBitsPerSecond()).isCloseTo(25_000 * 8.0, within(1e-6));
+        assertThat(rates.isReset()).isFalse();
+    }
+
+    @Test
+    void treatsDropAsReset() {
+        // 32-bit counter far below the previous value: a wrap would mean over 3 GB in one second
+        CounterRates reset32 = CounterRates.between(
+                sample(0, 32, 1_000_000_000L, 0L, null),
+                sample(1, 32, 5_000L, 0L, null));
+        assertThat(reset32.isReset()).isTrue();
+        assertThat(reset32.getInBitsPerSecond()).isCloseTo(40_000.0, within(1e-6));
+
+        // 64-bit counters never wrap in practice
+        CounterRates reset64 = CounterRates.between(
+                sample(0, 64, 10_000L, 0L, null),
+                sample(2, 64, 2_000L, 0L, null));
+        assertThat(reset64.isReset()).isTrue();
+        assertThat(reset64.getInBitsPerSecond()).isCloseTo(8_000.0, within(1e-6));
+    }
+
+    private static PortCounterSampleTo sample(int seconds, int bits, Long bytesIn, Long bytesOut, Long packetsIn) {
+        PortCounterSampleTo sample = new PortCounterSampleTo();
+        sample.setPortId(PORT);
+        sample.setTimestamp(T0.plusSeconds(seconds));
+        sample.setCounterBits(bits);
+        sample.setBytesIn(bytesIn);
+        sample.setBytesOut(bytesOut);
+        sample.setPacketsIn(packetsIn);
+        return sample;
+    }
+}
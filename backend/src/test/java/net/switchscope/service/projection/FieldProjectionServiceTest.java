@@ -0,0 +1,139 @@
+package net.switchscope.service.projection;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import net.switchscope.error.IllegalRequestDataException;
+import net.switchscope.service.projection.FieldProjectionService.Column;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class FieldProjectionServiceTest {
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final FieldProjectionService service = new FieldProjectionService(entityManager, new ObjectMapper());
+
+    @BeforeEach
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void setUp() {
+        Metamodel metamodel = mock(Metamodel.class);
+        EntityType entityType = mock(EntityType.class);
+        given(entityManager.getMetamodel()).willReturn(metamodel);
+        doReturn(entityType).when(metamodel).entity(Device.class);
+        doReturn(Set.of(
+                attribute("id", PersistentAttributeType.BASIC, UUID.class),
+                attribute("name", PersistentAttributeType.BASIC, String.class),
+                attribute("password", PersistentAttributeType.BASIC, String.class),
+                attribute("parent", PersistentAttributeType.MANY_TO_ONE, Device.class),
+                attribute("settings", PersistentAttributeType.EMBEDDED, Object.class)))
+                .when(entityType).getSingularAttributes();
+    }
+
+    @Test
+    void parseAddsIdFirstAndSkipsEmptyNames() {
+        assertThat(FieldProjectionService.parse(" name ,, parentId,id"))
+                .containsExactly("id", "name", "parentId");
+        assertThatThrownBy(() -> FieldProjectionService.parse(" "))
+                .isInstanceOf(IllegalRequestDataException.class);
+    }
+
+    @Test
+    void resolvesBasicAndForeignKeyColumnsInRequestedOrder() {
+        List<Column> columns = service.columns(Device.class, DeviceTo.class, FieldProjectionService.parse("parentId,name"));
+
+        assertThat(columns).extracting(Column::name).containsExactly("id", "parentId", "name");
+    }
+
+    @Test
+    void derivedUnknownAndWriteOnlyFieldsAreNotProjected() {
+        assertThat(service.columns(Device.class, DeviceTo.class, FieldProjectionService.parse("name,fullPath"))).isNull();
+        assertThat(service.columns(Device.class, DeviceTo.class, FieldProjectionService.parse("settings"))).isNull();
+        assertThat(service.columns(Device.class, DeviceTo.class, FieldProjectionService.parse("password"))).isNull();
+    }
+
+    @Test
+    void fallbackTrimsFullDtosToRequestedFields() {
+        UUID id = UUID.randomUUID();
+        DeviceTo dto = new DeviceTo(id, "core-sw-1", "HQ/Rack A/core-sw-1", null, "secret");
+
+        List<Map<String, Object>> rows = service.getAll(Device.class, DeviceTo.class,
+                "fullPath,password,unknown,name", () -> List.of(dto));
+
+        assertThat(rows).singleElement().satisfies(row -> assertThat(row)
+                .containsExactly(Map.entry("id", id.toString()), Map.entry("fullPath", "HQ/Rack A/core-sw-1"),
+                        Map.entry("name", "core-sw-1")));
+        // Nothing is queried when falling back
+        verify(entityManager).getMetamodel();
+        verifyNoMoreInteractions(entityManager);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static SingularAttribute attribute(String name, PersistentAttributeType type, Class<?> javaType) {
+        SingularAttribute attribute = mock(SingularAttribute.class);
+        given(attribute.getName()).willReturn(name);
+        given(attribute.getPersistentAttributeType()).willReturn(type);
+        doReturn(javaType).when(attribute).getJavaType();
+        return attribute;
+    }
+
+    static class Device {
+    }
+
+    static class DeviceTo {
+        private final UUID id;
+        private final String name;
+        private final String fullPath;
+        private final UUID parentId;
+        @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+        private final String password;
+
+        DeviceTo(UUID id, String name, String fullPath, UUID parentId, String password) {
+            this.id = id;
+            this.name = name;
+            this.fullPath = fullPath;
+            this.parentId = parentId;
+            this.password = password;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getFullPath() {
+            return fullPath;
+        }
+
+        public UUID getParentId() {
+            return parentId;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public Map<String, Object> getSettings() {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package net.switchscope.service.search;
+
+import net.switchscope.error.IllegalRequestDataException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchServiceTest {
+
+    @Test
+    void normalizesQuery() {
+        assertThat(SearchService.normalizeQuery("  Core-SW ")).isEqualTo("core-sw");
+    }
+
+    @Test
+    void rejectsQueriesTooShortForTrigrams() {
+        assertThatThrownBy(() -> SearchService.normalizeQuery(" ab "))
+                .isInstanceOf(IllegalRequestDataException.class);
+        assertThatThrownBy(() -> SearchService.normalizeQuery(null))
+                .isInstanceOf(IllegalRequestDataException.class);
+    }
+
+    @Test
+    void escapesLikeWildcards() {
+        assertThat(SearchService.escapeLike("50%_a\\b")).isEqualTo("50\\%\\_a\\\\b");
+    }
+}
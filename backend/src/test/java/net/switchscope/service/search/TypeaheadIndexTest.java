@@ -0,0 +1,97 @@
+package net.switchscope.service.search;
+
+import net.switchscope.service.search.TypeaheadIndex.Entry;
+import net.switchscope.service.search.TypeaheadIndex.Hit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeaheadIndexTest {
+
+    private static final UUID SWITCH = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID ROUTER = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID ROOM = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID PORT = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+    private final TypeaheadIndex index = new TypeaheadIndex(List.of(
+            component(SWITCH, "core-sw-01", "SN123", "10.0.0.1"),
+            component(ROUTER, "edge-router", "SN456", "10.0.1.254"),
+            new Entry("LOCATION", ROOM, "Server room", "HQ/Floor 2/Server room", null, List.of("HQ/Floor 2/Server room")),
+            new Entry("PORT", PORT, "Gi0/1", "core-sw-01", SWITCH, List.of("Gi0/1"))));
+
+    @Test
+    void ranksPrefixBeforeSubstring() {
+        assertThat(ids(index.search("core", 10))).containsExactly(SWITCH);
+        assertThat(ids(index.search("router", 10))).containsExactly(ROUTER);
+        assertThat(index.search("router", 10).get(0).getRank()).isEqualTo(TypeaheadIndex.WORD_PREFIX);
+        assertThat(index.search("sn123", 10).get(0).getRank()).isEqualTo(TypeaheadIndex.EXACT);
+        assertThat(index.search("10.0.", 10)).extracting(Hit::getRank)
+                .containsExactly(TypeaheadIndex.PREFIX, TypeaheadIndex.PREFIX);
+    }
+
+    @Test
+    void shortQueriesMatchWordStarts() {
+        assertThat(ids(index.search("gi", 10))).containsExactly(PORT);
+        assertThat(ids(index.search("fl", 10))).containsExactly(ROOM);
+        assertThat(index.search("ou", 10)).isEmpty();
+    }
+
+    @Test
+    void verifiesCandidates() {
+        // Every trigram occurs in both management IPs, the whole query in neither
+        assertThat(index.search("10.0.0.0", 10)).isEmpty();
+        assertThat(index.search("missing", 10)).isEmpty();
+    }
+
+    @Test
+    void limitsHits() {
+        assertThat(index.search("10", 1)).hasSize(1);
+    }
+
+    @Test
+    void replaceRemovesPortsOfDeletedDevice() {
+        index.replace(List.of(SWITCH), List.of());
+        assertThat(index.search("core", 10)).isEmpty();
+        assertThat(index.search("gi0", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void replaceReindexesChangedEntries() {
+        index.replace(List.of(ROUTER), List.of(component(ROUTER, "border-gw", "SN456", "10.0.1.254")));
+        assertThat(index.search("edge", 10)).isEmpty();
+        assertThat(ids(index.search("border", 10))).containsExactly(ROUTER);
+    }
+
+    @Test
+    void compactionKeepsLiveEntries() {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(component(new UUID(1, i), "device-" + i, null, null));
+        }
+        TypeaheadIndex large = new TypeaheadIndex(entries);
+        List<UUID> removed = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            removed.add(new UUID(1, i));
+        }
+        large.replace(removed, List.of());
+
+        assertThat(large.size()).isEqualTo(50);
+        assertThat(ids(large.search("device-7", 100))).contains(new UUID(1, 70)).doesNotContain(new UUID(1, 7));
+        assertThat(ids(large.search("device-75", 10))).containsExactly(new UUID(1, 75));
+    }
+
+    private static Entry component(UUID id, String name, String serialNumber, String managementIp) {
+        return new Entry("NETWORK_SWITCH", id, name, managementIp, null,
+                Arrays.asList(name, serialNumber, managementIp));
+    }
+
+    private static List<UUID> ids(List<Hit> hits) {
+        return hits.stream().map(Hit::getId).toList();
+    }
+}
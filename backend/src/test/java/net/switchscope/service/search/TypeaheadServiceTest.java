@@ -0,0 +1,67 @@
+package net.switchscope.service.search;
+
+import net.switchscope.cache.ClusterEvent;
+import net.switchscope.cache.ClusterEvents;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TypeaheadServiceTest {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final ClusterEvents clusterEvents = mock(ClusterEvents.class);
+    private final TypeaheadService service = new TypeaheadService(jdbcTemplate, clusterEvents,
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void firstLoadRacingARefreshIsNotKept() {
+        AtomicBoolean first = new AtomicBoolean(true);
+        willAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                // A write commits while the components are read
+                service.refreshAfterCommit(UUID.randomUUID());
+            }
+            return null;
+        }).given(jdbcTemplate).query(contains("FROM components c"), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        service.suggest("core", 10);
+        service.suggest("core", 10);
+        service.suggest("core", 10);
+
+        // Raced load discarded, second load kept and reused
+        verify(jdbcTemplate, times(2))
+                .query(contains("FROM components c"), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void changesAreSharedWithOtherNodes() {
+        UUID id = UUID.randomUUID();
+        service.refreshAfterCommit(id);
+        service.reset();
+
+        verify(clusterEvents).publish(TypeaheadService.CLUSTER_TOPIC, id.toString());
+        verify(clusterEvents).publish(TypeaheadService.CLUSTER_TOPIC, "");
+    }
+
+    @Test
+    void resetFromAnotherNodeDropsTheIndex() {
+        service.suggest("core", 10);
+        service.onClusterEvent(new ClusterEvent(TypeaheadService.CLUSTER_TOPIC, ""));
+        service.suggest("core", 10);
+
+        verify(jdbcTemplate, times(2))
+                .query(contains("FROM components c"), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+}